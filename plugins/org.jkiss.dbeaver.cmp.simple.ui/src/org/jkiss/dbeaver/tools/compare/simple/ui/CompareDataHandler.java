@@ -0,0 +1,135 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.compare.simple.ui;
+
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.jface.dialogs.IDialogSettings;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.swt.SWT;
+import org.eclipse.ui.IWorkbenchWindow;
+import org.eclipse.ui.handlers.HandlerUtil;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.navigator.DBNDatabaseNode;
+import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.jkiss.dbeaver.tools.compare.simple.CompareDataExecutor;
+import org.jkiss.dbeaver.tools.compare.simple.CompareDataReport;
+import org.jkiss.dbeaver.tools.compare.simple.CompareDataSettings;
+import org.jkiss.dbeaver.tools.compare.simple.ui.internal.CompareUIMessages;
+import org.jkiss.dbeaver.ui.DialogSettingsDelegate;
+import org.jkiss.dbeaver.ui.UIUtils;
+import org.jkiss.dbeaver.ui.editors.sql.handlers.SQLEditorHandlerOpenEditor;
+import org.jkiss.dbeaver.ui.editors.sql.handlers.SQLNavigatorContext;
+import org.jkiss.dbeaver.utils.NLS;
+import org.jkiss.utils.CommonUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares data of two selected tables. The first table is the source.
+ * Differences are summarized in a message box, sync script for the target table is opened in SQL console.
+ */
+public class CompareDataHandler extends AbstractHandler {
+
+    private static final String RS_COMPARE_DATA_DIALOG_SETTINGS = "CompareData";//$NON-NLS-1$
+
+    @Override
+    public Object execute(ExecutionEvent event) throws ExecutionException {
+        final IWorkbenchWindow workbenchWindow = HandlerUtil.getActiveWorkbenchWindow(event);
+        final ISelection selection = HandlerUtil.getCurrentSelection(event);
+        List<DBSEntity> tables = new ArrayList<>();
+        if (selection instanceof IStructuredSelection ss) {
+            for (Object item : ss) {
+                if (item instanceof DBNDatabaseNode node && node.getObject() instanceof DBSEntity entity && entity instanceof DBSDataContainer) {
+                    tables.add(entity);
+                }
+            }
+        }
+        if (tables.size() != 2 || tables.size() != ((IStructuredSelection) selection).size()) {
+            DBWorkbench.getPlatformUI().showError(
+                CompareUIMessages.compare_data_error_select_two_tables_title,
+                CompareUIMessages.compare_data_error_select_two_tables_message);
+            return null;
+        }
+
+        CompareDataSettings settings = new CompareDataSettings(tables.get(0), tables.get(1));
+        IDialogSettings section = UIUtils.getDialogSettings(RS_COMPARE_DATA_DIALOG_SETTINGS);
+        settings.loadFrom(new DialogSettingsDelegate(section));
+        settings.setGenerateSyncScript(true);
+        settings.saveTo(new DialogSettingsDelegate(section));
+
+        CompareDataExecutor executor = new CompareDataExecutor(settings);
+        CompareDataReport[] report = new CompareDataReport[1];
+        try {
+            UIUtils.runInProgressDialog(monitor -> {
+                try {
+                    report[0] = executor.compareData(monitor);
+                } catch (DBException e) {
+                    throw new InvocationTargetException(e);
+                }
+            });
+        } catch (InvocationTargetException e) {
+            DBWorkbench.getPlatformUI().showError(CompareUIMessages.compare_data_error_title, null, e.getTargetException());
+            return null;
+        }
+        if (report[0] != null) {
+            showReport(workbenchWindow, settings, report[0]);
+        }
+        return null;
+    }
+
+    private static void showReport(IWorkbenchWindow workbenchWindow, CompareDataSettings settings, CompareDataReport report) {
+        if (!report.hasDifferences()) {
+            UIUtils.showMessageBox(
+                workbenchWindow.getShell(),
+                CompareUIMessages.compare_data_finish_title,
+                CompareUIMessages.compare_data_finish_no_differences,
+                SWT.ICON_INFORMATION);
+            return;
+        }
+        int missingInTarget = 0, missingInSource = 0, changed = 0;
+        for (CompareDataReport.RowDifference difference : report.getDifferences()) {
+            switch (difference.type()) {
+                case MISSING_IN_TARGET -> missingInTarget++;
+                case MISSING_IN_SOURCE -> missingInSource++;
+                case CHANGED -> changed++;
+            }
+        }
+        String message = NLS.bind(
+            CompareUIMessages.compare_data_finish_differences,
+            new Object[] { missingInTarget, missingInSource, changed });
+        if (!report.isComplete()) {
+            message += "\n" + CompareUIMessages.compare_data_finish_incomplete;
+        }
+        UIUtils.showMessageBox(workbenchWindow.getShell(), CompareUIMessages.compare_data_finish_title, message, SWT.ICON_INFORMATION);
+
+        if (!CommonUtils.isEmpty(report.getSyncScript())) {
+            DBSEntity targetTable = settings.getTargetTable();
+            SQLEditorHandlerOpenEditor.openSQLConsole(
+                workbenchWindow,
+                new SQLNavigatorContext(targetTable),
+                NLS.bind(CompareUIMessages.compare_data_sync_script_title, targetTable.getName()),
+                report.getSyncScript());
+        }
+    }
+}
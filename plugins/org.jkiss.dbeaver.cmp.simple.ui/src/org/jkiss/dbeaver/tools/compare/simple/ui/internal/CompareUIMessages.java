@@ -51,6 +51,15 @@ public class CompareUIMessages extends NLS {
     public static String compare_objects_error_different_object_types_title;
     public static String compare_objects_error_different_object_types_message;
 
+    public static String compare_data_error_select_two_tables_title;
+    public static String compare_data_error_select_two_tables_message;
+    public static String compare_data_error_title;
+    public static String compare_data_finish_title;
+    public static String compare_data_finish_no_differences;
+    public static String compare_data_finish_differences;
+    public static String compare_data_finish_incomplete;
+    public static String compare_data_sync_script_title;
+
     static {
         // initialize resource bundle
         NLS.initializeMessages(BUNDLE_NAME, CompareUIMessages.class);
@@ -0,0 +1,650 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.compare.simple;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.DBPEvaluationContext;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.sql.SQLDialect;
+import org.jkiss.dbeaver.model.sql.SQLUtils;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
+import org.jkiss.dbeaver.tools.compare.simple.CompareDataReader.KeyRange;
+import org.jkiss.dbeaver.tools.compare.simple.CompareDataReader.RangeChecksum;
+import org.jkiss.utils.CommonUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * Compares data of two tables.
+ * <p>
+ * Tables are split into key ranges. For each range row count and sum of row hashes are computed on the server
+ * (see {@link SQLDialect#getRowHashExpression(List)}), so only two numbers per range are transferred.
+ * Ranges with different checksums are split further until they are small enough, then rows of these ranges
+ * are fetched from both sides and compared by key. Thus network traffic is proportional to the number of
+ * differences rather than to the table size.
+ * <p>
+ * If the dialects can't compute comparable row hashes then ranges are still split by row count,
+ * but each range is compared row by row.
+ * <p>
+ * Tables are read by {@link CompareDataReader}s, JDBC tables are read with SQL queries.
+ */
+public class CompareDataExecutor {
+
+    private static final Log log = Log.getLog(CompareDataExecutor.class);
+
+    // Protects from endless split of ranges with many duplicate values in the first key column
+    private static final int MAX_SPLIT_DEPTH = 32;
+
+    @NotNull
+    private final CompareDataSettings settings;
+
+    private final List<String> columnNames = new ArrayList<>();
+    private int keyColumnCount;
+    private boolean useChecksums;
+
+    // Unmatched rows of already compared ranges. Rows may fall into different ranges on each side
+    // if databases order key values differently (e.g. different string collations), so they are matched at the end.
+    private final Map<List<Object>, Object[]> sourceOnlyRows = new LinkedHashMap<>();
+    private final Map<List<Object>, Object[]> targetOnlyRows = new LinkedHashMap<>();
+    private final List<CompareDataReport.RowDifference> changedRows = new ArrayList<>();
+    private long checksumQueryCount;
+    private long fetchedRowCount;
+
+    public CompareDataExecutor(@NotNull CompareDataSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Compares data of the settings tables. Both tables must be JDBC tables.
+     */
+    @NotNull
+    public CompareDataReport compareData(@NotNull DBRProgressMonitor monitor) throws DBException, InterruptedException {
+        DBSEntity sourceTable = settings.getSourceTable();
+        DBSEntity targetTable = settings.getTargetTable();
+        List<String> attributeNames = new ArrayList<>();
+        List<DBSEntityAttribute> sourceAttributes = new ArrayList<>();
+        List<DBSEntityAttribute> targetAttributes = new ArrayList<>();
+        int keyCount = collectAttributes(monitor, sourceTable, targetTable, attributeNames, sourceAttributes, targetAttributes);
+
+        try (JDBCTableReader source = new JDBCTableReader(monitor, sourceTable, sourceAttributes, keyCount);
+             JDBCTableReader target = new JDBCTableReader(monitor, targetTable, targetAttributes, keyCount))
+        {
+            return compareData(monitor, source, target, attributeNames, keyCount);
+        }
+    }
+
+    /**
+     * Compares data read by the specified readers
+     *
+     * @param columnNames    compared column names, key columns go first
+     * @param keyColumnCount number of key columns
+     */
+    @NotNull
+    public CompareDataReport compareData(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull CompareDataReader source,
+        @NotNull CompareDataReader target,
+        @NotNull List<String> columnNames,
+        int keyColumnCount
+    ) throws DBException, InterruptedException {
+        this.columnNames.clear();
+        this.columnNames.addAll(columnNames);
+        this.keyColumnCount = keyColumnCount;
+        sourceOnlyRows.clear();
+        targetOnlyRows.clear();
+        changedRows.clear();
+        checksumQueryCount = 0;
+        fetchedRowCount = 0;
+
+        useChecksums = source.getHashType() != null && source.getHashType().equals(target.getHashType());
+        if (!useChecksums) {
+            log.debug("Row hashes are not comparable for " + source.getTableName() + " and " + target.getTableName() + ", compare by rows");
+        }
+        monitor.beginTask("Compare data of " + source.getTableName() + " and " + target.getTableName(), 1);
+        try {
+            compareRange(monitor, source, target, new KeyRange(null, null), 0);
+        } finally {
+            monitor.done();
+        }
+
+        List<CompareDataReport.RowDifference> differences = new ArrayList<>(changedRows);
+        for (Object[] row : sourceOnlyRows.values()) {
+            differences.add(new CompareDataReport.RowDifference(CompareDataReport.DifferenceType.MISSING_IN_TARGET, row, null));
+        }
+        for (Object[] row : targetOnlyRows.values()) {
+            differences.add(new CompareDataReport.RowDifference(CompareDataReport.DifferenceType.MISSING_IN_SOURCE, null, row));
+        }
+        String syncScript = settings.isGenerateSyncScript() ? generateSyncScript(target, differences) : null;
+        return new CompareDataReport(
+            List.copyOf(this.columnNames),
+            keyColumnCount,
+            differences,
+            !isDifferenceLimitReached(),
+            checksumQueryCount,
+            fetchedRowCount,
+            syncScript);
+    }
+
+    /**
+     * Collects key attributes and then other attributes which present in both tables
+     *
+     * @return number of key attributes
+     */
+    private static int collectAttributes(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSEntity sourceTable,
+        @NotNull DBSEntity targetTable,
+        @NotNull List<String> columnNames,
+        @NotNull List<DBSEntityAttribute> sourceAttributes,
+        @NotNull List<DBSEntityAttribute> targetAttributes
+    ) throws DBException {
+        List<? extends DBSEntityAttribute> keyAttributes = DBUtils.getBestTableIdentifier(monitor, sourceTable);
+        if (keyAttributes.isEmpty()) {
+            throw new DBException("Table " + DBUtils.getObjectFullName(sourceTable, DBPEvaluationContext.UI) + " has no unique key");
+        }
+        for (DBSEntityAttribute attribute : keyAttributes) {
+            DBSEntityAttribute targetAttribute = targetTable.getAttribute(monitor, attribute.getName());
+            if (targetAttribute == null) {
+                throw new DBException("Key column " + attribute.getName() + " is missing in " +
+                    DBUtils.getObjectFullName(targetTable, DBPEvaluationContext.UI));
+            }
+            sourceAttributes.add(attribute);
+            targetAttributes.add(targetAttribute);
+            columnNames.add(attribute.getName());
+        }
+        for (DBSEntityAttribute attribute : CommonUtils.safeCollection(sourceTable.getAttributes(monitor))) {
+            if (keyAttributes.contains(attribute) || DBUtils.isPseudoAttribute(attribute) || DBUtils.isHiddenObject(attribute)) {
+                continue;
+            }
+            DBSEntityAttribute targetAttribute = targetTable.getAttribute(monitor, attribute.getName());
+            if (targetAttribute == null) {
+                log.debug("Column " + attribute.getName() + " is missing in target table and won't be compared");
+                continue;
+            }
+            sourceAttributes.add(attribute);
+            targetAttributes.add(targetAttribute);
+            columnNames.add(attribute.getName());
+        }
+        return keyAttributes.size();
+    }
+
+    private void compareRange(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull CompareDataReader source,
+        @NotNull CompareDataReader target,
+        @NotNull KeyRange range,
+        int depth
+    ) throws DBException, InterruptedException {
+        if (monitor.isCanceled()) {
+            throw new InterruptedException();
+        }
+        if (isDifferenceLimitReached()) {
+            return;
+        }
+        monitor.subTask("Compare range " + range);
+        RangeChecksum sourceChecksum = source.readChecksum(range, useChecksums);
+        RangeChecksum targetChecksum = target.readChecksum(range, useChecksums);
+        checksumQueryCount += 2;
+        if (sourceChecksum.rowCount() == 0 && targetChecksum.rowCount() == 0) {
+            return;
+        }
+        if (useChecksums && sourceChecksum.equals(targetChecksum)) {
+            return;
+        }
+        long rowCount = Math.max(sourceChecksum.rowCount(), targetChecksum.rowCount());
+        if (rowCount > settings.getLeafRowCount() && depth < MAX_SPLIT_DEPTH && !range.nullKeys()) {
+            // Split by the bigger side, so there are enough key values to choose boundaries
+            CompareDataReader splitSide = sourceChecksum.rowCount() >= targetChecksum.rowCount() ? source : target;
+            List<KeyRange> subRanges = splitSide.splitRange(range, settings.getChunkCount());
+            if (subRanges.size() > 1) {
+                if (range.isUnbounded()) {
+                    // Bounded sub-ranges skip rows with NULL first key column
+                    subRanges = new ArrayList<>(subRanges);
+                    subRanges.add(KeyRange.NULL_KEYS);
+                }
+                for (KeyRange subRange : subRanges) {
+                    compareRange(monitor, source, target, subRange, depth + 1);
+                }
+                return;
+            }
+        }
+        compareRows(monitor, source, target, range);
+    }
+
+    private void compareRows(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull CompareDataReader source,
+        @NotNull CompareDataReader target,
+        @NotNull KeyRange range
+    ) throws DBException {
+        Map<List<Object>, Object[]> sourceRows = mapRowsByKey(source.readRows(range));
+        Map<List<Object>, Object[]> targetRows = mapRowsByKey(target.readRows(range));
+        fetchedRowCount += sourceRows.size() + targetRows.size();
+        monitor.worked(1);
+
+        for (Map.Entry<List<Object>, Object[]> entry : sourceRows.entrySet()) {
+            Object[] targetRow = targetRows.remove(entry.getKey());
+            if (targetRow == null) {
+                targetRow = targetOnlyRows.remove(entry.getKey());
+            }
+            if (targetRow == null) {
+                sourceOnlyRows.put(entry.getKey(), entry.getValue());
+            } else {
+                compareRowValues(entry.getValue(), targetRow);
+            }
+        }
+        for (Map.Entry<List<Object>, Object[]> entry : targetRows.entrySet()) {
+            Object[] sourceRow = sourceOnlyRows.remove(entry.getKey());
+            if (sourceRow == null) {
+                targetOnlyRows.put(entry.getKey(), entry.getValue());
+            } else {
+                compareRowValues(sourceRow, entry.getValue());
+            }
+        }
+    }
+
+    @NotNull
+    private Map<List<Object>, Object[]> mapRowsByKey(@NotNull List<Object[]> rows) {
+        Map<List<Object>, Object[]> rowMap = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            Object[] key = new Object[keyColumnCount];
+            for (int i = 0; i < keyColumnCount; i++) {
+                key[i] = normalizeValue(row[i]);
+            }
+            rowMap.put(Arrays.asList(key), row);
+        }
+        return rowMap;
+    }
+
+    private void compareRowValues(@NotNull Object[] sourceRow, @NotNull Object[] targetRow) {
+        for (int i = keyColumnCount; i < sourceRow.length; i++) {
+            if (!CommonUtils.equalObjects(normalizeValue(sourceRow[i]), normalizeValue(targetRow[i]))) {
+                changedRows.add(new CompareDataReport.RowDifference(CompareDataReport.DifferenceType.CHANGED, sourceRow, targetRow));
+                return;
+            }
+        }
+    }
+
+    private boolean isDifferenceLimitReached() {
+        int maxDifferences = settings.getMaxDifferences();
+        return maxDifferences > 0 && changedRows.size() + sourceOnlyRows.size() + targetOnlyRows.size() >= maxDifferences;
+    }
+
+    @NotNull
+    private String generateSyncScript(@NotNull CompareDataReader target, @NotNull List<CompareDataReport.RowDifference> differences) {
+        String delimiter = target.getScriptDelimiter();
+        String tableName = target.getTableName();
+        List<String> targetColumns = target.getColumnNames();
+        StringBuilder script = new StringBuilder();
+        for (CompareDataReport.RowDifference difference : differences) {
+            switch (difference.type()) {
+                case MISSING_IN_TARGET -> {
+                    Object[] row = Objects.requireNonNull(difference.sourceRow());
+                    script.append("INSERT INTO ").append(tableName).append(" (");
+                    for (int i = 0; i < row.length; i++) {
+                        if (i > 0) script.append(", ");
+                        script.append(targetColumns.get(i));
+                    }
+                    script.append(") VALUES (");
+                    for (int i = 0; i < row.length; i++) {
+                        if (i > 0) script.append(", ");
+                        script.append(target.toSQLValue(i, row[i]));
+                    }
+                    script.append(")");
+                }
+                case MISSING_IN_SOURCE -> {
+                    script.append("DELETE FROM ").append(tableName);
+                    appendKeyCondition(script, target, Objects.requireNonNull(difference.targetRow()));
+                }
+                case CHANGED -> {
+                    Object[] sourceRow = Objects.requireNonNull(difference.sourceRow());
+                    Object[] targetRow = Objects.requireNonNull(difference.targetRow());
+                    script.append("UPDATE ").append(tableName).append(" SET ");
+                    boolean hasColumns = false;
+                    for (int i = keyColumnCount; i < sourceRow.length; i++) {
+                        if (CommonUtils.equalObjects(normalizeValue(sourceRow[i]), normalizeValue(targetRow[i]))) {
+                            continue;
+                        }
+                        if (hasColumns) script.append(", ");
+                        script.append(targetColumns.get(i)).append(" = ").append(target.toSQLValue(i, sourceRow[i]));
+                        hasColumns = true;
+                    }
+                    appendKeyCondition(script, target, targetRow);
+                }
+            }
+            script.append(delimiter).append("\n");
+        }
+        return script.toString();
+    }
+
+    private void appendKeyCondition(@NotNull StringBuilder script, @NotNull CompareDataReader target, @NotNull Object[] row) {
+        script.append(" WHERE ");
+        List<String> targetColumns = target.getColumnNames();
+        for (int i = 0; i < keyColumnCount; i++) {
+            if (i > 0) script.append(" AND ");
+            script.append(targetColumns.get(i)).append(" = ").append(target.toSQLValue(i, row[i]));
+        }
+    }
+
+    /**
+     * Converts values to the comparable form. Drivers of different databases may return different
+     * Java types for the same SQL type (e.g. Long and BigDecimal for integer columns).
+     */
+    @Nullable
+    private static Object normalizeValue(@Nullable Object value) {
+        if (value instanceof BigDecimal || value instanceof BigInteger || value instanceof Long ||
+            value instanceof Integer || value instanceof Short || value instanceof Byte)
+        {
+            BigDecimal decimal = new BigDecimal(value.toString());
+            return decimal.signum() == 0 ? BigDecimal.ZERO : decimal.stripTrailingZeros();
+        } else if (value instanceof byte[] bytes) {
+            return HexFormat.of().formatHex(bytes);
+        } else if (value instanceof java.sql.Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        } else if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        return value;
+    }
+
+    /**
+     * JDBC table read with the session opened for compare
+     */
+    private static class JDBCTableReader implements CompareDataReader {
+        @NotNull
+        private final JDBCSession session;
+        @NotNull
+        private final SQLDialect dialect;
+        @NotNull
+        private final List<DBSEntityAttribute> attributes;
+        @NotNull
+        private final String tableName;
+        @NotNull
+        private final String[] columnNames;
+        private final int keyColumnCount;
+        @Nullable
+        private final String hashExpression;
+
+        JDBCTableReader(
+            @NotNull DBRProgressMonitor monitor,
+            @NotNull DBSEntity table,
+            @NotNull List<DBSEntityAttribute> attributes,
+            int keyColumnCount
+        ) throws DBException {
+            DBCSession dbcSession = DBUtils.openUtilSession(monitor, table, "Compare table data");
+            if (!(dbcSession instanceof JDBCSession jdbcSession)) {
+                dbcSession.close();
+                throw new DBException("Data compare is supported only for JDBC data sources");
+            }
+            this.session = jdbcSession;
+            this.dialect = session.getDataSource().getSQLDialect();
+            this.attributes = attributes;
+            this.tableName = DBUtils.getObjectFullName(table, DBPEvaluationContext.DML);
+            this.keyColumnCount = keyColumnCount;
+            this.columnNames = new String[attributes.size()];
+            for (int i = 0; i < columnNames.length; i++) {
+                columnNames[i] = DBUtils.getQuotedIdentifier(attributes.get(i));
+            }
+            this.hashExpression = dialect.getRowHashExpression(Arrays.asList(columnNames));
+        }
+
+        @NotNull
+        @Override
+        public String getTableName() {
+            return tableName;
+        }
+
+        @NotNull
+        @Override
+        public List<String> getColumnNames() {
+            return Arrays.asList(columnNames);
+        }
+
+        @Nullable
+        @Override
+        public String getHashType() {
+            // Hashes computed by the same dialect are comparable
+            return hashExpression == null ? null : dialect.getClass().getName();
+        }
+
+        @NotNull
+        @Override
+        public RangeChecksum readChecksum(@NotNull KeyRange range, boolean withHash) throws DBException {
+            StringBuilder sql = new StringBuilder("SELECT COUNT(*)");
+            if (withHash) {
+                sql.append(", SUM(").append(hashExpression).append(")");
+            }
+            sql.append(" FROM ").append(tableName);
+            appendRangeCondition(sql, range);
+            try (JDBCPreparedStatement dbStat = session.prepareStatement(sql.toString())) {
+                bindRange(dbStat, range);
+                try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                    if (!dbResult.next()) {
+                        return new RangeChecksum(0, null);
+                    }
+                    long rowCount = dbResult.getLong(1);
+                    Object hashSum = withHash ? dbResult.getObject(2) : null;
+                    return new RangeChecksum(rowCount, hashSum == null ? null : new BigDecimal(hashSum.toString()));
+                }
+            } catch (SQLException e) {
+                throw new DBCException(e, session.getExecutionContext());
+            }
+        }
+
+        /**
+         * Integer keys are split arithmetically, other keys are split by equal row count.
+         */
+        @NotNull
+        @Override
+        public List<KeyRange> splitRange(@NotNull KeyRange range, int chunkCount) {
+            if (range.nullKeys()) {
+                return List.of(range);
+            }
+            List<Object> boundaries;
+            try {
+                boundaries = attributes.get(0).getDataKind() == DBPDataKind.NUMERIC ?
+                    readIntegerBoundaries(range, chunkCount) : null;
+                if (boundaries == null) {
+                    boundaries = readBoundaries(range, chunkCount);
+                }
+            } catch (SQLException e) {
+                // E.g. window functions are not supported
+                log.debug("Can't split key range " + range + " of " + tableName + ": " + e.getMessage());
+                return List.of(range);
+            }
+            List<KeyRange> subRanges = new ArrayList<>(boundaries.size() + 1);
+            Object lower = range.lower();
+            for (Object boundary : boundaries) {
+                subRanges.add(new KeyRange(lower, boundary));
+                lower = boundary;
+            }
+            subRanges.add(new KeyRange(lower, range.upper()));
+            return subRanges;
+        }
+
+        @Nullable
+        private List<Object> readIntegerBoundaries(@NotNull KeyRange range, int chunkCount) throws SQLException {
+            String keyColumn = columnNames[0];
+            StringBuilder sql = new StringBuilder()
+                .append("SELECT MIN(").append(keyColumn).append("), MAX(").append(keyColumn).append(") FROM ").append(tableName);
+            appendRangeCondition(sql, range);
+            Long minValue, maxValue;
+            try (JDBCPreparedStatement dbStat = session.prepareStatement(sql.toString())) {
+                bindRange(dbStat, range);
+                try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                    if (!dbResult.next()) {
+                        return List.of();
+                    }
+                    minValue = toLongValue(dbResult.getObject(1));
+                    maxValue = toLongValue(dbResult.getObject(2));
+                }
+            }
+            if (minValue == null || maxValue == null) {
+                // Not an integer key
+                return null;
+            }
+            long width;
+            try {
+                width = Math.subtractExact(maxValue, minValue);
+            } catch (ArithmeticException e) {
+                // Key values are too far apart for long arithmetic, split by row count
+                return null;
+            }
+            List<Object> boundaries = new ArrayList<>(chunkCount - 1);
+            long step = Math.max(1, width / chunkCount);
+            for (int i = 1; i < chunkCount; i++) {
+                // Offset is less than width, so boundary doesn't overflow
+                long offset = step * i - 1;
+                if (offset >= width) {
+                    break;
+                }
+                boundaries.add(minValue + offset);
+            }
+            return boundaries;
+        }
+
+        @NotNull
+        private List<Object> readBoundaries(@NotNull KeyRange range, int chunkCount) throws SQLException {
+            String keyColumn = columnNames[0];
+            StringBuilder sql = new StringBuilder()
+                .append("SELECT MAX(").append(keyColumn).append(") FROM (SELECT ").append(keyColumn)
+                .append(", NTILE(").append(chunkCount).append(") OVER (ORDER BY ").append(keyColumn).append(") chunk_no FROM ")
+                .append(tableName);
+            appendRangeCondition(sql, range);
+            sql.append(") chunks GROUP BY chunk_no ORDER BY chunk_no");
+            List<Object> boundaries = new ArrayList<>(chunkCount);
+            try (JDBCPreparedStatement dbStat = session.prepareStatement(sql.toString())) {
+                bindRange(dbStat, range);
+                try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                    while (dbResult.next()) {
+                        Object boundary = dbResult.getObject(1);
+                        if (boundary != null && (boundaries.isEmpty() || !boundary.equals(boundaries.get(boundaries.size() - 1)))) {
+                            boundaries.add(boundary);
+                        }
+                    }
+                }
+            }
+            if (!boundaries.isEmpty()) {
+                // The last chunk ends with the range upper bound
+                boundaries.remove(boundaries.size() - 1);
+            }
+            return boundaries;
+        }
+
+        @NotNull
+        @Override
+        public List<Object[]> readRows(@NotNull KeyRange range) throws DBException {
+            StringBuilder sql = new StringBuilder("SELECT ");
+            for (int i = 0; i < columnNames.length; i++) {
+                if (i > 0) sql.append(", ");
+                sql.append(columnNames[i]);
+            }
+            sql.append(" FROM ").append(tableName);
+            appendRangeCondition(sql, range);
+            sql.append(" ORDER BY ");
+            for (int i = 0; i < keyColumnCount; i++) {
+                if (i > 0) sql.append(", ");
+                sql.append(columnNames[i]);
+            }
+            List<Object[]> rows = new ArrayList<>();
+            try (JDBCPreparedStatement dbStat = session.prepareStatement(sql.toString())) {
+                bindRange(dbStat, range);
+                try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                    while (dbResult.next()) {
+                        Object[] row = new Object[columnNames.length];
+                        for (int i = 0; i < row.length; i++) {
+                            row[i] = dbResult.getObject(i + 1);
+                        }
+                        rows.add(row);
+                    }
+                }
+            } catch (SQLException e) {
+                throw new DBCException(e, session.getExecutionContext());
+            }
+            return rows;
+        }
+
+        @NotNull
+        @Override
+        public String toSQLValue(int columnIndex, @Nullable Object value) {
+            return SQLUtils.convertValueToSQL(session.getDataSource(), attributes.get(columnIndex), value);
+        }
+
+        @NotNull
+        @Override
+        public String getScriptDelimiter() {
+            return dialect.getScriptDelimiters()[0];
+        }
+
+        private void appendRangeCondition(@NotNull StringBuilder sql, @NotNull KeyRange range) {
+            if (range.nullKeys()) {
+                sql.append(" WHERE ").append(columnNames[0]).append(" IS NULL");
+                return;
+            }
+            if (range.lower() != null) {
+                sql.append(" WHERE ").append(columnNames[0]).append(" > ?");
+            }
+            if (range.upper() != null) {
+                sql.append(range.lower() != null ? " AND " : " WHERE ").append(columnNames[0]).append(" <= ?");
+            }
+        }
+
+        private void bindRange(@NotNull JDBCPreparedStatement dbStat, @NotNull KeyRange range) throws SQLException {
+            int paramIndex = 1;
+            if (range.lower() != null) {
+                dbStat.setObject(paramIndex++, range.lower());
+            }
+            if (range.upper() != null) {
+                dbStat.setObject(paramIndex, range.upper());
+            }
+        }
+
+        @Override
+        public void close() {
+            session.close();
+        }
+    }
+
+    @Nullable
+    private static Long toLongValue(@Nullable Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        } else if (value instanceof BigInteger || value instanceof BigDecimal) {
+            try {
+                return new BigDecimal(value.toString()).longValueExact();
+            } catch (ArithmeticException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+}
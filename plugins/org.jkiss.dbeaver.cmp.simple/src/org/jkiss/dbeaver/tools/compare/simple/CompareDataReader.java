@@ -0,0 +1,109 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.compare.simple;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Reads data of one of the compared tables (see {@link CompareDataExecutor}).
+ * Columns of both compared readers are in the same order, key columns go first.
+ */
+public interface CompareDataReader extends AutoCloseable {
+
+    /**
+     * Key range. Lower bound is exclusive, upper bound is inclusive, null means unbounded.
+     * Bounds are values of the first key column, so bounded ranges never contain rows with NULL first key column.
+     * These rows are in the separate {@link #NULL_KEYS} range, its bounds are not used.
+     */
+    record KeyRange(@Nullable Object lower, @Nullable Object upper, boolean nullKeys) {
+        public static final KeyRange NULL_KEYS = new KeyRange(null, null, true);
+
+        public KeyRange(@Nullable Object lower, @Nullable Object upper) {
+            this(lower, upper, false);
+        }
+
+        public boolean isUnbounded() {
+            return lower == null && upper == null && !nullKeys;
+        }
+
+        @Override
+        public String toString() {
+            if (nullKeys) {
+                return "(NULL)";
+            }
+            return "(" + (lower == null ? "-" : lower) + " .. " + (upper == null ? "-" : upper) + "]";
+        }
+    }
+
+    /**
+     * @param hashSum sum of row hashes or null if checksums are not used or range is empty
+     */
+    record RangeChecksum(long rowCount, @Nullable BigDecimal hashSum) {
+    }
+
+    /**
+     * Table name used in the sync script
+     */
+    @NotNull
+    String getTableName();
+
+    /**
+     * Column names used in the sync script
+     */
+    @NotNull
+    List<String> getColumnNames();
+
+    /**
+     * Identifies row hash function. Checksums of two readers are compared only if they have the same hash type.
+     *
+     * @return hash type or null if reader can't compute row hashes
+     */
+    @Nullable
+    String getHashType();
+
+    @NotNull
+    RangeChecksum readChecksum(@NotNull KeyRange range, boolean withHash) throws DBException;
+
+    /**
+     * Splits range by the first key column values. Rows with NULL first key column are not covered
+     * by the sub-ranges, they are read with the {@link KeyRange#NULL_KEYS} range.
+     *
+     * @return sub-ranges which cover the whole range or single range if it can't be split
+     */
+    @NotNull
+    List<KeyRange> splitRange(@NotNull KeyRange range, int chunkCount) throws DBException;
+
+    /**
+     * Reads range rows ordered by key
+     */
+    @NotNull
+    List<Object[]> readRows(@NotNull KeyRange range) throws DBException;
+
+    @NotNull
+    String toSQLValue(int columnIndex, @Nullable Object value);
+
+    @NotNull
+    String getScriptDelimiter();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,125 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.compare.simple;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.util.List;
+
+/**
+ * Data compare report
+ */
+public class CompareDataReport {
+
+    public enum DifferenceType {
+        // Row exists only in the source table
+        MISSING_IN_TARGET,
+        // Row exists only in the target table
+        MISSING_IN_SOURCE,
+        // Row exists in both tables but some column values differ
+        CHANGED
+    }
+
+    /**
+     * Row difference. Row values are in {@link #getColumnNames()} order, key columns go first.
+     *
+     * @param sourceRow source row values or null if row is missing in the source table
+     * @param targetRow target row values or null if row is missing in the target table
+     */
+    public record RowDifference(@NotNull DifferenceType type, @Nullable Object[] sourceRow, @Nullable Object[] targetRow) {
+    }
+
+    @NotNull
+    private final List<String> columnNames;
+    private final int keyColumnCount;
+    @NotNull
+    private final List<RowDifference> differences;
+    private final boolean complete;
+    private final long checksumQueryCount;
+    private final long fetchedRowCount;
+    @Nullable
+    private final String syncScript;
+
+    CompareDataReport(
+        @NotNull List<String> columnNames,
+        int keyColumnCount,
+        @NotNull List<RowDifference> differences,
+        boolean complete,
+        long checksumQueryCount,
+        long fetchedRowCount,
+        @Nullable String syncScript
+    ) {
+        this.columnNames = columnNames;
+        this.keyColumnCount = keyColumnCount;
+        this.differences = differences;
+        this.complete = complete;
+        this.checksumQueryCount = checksumQueryCount;
+        this.fetchedRowCount = fetchedRowCount;
+        this.syncScript = syncScript;
+    }
+
+    /**
+     * Compared columns. First {@link #getKeyColumnCount()} columns form the row key.
+     */
+    @NotNull
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    public int getKeyColumnCount() {
+        return keyColumnCount;
+    }
+
+    @NotNull
+    public List<RowDifference> getDifferences() {
+        return differences;
+    }
+
+    public boolean hasDifferences() {
+        return !differences.isEmpty();
+    }
+
+    /**
+     * False if compare was stopped because maximum number of differences was reached
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Number of key range checksum queries executed on both sides
+     */
+    public long getChecksumQueryCount() {
+        return checksumQueryCount;
+    }
+
+    /**
+     * Number of rows transferred from both sides
+     */
+    public long getFetchedRowCount() {
+        return fetchedRowCount;
+    }
+
+    /**
+     * Script which makes target table data equal to the source table data
+     */
+    @Nullable
+    public String getSyncScript() {
+        return syncScript;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.compare.simple;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.preferences.DBPSettingsSection;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+
+/**
+ * Data compare settings
+ */
+public class CompareDataSettings {
+
+    public static final int DEFAULT_CHUNK_COUNT = 16;
+    public static final int DEFAULT_LEAF_ROW_COUNT = 10000;
+    public static final int DEFAULT_MAX_DIFFERENCES = 100000;
+
+    @NotNull
+    private final DBSEntity sourceTable;
+    @NotNull
+    private final DBSEntity targetTable;
+    private int chunkCount = DEFAULT_CHUNK_COUNT;
+    private int leafRowCount = DEFAULT_LEAF_ROW_COUNT;
+    private int maxDifferences = DEFAULT_MAX_DIFFERENCES;
+    private boolean generateSyncScript = false;
+
+    public CompareDataSettings(@NotNull DBSEntity sourceTable, @NotNull DBSEntity targetTable) {
+        this.sourceTable = sourceTable;
+        this.targetTable = targetTable;
+    }
+
+    @NotNull
+    public DBSEntity getSourceTable() {
+        return sourceTable;
+    }
+
+    @NotNull
+    public DBSEntity getTargetTable() {
+        return targetTable;
+    }
+
+    /**
+     * Number of sub-ranges each differing key range is split into
+     */
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    public void setChunkCount(int chunkCount) {
+        this.chunkCount = Math.max(2, chunkCount);
+    }
+
+    /**
+     * Key ranges with this number of rows or less are compared row by row
+     */
+    public int getLeafRowCount() {
+        return leafRowCount;
+    }
+
+    public void setLeafRowCount(int leafRowCount) {
+        this.leafRowCount = Math.max(1, leafRowCount);
+    }
+
+    /**
+     * Compare stops when this number of differences is found
+     */
+    public int getMaxDifferences() {
+        return maxDifferences;
+    }
+
+    public void setMaxDifferences(int maxDifferences) {
+        this.maxDifferences = maxDifferences;
+    }
+
+    /**
+     * Generate script which makes target table data equal to the source table data
+     */
+    public boolean isGenerateSyncScript() {
+        return generateSyncScript;
+    }
+
+    public void setGenerateSyncScript(boolean generateSyncScript) {
+        this.generateSyncScript = generateSyncScript;
+    }
+
+    public void loadFrom(DBPSettingsSection dialogSettings) {
+        if (dialogSettings.get("chunkCount") != null) {
+            setChunkCount(dialogSettings.getInt("chunkCount"));
+        }
+        if (dialogSettings.get("leafRowCount") != null) {
+            setLeafRowCount(dialogSettings.getInt("leafRowCount"));
+        }
+        if (dialogSettings.get("maxDifferences") != null) {
+            maxDifferences = dialogSettings.getInt("maxDifferences");
+        }
+        if (dialogSettings.get("generateSyncScript") != null) {
+            generateSyncScript = dialogSettings.getBoolean("generateSyncScript");
+        }
+    }
+
+    public void saveTo(DBPSettingsSection dialogSettings) {
+        dialogSettings.put("chunkCount", chunkCount);
+        dialogSettings.put("leafRowCount", leafRowCount);
+        dialogSettings.put("maxDifferences", maxDifferences);
+        dialogSettings.put("generateSyncScript", generateSyncScript);
+    }
+
+}
@@ -17,6 +17,7 @@
 package org.jkiss.dbeaver.tools.compare.simple;
 
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBConstants;
@@ -26,33 +27,43 @@ import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.navigator.DBNDatabaseFolder;
 import org.jkiss.dbeaver.model.navigator.DBNDatabaseNode;
 import org.jkiss.dbeaver.model.navigator.meta.DBXTreeNode;
-import org.jkiss.dbeaver.model.preferences.DBPPropertyDescriptor;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressListener;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
-import org.jkiss.dbeaver.model.runtime.SubTaskProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
 import org.jkiss.dbeaver.runtime.properties.*;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
-
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares structure of database objects.
+ * <p>
+ * Object trees of all compared nodes are loaded concurrently, one job per node.
+ * Each loaded object gets a fingerprint - a hash of its property values and fingerprints of its children
+ * (Merkle tree). Subtrees with equal fingerprints are reported as a single identical line,
+ * so only changed subtrees are compared property by property.
+ */
 public class CompareObjectsExecutor {
 
     private static final Log log = Log.getLog(CompareObjectsExecutor.class);
 
-    private final Object PROPS_LOCK = new Object();
+    private static final long WAIT_PERIOD = 100;
 
     private CompareObjectsSettings settings;
 
     private final List<DBNDatabaseNode> rootNodes;
     private final Map<DBPDataSource, DataSourcePropertyFilter> dataSourceFilters = new IdentityHashMap<>();
 
-    private final DBRProgressListener initializeFinisher;
-    private final ILazyPropertyLoadListener lazyPropertyLoadListener;
-
-    private volatile int initializedCount = 0;
     private volatile IStatus initializeError;
-    private final Map<Object, Map<DBPPropertyDescriptor, Object>> propertyValues = new IdentityHashMap<>();
+    private final List<SnapshotLoader> loaders = new ArrayList<>();
+    private final AtomicInteger loadedCount = new AtomicInteger();
 
     private final List<CompareReportLine> reportLines = new ArrayList<>();
     private int reportDepth = 0;
@@ -82,7 +93,7 @@ public class CompareObjectsExecutor {
         reportLines.add(lastLine);
     }
 
-    private void reportPropertyCompare(ObjectPropertyDescriptor property)
+    private void reportPropertyCompare(ObjectPropertyDescriptor property, List<ObjectSnapshot> snapshots)
     {
         CompareReportProperty reportProperty = new CompareReportProperty(property);
         reportProperty.values = new Object[rootNodes.size()];
@@ -91,9 +102,11 @@ public class CompareObjectsExecutor {
             if (node == null) {
                 continue;
             }
-            Map<DBPPropertyDescriptor, Object> valueMap = propertyValues.get(node.getObject());
-            if (valueMap != null) {
-                reportProperty.values[i] = valueMap.get(property);
+            for (ObjectSnapshot snapshot : snapshots) {
+                if (snapshot.node == node) {
+                    reportProperty.values[i] = snapshot.propertyValues.get(property.getId());
+                    break;
+                }
             }
         }
         if (lastLine.properties == null) {
@@ -119,31 +132,6 @@ public class CompareObjectsExecutor {
     {
         this.settings = settings;
         this.rootNodes = settings.getNodes();
-
-        initializeFinisher = new DBRProgressListener() {
-            @Override
-            public void onTaskFinished(IStatus status)
-            {
-                if (!status.isOK()) {
-                    initializeError = status;
-                } else {
-                    initializedCount++;
-                }
-            }
-        };
-        lazyPropertyLoadListener = new ILazyPropertyLoadListener() {
-            @Override
-            public void handlePropertyLoad(Object object, DBPPropertyDescriptor property, Object propertyValue, boolean completed)
-            {
-                synchronized (propertyValues) {
-                    Map<DBPPropertyDescriptor, Object> objectProps = propertyValues.get(object);
-                    if (objectProps != null) {
-                        objectProps.put(property, propertyValue);
-                    }
-                }
-            }
-        };
-        PropertiesContributor.getInstance().addLazyListener(lazyPropertyLoadListener);
     }
 
     public IStatus getInitializeError()
@@ -153,7 +141,12 @@ public class CompareObjectsExecutor {
 
     public void dispose()
     {
-        PropertiesContributor.getInstance().removeLazyListener(lazyPropertyLoadListener);
+        synchronized (loaders) {
+            for (SnapshotLoader loader : loaders) {
+                loader.cancel();
+            }
+            loaders.clear();
+        }
     }
 
     public CompareReport compareObjects(DBRProgressMonitor monitor, List<DBNDatabaseNode> nodes)
@@ -162,67 +155,116 @@ public class CompareObjectsExecutor {
         reportLines.clear();
         lastLine = null;
 
-        compareNodes(monitor, nodes);
+        initializeNodes(monitor, nodes);
+        List<ObjectSnapshot> snapshots = loadSnapshots(monitor, nodes);
+
+        monitor.subTask("Compare " + loadedCount.get() + " objects");
+        compareSnapshots(snapshots);
         return new CompareReport(rootNodes, reportLines);
     }
 
-    private void compareNodes(DBRProgressMonitor monitor, List<DBNDatabaseNode> nodes)
+    private void initializeNodes(DBRProgressMonitor monitor, List<DBNDatabaseNode> nodes)
         throws DBException, InterruptedException
     {
-        reportObjectsCompareBegin(nodes);
-
-        try {
-            if (nodes.size() > 1) {
-                // Go deeper only if we have more than one node
-                if (!(nodes.get(0) instanceof DBNDatabaseFolder)) {
-                    compareProperties(monitor, nodes);
-                }
-
-                compareChildren(monitor, nodes);
+        monitor.subTask("Initialize nodes");
+        this.initializeError = null;
+        // Nodes (e.g. connections) are initialized concurrently, wait for all of them
+        CountDownLatch initializeLatch = new CountDownLatch(nodes.size());
+        DBRProgressListener initializeFinisher = status -> {
+            if (!status.isOK()) {
+                initializeError = status;
             }
-        } finally {
-            reportObjectsCompareEnd();
+            initializeLatch.countDown();
+        };
+        for (DBNDatabaseNode node : nodes) {
+            node.initializeNode(null, initializeFinisher);
+        }
+        while (!initializeLatch.await(WAIT_PERIOD, TimeUnit.MILLISECONDS)) {
+            if (initializeError != null) {
+                break;
+            }
+            if (monitor.isCanceled()) {
+                throw new InterruptedException();
+            }
+        }
+        if (initializeError != null) {
+            throw new DBException(initializeError.getMessage());
         }
     }
 
-    private void compareProperties(DBRProgressMonitor monitor, List<DBNDatabaseNode> nodes) throws DBException, InterruptedException
+    /**
+     * Loads object trees of all nodes concurrently
+     */
+    private List<ObjectSnapshot> loadSnapshots(DBRProgressMonitor monitor, List<DBNDatabaseNode> nodes)
+        throws DBException, InterruptedException
     {
-        boolean onlyStruct = settings.isCompareOnlyStructure();
-
-        // Clear compare singletons
-        this.initializedCount = 0;
-        this.initializeError = null;
-        this.propertyValues.clear();
-
-        StringBuilder title = new StringBuilder();
-        // Initialize nodes
-        {
-            monitor.subTask("Initialize nodes");
+        loadedCount.set(0);
+        CountDownLatch loadLatch = new CountDownLatch(nodes.size());
+        List<SnapshotLoader> nodeLoaders = new ArrayList<>(nodes.size());
+        synchronized (loaders) {
             for (DBNDatabaseNode node : nodes) {
-                if (title.length() > 0) title.append(", ");
-                title.append(node.getNodeFullName());
-                node.initializeNode(null, initializeFinisher);
-                monitor.worked(1);
+                SnapshotLoader loader = new SnapshotLoader(node, loadLatch);
+                nodeLoaders.add(loader);
+                loaders.add(loader);
+                loader.schedule();
             }
-            while (initializedCount != nodes.size()) {
-                if (initializeError != null) {
-                    throw new DBException(initializeError.getMessage());
-                }
-                Thread.sleep(50);
+        }
+        try {
+            while (!loadLatch.await(WAIT_PERIOD, TimeUnit.MILLISECONDS)) {
                 if (monitor.isCanceled()) {
                     throw new InterruptedException();
                 }
+                monitor.subTask("Load objects (" + loadedCount.get() + " loaded)");
+            }
+        } finally {
+            synchronized (loaders) {
+                for (SnapshotLoader loader : nodeLoaders) {
+                    loader.cancel();
+                    loaders.remove(loader);
+                }
+            }
+        }
+        List<ObjectSnapshot> snapshots = new ArrayList<>(nodes.size());
+        for (SnapshotLoader loader : nodeLoaders) {
+            if (loader.error instanceof InterruptedException e) {
+                throw e;
+            } else if (loader.error instanceof DBException e) {
+                throw e;
+            } else if (loader.error != null) {
+                throw new DBException("Error loading objects of " + loader.node.getNodeFullName(), loader.error);
             }
+            snapshots.add(loader.snapshot);
         }
+        return snapshots;
+    }
 
-        monitor.subTask("Compare " + title.toString());
+    private ObjectSnapshot loadSnapshot(DBRProgressMonitor monitor, DBNDatabaseNode node)
+        throws DBException, InterruptedException
+    {
+        if (monitor.isCanceled()) {
+            throw new InterruptedException();
+        }
+        ObjectSnapshot snapshot = new ObjectSnapshot(node);
+        if (!(node instanceof DBNDatabaseFolder)) {
+            loadProperties(monitor, snapshot);
+        }
+        loadChildren(monitor, snapshot);
+        snapshot.computeFingerprint();
+        loadedCount.incrementAndGet();
+        return snapshot;
+    }
+
+    private void loadProperties(DBRProgressMonitor monitor, ObjectSnapshot snapshot)
+    {
+        boolean onlyStruct = settings.isCompareOnlyStructure();
         boolean compareLazyProperties = false;
 
-        DBNDatabaseNode firstNode = nodes.get(0);
+        DBSObject databaseObject = snapshot.node.getObject();
         List<ObjectPropertyDescriptor> properties = ObjectPropertyDescriptor.extractAnnotations(
             null,
-            ObjectPropertyDescriptor.getObjectClass(firstNode.getObject()),
-            getDataSourceFilter(firstNode), null);
+            ObjectPropertyDescriptor.getObjectClass(databaseObject),
+            getDataSourceFilter(snapshot.node), null);
+        snapshot.properties = properties;
         for (ObjectPropertyDescriptor prop : properties) {
             if (prop.isLazy()) {
                 compareLazyProperties = true;
@@ -237,146 +279,263 @@ public class CompareObjectsExecutor {
             return;
         }
 
-        // Load all properties
-        for (DBNDatabaseNode node : nodes) {
-            if (monitor.isCanceled()) {
-                throw new InterruptedException();
-            }
-            DBSObject databaseObject = node.getObject();
-            Map<DBPPropertyDescriptor, Object> nodeProperties = propertyValues.get(databaseObject);
-            if (nodeProperties == null) {
-                nodeProperties = new IdentityHashMap<>();
-                propertyValues.put(databaseObject, nodeProperties);
-            }
-            PropertyCollector propertySource = new PropertyCollector(databaseObject, compareLazyProperties || compareScripts);
-            for (ObjectPropertyDescriptor prop : properties) {
-                boolean isScriptProperty = prop.getId().equals(DBConstants.PARAM_OBJECT_DEFINITION_TEXT) || prop.getId().equals(DBConstants.PARAM_EXTENDED_DEFINITION_TEXT);
-                if (prop.isLazy()) {
-                    if (!compareLazyProperties) {
-                        if (compareScripts) {
-                            // Only DBPScriptObject methods
-                            if (!isScriptProperty) {
-                                continue;
-                            }
-                        } else {
+        PropertyCollector propertySource = new PropertyCollector(databaseObject, compareLazyProperties || compareScripts);
+        for (ObjectPropertyDescriptor prop : properties) {
+            boolean isScriptProperty = prop.getId().equals(DBConstants.PARAM_OBJECT_DEFINITION_TEXT) || prop.getId().equals(DBConstants.PARAM_EXTENDED_DEFINITION_TEXT);
+            if (prop.isLazy()) {
+                if (!compareLazyProperties) {
+                    if (compareScripts) {
+                        // Only DBPScriptObject methods
+                        if (!isScriptProperty) {
                             continue;
                         }
-                    }
-                } else {
-                    if (prop.isHidden()) {
+                    } else {
                         continue;
                     }
                 }
-                if (onlyStruct && !isScriptProperty) {
+            } else {
+                if (prop.isHidden()) {
                     continue;
                 }
-                Object propertyValue = propertySource.getPropertyValue(monitor, databaseObject, prop, true);
-                synchronized (PROPS_LOCK) {
-                    if (propertyValue instanceof DBPNamedObject) {
-                        // Compare just object names
-                        propertyValue = ((DBPNamedObject) propertyValue).getName();
-                    }
-                    nodeProperties.put(prop, propertyValue);
-                }
             }
-            monitor.worked(1);
+            if (onlyStruct && !isScriptProperty) {
+                continue;
+            }
+            Object propertyValue = propertySource.getPropertyValue(monitor, databaseObject, prop, true);
+            if (propertyValue instanceof DBPNamedObject) {
+                // Compare just object names
+                propertyValue = ((DBPNamedObject) propertyValue).getName();
+            }
+            snapshot.propertyValues.put(prop.getId(), propertyValue);
         }
+    }
 
-        // Compare properties
-        for (ObjectPropertyDescriptor prop : properties) {
-            reportPropertyCompare(prop);
+    private void loadChildren(DBRProgressMonitor monitor, ObjectSnapshot snapshot)
+        throws DBException, InterruptedException
+    {
+        DBNDatabaseNode node = snapshot.node;
+        // Cache structure if possible. Containers read metadata of all children by a few bulk queries
+        if (node.getObject() instanceof DBSObjectContainer) {
+            ((DBSObjectContainer) node.getObject()).cacheStructure(monitor, DBSObjectContainer.STRUCT_ALL);
+        }
+        DBNDatabaseNode[] children;
+        try {
+            children = node.getChildren(monitor);
+        } catch (Exception e) {
+            log.warn("Error reading child nodes for compare", e);
+            snapshot.childrenError = true;
+            return;
+        }
+        if (children == null) {
+            return;
+        }
+        for (DBNDatabaseNode child : children) {
+            DBXTreeNode meta = child.getMeta();
+            if (meta.isVirtual()) {
+                // Skip virtual nodes
+                continue;
+            }
+            if (settings.isSkipSystemObjects() && DBUtils.isSystemObject(child.getObject())) {
+                // Skip system objects
+                continue;
+            }
+            String childName = child.getNodeDisplayName();
+            if (!snapshot.children.containsKey(childName)) {
+                snapshot.children.put(childName, loadSnapshot(monitor, child));
+            }
         }
     }
 
-    private void compareChildren(DBRProgressMonitor monitor, List<DBNDatabaseNode> nodes) throws DBException, InterruptedException
+    /**
+     * Compares objects with the same name
+     *
+     * @param snapshots objects to compare, null elements stand for missing objects
+     */
+    private void compareSnapshots(List<ObjectSnapshot> snapshots)
     {
-        // Compare children
-        int nodeCount = nodes.size();
-        List<DBNDatabaseNode[]> allChildren = new ArrayList<>(nodeCount);
-        // Use submonitor to avoid huge number of tasks
-        DBRProgressMonitor subMonitor = new SubTaskProgressMonitor(monitor);
-        for (int i = 0; i < nodeCount; i++) {
-            DBNDatabaseNode node = nodes.get(i);
-            // Cache structure if possible
-            if (node.getObject() instanceof DBSObjectContainer) {
-                ((DBSObjectContainer) node.getObject()).cacheStructure(subMonitor, DBSObjectContainer.STRUCT_ALL);
-            }
-            try {
-                DBNDatabaseNode[] children = node.getChildren(subMonitor);
-                allChildren.add(children);
-            } catch (Exception e) {
-                log.warn("Error reading child nodes for compare", e);
-                allChildren.add(null);
+        List<ObjectSnapshot> presentSnapshots = new ArrayList<>(snapshots.size());
+        List<DBNDatabaseNode> nodes = new ArrayList<>(snapshots.size());
+        for (ObjectSnapshot snapshot : snapshots) {
+            if (snapshot != null) {
+                presentSnapshots.add(snapshot);
+                nodes.add(snapshot.node);
             }
         }
+        reportObjectsCompareBegin(nodes);
 
-        Set<String> allChildNames = new LinkedHashSet<>();
-        for (DBNDatabaseNode[] childList : allChildren) {
-            if (childList == null) continue;
-            for (DBNDatabaseNode child : childList) {
-                DBXTreeNode meta = child.getMeta();
-                if (meta.isVirtual()) {
-                    // Skip virtual nodes
-                    continue;
+        try {
+            if (presentSnapshots.size() > 1) {
+                // Go deeper only if we have more than one node
+                if (!lastLine.hasDifference && isIdentical(presentSnapshots)) {
+                    // Skip the whole subtree
+                    lastLine.identicalObjects = presentSnapshots.get(0).objectCount;
+                    return;
                 }
-                if (settings.isSkipSystemObjects() && DBUtils.isSystemObject(child.getObject())) {
-                    // Skip system objects
-                    continue;
+                if (!(presentSnapshots.get(0).node instanceof DBNDatabaseFolder)) {
+                    compareProperties(presentSnapshots);
                 }
-                allChildNames.add(child.getNodeDisplayName());
+
+                compareChildren(presentSnapshots);
             }
+        } finally {
+            reportObjectsCompareEnd();
         }
+    }
 
-        for (String childName : allChildNames) {
-            int[] childIndexes = new int[nodeCount];
-            for (int i = 0; i < nodeCount; i++) {
-                childIndexes[i] = -1;
-                DBNDatabaseNode[] childList = allChildren.get(i);
-                if (childList == null) continue;
-                for (int k = 0; k < childList.length; k++) {
-                    DBNDatabaseNode child = childList[k];
-                    if (child.getNodeDisplayName().equals(childName)) {
-                        childIndexes[i] = k;
-                        break;
-                    }
-                }
+    private static boolean isIdentical(List<ObjectSnapshot> snapshots)
+    {
+        byte[] fingerprint = snapshots.get(0).fingerprint;
+        if (fingerprint == null) {
+            return false;
+        }
+        for (int i = 1; i < snapshots.size(); i++) {
+            if (!Arrays.equals(fingerprint, snapshots.get(i).fingerprint)) {
+                return false;
             }
+        }
+        return true;
+    }
 
-            List<DBNDatabaseNode> nodesToCompare = new ArrayList<>(nodeCount);
-            for (int i = 0; i < nodeCount; i++) {
-                if (childIndexes[i] == -1) {
-                    // Missing
-                } else {
-                    for (int k = 0; k < nodeCount; k++) {
-                        if (k != i && childIndexes[k] != childIndexes[i]) {
-                            // Wrong index - add to report
-                            break;
-                        }
-                    }
-                    final DBNDatabaseNode[] childList = allChildren.get(i);
-                    if (childList != null) {
-                        nodesToCompare.add(childList[childIndexes[i]]);
-                    }
-                }
+    private void compareProperties(List<ObjectSnapshot> snapshots)
+    {
+        List<ObjectPropertyDescriptor> properties = snapshots.get(0).properties;
+        if (properties == null) {
+            return;
+        }
+        for (ObjectPropertyDescriptor prop : properties) {
+            reportPropertyCompare(prop, snapshots);
+        }
+    }
+
+    private void compareChildren(List<ObjectSnapshot> snapshots)
+    {
+        Set<String> allChildNames = new LinkedHashSet<>();
+        for (ObjectSnapshot snapshot : snapshots) {
+            allChildNames.addAll(snapshot.children.keySet());
+        }
+
+        for (String childName : allChildNames) {
+            List<ObjectSnapshot> childSnapshots = new ArrayList<>(snapshots.size());
+            for (ObjectSnapshot snapshot : snapshots) {
+                childSnapshots.add(snapshot.children.get(childName));
             }
             // Compare children recursively
-            compareNodes(monitor, nodesToCompare);
+            compareSnapshots(childSnapshots);
         }
     }
 
-
     private DataSourcePropertyFilter getDataSourceFilter(DBNDatabaseNode node)
     {
         DBPDataSource dataSource = node.getDataSourceContainer().getDataSource();
         if (dataSource == null) {
             return null;
         }
-        DataSourcePropertyFilter filter = dataSourceFilters.get(dataSource);
-        if (filter == null) {
-            filter = new DataSourcePropertyFilter(dataSource);
-            dataSourceFilters.put(dataSource, filter);
+        synchronized (dataSourceFilters) {
+            DataSourcePropertyFilter filter = dataSourceFilters.get(dataSource);
+            if (filter == null) {
+                filter = new DataSourcePropertyFilter(dataSource);
+                dataSourceFilters.put(dataSource, filter);
+            }
+            return filter;
+        }
+    }
+
+    /**
+     * Loaded object with its compared properties and children
+     */
+    private static class ObjectSnapshot {
+        final DBNDatabaseNode node;
+        List<ObjectPropertyDescriptor> properties;
+        final Map<String, Object> propertyValues = new HashMap<>();
+        final Map<String, ObjectSnapshot> children = new LinkedHashMap<>();
+        boolean childrenError;
+        // Hash of properties and children fingerprints. Null if subtree wasn't loaded completely
+        byte[] fingerprint;
+        // Number of objects in subtree including this one
+        int objectCount = 1;
+
+        ObjectSnapshot(DBNDatabaseNode node)
+        {
+            this.node = node;
+        }
+
+        void computeFingerprint()
+        {
+            if (childrenError) {
+                return;
+            }
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                log.debug(e);
+                return;
+            }
+            updateDigest(digest, node.getNodeType());
+            // Property and children order doesn't matter, they are matched by name
+            for (Map.Entry<String, Object> property : new TreeMap<>(propertyValues).entrySet()) {
+                updateDigest(digest, property.getKey());
+                updateDigest(digest, valueToString(property.getValue()));
+            }
+            for (String childName : new TreeSet<>(children.keySet())) {
+                ObjectSnapshot child = children.get(childName);
+                if (child.fingerprint == null) {
+                    return;
+                }
+                updateDigest(digest, childName);
+                digest.update(child.fingerprint);
+                objectCount += child.objectCount;
+            }
+            fingerprint = digest.digest();
+        }
+
+        private static void updateDigest(MessageDigest digest, String value)
+        {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+
+        private static String valueToString(Object value)
+        {
+            if (value == null) {
+                return "";
+            } else if (value instanceof Object[]) {
+                return Arrays.deepToString((Object[]) value);
+            }
+            return value.getClass().getName() + ":" + value;
+        }
+    }
+
+    /**
+     * Loads object tree of one compared node
+     */
+    private class SnapshotLoader extends AbstractJob {
+        private final DBNDatabaseNode node;
+        private final CountDownLatch finishLatch;
+        private volatile ObjectSnapshot snapshot;
+        private volatile Throwable error;
+
+        SnapshotLoader(DBNDatabaseNode node, CountDownLatch finishLatch)
+        {
+            super("Load " + node.getNodeFullName() + " for compare");
+            setUser(false);
+            setSystem(true);
+            this.node = node;
+            this.finishLatch = finishLatch;
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor)
+        {
+            try {
+                snapshot = loadSnapshot(monitor, node);
+            } catch (Throwable e) {
+                error = e;
+            } finally {
+                finishLatch.countDown();
+            }
+            return Status.OK_STATUS;
         }
-        return filter;
     }
 
-}
\ No newline at end of file
+}
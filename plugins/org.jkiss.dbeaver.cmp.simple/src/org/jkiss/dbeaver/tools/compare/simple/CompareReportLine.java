@@ -29,4 +29,6 @@ class CompareReportLine {
     List<CompareReportProperty> properties;
     int depth;
     boolean hasDifference;
+    // Number of objects in identical subtree (including this one). Child lines of identical subtrees are not reported
+    int identicalObjects;
 }
@@ -143,6 +143,10 @@ public class CompareReportRenderer {
         int objectCount = report.getNodes().size();
         List<CompareReportLine> reportLines = report.getReportLines();
         int reportLinesSize = reportLines.size();
+        int comparedObjects = 0;
+        for (CompareReportLine line : reportLines) {
+            comparedObjects += Math.max(line.identicalObjects, 1);
+        }
         for (int i = 0; i < reportLinesSize; i++) {
             monitor.worked(1);
             CompareReportLine line = reportLines.get(i);
@@ -151,7 +155,7 @@ public class CompareReportRenderer {
             }
             boolean onlyStructure = line.structure instanceof DBNDatabaseFolder && !line.hasDifference;
             // Skip empty folders
-            if (onlyStructure && (i >= reportLinesSize - 1 || reportLines.get(i + 1).depth <= line.depth)) {
+            if (onlyStructure && line.identicalObjects <= 1 && (i >= reportLinesSize - 1 || reportLines.get(i + 1).depth <= line.depth)) {
                 continue;
             }
 
@@ -181,6 +185,18 @@ public class CompareReportRenderer {
 
             xml.endElement();
 
+            if (line.identicalObjects > 1) {
+                // Identical subtree is rendered as a single line
+                xml.startElement("tr");
+                xml.addAttribute("class", "property level" + (line.depth + 1));
+                xml.addAttribute("valign", "top");
+                xml.startElement("td");
+                xml.addAttribute("colspan", objectCount + 1);
+                xml.addText((line.identicalObjects - 1) + " nested objects are identical");
+                xml.endElement();
+                xml.endElement();
+            }
+
             if (line.properties != null) {
                 for (CompareReportProperty reportProperty : line.properties) {
                     boolean differs = false;
@@ -242,7 +258,7 @@ public class CompareReportRenderer {
         xml.addAttribute("class", "object");
         xml.startElement("td");
         xml.addAttribute("colspan", report.getNodes().size() + 1);
-        xml.addText("" + reportLines.size() + " objects compared");
+        xml.addText("" + comparedObjects + " objects compared");
         xml.endElement();
         xml.endElement();
 
@@ -28,6 +28,9 @@ public class GISMessages extends NLS {
 	public static String panel_leaflet_viewer_tool_bar_action_text_flip;
 	public static String panel_leaflet_viewer_tool_bar_action_tool_tip_text_flip;
 	public static String panel_leaflet_viewer_tool_bar_action_text_show_hide;
+	public static String panel_leaflet_viewer_notice_simplified;
+	public static String panel_leaflet_viewer_notice_points_hidden;
+	public static String panel_leaflet_viewer_notice_not_rendered;
 	
 	public static String panel_gis_panel_editor_viewer_action_tool_tip_text_settings;
 
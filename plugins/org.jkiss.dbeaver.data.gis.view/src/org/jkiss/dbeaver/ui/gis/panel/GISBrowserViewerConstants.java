@@ -22,7 +22,6 @@ public class GISBrowserViewerConstants {
         "leaflet.css",
         "leaflet.js",
         "leaflet-lasso.min.js",
-        "wkx.min.js",
         "layers.png"
     };
     public static final String WEB_INC_PATH = "web/inc/";
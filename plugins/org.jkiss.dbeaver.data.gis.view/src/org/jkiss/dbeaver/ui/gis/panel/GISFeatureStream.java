@@ -0,0 +1,243 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.gis.panel;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.gis.GisGeoJSONWriter;
+import org.jkiss.dbeaver.model.gis.GisTransformUtils;
+import org.locationtech.jts.geom.*;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.simplify.DouglasPeuckerSimplifier;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Features rendered by the leaflet viewer.
+ * <p>
+ * Before rendering, geometries are simplified to the viewport resolution and dense point sets are thinned out
+ * by a grid, so the amount of data passed to the browser doesn't depend on the source geometries complexity.
+ * Features are passed to the browser as GeoJSON by chunks through the browser function, so the page itself stays small.
+ * The page renders features only until the vertex budget is exhausted, the rest of features is reported as not rendered.
+ */
+class GISFeatureStream {
+
+    private static final Log log = Log.getLog(GISFeatureStream.class);
+
+    static final int CHUNK_SIZE = 500;
+
+    // Geometries are simplified only if total number of vertices is big, small data sets are rendered as is
+    private static final long SIMPLIFY_VERTEX_THRESHOLD = 100_000;
+    private static final int CLUSTER_POINT_THRESHOLD = 2_000;
+    // Keep enough details to zoom in a few levels without visible simplification artifacts
+    private static final int OVERSAMPLING = 4;
+    private static final int CLUSTER_GRID_SIZE = 1024;
+    private static final int PARALLEL_THRESHOLD = 1_000;
+    // Maximal number of vertices loaded into the page
+    private static final long MAX_RENDERED_VERTICES = 1_000_000;
+
+    private final List<Geometry> geometries = new ArrayList<>();
+    private final List<String> tips = new ArrayList<>();
+    private int simplifiedCount;
+    private int hiddenPointCount;
+    private int renderedCount;
+
+    void addFeature(@NotNull Object value, @NotNull String tip) {
+        Geometry geometry = toJtsGeometry(value);
+        if (geometry == null || geometry.isEmpty()) {
+            return;
+        }
+        geometries.add(geometry);
+        tips.add(tip);
+        renderedCount = geometries.size();
+    }
+
+    int size() {
+        return geometries.size();
+    }
+
+    /**
+     * Returns number of features rendered by the page
+     */
+    int getRenderedCount() {
+        return renderedCount;
+    }
+
+    /**
+     * Returns number of line and polygon features simplified to the viewport resolution
+     */
+    int getSimplifiedCount() {
+        return simplifiedCount;
+    }
+
+    /**
+     * Returns number of points hidden by the grid thinning
+     */
+    int getHiddenPointCount() {
+        return hiddenPointCount;
+    }
+
+    /**
+     * Simplifies geometries and clusters points according to the viewport size.
+     * Then limits the number of rendered features by the vertex budget.
+     *
+     * @param viewportSize maximal viewport dimension in pixels
+     */
+    void applyLevelOfDetail(int viewportSize) {
+        int count = geometries.size();
+        Envelope extent = new Envelope();
+        long vertexCount = 0;
+        int pointCount = 0;
+        for (Geometry geometry : geometries) {
+            extent.expandToInclude(geometry.getEnvelopeInternal());
+            vertexCount += geometry.getNumPoints();
+            if (geometry instanceof Point) {
+                pointCount++;
+            }
+        }
+        double extentSize = extent.isNull() ? 0 : Math.max(extent.getWidth(), extent.getHeight());
+
+        if (extentSize > 0 && vertexCount > SIMPLIFY_VERTEX_THRESHOLD) {
+            double tolerance = extentSize / ((double) Math.max(viewportSize, 1) * OVERSAMPLING);
+            AtomicInteger simplified = new AtomicInteger();
+            IntStream indexes = IntStream.range(0, count);
+            if (count >= PARALLEL_THRESHOLD) {
+                indexes = indexes.parallel();
+            }
+            indexes.forEach(i -> {
+                Geometry geometry = geometries.get(i);
+                if (!(geometry instanceof Puntal)) {
+                    Geometry simplifiedGeometry = DouglasPeuckerSimplifier.simplify(geometry, tolerance);
+                    // Geometries smaller than a pixel collapse, render them as is
+                    if (!simplifiedGeometry.isEmpty() && simplifiedGeometry.getNumPoints() < geometry.getNumPoints()) {
+                        simplifiedGeometry.setSRID(geometry.getSRID());
+                        geometries.set(i, simplifiedGeometry);
+                        simplified.incrementAndGet();
+                    }
+                }
+            });
+            simplifiedCount = simplified.get();
+        }
+
+        if (extentSize > 0 && pointCount > CLUSTER_POINT_THRESHOLD) {
+            // Keep only one point in each grid cell
+            double cellSize = extentSize / CLUSTER_GRID_SIZE;
+            Set<Long> occupiedCells = new HashSet<>();
+            List<Geometry> clusteredGeometries = new ArrayList<>(count);
+            List<String> clusteredTips = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                if (geometries.get(i) instanceof Point point) {
+                    long cellX = (long) ((point.getX() - extent.getMinX()) / cellSize);
+                    long cellY = (long) ((point.getY() - extent.getMinY()) / cellSize);
+                    if (!occupiedCells.add(cellX * (CLUSTER_GRID_SIZE + 1) + cellY)) {
+                        continue;
+                    }
+                }
+                clusteredGeometries.add(geometries.get(i));
+                clusteredTips.add(tips.get(i));
+            }
+            hiddenPointCount = count - clusteredGeometries.size();
+            geometries.clear();
+            geometries.addAll(clusteredGeometries);
+            tips.clear();
+            tips.addAll(clusteredTips);
+        }
+
+        // The first feature is always rendered, even if it exceeds the budget alone
+        renderedCount = 0;
+        long renderedVertices = 0;
+        for (Geometry geometry : geometries) {
+            renderedVertices += geometry.getNumPoints();
+            if (renderedCount > 0 && renderedVertices > MAX_RENDERED_VERTICES) {
+                break;
+            }
+            renderedCount++;
+        }
+    }
+
+    /**
+     * Returns rendered geometries as a list of GeoJSON objects
+     */
+    @NotNull
+    String getValueLiterals() {
+        StringBuilder buffer = new StringBuilder();
+        for (int i = 0; i < renderedCount; i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+            GisGeoJSONWriter.appendGeoJSON(buffer, geometries.get(i));
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Returns rendered geometry tips as a list of JS object literals
+     */
+    @NotNull
+    String getTipLiterals() {
+        return String.join(",", tips.subList(0, renderedCount));
+    }
+
+    /**
+     * Returns JSON object with GeoJSON geometries and tips of the specified chunk or null if there are no more chunks
+     */
+    @Nullable
+    String getChunk(int index) {
+        int start = index * CHUNK_SIZE;
+        if (index < 0 || start >= renderedCount) {
+            return null;
+        }
+        int end = Math.min(start + CHUNK_SIZE, renderedCount);
+        StringBuilder buffer = new StringBuilder();
+        buffer.append("{\"values\":[");
+        for (int i = start; i < end; i++) {
+            if (i > start) {
+                buffer.append(',');
+            }
+            GisGeoJSONWriter.appendGeoJSON(buffer, geometries.get(i));
+        }
+        buffer.append("],\"tips\":[");
+        for (int i = start; i < end; i++) {
+            if (i > start) {
+                buffer.append(',');
+            }
+            buffer.append(tips.get(i));
+        }
+        buffer.append("]}");
+        return buffer.toString();
+    }
+
+    @Nullable
+    private static Geometry toJtsGeometry(@NotNull Object value) {
+        Geometry geometry = GisTransformUtils.getJtsGeometry(value);
+        if (geometry == null) {
+            try {
+                geometry = new WKTReader().read(value.toString());
+            } catch (ParseException e) {
+                log.debug("Unable to parse geometry for rendering: " + e.getMessage());
+            }
+        }
+        return geometry;
+    }
+}
@@ -34,6 +34,7 @@ import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.widgets.*;
 import org.jkiss.code.NotNull;
@@ -71,6 +72,7 @@ import org.jkiss.dbeaver.ui.gis.registry.GeometryViewerRegistry;
 import org.jkiss.dbeaver.ui.gis.registry.LeafletTilesDescriptor;
 import org.jkiss.dbeaver.utils.ContentUtils;
 import org.jkiss.dbeaver.utils.GeneralUtils;
+import org.jkiss.dbeaver.utils.NLS;
 import org.jkiss.dbeaver.utils.RuntimeUtils;
 import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
@@ -107,6 +109,10 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
     private int sourceSRID = UNDEFINED_SRID; // Explicitly set SRID
     private int actualSourceSRID; // SRID taken from geometry value
     private Path scriptFile;
+    private Path externalScriptFile;
+    private GISFeatureStream featureStream;
+    private Bounds viewBounds;
+    private boolean viewShowMap;
     private final Composite statusBar;
     private final ToolBarManager toolBarManager;
     private int defaultSRID; // Target SRID used to render map
@@ -145,6 +151,16 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
 
         if (browser != null) {
             browser.setLayoutData(new GridData(GridData.FILL_BOTH));
+            new BrowserFunction(browser, "getGeometryChunk") {
+                @Override
+                public Object function(Object[] arguments) {
+                    GISFeatureStream features = featureStream;
+                    if (features == null || arguments.length == 0) {
+                        return null;
+                    }
+                    return features.getChunk(CommonUtils.toInt(arguments[0]));
+                }
+            };
             new BrowserFunction(browser, "setClipboardContents") {
                 @Override
                 public Object function(Object[] arguments) {
@@ -334,9 +350,14 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
             }
         }
 
-        List<String> geomValues = new ArrayList<>();
-        List<String> geomTipValues = new ArrayList<>();
+        GISFeatureStream features = new GISFeatureStream();
         boolean showMap = false;
+        // Prepare values and transform all of them at once, transformation of a big batch is performed in parallel
+        DBGeometry[] preparedValues = new DBGeometry[values.length];
+        Object[] targetValues = new Object[values.length];
+        int[] valueSRIDs = new int[values.length];
+        GisTransformRequest[] transformRequests = new GisTransformRequest[values.length];
+        List<GisTransformRequest> transformBatch = new ArrayList<>();
         for (int i = 0; i < values.length; i++) {
             DBGeometry value = values[i];
             if (DBUtils.isNullValue(value)) {
@@ -354,6 +375,7 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
             } catch (DBException e) {
                 log.error("Error forcing geometry to 2D", e);
             }
+            preparedValues[i] = value;
             Object targetValue = value.getRawValue();
             if (WKGUtils.isCurve(targetValue)) {
                 targetValue = WKGUtils.linearize((org.cugos.wkg.Geometry) targetValue);
@@ -368,6 +390,25 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
             if (srid == UNDEFINED_SRID) {
                 srid = GeometryDataUtils.getDefaultSRID();
             }
+            if (srid != GisConstants.SRID_SIMPLE && srid != GisConstants.SRID_4326) {
+                Geometry geometry = GisTransformUtils.getJtsGeometry(targetValue);
+                if (geometry != null) {
+                    transformRequests[i] = new GisTransformRequest(geometry, srid, GisConstants.SRID_4326);
+                    transformBatch.add(transformRequests[i]);
+                }
+            }
+            targetValues[i] = targetValue;
+            valueSRIDs[i] = srid;
+        }
+        GisTransformUtils.transformGisData(transformBatch);
+
+        for (int i = 0; i < values.length; i++) {
+            DBGeometry value = preparedValues[i];
+            if (value == null) {
+                continue;
+            }
+            Object targetValue = targetValues[i];
+            int srid = valueSRIDs[i];
             if (srid == GisConstants.SRID_SIMPLE) {
                 showMap = false;
                 actualSourceSRID = srid;
@@ -375,17 +416,15 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
                 showMap = true;
                 actualSourceSRID = srid;
             } else {
-                Geometry geometry = GisTransformUtils.getJtsGeometry(targetValue);
-                if (geometry != null) {
-                    try {
-                        GisTransformRequest request = new GisTransformRequest(geometry, srid, GisConstants.SRID_4326);
-                        GisTransformUtils.transformGisData(request);
+                GisTransformRequest request = transformRequests[i];
+                if (request != null) {
+                    if (request.getError() == null) {
                         targetValue = request.getTargetValue();
                         srid = request.getTargetSRID();
                         actualSourceSRID = request.getSourceSRID();
                         showMap = request.isShowOnMap();
-                    } catch (DBException e) {
-                        log.debug("Error transforming CRS", e);
+                    } else {
+                        log.debug("Error transforming CRS", request.getError());
                         actualSourceSRID = srid;
                         showMap = false;
                     }
@@ -397,22 +436,55 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
             if (targetValue == null) {
                 continue;
             }
-            geomValues.add("'" + targetValue + "'");
+            String tip = "null";
             try {
-                if (CommonUtils.isEmpty(value.getProperties())) {
-                    geomTipValues.add("null");
-                } else {
-                    geomTipValues.add(gson.toJson(value.getProperties()));
+                if (!CommonUtils.isEmpty(value.getProperties())) {
+                    tip = gson.toJson(value.getProperties());
                 }
             } catch (Exception e) {
                 log.debug(e);
             }
+            features.addFeature(targetValue, tip);
         }
+        Point viewportSize = browser == null ? new Point(0, 0) : browser.getSize();
+        features.applyLevelOfDetail(Math.max(viewportSize.x, viewportSize.y));
+
         this.defaultSRID = actualSourceSRID;
-        String geomValuesString = String.join(",", geomValues);
-        String geomTipValuesString = String.join(",", geomTipValues);
-        String geomCRS = actualSourceSRID == GisConstants.SRID_SIMPLE ? GisConstants.LL_CRS_SIMPLE : GisConstants.LL_CRS_3857;
-        boolean isShowMap = showMap;
+        this.featureStream = features;
+        this.viewBounds = bounds;
+        this.viewShowMap = showMap;
+        writeViewScript(scriptFile, false);
+
+        return scriptFile;
+    }
+
+    /**
+     * Writes the page rendering current features.
+     *
+     * @param embedFeatures if true then features are written into the page itself, otherwise page loads
+     *                      them from the viewer by chunks. Embedded features are needed for external browsers.
+     */
+    private void writeViewScript(@NotNull Path file, boolean embedFeatures) throws IOException {
+        GISFeatureStream features = featureStream;
+        String geomValuesString = embedFeatures ? features.getValueLiterals() : "";
+        String geomTipValuesString = embedFeatures ? features.getTipLiterals() : "";
+        String geomCRS = defaultSRID == GisConstants.SRID_SIMPLE ? GisConstants.LL_CRS_SIMPLE : GisConstants.LL_CRS_3857;
+        boolean isShowMap = viewShowMap;
+        Bounds bounds = viewBounds;
+        List<String> notices = new ArrayList<>();
+        if (features.getSimplifiedCount() > 0) {
+            notices.add(NLS.bind(GISMessages.panel_leaflet_viewer_notice_simplified, features.getSimplifiedCount()));
+        }
+        if (features.getHiddenPointCount() > 0) {
+            notices.add(NLS.bind(GISMessages.panel_leaflet_viewer_notice_points_hidden, features.getHiddenPointCount()));
+        }
+        if (features.getRenderedCount() < features.size()) {
+            notices.add(NLS.bind(
+                GISMessages.panel_leaflet_viewer_notice_not_rendered,
+                features.size() - features.getRenderedCount(),
+                features.size()));
+        }
+        String featuresNotice = notices.isEmpty() ? "null" : gson.toJson(String.join("; ", notices));
 
         InputStream fis = GISViewerActivator.getDefault().getResourceStream(GISBrowserViewerConstants.VIEW_TEMPLATE_PATH);
         if (fis == null) {
@@ -426,6 +498,12 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
                         return geomValuesString;
                     case "geomTipValues":
                         return geomTipValuesString;
+                    case "streamValues":
+                        return String.valueOf(!embedFeatures);
+                    case "maxFeatures":
+                        return String.valueOf(features.getRenderedCount());
+                    case "featuresNotice":
+                        return featuresNotice;
                     case "geomSRID":
                         return String.valueOf(defaultSRID);
                     case "showMap":
@@ -449,14 +527,12 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
                 }
                 return null;
             });
-            try (OutputStream fos = Files.newOutputStream(scriptFile)) {
+            try (OutputStream fos = Files.newOutputStream(file)) {
                 fos.write(viewTemplate.getBytes(GeneralUtils.UTF8_CHARSET));
             }
         } finally {
             ContentUtils.close(fis);
         }
-
-        return scriptFile;
     }
 
     private void checkIncludesExistence(Path scriptDir) throws IOException {
@@ -481,11 +557,13 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
     }
 
     private void cleanupFiles() {
-        if (scriptFile != null) {
-            try {
-                Files.delete(scriptFile);
-            } catch (IOException e) {
-                log.debug("Can't delete temp script file '" + scriptFile + "'", e);
+        for (Path file : new Path[] { scriptFile, externalScriptFile }) {
+            if (file != null) {
+                try {
+                    Files.delete(file);
+                } catch (IOException e) {
+                    log.debug("Can't delete temp script file '" + file + "'", e);
+                }
             }
         }
     }
@@ -520,7 +598,17 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
         toolBarManager.add(new Action(GISMessages.panel_leaflet_viewer_tool_bar_action_text_open, DBeaverIcons.getImageDescriptor(UIIcon.BROWSER)) {
             @Override
             public void run() {
-                ShellUtils.launchProgram(scriptFile.toAbsolutePath().toString());
+                try {
+                    if (externalScriptFile == null) {
+                        externalScriptFile = Files.createTempFile(scriptFile.getParent(), "view", "gis.html");
+                    }
+                    if (featureStream != null) {
+                        writeViewScript(externalScriptFile, true);
+                    }
+                    ShellUtils.launchProgram(externalScriptFile.toAbsolutePath().toString());
+                } catch (IOException e) {
+                    DBWorkbench.getPlatformUI().showError("Open in browser", "Error generating viewer script", e);
+                }
             }
         });
         toolBarManager.add(new Action(GISMessages.panel_leaflet_viewer_tool_bar_action_text_copy_as, DBeaverIcons.getImageDescriptor(UIIcon.PICTURE)) {
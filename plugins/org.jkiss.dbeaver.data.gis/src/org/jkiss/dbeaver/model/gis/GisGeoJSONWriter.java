@@ -0,0 +1,145 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.gis;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.locationtech.jts.geom.*;
+
+/**
+ * Writes JTS geometries as GeoJSON.
+ * <p>
+ * JSON has no literals for NaN and infinite numbers, so positions with non-finite coordinates are skipped.
+ * A point without a finite position is written with empty coordinates, the same way as an empty point.
+ */
+public final class GisGeoJSONWriter {
+
+    private GisGeoJSONWriter() {
+    }
+
+    @NotNull
+    public static String toGeoJSON(@NotNull Geometry geometry) {
+        StringBuilder buffer = new StringBuilder();
+        appendGeoJSON(buffer, geometry);
+        return buffer.toString();
+    }
+
+    public static void appendGeoJSON(@NotNull StringBuilder buffer, @NotNull Geometry geometry) {
+        if (geometry instanceof GeometryCollection && !(geometry instanceof MultiPoint)
+            && !(geometry instanceof MultiLineString) && !(geometry instanceof MultiPolygon)) {
+            buffer.append("{\"type\":\"GeometryCollection\",\"geometries\":[");
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                appendGeoJSON(buffer, geometry.getGeometryN(i));
+            }
+            buffer.append("]}");
+            return;
+        }
+        buffer.append("{\"type\":\"");
+        if (geometry instanceof Point point) {
+            buffer.append("Point\",\"coordinates\":");
+            appendCoordinate(buffer, point.getCoordinate());
+        } else if (geometry instanceof LineString lineString) {
+            buffer.append("LineString\",\"coordinates\":");
+            appendCoordinates(buffer, lineString.getCoordinateSequence());
+        } else if (geometry instanceof Polygon polygon) {
+            buffer.append("Polygon\",\"coordinates\":");
+            appendPolygon(buffer, polygon);
+        } else if (geometry instanceof MultiPoint) {
+            buffer.append("MultiPoint\",\"coordinates\":[");
+            boolean first = true;
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                Coordinate coordinate = geometry.getGeometryN(i).getCoordinate();
+                if (coordinate == null || !isFinite(coordinate.getX(), coordinate.getY())) {
+                    continue;
+                }
+                if (!first) {
+                    buffer.append(',');
+                }
+                appendPosition(buffer, coordinate.getX(), coordinate.getY());
+                first = false;
+            }
+            buffer.append(']');
+        } else if (geometry instanceof MultiLineString) {
+            buffer.append("MultiLineString\",\"coordinates\":[");
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                appendCoordinates(buffer, ((LineString) geometry.getGeometryN(i)).getCoordinateSequence());
+            }
+            buffer.append(']');
+        } else {
+            buffer.append("MultiPolygon\",\"coordinates\":[");
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                appendPolygon(buffer, (Polygon) geometry.getGeometryN(i));
+            }
+            buffer.append(']');
+        }
+        buffer.append('}');
+    }
+
+    private static void appendPolygon(@NotNull StringBuilder buffer, @NotNull Polygon polygon) {
+        buffer.append('[');
+        appendCoordinates(buffer, polygon.getExteriorRing().getCoordinateSequence());
+        for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+            buffer.append(',');
+            appendCoordinates(buffer, polygon.getInteriorRingN(i).getCoordinateSequence());
+        }
+        buffer.append(']');
+    }
+
+    private static void appendCoordinates(@NotNull StringBuilder buffer, @NotNull CoordinateSequence coordinates) {
+        buffer.append('[');
+        boolean first = true;
+        for (int i = 0; i < coordinates.size(); i++) {
+            double x = coordinates.getX(i);
+            double y = coordinates.getY(i);
+            if (!isFinite(x, y)) {
+                continue;
+            }
+            if (!first) {
+                buffer.append(',');
+            }
+            appendPosition(buffer, x, y);
+            first = false;
+        }
+        buffer.append(']');
+    }
+
+    private static void appendCoordinate(@NotNull StringBuilder buffer, @Nullable Coordinate coordinate) {
+        if (coordinate == null || !isFinite(coordinate.getX(), coordinate.getY())) {
+            // Empty point
+            buffer.append("[]");
+            return;
+        }
+        appendPosition(buffer, coordinate.getX(), coordinate.getY());
+    }
+
+    private static void appendPosition(@NotNull StringBuilder buffer, double x, double y) {
+        buffer.append('[').append(x).append(',').append(y).append(']');
+    }
+
+    private static boolean isFinite(double x, double y) {
+        return Double.isFinite(x) && Double.isFinite(y);
+    }
+}
@@ -17,6 +17,8 @@
 package org.jkiss.dbeaver.model.gis;
 
 
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
 import org.locationtech.jts.geom.Geometry;
 
 /**
@@ -30,6 +32,7 @@ public class GisTransformRequest {
     private int targetSRID;
 
     private boolean showOnMap;
+    private DBException error;
 
     public GisTransformRequest(Geometry sourceValue, int sourceSRID, int targetSRID) {
         this.sourceValue = sourceValue;
@@ -73,4 +76,16 @@ public class GisTransformRequest {
     public void setShowOnMap(boolean showOnMap) {
         this.showOnMap = showOnMap;
     }
+
+    /**
+     * Transformation error. Set only by batch transformation, single request transformation throws it instead.
+     */
+    @Nullable
+    public DBException getError() {
+        return error;
+    }
+
+    public void setError(@Nullable DBException error) {
+        this.error = error;
+    }
 }
@@ -43,13 +43,15 @@ import org.jkiss.dbeaver.model.struct.DBSDataContainer;
 import org.jkiss.dbeaver.model.struct.DBSTypedObject;
 import org.jkiss.utils.CommonUtils;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFilter;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.io.ParseException;
 import org.locationtech.jts.io.WKTReader;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 /**
  * GisTransformUtils.
@@ -78,6 +80,13 @@ public class GisTransformUtils {
 
     private static List<Integer> crsCodes;
 
+    private static final int OPERATION_CACHE_SIZE = 64;
+    private static final int PARALLEL_TRANSFORM_THRESHOLD = 1000;
+
+    // Caches are read without locks by parallel batch transformation. Misses are resolved under the factory lock
+    private static final Map<Integer, CoordinateReferenceSystem> crsCache = new ConcurrentHashMap<>();
+    private static final Map<Long, Optional<CoordinateOperation>> operationCache = new ConcurrentHashMap<>();
+
     public static CRSFactory getCRSFactory() {
         return crsFactory;
     }
@@ -101,17 +110,21 @@ public class GisTransformUtils {
     public static void transformGisData(GisTransformRequest request) throws DBException {
         try {
             //srcSRID = 3857;
-            CoordinateReferenceSystem crs1 = crsFactory.getCRS("EPSG:" + request.getSourceSRID());
-            CoordinateReferenceSystem crs2 = crsFactory.getCRS("EPSG:" + request.getTargetSRID());
+            CoordinateReferenceSystem crs1 = getCRS(request.getSourceSRID());
+            CoordinateReferenceSystem crs2 = getCRS(request.getTargetSRID());
 
             try {
-                Geometry targetValue = transformGisData(request.getSourceValue(), crs1, crs2);
+                Geometry targetValue = transformGeometry(
+                    request.getSourceValue(),
+                    getCoordinateOperation(request.getSourceSRID(), crs1, request.getTargetSRID(), crs2));
                 targetValue.setSRID(request.getTargetSRID());
                 request.setTargetValue(targetValue);
                 request.setShowOnMap(true);
             } catch (IllegalArgumentException e) {
                 if (CommonUtils.equalObjects(crs1.getCoordinateSystem(), crs3857.getCoordinateSystem())) {
-                    Geometry geometry = transformGisData(request.getSourceValue(), crs3857, crs2);
+                    Geometry geometry = transformGeometry(
+                        request.getSourceValue(),
+                        getCoordinateOperation(GisConstants.SRID_3857, crs3857, request.getTargetSRID(), crs2));
                     geometry.setSRID(request.getTargetSRID());
                     request.setTargetValue(geometry);
                     request.setShowOnMap(false);
@@ -126,6 +139,80 @@ public class GisTransformUtils {
         }
     }
 
+    /**
+     * Transforms a batch of geometries. Big batches are transformed in parallel.
+     * Errors do not interrupt the batch, they are reported in {@link GisTransformRequest#getError()}.
+     */
+    public static void transformGisData(@NotNull List<GisTransformRequest> requests) {
+        Stream<GisTransformRequest> stream = requests.size() >= PARALLEL_TRANSFORM_THRESHOLD ?
+            requests.parallelStream() : requests.stream();
+        stream.forEach(request -> {
+            try {
+                transformGisData(request);
+            } catch (DBException e) {
+                request.setError(e);
+            }
+        });
+    }
+
+    @NotNull
+    private static CoordinateReferenceSystem getCRS(int srid) throws CRSException {
+        CoordinateReferenceSystem crs = crsCache.get(srid);
+        if (crs == null) {
+            synchronized (crsFactory) {
+                crs = crsCache.get(srid);
+                if (crs == null) {
+                    crs = crsFactory.getCRS(GisConstants.GIS_REG_EPSG + ":" + srid);
+                    crsCache.put(srid, crs);
+                }
+            }
+        }
+        return crs;
+    }
+
+    /**
+     * Returns the most precise operation between two CRS or null if there is no such operation.
+     * Operations are cached by SRID pair because their lookup is way more expensive than the transformation itself.
+     */
+    @Nullable
+    private static CoordinateOperation getCoordinateOperation(
+        int sourceSRID,
+        @NotNull CoordinateReferenceSystem crs1,
+        int targetSRID,
+        @NotNull CoordinateReferenceSystem crs2
+    ) throws CoordinateOperationException {
+        long key = ((long) sourceSRID << 32) | (targetSRID & 0xffffffffL);
+        Optional<CoordinateOperation> operation = operationCache.get(key);
+        if (operation == null) {
+            synchronized (crsFactory) {
+                operation = operationCache.get(key);
+                if (operation == null) {
+                    operation = Optional.ofNullable(findCoordinateOperation(crs1, crs2));
+                    if (operationCache.size() >= OPERATION_CACHE_SIZE) {
+                        // There are only a few SRID pairs in practice, so cache is just reset when it gets full
+                        operationCache.clear();
+                    }
+                    operationCache.put(key, operation);
+                }
+            }
+        }
+        return operation.orElse(null);
+    }
+
+    @Nullable
+    private static CoordinateOperation findCoordinateOperation(
+        @NotNull CoordinateReferenceSystem crs1,
+        @NotNull CoordinateReferenceSystem crs2
+    ) throws CoordinateOperationException {
+        if (crs1 instanceof GeodeticCRS && crs2 instanceof GeodeticCRS) {
+            Set<CoordinateOperation> coordOps = CoordinateOperationFactory.createCoordinateOperations((GeodeticCRS) crs1, (GeodeticCRS) crs2);
+            if (!coordOps.isEmpty()) {
+                return CoordinateOperationFactory.getMostPrecise(coordOps);
+            }
+        }
+        return null;
+    }
+
     private static Geometry transformGeometryTo(ProjectedCRS projectedCRS, Geometry geometry) throws CoordinateOperationException, IllegalCoordinateException {
         CoordinateOperation coordinateOperation = projectedCRS.toGeographicCoordinateConverter();
         for (Coordinate coord : geometry.getCoordinates()) {
@@ -137,27 +224,23 @@ public class GisTransformUtils {
     }
 
     public static Geometry transformGisData(Geometry jtsValue, CoordinateReferenceSystem crs1, CoordinateReferenceSystem crs2) throws Exception {
-        if (crs1 instanceof GeodeticCRS && crs2 instanceof GeodeticCRS) {
-            Set<CoordinateOperation> coordOps = CoordinateOperationFactory.createCoordinateOperations((GeodeticCRS) crs1, (GeodeticCRS) crs2);
-            if (!coordOps.isEmpty()) {
-            	CoordinateOperation op = CoordinateOperationFactory.getMostPrecise(coordOps);
-                // Transform coord using the op CoordinateOperation from crs1 to crs2
-                jtsValue = transformGeometry(jtsValue, op);
-                return jtsValue;
-            }
-        }
-        return jtsValue;
+        return transformGeometry(jtsValue, findCoordinateOperation(crs1, crs2));
     }
 
-    private static Geometry transformGeometry(Geometry geom, CoordinateOperation op) throws Exception {
-        geom = (Geometry) geom.clone();
-        for (Coordinate coord : geom.getCoordinates()) {
-            double[] srcCoord = getCoordinateValues(coord);
-            double[] targetCoord = op.transform(srcCoord);
-            setCoordinateValues(coord, targetCoord);
+    /**
+     * Transforms a copy of the geometry. Coordinate sequences of the copy are updated in place.
+     */
+    private static Geometry transformGeometry(Geometry geom, @Nullable CoordinateOperation op) throws Exception {
+        if (op == null) {
+            return geom;
+        }
+        geom = geom.copy();
+        CoordinateTransformFilter filter = new CoordinateTransformFilter(op);
+        geom.apply(filter);
+        if (filter.error != null) {
+            throw filter.error;
         }
         return geom;
-
     }
 
     private static void setCoordinateValues(Coordinate coord, double[] targetCoord) {
@@ -243,4 +326,56 @@ public class GisTransformUtils {
 
         return null;
     }
+
+    /**
+     * Transforms coordinate sequences in place. Coordinate buffers are reused for all points.
+     */
+    private static class CoordinateTransformFilter implements CoordinateSequenceFilter {
+        private final CoordinateOperation operation;
+        private final double[] coord2D = new double[2];
+        private final double[] coord3D = new double[3];
+        private Exception error;
+
+        CoordinateTransformFilter(CoordinateOperation operation) {
+            this.operation = operation;
+        }
+
+        @Override
+        public void filter(CoordinateSequence seq, int i) {
+            double z = seq.getDimension() > 2 ? seq.getOrdinate(i, CoordinateSequence.Z) : Double.NaN;
+            double[] coord;
+            if (Double.isNaN(z)) {
+                coord = coord2D;
+            } else {
+                coord = coord3D;
+                coord[2] = z;
+            }
+            coord[0] = seq.getOrdinate(i, CoordinateSequence.X);
+            coord[1] = seq.getOrdinate(i, CoordinateSequence.Y);
+            double[] targetCoord;
+            try {
+                targetCoord = operation.transform(coord);
+            } catch (IllegalCoordinateException | CoordinateOperationException e) {
+                error = e;
+                return;
+            }
+            if (targetCoord != null) {
+                seq.setOrdinate(i, CoordinateSequence.X, targetCoord[0]);
+                seq.setOrdinate(i, CoordinateSequence.Y, targetCoord[1]);
+                if (targetCoord.length > 2 && seq.getDimension() > 2) {
+                    seq.setOrdinate(i, CoordinateSequence.Z, targetCoord[2]);
+                }
+            }
+        }
+
+        @Override
+        public boolean isDone() {
+            return error != null;
+        }
+
+        @Override
+        public boolean isGeometryChanged() {
+            return true;
+        }
+    }
 }
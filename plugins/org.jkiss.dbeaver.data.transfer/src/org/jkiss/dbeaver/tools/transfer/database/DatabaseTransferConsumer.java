@@ -94,6 +94,7 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
     private boolean isPreview;
     private List<Object[]> previewRows;
     private DBDAttributeBinding[] rsAttributes;
+    private DBCRowReader rowReader;
     private DBSObjectContainer container;
 
     public void setContainer(DBSObjectContainer container) {
@@ -205,6 +206,8 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
         } else {
             rsAttributes = DTUtils.makeLeafAttributeBindings(session, sourceObject, resultSet);
         }
+        // Values are fetched for the bindings themselves, bindings without value handler are read as raw values
+        rowReader = resultSet.createRowReader(rsAttributes, binding -> binding.getValueHandler() == null ? null : binding);
         columnMappings = new ColumnMapping[rsAttributes.length];
         sourceBindings = rsAttributes;
         targetAttributes = new ArrayList<>(columnMappings.length);
@@ -342,11 +345,7 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
                 if (column.sourceAttr instanceof DBDAttributeBindingCustom) {
                     attrValue = DBUtils.getAttributeValue(column.sourceAttr, sourceBindings, rowValues);
                 } else {
-                    attrValue = column.sourceValueHandler.fetchValueObject(
-                        session,
-                        resultSet,
-                        column.sourceAttr,
-                        column.sourceAttr.getOrdinalPosition());
+                    attrValue = rowReader.readValue(i);
                 }
             } else {
                 // No value handler - get raw value
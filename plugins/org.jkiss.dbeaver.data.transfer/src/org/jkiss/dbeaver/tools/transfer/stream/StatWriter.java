@@ -0,0 +1,150 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream;
+
+import org.jkiss.code.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Writer which encodes characters into the underlying stream and keeps track of buffered bytes count.
+ * Unlike {@link java.io.OutputStreamWriter} the number of encoded but not yet written bytes is known at any moment,
+ * so there is no need to flush the writer to find out the output size.
+ */
+public class StatWriter extends Writer {
+
+    private static final int BYTE_BUFFER_SIZE = 8192;
+
+    private final OutputStream stream;
+    private final CharsetEncoder encoder;
+    private final ByteBuffer byteBuffer;
+    private final char[] singleChar = new char[1];
+    private final char[] surrogatePair = new char[2];
+    private boolean hasLeftoverChar;
+
+    public StatWriter(@NotNull OutputStream stream, @NotNull Charset charset) {
+        this.stream = stream;
+        this.encoder = charset.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.byteBuffer = ByteBuffer.allocate(BYTE_BUFFER_SIZE);
+    }
+
+    /**
+     * Returns the number of encoded bytes which were not yet written to the underlying stream.
+     */
+    public int getBufferedBytes() {
+        return byteBuffer.position();
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        singleChar[0] = (char) c;
+        encode(CharBuffer.wrap(singleChar, 0, 1), false);
+    }
+
+    @Override
+    public void write(@NotNull char[] cbuf, int off, int len) throws IOException {
+        if (len > 0) {
+            encode(CharBuffer.wrap(cbuf, off, len), false);
+        }
+    }
+
+    @Override
+    public void write(@NotNull String str, int off, int len) throws IOException {
+        if (len > 0) {
+            encode(CharBuffer.wrap(str, off, off + len), false);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writeBytes();
+        stream.flush();
+    }
+
+    /**
+     * Ends the encoder, writes all remaining bytes and closes the underlying stream.
+     * The stream is closed even if remaining bytes can't be written.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            encode(CharBuffer.allocate(0), true);
+            while (encoder.flush(byteBuffer).isOverflow()) {
+                writeBytes();
+            }
+            flush();
+        } finally {
+            stream.close();
+        }
+    }
+
+    private void encode(@NotNull CharBuffer in, boolean endOfInput) throws IOException {
+        if (hasLeftoverChar) {
+            // Complete surrogate pair started in the previous write
+            hasLeftoverChar = false;
+            if (!in.hasRemaining()) {
+                encodeBuffer(CharBuffer.wrap(surrogatePair, 0, 1), endOfInput);
+                return;
+            }
+            surrogatePair[1] = in.get();
+            encodeBuffer(CharBuffer.wrap(surrogatePair, 0, 2), endOfInput);
+            if (hasLeftoverChar) {
+                encode(in, endOfInput);
+                return;
+            }
+        }
+        encodeBuffer(in, endOfInput);
+    }
+
+    private void encodeBuffer(@NotNull CharBuffer in, boolean endOfInput) throws IOException {
+        for (;;) {
+            CoderResult result = encoder.encode(in, byteBuffer, endOfInput);
+            if (result.isUnderflow()) {
+                if (in.hasRemaining()) {
+                    // Incomplete surrogate pair at the end of input
+                    surrogatePair[0] = in.get();
+                    hasLeftoverChar = true;
+                }
+                return;
+            }
+            if (result.isOverflow()) {
+                writeBytes();
+            } else {
+                result.throwException();
+            }
+        }
+    }
+
+    private void writeBytes() throws IOException {
+        int length = byteBuffer.position();
+        if (length > 0) {
+            stream.write(byteBuffer.array(), 0, length);
+            byteBuffer.clear();
+        }
+    }
+
+}
@@ -27,6 +27,7 @@ import org.jkiss.dbeaver.model.data.*;
 import org.jkiss.dbeaver.model.data.json.JSONUtils;
 import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.exec.DBCResultSet;
+import org.jkiss.dbeaver.model.exec.DBCRowReader;
 import org.jkiss.dbeaver.model.exec.DBCSession;
 import org.jkiss.dbeaver.model.fs.DBFUtils;
 import org.jkiss.dbeaver.model.meta.DBSerializable;
@@ -34,7 +35,6 @@ import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.DBRRunnableContext;
 import org.jkiss.dbeaver.model.sql.SQLQueryContainer;
-import org.jkiss.dbeaver.model.struct.DBSAttributeBase;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.rdb.DBSCatalog;
@@ -64,6 +64,7 @@ import org.jkiss.utils.IOUtils;
 import org.jkiss.utils.io.ByteOrderMark;
 
 import java.io.*;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -133,10 +134,14 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
     private OutputStream outputStream;
     private ZipOutputStream zipStream;
     private PrintWriter writer;
+    private StatWriter statWriter;
     private int multiFileNumber;
     private long bytesWritten = 0;
 
     private DBDAttributeBinding[] columnMetas;
+    private DBCRowReader rowReader;
+    // Source row buffer, values are copied to the exported row
+    private Object[] srcRow;
     private DBDAttributeBinding[] columnBindings;
     private Path lobDirectory;
     private long lobCount;
@@ -167,6 +172,8 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
 
         // Prepare columns
         columnMetas = DBUtils.getAttributeBindings(session, dataContainer, resultSet.getMeta());
+        rowReader = createRowReader(resultSet, columnMetas);
+        srcRow = new Object[columnMetas.length];
         if (processor instanceof IDocumentDataExporter) {
             columnBindings = DBUtils.injectAndFilterAttributeBindings(session.getDataSource(), dataContainer, columnMetas, true);
         } else {
@@ -199,8 +206,7 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
         try {
             // Check for file split
             if (settings.isSplitOutFiles() && !parameters.isBinary && !firstRow) {
-                writer.flush();
-                if (bytesWritten >= settings.getMaxOutFileSize()) {
+                if (getSplitFileSize() >= settings.getMaxOutFileSize()) {
                     // First add footer for the previous file
                     exportFooterInFile(session.getProgressMonitor());
                     // Make new file with the header
@@ -210,7 +216,7 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
             }
 
             // Get values
-            Object[] srcRow = fetchRow(session, resultSet, columnMetas);
+            readRow(rowReader, columnMetas, srcRow);
             Object[] targetRow;
             targetRow = new Object[columnBindings.length];
             for (int i = 0; i < columnBindings.length; i++) {
@@ -377,7 +383,7 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
 
             if (outputClipboard) {
                 this.outputBuffer = new StringWriter(2048);
-                this.writer = new PrintWriter(this.outputBuffer, true);
+                this.writer = new PrintWriter(this.outputBuffer, false);
             } else {
                 openOutputStreams(session.getProgressMonitor());
             }
@@ -539,15 +545,35 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
         }
 
         if (!parameters.isBinary) {
-            this.writer = new PrintWriter(new OutputStreamWriter(this.outputStream, settings.getOutputEncoding()), true);
+            // Do not use auto flush: it breaks buffering of the underlying stream
+            this.statWriter = new StatWriter(this.outputStream, Charset.forName(settings.getOutputEncoding()));
+            this.writer = new PrintWriter(this.statWriter, false);
         }
     }
 
+    /**
+     * Returns current output file size. Includes bytes which are encoded but not yet flushed by the writer.
+     */
+    private long getSplitFileSize() {
+        return statWriter == null ? bytesWritten : bytesWritten + statWriter.getBufferedBytes();
+    }
+
     private void closeOutputStreams() {
         log.debug("\tClose output stream");
         if (this.writer != null) {
             this.writer.flush();
         }
+        if (statWriter != null) {
+            // Ends the encoder and closes the whole output chain. Zip stream finishes its entry on close.
+            try {
+                statWriter.close();
+            } catch (IOException e) {
+                log.debug(e);
+            }
+            statWriter = null;
+            zipStream = null;
+            outputStream = null;
+        }
 
         // Finish zip stream
         if (zipStream != null) {
@@ -960,23 +986,43 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
         return project;
     }
 
+    /**
+     * Creates row reader for {@link #fetchRow(DBCRowReader, DBDAttributeBinding[])}.
+     * The reader must be created once per result set, after the attribute bindings are resolved.
+     */
+    @NotNull
+    public static DBCRowReader createRowReader(@NotNull DBCResultSet resultSet, @NotNull DBDAttributeBinding[] attributes) {
+        return resultSet.createRowReader(attributes, DBDAttributeBinding::getMetaAttribute);
+    }
+
+    /**
+     * Reads the current row with the reader created by {@link #createRowReader(DBCResultSet, DBDAttributeBinding[])}
+     */
+    @NotNull
+    public static Object[] fetchRow(@NotNull DBCRowReader rowReader, @NotNull DBDAttributeBinding[] attributes) {
+        Object[] row = new Object[attributes.length]; // Column count without virtual columns
+        readRow(rowReader, attributes, row);
+        return row;
+    }
+
+    /**
+     * @deprecated creates a row reader for each row, use {@link #fetchRow(DBCRowReader, DBDAttributeBinding[])}
+     * with a reader created once per result set
+     */
+    @Deprecated
     public static Object[] fetchRow(DBCSession session, DBCResultSet resultSet, DBDAttributeBinding[] attributes) throws DBCException {
-        int columnCount = attributes.length; // Column count without virtual columns
+        return fetchRow(createRowReader(resultSet, attributes), attributes);
+    }
 
-        Object[] row = new Object[columnCount];
-        for (int i = 0 ; i < columnCount; i++) {
-            DBDAttributeBinding attribute = attributes[i];
-            DBSAttributeBase metaAttr = attribute.getMetaAttribute();
-            if (metaAttr == null) {
-                continue;
-            }
+    private static void readRow(@NotNull DBCRowReader rowReader, @NotNull DBDAttributeBinding[] attributes, @NotNull Object[] row) {
+        for (int i = 0; i < row.length; i++) {
             try {
-                row[i] = attribute.getValueHandler().fetchValueObject(session, resultSet, metaAttr, attribute.getOrdinalPosition());
+                row[i] = rowReader.readValue(i);
             } catch (Exception e) {
-                log.debug("Error fetching '" + metaAttr.getName() + "' value: " + e.getMessage());
+                row[i] = null;
+                log.debug("Error fetching '" + attributes[i].getName() + "' value: " + e.getMessage());
             }
         }
-        return row;
     }
 
     @NotNull
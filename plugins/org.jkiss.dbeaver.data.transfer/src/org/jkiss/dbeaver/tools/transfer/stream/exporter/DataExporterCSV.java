@@ -97,6 +97,8 @@ public class DataExporterCSV extends StreamExporterAbstract implements IAppendab
     private DataExporterArrayFormat dataExporterArrayFormat;
 
     private final StringBuilder buffer = new StringBuilder();
+    private final StringBuilder valueBuffer = new StringBuilder();
+    private char[] writeBuffer = new char[256];
 
     @Override
     public void init(IStreamDataExporterSite site) throws DBException
@@ -226,10 +228,14 @@ public class DataExporterCSV extends StreamExporterAbstract implements IAppendab
                     DTUtils.closeContents(resultSet, content);
                 }
             } else {
-                String stringValue = super.getValueDisplayString(column, row[i]);
+                CharSequence stringValue;
                 boolean quote = false;
                 if (column.getDataKind() == DBPDataKind.ARRAY) {
-                    stringValue = editArrayPrefixAndSuffix(dataExporterArrayFormat, stringValue);
+                    stringValue = editArrayPrefixAndSuffix(dataExporterArrayFormat, super.getValueDisplayString(column, row[i]));
+                } else {
+                    valueBuffer.setLength(0);
+                    super.appendValueDisplayString(column, row[i], valueBuffer);
+                    stringValue = valueBuffer;
                 }
 
                 if (quoteStrategy == QuoteStrategy.DISABLED) {
@@ -319,16 +325,16 @@ public class DataExporterCSV extends StreamExporterAbstract implements IAppendab
         return false;
     }
 
-    private void writeCellValue(String value, boolean quote)
+    private void writeCellValue(CharSequence value, boolean quote)
     {
         if (!useQuotes) {
             quote = false;
         }
         // check for needed quote
-        final boolean hasQuotes = useQuotes && value.indexOf(quoteChar) != -1;
+        final boolean hasQuotes = useQuotes && indexOf(value, quoteChar) != -1;
 
         if (CommonUtils.isNotEmpty(lineFeedEscapeString)) {
-            if (value.indexOf('\n') != -1) {
+            if (indexOf(value, '\n') != -1) {
                 value = LINE_BREAK_REGEX.matcher(value).replaceAll(lineFeedEscapeString);
             }
         }
@@ -337,10 +343,10 @@ public class DataExporterCSV extends StreamExporterAbstract implements IAppendab
             quote = true;
         } else if (!quote) {
             if (hasQuotes ||
-                value.contains(delimiter) ||
-                value.indexOf('\r') != -1 ||
-                value.indexOf('\n') != -1 ||
-                value.contains(rowDelimiter))
+                indexOf(value, delimiter) != -1 ||
+                indexOf(value, '\r') != -1 ||
+                indexOf(value, '\n') != -1 ||
+                indexOf(value, rowDelimiter) != -1)
             {
                 quote = true;
             }
@@ -356,14 +362,49 @@ public class DataExporterCSV extends StreamExporterAbstract implements IAppendab
                 }
                 buffer.append(c);
             }
-            value = buffer.toString();
+            value = buffer;
         }
         PrintWriter out = getWriter();
         if (quote && useQuotes) out.write(quoteChar);
-        out.write(value);
+        writeChars(out, value);
         if (quote && useQuotes) out.write(quoteChar);
     }
 
+    private void writeChars(PrintWriter out, CharSequence value)
+    {
+        if (value instanceof String) {
+            out.write((String) value);
+            return;
+        }
+        int length = value.length();
+        if (writeBuffer.length < length) {
+            writeBuffer = new char[Math.max(length, writeBuffer.length * 2)];
+        }
+        if (value instanceof StringBuilder) {
+            ((StringBuilder) value).getChars(0, length, writeBuffer, 0);
+        } else {
+            for (int i = 0; i < length; i++) {
+                writeBuffer[i] = value.charAt(i);
+            }
+        }
+        out.write(writeBuffer, 0, length);
+    }
+
+    private static int indexOf(CharSequence value, char c)
+    {
+        for (int i = 0, length = value.length(); i < length; i++) {
+            if (value.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(CharSequence value, String str)
+    {
+        return value instanceof StringBuilder ? ((StringBuilder) value).indexOf(str) : value.toString().indexOf(str);
+    }
+
     private void writeCellValue(Reader reader) throws IOException
     {
         try {
@@ -189,6 +189,7 @@ public class DataExporterTXT extends StreamExporterAbstract implements IAppendab
     private static final String RAW_BLOB_CLOSE = "]]";
     
     private final StringBuilder blobContentBuffer = new StringBuilder();
+    private final StringBuilder cellBuffer = new StringBuilder();
     private DBDAttributeBinding[] columns;
     private int[] colWidths;
     private int blobContentMaxLength = 0;
@@ -395,8 +396,6 @@ public class DataExporterTXT extends StreamExporterAbstract implements IAppendab
                 writeRow(target, batchQueue.poll(), ' ');
             }
         }
-
-        getWriter().flush();
     }
 
     private void writeRow(ExportTextTarget target, CellValue[] values, char fill) throws DBCException, IOException {
@@ -430,12 +429,12 @@ public class DataExporterTXT extends StreamExporterAbstract implements IAppendab
     }
 
     private String getCellString(DBDAttributeBinding attr, Object value) {
-        final String displayString = attr.getValueHandler().getValueDisplayString(attr, value, getValueExportFormat(attr));
-
         if (DBUtils.isNullValue(value)) {
             return showNulls ? DBConstants.NULL_VALUE_LABEL : "";
         }
-        return CommonUtils.getSingleLineString(displayString);
+        cellBuffer.setLength(0);
+        appendValueDisplayString(attr, value, cellBuffer);
+        return CommonUtils.getSingleLineString(cellBuffer.toString());
     }
 
     private static String getAttributeName(DBDAttributeBinding attr) {
@@ -67,6 +67,18 @@ public abstract class StreamExporterAbstract implements IStreamDataExporter {
         return valueHandler.getValueDisplayString(column, value, getValueExportFormat(column));
     }
 
+    /**
+     * Appends value display string to the buffer. Allows to skip creation of intermediate strings for formatted values.
+     */
+    protected void appendValueDisplayString(
+        DBDAttributeBinding column,
+        Object value,
+        StringBuilder buffer)
+    {
+        final DBDValueHandler valueHandler = column.getValueHandler();
+        valueHandler.appendValueDisplayString(column, value, getValueExportFormat(column), buffer);
+    }
+
     protected DBDDisplayFormat getValueExportFormat(DBDAttributeBinding column) {
         if (this.exportFormat == null) {
             this.exportFormat = getSite().getExportFormat();
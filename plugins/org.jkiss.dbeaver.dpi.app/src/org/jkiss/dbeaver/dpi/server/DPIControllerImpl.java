@@ -34,6 +34,7 @@ import org.jkiss.dbeaver.model.DBPDataSourceContainer;
 import org.jkiss.dbeaver.model.app.DBPDataSourceRegistry;
 import org.jkiss.dbeaver.model.app.DBPProject;
 import org.jkiss.dbeaver.model.dpi.*;
+import org.jkiss.dbeaver.model.impl.dpi.DPIServerResultSetStream;
 import org.jkiss.dbeaver.model.navigator.meta.DBXTreeItem;
 import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
@@ -171,6 +172,39 @@ public class DPIControllerImpl implements DPIController {
         return invokeObjectMethod(object, method, null);
     }
 
+    @Override
+    public synchronized String fetchResultSetRows(@NotNull String resultSetId, int maxRows) throws DBException {
+        DPIServerResultSetStream stream = getResultSetStream(resultSetId);
+        try {
+            byte[] batch = stream.readBatch(Math.max(maxRows, 1));
+            if (stream.isFinished()) {
+                closeResultSetStream(resultSetId, stream);
+            }
+            return Base64.getEncoder().encodeToString(batch);
+        } catch (DBException e) {
+            closeResultSetStream(resultSetId, stream);
+            throw e;
+        }
+    }
+
+    @Override
+    public synchronized void closeResultSet(@NotNull String resultSetId) throws DBException {
+        closeResultSetStream(resultSetId, getResultSetStream(resultSetId));
+    }
+
+    @NotNull
+    private DPIServerResultSetStream getResultSetStream(@NotNull String resultSetId) throws DBException {
+        if (context.getObject(resultSetId) instanceof DPIServerResultSetStream stream) {
+            return stream;
+        }
+        throw new DBException("DPI result set '" + resultSetId + "' not found");
+    }
+
+    private void closeResultSetStream(@NotNull String resultSetId, @NotNull DPIServerResultSetStream stream) {
+        context.pruneObject(resultSetId);
+        stream.close();
+    }
+
     private Object invokeObjectMethod(Object object, Method method, Object[] args) throws DBException {
         boolean originalAccessible = method.canAccess(object);
         method.setAccessible(true);
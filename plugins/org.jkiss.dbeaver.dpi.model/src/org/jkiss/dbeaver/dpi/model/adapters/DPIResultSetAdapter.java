@@ -22,21 +22,32 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import org.jkiss.dbeaver.dpi.model.DPIContext;
+import org.jkiss.dbeaver.dpi.model.client.DPIClientResultSet;
+import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.exec.DBCResultSet;
 import org.jkiss.dbeaver.model.exec.DBCSession;
 import org.jkiss.dbeaver.model.exec.DBCStatement;
-import org.jkiss.dbeaver.model.impl.dpi.DPIResultSet;
 import org.jkiss.dbeaver.model.impl.dpi.DPIResultSetColumn;
-import org.jkiss.dbeaver.model.impl.dpi.DPIServerSmartProxyDataReceiver;
+import org.jkiss.dbeaver.model.impl.dpi.DPIRowBatchCodec;
+import org.jkiss.dbeaver.model.impl.dpi.DPIServerResultSetStream;
 
 import java.io.IOException;
+import java.util.Base64;
 import java.util.List;
 
+/**
+ * Result set is transferred by binary row batches (see {@link DPIRowBatchCodec}).
+ * First batch is sent with the result set metadata, the rest is fetched by the client on demand.
+ */
 public class DPIResultSetAdapter extends AbstractTypeAdapter<DBCResultSet> {
     private static final String META = "meta";
     private static final String SESSION = "session";
     private static final String STATEMENT = "statement";
+    private static final String STREAM = "stream";
     private static final String ROWS = "rows";
+
+    private static final int FIRST_BATCH_SIZE = 200;
+
     private final Gson gson;
 
     public DPIResultSetAdapter(DPIContext context, Gson gson) {
@@ -46,32 +57,29 @@ public class DPIResultSetAdapter extends AbstractTypeAdapter<DBCResultSet> {
 
     @Override
     public void write(JsonWriter jsonWriter, DBCResultSet resultSet) throws IOException {
-        DPIResultSet dpiResultSet;
-        if (resultSet instanceof DPIResultSet) {
-            dpiResultSet = (DPIResultSet) resultSet;
-        } else {
-            try (var dataReceiver = new DPIServerSmartProxyDataReceiver()) {
-                DBCSession session = resultSet.getSession();
-                dataReceiver.fetchStart(session, resultSet, 0, 0);
-                while (resultSet.nextRow()) {
-                    dataReceiver.fetchRow(session, resultSet);
-                }
-                dataReceiver.fetchEnd(session, resultSet);
-                dpiResultSet = dataReceiver.getDpiResultSet();
-            } catch (Exception e) {
-                throw new IOException("Failed to fetch data from result set: " + e.getMessage(), e);
-            }
+        DPIServerResultSetStream stream;
+        byte[] firstBatch;
+        try {
+            stream = new DPIServerResultSetStream(resultSet);
+            firstBatch = stream.readBatch(FIRST_BATCH_SIZE);
+        } catch (Exception e) {
+            throw new IOException("Failed to fetch data from result set: " + e.getMessage(), e);
         }
         jsonWriter.beginObject();
 
         jsonWriter.name(META);
-        jsonWriter.value(gson.toJson(dpiResultSet.getMetaColumns()));
+        jsonWriter.value(gson.toJson(stream.getMetaColumns()));
         jsonWriter.name(SESSION);
-        jsonWriter.value(gson.toJson(dpiResultSet.getSession()));
+        jsonWriter.value(gson.toJson(resultSet.getSession()));
         jsonWriter.name(STATEMENT);
-        jsonWriter.value(gson.toJson(dpiResultSet.getSourceStatement()));
+        jsonWriter.value(gson.toJson(resultSet.getSourceStatement()));
+        if (!stream.isFinished()) {
+            // Rest of rows will be read by fetchResultSetRows
+            jsonWriter.name(STREAM);
+            jsonWriter.value(context.getOrCreateObjectId(stream));
+        }
         jsonWriter.name(ROWS);
-        jsonWriter.value(gson.toJson(dpiResultSet.getAllRows()));
+        jsonWriter.value(Base64.getEncoder().encodeToString(firstBatch));
 
         jsonWriter.endObject();
     }
@@ -81,7 +89,8 @@ public class DPIResultSetAdapter extends AbstractTypeAdapter<DBCResultSet> {
         DBCSession session = null;
         DBCStatement statement = null;
         List<DPIResultSetColumn> meta = null;
-        List<Object[]> rows = null;
+        String streamId = null;
+        DPIRowBatchCodec.Batch rows = null;
         jsonReader.beginObject();
         while (jsonReader.peek() == JsonToken.NAME) {
             String attrName = jsonReader.nextName();
@@ -99,17 +108,29 @@ public class DPIResultSetAdapter extends AbstractTypeAdapter<DBCResultSet> {
                 case STATEMENT:
                     statement = gson.fromJson(jsonReader.nextString(), DBCStatement.class);
                     break;
+                case STREAM:
+                    streamId = jsonReader.nextString();
+                    break;
                 case ROWS:
-                    rows = gson.fromJson(
-                        jsonReader.nextString(),
-                        new TypeToken<List<Object[]>>() {
-                        }.getType()
-                    );
+                    try {
+                        rows = DPIRowBatchCodec.decode(Base64.getDecoder().decode(jsonReader.nextString()));
+                    } catch (DBCException e) {
+                        throw new IOException(e.getMessage(), e);
+                    }
+                    break;
+                default:
+                    jsonReader.skipValue();
                     break;
             }
         }
         jsonReader.endObject();
 
-        return new DPIResultSet(session, statement, meta, rows);
+        return new DPIClientResultSet(
+            context,
+            session,
+            statement,
+            meta == null ? List.of() : meta,
+            rows == null ? List.of() : rows.rows(),
+            rows == null || rows.last() ? null : streamId);
     }
 }
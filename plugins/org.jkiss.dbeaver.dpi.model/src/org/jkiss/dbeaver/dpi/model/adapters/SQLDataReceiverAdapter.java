@@ -21,10 +21,19 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.dpi.model.DPIContext;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDAttributeBindingMeta;
 import org.jkiss.dbeaver.model.data.DBDDataReceiver;
-import org.jkiss.dbeaver.model.impl.dpi.DPIServerSmartProxyDataReceiver;
+import org.jkiss.dbeaver.model.dpi.DPIServerSmartObject;
+import org.jkiss.dbeaver.model.dpi.DPISmartCallback;
+import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.impl.data.DBDValueError;
+import org.jkiss.dbeaver.model.impl.dpi.DPIDataReceiverCallback;
+import org.jkiss.dbeaver.model.impl.dpi.DPIResultSet;
+import org.jkiss.dbeaver.model.impl.dpi.DPIResultSetColumn;
 
 import java.io.IOException;
+import java.util.List;
 
 public class SQLDataReceiverAdapter extends AbstractTypeAdapter<DBDDataReceiver> {
     private final Gson gson;
@@ -42,9 +51,66 @@ public class SQLDataReceiverAdapter extends AbstractTypeAdapter<DBDDataReceiver>
 
     @Override
     public DBDDataReceiver read(JsonReader jsonReader) throws IOException {
-        var proxy = new DPIServerSmartProxyDataReceiver();
+        var proxy = new ServerDataReceiver();
         jsonReader.beginObject();
         jsonReader.endObject();
         return proxy;
     }
+
+    /**
+     * Server side receiver. Collects fetched rows, they are passed to the original client receiver
+     * by {@link DPIDataReceiverCallback}.
+     */
+    private static class ServerDataReceiver implements DBDDataReceiver, DPIServerSmartObject {
+        private DBCSession session;
+        private DPIResultSet dpiResultSet;
+        private DBCRowReader rowReader;
+        private int columnCount;
+        private long offset;
+        private long maxRows;
+
+        @Override
+        public void fetchStart(@NotNull DBCSession session, @NotNull DBCResultSet resultSet, long offset, long maxRows)
+            throws DBCException {
+            this.session = session;
+            this.offset = offset;
+            this.maxRows = maxRows;
+            this.dpiResultSet = new DPIResultSet(session, resultSet.getSourceStatement());
+            List<? extends DBCAttributeMetaData> attributes = resultSet.getMeta().getAttributes();
+            DBDAttributeBinding[] bindings = new DBDAttributeBinding[attributes.size()];
+            for (int i = 0; i < attributes.size(); i++) {
+                DBCAttributeMetaData attribute = attributes.get(i);
+                dpiResultSet.addColumn(new DPIResultSetColumn(i, attribute.getLabel(), attribute));
+                bindings[i] = new DBDAttributeBindingMeta(null, session, attribute);
+            }
+            this.columnCount = bindings.length;
+            this.rowReader = resultSet.createRowReader(bindings, DBDAttributeBinding::getMetaAttribute);
+        }
+
+        @Override
+        public void fetchRow(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) {
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                try {
+                    row[i] = rowReader.readValue(i);
+                } catch (Throwable e) {
+                    row[i] = new DBDValueError(e);
+                }
+            }
+            dpiResultSet.addRow(row);
+        }
+
+        @Override
+        public void fetchEnd(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public DPISmartCallback getCallback() {
+            return new DPIDataReceiverCallback(session, dpiResultSet, offset, maxRows);
+        }
+    }
 }
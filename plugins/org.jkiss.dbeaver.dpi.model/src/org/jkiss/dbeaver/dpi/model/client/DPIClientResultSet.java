@@ -0,0 +1,156 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.dpi.model.client;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.dpi.model.DPIContext;
+import org.jkiss.dbeaver.model.dpi.DPIController;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.exec.DBCStatement;
+import org.jkiss.dbeaver.model.impl.dpi.DPIResultSet;
+import org.jkiss.dbeaver.model.impl.dpi.DPIResultSetColumn;
+import org.jkiss.dbeaver.model.impl.dpi.DPIRowBatchCodec;
+
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Client side of the result set opened by detached process.
+ * Only the current row batch is kept in memory, next batch is fetched from the server when the current one is read.
+ */
+public class DPIClientResultSet extends DPIResultSet {
+
+    private static final Log log = Log.getLog(DPIClientResultSet.class);
+
+    private static final int FETCH_SIZE = 1000;
+
+    @NotNull
+    private final DPIContext context;
+    // Server result set ID. Null if all rows were fetched
+    @Nullable
+    private String streamId;
+    // Absolute position of the first row of the current batch
+    private int batchOffset;
+
+    public DPIClientResultSet(
+        @NotNull DPIContext context,
+        DBCSession session,
+        DBCStatement statement,
+        @NotNull List<DPIResultSetColumn> meta,
+        @NotNull List<Object[]> rows,
+        @Nullable String streamId
+    ) {
+        super(session, statement, meta, rows);
+        this.context = context;
+        this.streamId = streamId;
+    }
+
+    /**
+     * Fetches next row batch if needed
+     */
+    @Override
+    public boolean nextRow() throws DBCException {
+        while (!super.nextRow()) {
+            if (streamId == null) {
+                return false;
+            }
+            fetchNextBatch(false);
+        }
+        return true;
+    }
+
+    /**
+     * Moves forward to the specified absolute position, fetching batches from the server.
+     * Rows of the previous batches are not kept, so moving backward is not supported.
+     */
+    @Override
+    public boolean moveTo(int position) throws DBCException {
+        if (position < batchOffset) {
+            throw new DBCException("Detached result set is forward-only, can't move back to row " + position);
+        }
+        while (position >= batchOffset + rows.size()) {
+            if (streamId == null) {
+                return false;
+            }
+            fetchNextBatch(false);
+        }
+        curPosition = position - batchOffset;
+        return true;
+    }
+
+    /**
+     * Fetches all remaining rows from the server.
+     * Fails if some rows were already skipped by reading the next batches.
+     */
+    @Override
+    public List<Object[]> getAllRows() throws DBCException {
+        if (batchOffset > 0) {
+            throw new DBCException("Detached result set was already read past row " + batchOffset + ", can't get all rows");
+        }
+        while (streamId != null) {
+            fetchNextBatch(true);
+        }
+        return rows;
+    }
+
+    private void fetchNextBatch(boolean append) throws DBCException {
+        DPIController controller = context.getDpiController();
+        try {
+            if (controller == null) {
+                throw new DBCException("No DPI controller in client context");
+            }
+            DPIRowBatchCodec.Batch batch = DPIRowBatchCodec.decode(
+                Base64.getDecoder().decode(controller.fetchResultSetRows(streamId, FETCH_SIZE)));
+            if (batch.last()) {
+                streamId = null;
+            }
+            if (!append) {
+                batchOffset += rows.size();
+                rows.clear();
+                curPosition = -1;
+            }
+            rows.addAll(batch.rows());
+        } catch (DBCException e) {
+            streamId = null;
+            throw e;
+        } catch (DBException e) {
+            streamId = null;
+            throw new DBCException("Error fetching rows from detached process", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        String id = streamId;
+        streamId = null;
+        if (id != null) {
+            DPIController controller = context.getDpiController();
+            if (controller != null) {
+                try {
+                    controller.closeResultSet(id);
+                } catch (DBException e) {
+                    log.debug("Error closing detached result set: " + e.getMessage());
+                }
+            }
+        }
+        super.close();
+    }
+}
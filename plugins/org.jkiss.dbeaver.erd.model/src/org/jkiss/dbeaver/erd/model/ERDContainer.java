@@ -16,6 +16,7 @@
  */
 package org.jkiss.dbeaver.erd.model;
 
+import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.model.struct.DBSEntity;
 
 import java.util.List;
@@ -32,4 +33,11 @@ public interface ERDContainer {
 
     Map<DBSEntity, ERDEntity> getEntityMap();
 
+    /**
+     * Registers entity which has associations referring to an entity which is not present in container yet.
+     * Such associations will be resolved once the referenced entity is added.
+     */
+    default void addUnresolvedReference(@NotNull DBSEntity referencedEntity, @NotNull ERDEntity sourceEntity) {
+    }
+
 }
@@ -107,10 +107,10 @@ public class ERDContentProviderDefault implements ERDContentProvider {
                     if (columnFilter != null && !columnFilter.matches(attribute.getName())) {
                         continue;
                     }
-                    if (!attrNodesCached) {
+                    if (!attrNodesCached && !(monitor instanceof ERDDiagram.EntityLoaderMonitor)) {
                         // Pre-load navigator node as well.
                         // It may be needed later because all ERD objects can be adapted to navigator
-                        // nodes.
+                        // nodes. Entity loader jobs leave it to the diagram.
                         DBNUtils.getNodeByObject(monitor, attribute, false);
                         attrNodesCached = true;
                     }
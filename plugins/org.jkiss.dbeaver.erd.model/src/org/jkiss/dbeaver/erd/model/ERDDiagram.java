@@ -20,6 +20,8 @@
 package org.jkiss.dbeaver.erd.model;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
@@ -28,17 +30,26 @@ import org.jkiss.dbeaver.model.DBPDataSource;
 import org.jkiss.dbeaver.model.DBPDataSourceContainer;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.data.json.JSONUtils;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.navigator.DBNUtils;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.BaseProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.DBRBlockingObject;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.ProxyProgressMonitor;
 import org.jkiss.dbeaver.model.sql.parser.SQLIdentifierDetector;
 import org.jkiss.dbeaver.model.struct.DBSEntity;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
 import org.jkiss.dbeaver.model.virtual.DBVUtils;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.utils.CommonUtils;
 import org.jkiss.utils.IntKeyMap;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -50,6 +61,13 @@ import java.util.stream.Collectors;
  */
 public class ERDDiagram extends ERDObject<DBSObject> implements ERDContainer {
     private static final Log log = Log.getLog(ERDDiagram.class);
+
+    // Minimal number of entities of the same container which makes bulk structure prefetch reasonable
+    private static final int PREFETCH_ENTITY_THRESHOLD = 10;
+    // Minimal number of entities which are loaded in parallel (if their metadata was prefetched)
+    private static final int PARALLEL_LOAD_THRESHOLD = 20;
+    private static final int MAX_LOAD_THREADS = 4;
+
     private  DBRProgressMonitor monitor;
 
     /**
@@ -102,6 +120,10 @@ public class ERDDiagram extends ERDObject<DBSObject> implements ERDContainer {
     private boolean needsAutoLayout;
 
     private final Map<DBSEntity, ERDEntity> entityMap = new IdentityHashMap<>();
+    // All diagram entities by object (there may be several diagram entities for the same object)
+    private final Map<DBSEntity, List<ERDEntity>> entityIndex = new IdentityHashMap<>();
+    // Entities with unresolved associations by referenced entity
+    private final Map<DBSEntity, Set<ERDEntity>> unresolvedReferences = new IdentityHashMap<>();
 
     private final List<ERDNote> notes = new ArrayList<>();
     private final List<String> errorMessages = new ArrayList<>();
@@ -147,6 +169,7 @@ public class ERDDiagram extends ERDObject<DBSObject> implements ERDContainer {
                 entities.add(i, entity);
             }
             entityMap.put(object, entity);
+            entityIndex.computeIfAbsent(object, o -> new ArrayList<>(1)).add(entity);
 
             DBPDataSourceContainer dataSource = object.getDataSource().getContainer();
             DataSourceInfo dsInfo = dataSourceMap.computeIfAbsent(dataSource, dsc -> new DataSourceInfo(dataSourceMap.size()));
@@ -173,7 +196,7 @@ public class ERDDiagram extends ERDObject<DBSObject> implements ERDContainer {
 */
         }
 
-        resolveRelations(reflect);
+        resolveRelations(object, reflect);
 
         if (reflect) {
             for (ERDAssociation rel : entity.getReferences()) {
@@ -186,10 +209,25 @@ public class ERDDiagram extends ERDObject<DBSObject> implements ERDContainer {
     }
 
 
-    private void resolveRelations(boolean reflect) {
-        // Resolve incomplete relations
-        for (ERDEntity erdEntity : getEntities()) {
-            erdEntity.resolveRelations(this, reflect);
+    private void resolveRelations(@NotNull DBSEntity object, boolean reflect) {
+        // Resolve incomplete relations which refer to the added entity
+        Set<ERDEntity> sourceEntities;
+        synchronized (entities) {
+            sourceEntities = unresolvedReferences.remove(object);
+        }
+        if (sourceEntities != null) {
+            for (ERDEntity erdEntity : sourceEntities) {
+                erdEntity.resolveRelations(this, reflect);
+                // Keys which are still unresolved (e.g. association wasn't created) must remain in the index
+                erdEntity.registerUnresolvedReferences(this);
+            }
+        }
+    }
+
+    @Override
+    public void addUnresolvedReference(@NotNull DBSEntity referencedEntity, @NotNull ERDEntity sourceEntity) {
+        synchronized (entities) {
+            unresolvedReferences.computeIfAbsent(referencedEntity, e -> new LinkedHashSet<>()).add(sourceEntity);
         }
     }
 
@@ -197,6 +235,14 @@ public class ERDDiagram extends ERDObject<DBSObject> implements ERDContainer {
         synchronized (entities) {
             entityMap.remove(entity.getObject());
             entities.remove(entity);
+            List<ERDEntity> indexed = entityIndex.get(entity.getObject());
+            if (indexed != null) {
+                indexed.remove(entity);
+                if (indexed.isEmpty()) {
+                    entityIndex.remove(entity.getObject());
+                }
+            }
+            unresolvedReferences.values().removeIf(sources -> sources.remove(entity) && sources.isEmpty());
 
             DBPDataSourceContainer dataSource = entity.getObject().getDataSource().getContainer();
             DataSourceInfo dsInfo = dataSourceMap.get(dataSource);
@@ -296,42 +342,47 @@ public class ERDDiagram extends ERDObject<DBSObject> implements ERDContainer {
         ERDDiagram copy = new ERDDiagram(object, name, contentProvider);
         copy.entities.addAll(this.entities);
         copy.entityMap.putAll(this.entityMap);
+        for (Map.Entry<DBSEntity, List<ERDEntity>> entry : this.entityIndex.entrySet()) {
+            copy.entityIndex.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
         copy.layoutManualDesired = this.layoutManualDesired;
         copy.layoutManualAllowed = this.layoutManualAllowed;
         return copy;
     }
 
     public void fillEntities(DBRProgressMonitor monitor, Collection<DBSEntity> entities, DBSObject dbObject) throws DBException {
-        // Load entities
-        monitor.beginTask("Load entities metadata", entities.size());
-        List<ERDEntity> entityCache = new ArrayList<>();
+        // Resolve real entities
+        List<DBSEntity> tables = new ArrayList<>(entities.size());
+        Set<DBSEntity> uniqueTables = Collections.newSetFromMap(new IdentityHashMap<>());
         for (DBSEntity table : entities) {
             if (monitor.isCanceled()) {
-                break;
+                return;
             }
             try {
                 table = DBVUtils.getRealEntity(monitor, table);
             } catch (DBException e) {
                 log.error("Error resolving real entity for " + table.getName());
             }
-            if (entityMap.containsKey(table)) {
-                continue;
+            if (!entityMap.containsKey(table) && uniqueTables.add(table)) {
+                tables.add(table);
             }
-            monitor.subTask("Load " + table.getName());
-            ERDEntity erdEntity = ERDUtils.makeEntityFromObject(monitor, this, entityCache, table, null);
-            erdEntity.setPrimary(table == dbObject);
+        }
+
+        // Read metadata of all entities with a few bulk queries instead of per-entity ones
+        boolean prefetched = prefetchEntitiesMetadata(monitor, tables);
+
+        // Load entities. Parallel load reads only prefetched metadata, otherwise all workers would read
+        // metadata of each entity with separate queries.
+        List<ERDEntity> entityCache = new ArrayList<>(tables.size());
+        for (ERDEntity erdEntity : loadEntities(monitor, tables, prefetched && tables.size() >= PARALLEL_LOAD_THRESHOLD)) {
+            erdEntity.setPrimary(erdEntity.getObject() == dbObject);
 
             addEntity(erdEntity, false);
-            entityMap.put(table, erdEntity);
             entityCache.add(erdEntity);
-
-            monitor.worked(1);
         }
 
-        monitor.done();
-
         // Load relations
-        monitor.beginTask("Load entities' relations", entities.size());
+        monitor.beginTask("Load entities' relations", entityCache.size());
         for (ERDEntity erdEntity : entityCache) {
             if (monitor.isCanceled()) {
                 break;
@@ -347,13 +398,221 @@ public class ERDDiagram extends ERDObject<DBSObject> implements ERDContainer {
         monitor.done();
     }
 
-    public boolean containsTable(DBSEntity table) {
-        for (ERDEntity erdEntity : entities) {
-            if (erdEntity.getObject() == table) {
-                return true;
+    /**
+     * Prefetches structure of containers with many entities
+     *
+     * @return true if structure of all entities' containers was prefetched
+     */
+    private boolean prefetchEntitiesMetadata(@NotNull DBRProgressMonitor monitor, @NotNull List<DBSEntity> tables) {
+        Map<DBSObjectContainer, Integer> containers = new LinkedHashMap<>();
+        boolean allPrefetched = true;
+        for (DBSEntity table : tables) {
+            if (table.getParentObject() instanceof DBSObjectContainer container) {
+                containers.merge(container, 1, Integer::sum);
+            } else {
+                allPrefetched = false;
             }
         }
-        return false;
+        if (containers.values().removeIf(count -> count < PREFETCH_ENTITY_THRESHOLD)) {
+            allPrefetched = false;
+        }
+        if (containers.isEmpty()) {
+            return false;
+        }
+        monitor.beginTask("Prefetch entities metadata", containers.size());
+        for (DBSObjectContainer container : containers.keySet()) {
+            if (monitor.isCanceled()) {
+                allPrefetched = false;
+                break;
+            }
+            monitor.subTask("Load " + container.getName() + " structure");
+            try {
+                container.cacheStructure(monitor, DBSObjectContainer.STRUCT_ATTRIBUTES | DBSObjectContainer.STRUCT_ASSOCIATIONS);
+            } catch (DBException e) {
+                log.debug("Error prefetching structure of " + container.getName(), e);
+                allPrefetched = false;
+            }
+            monitor.worked(1);
+        }
+        monitor.done();
+        return allPrefetched;
+    }
+
+    @NotNull
+    private List<ERDEntity> loadEntities(@NotNull DBRProgressMonitor monitor, @NotNull List<DBSEntity> tables, boolean parallel) {
+        List<ERDEntity> result = new ArrayList<>(tables.size());
+        monitor.beginTask("Load entities metadata", tables.size());
+        if (!parallel) {
+            for (DBSEntity table : tables) {
+                if (monitor.isCanceled()) {
+                    break;
+                }
+                monitor.subTask("Load " + table.getName());
+                ERDEntity erdEntity = ERDUtils.makeEntityFromObject(monitor, this, result, table, null);
+                if (erdEntity != null) {
+                    result.add(erdEntity);
+                }
+                monitor.worked(1);
+            }
+            monitor.done();
+            return result;
+        }
+
+        // Entities are created by worker jobs, progress is reported by the caller thread only
+        EntityLoaderMonitor workerMonitor = new EntityLoaderMonitor(monitor);
+        List<CompletableFuture<ERDEntity>> futures = new ArrayList<>(tables.size());
+        for (int i = 0; i < tables.size(); i++) {
+            futures.add(new CompletableFuture<>());
+        }
+        AtomicInteger nextTable = new AtomicInteger();
+        int workerCount = Math.max(1, Math.min(MAX_LOAD_THREADS, Runtime.getRuntime().availableProcessors()));
+        List<EntityLoaderJob> workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            EntityLoaderJob worker = new EntityLoaderJob(workerMonitor, tables, futures, nextTable);
+            worker.schedule();
+            workers.add(worker);
+        }
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                if (monitor.isCanceled()) {
+                    break;
+                }
+                monitor.subTask("Load " + tables.get(i).getName());
+                try {
+                    ERDEntity erdEntity = futures.get(i).get();
+                    if (erdEntity != null) {
+                        preloadAttributeNode(monitor, erdEntity);
+                        result.add(erdEntity);
+                    }
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof DBCException) {
+                        DBWorkbench.getPlatformUI().showError("Can't create entity", e.getCause().getMessage());
+                    } else {
+                        log.warn("Error loading entity " + tables.get(i).getName(), e.getCause());
+                    }
+                }
+                monitor.worked(1);
+            }
+        } catch (InterruptedException e) {
+            log.debug("Entities loading was interrupted");
+            Thread.currentThread().interrupt();
+        } finally {
+            // Workers stop taking entities, the one which is being loaded is finished
+            workerMonitor.stop();
+            workers.forEach(AbstractJob::cancel);
+        }
+        monitor.done();
+        return result;
+    }
+
+    /**
+     * Monitor of the entity loader jobs. Entities loaded with this monitor must not access navigator model and UI,
+     * that is done by the diagram in the caller thread.
+     */
+    static class EntityLoaderMonitor extends ProxyProgressMonitor {
+        private volatile boolean stopped;
+
+        EntityLoaderMonitor(@NotNull DBRProgressMonitor monitor) {
+            super(monitor);
+        }
+
+        void stop() {
+            stopped = true;
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return stopped || super.isCanceled();
+        }
+
+        @Override
+        public void beginTask(String name, int totalWork) {
+        }
+
+        @Override
+        public void done() {
+        }
+
+        @Override
+        public void subTask(String name) {
+        }
+
+        @Override
+        public void worked(int work) {
+        }
+
+        @Override
+        public synchronized void startBlock(DBRBlockingObject object, String taskName) {
+        }
+
+        @Override
+        public synchronized void endBlock() {
+        }
+    }
+
+    /**
+     * Creates entities of the tables which are not taken by other workers yet
+     */
+    private class EntityLoaderJob extends AbstractJob {
+        @NotNull
+        private final EntityLoaderMonitor loaderMonitor;
+        @NotNull
+        private final List<DBSEntity> tables;
+        @NotNull
+        private final List<CompletableFuture<ERDEntity>> futures;
+        @NotNull
+        private final AtomicInteger nextTable;
+
+        EntityLoaderJob(
+            @NotNull EntityLoaderMonitor loaderMonitor,
+            @NotNull List<DBSEntity> tables,
+            @NotNull List<CompletableFuture<ERDEntity>> futures,
+            @NotNull AtomicInteger nextTable
+        ) {
+            super("Load ERD entities");
+            this.loaderMonitor = loaderMonitor;
+            this.tables = tables;
+            this.futures = futures;
+            this.nextTable = nextTable;
+            setSystem(true);
+            setUser(false);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            for (int i = nextTable.getAndIncrement(); i < tables.size(); i = nextTable.getAndIncrement()) {
+                CompletableFuture<ERDEntity> future = futures.get(i);
+                if (loaderMonitor.isCanceled() || monitor.isCanceled()) {
+                    future.complete(null);
+                    continue;
+                }
+                try {
+                    ERDEntity erdEntity = new ERDEntity(tables.get(i));
+                    getContentProvider().fillEntityFromObject(loaderMonitor, ERDDiagram.this, Collections.emptyList(), erdEntity);
+                    future.complete(erdEntity);
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
+    /**
+     * Pre-loads navigator node of the entity attribute in the caller thread, as the content provider
+     * does it for entities loaded in place. All ERD objects can be adapted to navigator nodes later.
+     */
+    private void preloadAttributeNode(@NotNull DBRProgressMonitor monitor, @NotNull ERDEntity erdEntity) {
+        List<ERDEntityAttribute> attributes = erdEntity.getAttributes();
+        if (!CommonUtils.isEmpty(attributes)) {
+            DBNUtils.getNodeByObject(monitor, attributes.get(0).getObject(), false);
+        }
+    }
+
+    public boolean containsTable(DBSEntity table) {
+        synchronized (entities) {
+            return entityIndex.containsKey(table);
+        }
     }
 
     public Map<DBSEntity, ERDEntity> getEntityMap() {
@@ -365,13 +624,10 @@ public class ERDDiagram extends ERDObject<DBSObject> implements ERDContainer {
     }
 
     public List<ERDEntity> getEntities(DBSEntity table) {
-        List<ERDEntity> result = new ArrayList<>();
-        for (ERDEntity entity : entities) {
-            if (entity.getObject() == table) {
-                result.add(entity);
-            }
+        synchronized (entities) {
+            List<ERDEntity> indexed = entityIndex.get(table);
+            return indexed == null ? new ArrayList<>() : new ArrayList<>(indexed);
         }
-        return result;
     }
 
     @NotNull
@@ -420,6 +676,8 @@ public class ERDDiagram extends ERDObject<DBSObject> implements ERDContainer {
     public void clear() {
         this.entities.clear();
         this.entityMap.clear();
+        this.entityIndex.clear();
+        this.unresolvedReferences.clear();
     }
 
     public boolean isNeedsAutoLayout() {
@@ -221,12 +221,16 @@ public class ERDEntity extends ERDElement<DBSEntity> {
                 if (fk instanceof DBSEntityReferrer) {
                     fkAttrs.addAll(DBUtils.getEntityAttributes(monitor, (DBSEntityReferrer) fk));
                 }
-                ERDEntity targetEntity = diagram.getEntityMap().get(DBVUtils.getRealEntity(monitor, fk.getAssociatedEntity()));
+                DBSEntity refEntity = DBVUtils.getRealEntity(monitor, fk.getAssociatedEntity());
+                ERDEntity targetEntity = diagram.getEntityMap().get(refEntity);
                 if (targetEntity == null) {
                     if (unresolvedKeys == null) {
                         unresolvedKeys = new ArrayList<>();
                     }
                     unresolvedKeys.add(fk);
+                    if (refEntity != null) {
+                        diagram.addUnresolvedReference(refEntity, this);
+                    }
                 } else {
                     if (create) {
                         if (DBUtils.isInheritedObject(fk)) {
@@ -267,6 +271,22 @@ public class ERDEntity extends ERDElement<DBSEntity> {
         }
     }
 
+    /**
+     * Registers entities referenced by unresolved keys, so relations are resolved when they are added to the diagram
+     */
+    void registerUnresolvedReferences(@NotNull ERDContainer diagram) {
+        if (CommonUtils.isEmpty(unresolvedKeys)) {
+            return;
+        }
+        for (DBSEntityAssociation fk : unresolvedKeys) {
+            DBSEntity associatedEntity = fk.getAssociatedEntity();
+            DBSEntity refEntity = associatedEntity == null ? null : DBVUtils.tryGetRealEntity(associatedEntity);
+            if (refEntity != null) {
+                diagram.addUnresolvedReference(refEntity, this);
+            }
+        }
+    }
+
     @NotNull
     @Override
     public String getName() {
@@ -64,7 +64,7 @@ public class DelegatingLayoutManager implements LayoutManager {
             return;
         }
         monitor.beginTask(ERDUIMessages.erd_job_rearrange_diagram, 2);
-        graphLayoutManager.layout(container);
+        graphLayoutManager.rearrange(container);
         monitor.worked(1);
         xyLayoutManager.cleanupConstraints();
         monitor.worked(1);
@@ -19,6 +19,8 @@
  */
 package org.jkiss.dbeaver.erd.ui.layout;
 
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.draw2d.AbstractLayout;
 import org.eclipse.draw2d.Animation;
 import org.eclipse.draw2d.IFigure;
@@ -26,11 +28,15 @@ import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Rectangle;
 import org.jkiss.dbeaver.erd.ui.internal.ERDUIMessages;
 import org.jkiss.dbeaver.erd.ui.layout.algorithm.direct.DirectedGraphLayoutVisitor;
+import org.jkiss.dbeaver.erd.ui.layout.algorithm.force.ForceDirectedLayout;
+import org.jkiss.dbeaver.erd.ui.layout.algorithm.force.ForceDirectedLayoutVisitor;
 import org.jkiss.dbeaver.erd.ui.part.DiagramPart;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.ui.UIUtils;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
@@ -40,6 +46,8 @@ import java.util.List;
 public class GraphLayoutAuto extends AbstractLayout {
 
     private DiagramPart diagram;
+    // Background layout of a large diagram. Guarded by this
+    private AbstractJob layoutJob;
 
     public GraphLayoutAuto(DiagramPart diagram) {
         this.diagram = diagram;
@@ -59,11 +67,90 @@ public class GraphLayoutAuto extends AbstractLayout {
 
     @Override
     public void layout(IFigure container) {
+        layout(container, true);
+    }
+
+    /**
+     * Lays out all diagram nodes, ignoring their current positions
+     */
+    public void rearrange(IFigure container) {
+        layout(container, false);
+    }
+
+    private void layout(IFigure container, boolean incremental) {
         DBRProgressMonitor monitor = diagram.getDiagram().getMonitor();
         monitor.subTask(ERDUIMessages.erd_job_layout_diagram);
+        if (ForceDirectedLayoutVisitor.isLargeDiagram(diagram)) {
+            layoutLargeDiagram(monitor, incremental);
+            return;
+        }
         UIUtils.syncExec(() -> {
             new DirectedGraphLayoutVisitor(diagram.getDiagram().getDecorator()).layoutDiagram(diagram);
             diagram.setTableModelBounds();
         });
     }
+
+    /**
+     * Directed graph layout doesn't scale well, so large diagrams use force-directed layout.
+     * Layout is always computed outside of UI thread: if we are in UI thread then it is computed in a job
+     * and applied when ready. Intermediate results are shown while layout is in progress.
+     */
+    private void layoutLargeDiagram(DBRProgressMonitor monitor, boolean incremental) {
+        ForceDirectedLayoutVisitor visitor = new ForceDirectedLayoutVisitor(diagram.getDiagram().getDecorator(), incremental);
+        UIUtils.syncExec(() -> visitor.collectDiagram(diagram));
+
+        if (UIUtils.isUIThread()) {
+            scheduleLayoutJob(visitor);
+        } else {
+            computeLayout(monitor, visitor);
+            UIUtils.syncExec(() -> applyLayout(visitor));
+        }
+    }
+
+    private synchronized void scheduleLayoutJob(ForceDirectedLayoutVisitor visitor) {
+        if (layoutJob != null) {
+            // Previous layout is obsolete
+            layoutJob.cancel();
+        }
+        layoutJob = new AbstractJob(ERDUIMessages.erd_job_layout_diagram) {
+            @Override
+            protected IStatus run(DBRProgressMonitor monitor) {
+                if (computeLayout(monitor, visitor)) {
+                    UIUtils.asyncExec(() -> {
+                        if (diagram.isActive()) {
+                            applyLayout(visitor);
+                        }
+                    });
+                }
+                return Status.OK_STATUS;
+            }
+        };
+        layoutJob.setUser(false);
+        layoutJob.schedule();
+    }
+
+    /**
+     * Computes node positions in the current (non-UI) thread
+     *
+     * @return false if layout was canceled
+     */
+    private boolean computeLayout(DBRProgressMonitor monitor, ForceDirectedLayoutVisitor visitor) {
+        AtomicBoolean refreshPending = new AtomicBoolean();
+        ForceDirectedLayout.RefinementListener refinementListener = (x, y) -> {
+            if (refreshPending.compareAndSet(false, true)) {
+                UIUtils.asyncExec(() -> {
+                    refreshPending.set(false);
+                    if (!monitor.isCanceled() && diagram.isActive()) {
+                        visitor.applyPositions(x, y);
+                    }
+                });
+            }
+        };
+        return visitor.computeLayout(monitor, refinementListener);
+    }
+
+    private void applyLayout(ForceDirectedLayoutVisitor visitor) {
+        visitor.applyDiagramResults();
+        diagram.setTableModelBounds();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,183 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.erd.ui.layout.algorithm.force;
+
+import java.util.Arrays;
+
+/**
+ * Quad tree used for Barnes-Hut approximation of node repulsion forces.
+ * Cells are stored in flat arrays which are reused between iterations, so rebuilding the tree doesn't produce garbage.
+ */
+class BarnesHutTree {
+
+    private static final int EMPTY = -1;
+    private static final int INTERNAL = -2;
+    private static final int AGGREGATE = -3;
+    private static final int MAX_DEPTH = 24;
+
+    private int cellCount;
+    private double[] centerX;
+    private double[] centerY;
+    private double[] halfSize;
+    private double[] massX;
+    private double[] massY;
+    private double[] mass;
+    private int[] children;
+    private int[] body;
+    private int[] stack = new int[64];
+
+    BarnesHutTree(int nodeCount) {
+        allocate(Math.max(16, nodeCount * 2));
+    }
+
+    /**
+     * Rebuilds tree for the specified node positions
+     */
+    void build(double[] x, double[] y, double[] weight, int nodeCount) {
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (int i = 0; i < nodeCount; i++) {
+            minX = Math.min(minX, x[i]);
+            minY = Math.min(minY, y[i]);
+            maxX = Math.max(maxX, x[i]);
+            maxY = Math.max(maxY, y[i]);
+        }
+        cellCount = 0;
+        double size = Math.max(Math.max(maxX - minX, maxY - minY), 1.0);
+        newCell((minX + maxX) / 2, (minY + maxY) / 2, size / 2 + 1);
+        for (int i = 0; i < nodeCount; i++) {
+            insert(i, x, y, weight);
+        }
+    }
+
+    /**
+     * Adds repulsion force applied to the specified node to the force vector.
+     *
+     * @param theta    approximation threshold. Cells with size/distance ratio below it are treated as a single body
+     * @param strength repulsion strength
+     */
+    void addRepulsion(int node, double[] x, double[] y, double theta, double strength, double[] force) {
+        double nx = x[node];
+        double ny = y[node];
+        double theta2 = theta * theta;
+        int stackSize = 0;
+        stack[stackSize++] = 0;
+        while (stackSize > 0) {
+            int cell = stack[--stackSize];
+            if (mass[cell] == 0 || body[cell] == node) {
+                continue;
+            }
+            double dx = nx - massX[cell] / mass[cell];
+            double dy = ny - massY[cell] / mass[cell];
+            double dist2 = dx * dx + dy * dy;
+            double size = halfSize[cell] * 2;
+            if (body[cell] != INTERNAL || size * size < theta2 * dist2) {
+                if (dist2 < 0.01) {
+                    // Coincident nodes. Push them apart in some deterministic direction
+                    dx = ((node % 7) - 3) * 0.1 + 0.05;
+                    dy = ((node % 5) - 2) * 0.1 + 0.05;
+                    dist2 = dx * dx + dy * dy;
+                }
+                double f = strength * mass[cell] / dist2;
+                force[0] += dx * f;
+                force[1] += dy * f;
+            } else {
+                for (int q = 0; q < 4; q++) {
+                    int child = children[cell * 4 + q];
+                    if (child != EMPTY) {
+                        if (stackSize == stack.length) {
+                            stack = Arrays.copyOf(stack, stack.length * 2);
+                        }
+                        stack[stackSize++] = child;
+                    }
+                }
+            }
+        }
+    }
+
+    private void insert(int node, double[] x, double[] y, double[] weight) {
+        double bx = x[node], by = y[node], bw = weight[node];
+        int cell = 0;
+        for (int depth = 0; ; depth++) {
+            massX[cell] += bx * bw;
+            massY[cell] += by * bw;
+            mass[cell] += bw;
+            int occupant = body[cell];
+            if (occupant == EMPTY) {
+                body[cell] = node;
+                return;
+            }
+            if (occupant == AGGREGATE || (occupant >= 0 && depth >= MAX_DEPTH)) {
+                // Too deep: nodes are (almost) at the same point, keep them together
+                body[cell] = AGGREGATE;
+                return;
+            }
+            if (occupant >= 0) {
+                // Split leaf: move existing node one level down
+                body[cell] = INTERNAL;
+                int child = getChild(cell, x[occupant], y[occupant]);
+                massX[child] += x[occupant] * weight[occupant];
+                massY[child] += y[occupant] * weight[occupant];
+                mass[child] += weight[occupant];
+                body[child] = occupant;
+            }
+            cell = getChild(cell, bx, by);
+        }
+    }
+
+    private int getChild(int cell, double px, double py) {
+        int quadrant = (px >= centerX[cell] ? 1 : 0) + (py >= centerY[cell] ? 2 : 0);
+        int index = cell * 4 + quadrant;
+        int child = children[index];
+        if (child == EMPTY) {
+            double half = halfSize[cell] / 2;
+            child = newCell(
+                centerX[cell] + ((quadrant & 1) == 0 ? -half : half),
+                centerY[cell] + ((quadrant & 2) == 0 ? -half : half),
+                half);
+            children[index] = child;
+        }
+        return child;
+    }
+
+    private int newCell(double cx, double cy, double half) {
+        if (cellCount == mass.length) {
+            allocate(mass.length * 2);
+        }
+        int cell = cellCount++;
+        centerX[cell] = cx;
+        centerY[cell] = cy;
+        halfSize[cell] = half;
+        massX[cell] = 0;
+        massY[cell] = 0;
+        mass[cell] = 0;
+        body[cell] = EMPTY;
+        Arrays.fill(children, cell * 4, cell * 4 + 4, EMPTY);
+        return cell;
+    }
+
+    private void allocate(int capacity) {
+        centerX = centerX == null ? new double[capacity] : Arrays.copyOf(centerX, capacity);
+        centerY = centerY == null ? new double[capacity] : Arrays.copyOf(centerY, capacity);
+        halfSize = halfSize == null ? new double[capacity] : Arrays.copyOf(halfSize, capacity);
+        massX = massX == null ? new double[capacity] : Arrays.copyOf(massX, capacity);
+        massY = massY == null ? new double[capacity] : Arrays.copyOf(massY, capacity);
+        mass = mass == null ? new double[capacity] : Arrays.copyOf(mass, capacity);
+        body = body == null ? new int[capacity] : Arrays.copyOf(body, capacity);
+        children = children == null ? new int[capacity * 4] : Arrays.copyOf(children, capacity * 4);
+    }
+}
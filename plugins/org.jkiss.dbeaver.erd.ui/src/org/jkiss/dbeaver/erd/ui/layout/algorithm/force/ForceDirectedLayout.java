@@ -0,0 +1,398 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.erd.ui.layout.algorithm.force;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.util.*;
+
+/**
+ * Force-directed layout for large graphs.
+ * Node repulsion is approximated with Barnes-Hut quad tree, so each iteration costs O(N log N + E).
+ * Layout doesn't depend on UI and may be executed in any thread.
+ * <p>
+ * Nodes may be pinned: pinned nodes affect other nodes but are never moved.
+ * It allows to place new nodes around the existing diagram without breaking it.
+ */
+public class ForceDirectedLayout {
+
+    /**
+     * Receives intermediate node positions during layout
+     */
+    public interface RefinementListener {
+        /**
+         * Called with a snapshot of the current node positions (top-left corners)
+         */
+        void positionsRefined(@NotNull int[] x, @NotNull int[] y);
+    }
+
+    private static final double THETA = 0.9;
+    private static final double GRAVITY = 0.02;
+    private static final int OVERLAP_REMOVAL_PASSES = 50;
+
+    private final int nodeCount;
+    private final int[] width;
+    private final int[] height;
+    private final boolean[] positioned;
+    private final boolean[] pinned;
+    // Node centers
+    private final double[] x;
+    private final double[] y;
+    private final double[] weight;
+    private int[] edgeSource = new int[16];
+    private int[] edgeTarget = new int[16];
+    private int edgeCount;
+
+    private int iterations = 300;
+    private int spacing = 40;
+    private RefinementListener refinementListener;
+    private int refinementStep = 50;
+
+    public ForceDirectedLayout(int nodeCount) {
+        this.nodeCount = nodeCount;
+        this.width = new int[nodeCount];
+        this.height = new int[nodeCount];
+        this.positioned = new boolean[nodeCount];
+        this.pinned = new boolean[nodeCount];
+        this.x = new double[nodeCount];
+        this.y = new double[nodeCount];
+        this.weight = new double[nodeCount];
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public void setNodeSize(int node, int width, int height) {
+        this.width[node] = Math.max(width, 1);
+        this.height[node] = Math.max(height, 1);
+    }
+
+    /**
+     * Sets initial position of the node top-left corner.
+     *
+     * @param pinned if true then node position won't be changed by layout
+     */
+    public void setNodePosition(int node, int x, int y, boolean pinned) {
+        this.x[node] = x + width[node] / 2.0;
+        this.y[node] = y + height[node] / 2.0;
+        this.positioned[node] = true;
+        this.pinned[node] = pinned;
+    }
+
+    public void addEdge(int source, int target) {
+        if (source == target) {
+            return;
+        }
+        if (edgeCount == edgeSource.length) {
+            edgeSource = Arrays.copyOf(edgeSource, edgeCount * 2);
+            edgeTarget = Arrays.copyOf(edgeTarget, edgeCount * 2);
+        }
+        edgeSource[edgeCount] = source;
+        edgeTarget[edgeCount] = target;
+        edgeCount++;
+    }
+
+    public void setIterations(int iterations) {
+        this.iterations = iterations;
+    }
+
+    /**
+     * Sets minimal distance between nodes
+     */
+    public void setSpacing(int spacing) {
+        this.spacing = spacing;
+    }
+
+    public void setRefinementListener(@Nullable RefinementListener refinementListener, int refinementStep) {
+        this.refinementListener = refinementListener;
+        this.refinementStep = Math.max(1, refinementStep);
+    }
+
+    public int getX(int node) {
+        return (int) Math.round(x[node] - width[node] / 2.0);
+    }
+
+    public int getY(int node) {
+        return (int) Math.round(y[node] - height[node] / 2.0);
+    }
+
+    /**
+     * Performs layout.
+     * Returns false if layout was canceled. In this case node positions are in some intermediate (but valid) state.
+     */
+    public boolean layout(@NotNull DBRProgressMonitor monitor) {
+        if (nodeCount == 0) {
+            return true;
+        }
+        // Ideal edge length. Based on average node size
+        double idealLength = spacing;
+        for (int i = 0; i < nodeCount; i++) {
+            idealLength += Math.sqrt((double) width[i] * height[i]) / nodeCount;
+            weight[i] = Math.max(1.0, Math.sqrt((double) width[i] * height[i]) / 100);
+        }
+        placeInitialNodes(idealLength);
+
+        boolean hasFreeNodes = false;
+        for (int i = 0; i < nodeCount; i++) {
+            if (!pinned[i]) {
+                hasFreeNodes = true;
+                break;
+            }
+        }
+        if (!hasFreeNodes) {
+            return true;
+        }
+
+        double repulsion = idealLength * idealLength;
+        double temperature = idealLength * Math.max(2, Math.sqrt(nodeCount) / 2);
+        double cooling = temperature / (iterations + 1);
+
+        BarnesHutTree tree = new BarnesHutTree(nodeCount);
+        double[] forceX = new double[nodeCount];
+        double[] forceY = new double[nodeCount];
+        double[] force = new double[2];
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            if (monitor.isCanceled()) {
+                return false;
+            }
+            double centerX = 0, centerY = 0;
+            for (int i = 0; i < nodeCount; i++) {
+                centerX += x[i];
+                centerY += y[i];
+            }
+            centerX /= nodeCount;
+            centerY /= nodeCount;
+
+            // Repulsion
+            tree.build(x, y, weight, nodeCount);
+            for (int i = 0; i < nodeCount; i++) {
+                if (pinned[i]) {
+                    continue;
+                }
+                force[0] = 0;
+                force[1] = 0;
+                tree.addRepulsion(i, x, y, THETA, repulsion, force);
+                forceX[i] = force[0] - GRAVITY * (x[i] - centerX);
+                forceY[i] = force[1] - GRAVITY * (y[i] - centerY);
+            }
+            // Attraction
+            for (int e = 0; e < edgeCount; e++) {
+                int source = edgeSource[e], target = edgeTarget[e];
+                double dx = x[target] - x[source];
+                double dy = y[target] - y[source];
+                double dist = Math.sqrt(dx * dx + dy * dy);
+                if (dist < 0.01) {
+                    continue;
+                }
+                double f = dist / idealLength;
+                forceX[source] += dx * f;
+                forceY[source] += dy * f;
+                forceX[target] -= dx * f;
+                forceY[target] -= dy * f;
+            }
+            // Move nodes, limiting displacement with current temperature
+            for (int i = 0; i < nodeCount; i++) {
+                if (pinned[i]) {
+                    continue;
+                }
+                double length = Math.sqrt(forceX[i] * forceX[i] + forceY[i] * forceY[i]);
+                if (length > 0) {
+                    double displacement = Math.min(length, temperature) / length;
+                    x[i] += forceX[i] * displacement;
+                    y[i] += forceY[i] * displacement;
+                }
+            }
+            temperature -= cooling;
+
+            if (refinementListener != null && iteration > 0 && iteration % refinementStep == 0) {
+                notifyRefinement();
+            }
+        }
+
+        removeOverlaps();
+        normalizePositions();
+        return true;
+    }
+
+    /**
+     * Places nodes which have no initial position.
+     * Node with positioned neighbors is placed near them, others are placed on a grid to the right of positioned nodes.
+     */
+    private void placeInitialNodes(double idealLength) {
+        List<Integer>[] neighbors = null;
+        double maxX = 0, minY = 0;
+        boolean anyPositioned = false;
+        for (int i = 0; i < nodeCount; i++) {
+            if (positioned[i]) {
+                if (!anyPositioned) {
+                    maxX = x[i] + width[i] / 2.0;
+                    minY = y[i] - height[i] / 2.0;
+                    anyPositioned = true;
+                } else {
+                    maxX = Math.max(maxX, x[i] + width[i] / 2.0);
+                    minY = Math.min(minY, y[i] - height[i] / 2.0);
+                }
+            } else if (neighbors == null) {
+                neighbors = buildAdjacency();
+            }
+        }
+        if (neighbors == null) {
+            return;
+        }
+        int columns = (int) Math.ceil(Math.sqrt(nodeCount));
+        double startX = anyPositioned ? maxX + idealLength * 2 : 0;
+        int gridIndex = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            if (positioned[i]) {
+                continue;
+            }
+            double sumX = 0, sumY = 0;
+            int count = 0;
+            if (neighbors[i] != null) {
+                for (int neighbor : neighbors[i]) {
+                    if (positioned[neighbor]) {
+                        sumX += x[neighbor];
+                        sumY += y[neighbor];
+                        count++;
+                    }
+                }
+            }
+            if (count > 0) {
+                // Put it next to neighbors. Small shift prevents coincident positions
+                x[i] = sumX / count + idealLength * ((i % 3) - 1);
+                y[i] = sumY / count + idealLength * (((i / 3) % 3) - 1);
+            } else {
+                x[i] = startX + (gridIndex % columns) * idealLength;
+                y[i] = minY + (double) (gridIndex / columns) * idealLength;
+                gridIndex++;
+            }
+            positioned[i] = true;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Integer>[] buildAdjacency() {
+        List<Integer>[] neighbors = new List[nodeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            int source = edgeSource[e], target = edgeTarget[e];
+            if (neighbors[source] == null) {
+                neighbors[source] = new ArrayList<>(2);
+            }
+            if (neighbors[target] == null) {
+                neighbors[target] = new ArrayList<>(2);
+            }
+            neighbors[source].add(target);
+            neighbors[target].add(source);
+        }
+        return neighbors;
+    }
+
+    /**
+     * Force simulation works with node centers, so big nodes may still overlap.
+     * Pushes overlapping nodes apart along the axis of the smallest overlap.
+     * Overlapping pairs are found with a uniform grid.
+     */
+    private void removeOverlaps() {
+        int cellSize = spacing;
+        for (int i = 0; i < nodeCount; i++) {
+            cellSize = Math.max(cellSize, Math.max(width[i], height[i]) + spacing);
+        }
+        double half = spacing / 2.0;
+        for (int pass = 0; pass < OVERLAP_REMOVAL_PASSES; pass++) {
+            Map<Long, List<Integer>> grid = new HashMap<>();
+            for (int i = 0; i < nodeCount; i++) {
+                long key = cellKey(Math.floorDiv((long) x[i], cellSize), Math.floorDiv((long) y[i], cellSize));
+                grid.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+            boolean moved = false;
+            for (int i = 0; i < nodeCount; i++) {
+                long cx = Math.floorDiv((long) x[i], cellSize);
+                long cy = Math.floorDiv((long) y[i], cellSize);
+                for (long gx = cx - 1; gx <= cx + 1; gx++) {
+                    for (long gy = cy - 1; gy <= cy + 1; gy++) {
+                        List<Integer> cell = grid.get(cellKey(gx, gy));
+                        if (cell == null) {
+                            continue;
+                        }
+                        for (int j : cell) {
+                            if (j <= i || (pinned[i] && pinned[j])) {
+                                continue;
+                            }
+                            double overlapX = (width[i] + width[j]) / 2.0 + half * 2 - Math.abs(x[i] - x[j]);
+                            double overlapY = (height[i] + height[j]) / 2.0 + half * 2 - Math.abs(y[i] - y[j]);
+                            if (overlapX <= 0 || overlapY <= 0) {
+                                continue;
+                            }
+                            moved = true;
+                            double shareI = pinned[i] ? 0 : (pinned[j] ? 1 : 0.5);
+                            double shareJ = 1 - shareI;
+                            if (overlapX < overlapY) {
+                                double sign = x[i] < x[j] || (x[i] == x[j] && i < j) ? -1 : 1;
+                                x[i] += sign * overlapX * shareI;
+                                x[j] -= sign * overlapX * shareJ;
+                            } else {
+                                double sign = y[i] < y[j] || (y[i] == y[j] && i < j) ? -1 : 1;
+                                y[i] += sign * overlapY * shareI;
+                                y[j] -= sign * overlapY * shareJ;
+                            }
+                        }
+                    }
+                }
+            }
+            if (!moved) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Moves the diagram to the top-left corner. Does nothing if there are pinned nodes.
+     */
+    private void normalizePositions() {
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE;
+        for (int i = 0; i < nodeCount; i++) {
+            if (pinned[i]) {
+                return;
+            }
+            minX = Math.min(minX, x[i] - width[i] / 2.0);
+            minY = Math.min(minY, y[i] - height[i] / 2.0);
+        }
+        double dx = spacing - minX, dy = spacing - minY;
+        for (int i = 0; i < nodeCount; i++) {
+            x[i] += dx;
+            y[i] += dy;
+        }
+    }
+
+    private void notifyRefinement() {
+        int[] snapshotX = new int[nodeCount];
+        int[] snapshotY = new int[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            snapshotX[i] = getX(i);
+            snapshotY[i] = getY(i);
+        }
+        refinementListener.positionsRefined(snapshotX, snapshotY);
+    }
+
+    private static long cellKey(long cx, long cy) {
+        return (cx << 32) ^ (cy & 0xFFFFFFFFL);
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.erd.ui.layout.algorithm.force;
+
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Dimension;
+import org.eclipse.draw2d.geometry.Insets;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.gef.ConnectionEditPart;
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.editparts.AbstractGraphicalEditPart;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.erd.ui.model.ERDDecorator;
+import org.jkiss.dbeaver.erd.ui.part.AttributePart;
+import org.jkiss.dbeaver.erd.ui.part.NodePart;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lays out large diagrams with {@link ForceDirectedLayout}.
+ * <p>
+ * Diagram is read and updated in UI thread while the layout itself may be computed in any thread.
+ * In incremental mode nodes which already have bounds keep their positions and only new nodes are placed.
+ */
+public class ForceDirectedLayoutVisitor {
+
+    /**
+     * Minimal number of diagram nodes for which force-directed layout is used instead of directed graph layout
+     */
+    public static final int LARGE_DIAGRAM_THRESHOLD = 200;
+
+    private final ERDDecorator decorator;
+    private final boolean incremental;
+    private final List<NodePart> nodeParts = new ArrayList<>();
+    private ForceDirectedLayout layout;
+
+    public ForceDirectedLayoutVisitor(@NotNull ERDDecorator decorator, boolean incremental) {
+        this.decorator = decorator;
+        this.incremental = incremental;
+    }
+
+    public static boolean isLargeDiagram(@NotNull AbstractGraphicalEditPart diagram) {
+        return diagram.getChildren().size() >= LARGE_DIAGRAM_THRESHOLD;
+    }
+
+    /**
+     * Reads diagram nodes and connections. Must be called in UI thread.
+     */
+    public void collectDiagram(@NotNull AbstractGraphicalEditPart diagram) {
+        nodeParts.clear();
+        Map<EditPart, Integer> nodeIndexes = new IdentityHashMap<>();
+        for (Object child : diagram.getChildren()) {
+            if (child instanceof NodePart nodePart) {
+                nodeIndexes.put(nodePart, nodeParts.size());
+                nodeParts.add(nodePart);
+            }
+        }
+        layout = new ForceDirectedLayout(nodeParts.size());
+        Insets insets = decorator.getDefaultEntityInsets();
+        if (insets != null) {
+            layout.setSpacing(Math.max(Math.max(insets.getWidth(), insets.getHeight()), 20));
+        }
+        for (int i = 0; i < nodeParts.size(); i++) {
+            NodePart nodePart = nodeParts.get(i);
+            Dimension preferredSize = nodePart.getFigure().getPreferredSize(-1, -1);
+            layout.setNodeSize(i, preferredSize.width, preferredSize.height);
+            if (incremental && nodePart.getBounds() != null) {
+                Rectangle bounds = nodePart.getBounds();
+                layout.setNodePosition(i, bounds.x, bounds.y, true);
+            }
+        }
+        for (int i = 0; i < nodeParts.size(); i++) {
+            NodePart nodePart = nodeParts.get(i);
+            addConnectionEdges(nodeIndexes, i, nodePart.getSourceConnections());
+            for (Object child : nodePart.getChildren()) {
+                if (child instanceof AttributePart attributePart) {
+                    addConnectionEdges(nodeIndexes, i, attributePart.getSourceConnections());
+                }
+            }
+        }
+    }
+
+    private void addConnectionEdges(@NotNull Map<EditPart, Integer> nodeIndexes, int source, @NotNull List<?> connections) {
+        for (Object connection : connections) {
+            if (connection instanceof ConnectionEditPart connectionPart && connectionPart.getTarget() != null) {
+                Integer target = nodeIndexes.get(connectionPart.getTarget());
+                if (target == null) {
+                    target = nodeIndexes.get(connectionPart.getTarget().getParent());
+                }
+                if (target != null) {
+                    layout.addEdge(source, target);
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes node positions. May be called in any thread.
+     *
+     * @param refinementListener receives intermediate positions, may be used for progressive diagram rendering
+     * @return false if layout was canceled
+     */
+    public boolean computeLayout(@NotNull DBRProgressMonitor monitor, @Nullable ForceDirectedLayout.RefinementListener refinementListener) {
+        if (layout == null) {
+            return false;
+        }
+        layout.setRefinementListener(refinementListener, 50);
+        return layout.layout(monitor);
+    }
+
+    /**
+     * Applies intermediate node positions. Must be called in UI thread.
+     */
+    public void applyPositions(@NotNull int[] x, @NotNull int[] y) {
+        for (int i = 0; i < nodeParts.size() && i < x.length; i++) {
+            applyNodePosition(nodeParts.get(i), x[i], y[i]);
+        }
+    }
+
+    /**
+     * Applies computed node positions. Must be called in UI thread.
+     */
+    public void applyDiagramResults() {
+        if (layout == null) {
+            return;
+        }
+        for (int i = 0; i < nodeParts.size(); i++) {
+            applyNodePosition(nodeParts.get(i), layout.getX(i), layout.getY(i));
+        }
+    }
+
+    private void applyNodePosition(@NotNull NodePart nodePart, int x, int y) {
+        IFigure figure = nodePart.getFigure();
+        Dimension preferredSize = figure.getPreferredSize();
+        Dimension snapSize = decorator.getEntitySnapSize();
+        if (snapSize != null) {
+            x = x / snapSize.width * snapSize.width;
+            y = y / snapSize.height * snapSize.height;
+        }
+        figure.setBounds(new Rectangle(x, y, preferredSize.width, preferredSize.height));
+    }
+}
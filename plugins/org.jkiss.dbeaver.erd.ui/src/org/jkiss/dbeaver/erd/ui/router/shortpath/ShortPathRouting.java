@@ -226,6 +226,9 @@ public class ShortPathRouting extends ERDConnectionRouter {
             processStaleConnections();
             isDirty = false;
             List<Path> paths = computePaths();
+            // Only re-routed paths are processed, so index the points of all connections once
+            // instead of scanning every connection for each routed path
+            ConnectionPointIndex pointIndex = new ConnectionPointIndex(getConnectionPoints().keySet());
             Connection current;
             for (Path path : paths) {
                 current = (Connection) path.data;
@@ -258,29 +261,18 @@ public class ShortPathRouting extends ERDConnectionRouter {
                 int dxTrgSrc = (int) (Math.cos(Math.toRadians(trgSrcAngel)) * indentation);
                 int dyTrgSrc = (int) (Math.sin(Math.toRadians(trgSrcAngel)) * indentation);
 
-                for (Entry<Connection, PointList> entry : getConnectionPoints().entrySet()) {
-                    if (entry.getKey().equals(current)) {
-                        continue;
-                    }
-                    for (int i = 0; i < entry.getKey().getPoints().size(); i++) {
-                        Point p = entry.getKey().getPoints().getPoint(i);
-                        int dxStart = Math.abs(start.x - p.x);
-                        int dyStart = Math.abs(start.y - p.y);
-                        int dxEnd = Math.abs(end.x - p.x);
-                        int dyEnd = Math.abs(end.y - p.y);
-                        if (dxStart == 0 && dyStart < POINT_DISTANCE) {
-                            start = new Point(start.x + dxSrcTrg, start.y - dySrcTrg);
-                            Point firstPoint = points.getPoint(0);
-                            firstPoint = new Point(firstPoint.x + dxSrcTrg, firstPoint.y - dySrcTrg);
-                            points.setPoint(firstPoint, 0);
-                        }
-                        if (dxEnd == 0 && dyEnd < POINT_DISTANCE) {
-                            end = new Point(end.x - dxTrgSrc, end.y - dyTrgSrc);
-                            Point endPoint = points.getPoint(points.size() - 1);
-                            endPoint = new Point(endPoint.x - dxTrgSrc, endPoint.y - dyTrgSrc);
-                            points.setPoint(endPoint, points.size() - 1);
-                        }
-                    }
+                // Move connection ends away from ends of other connections
+                for (int attempts = pointIndex.getColumnSize(start.x); attempts > 0 && pointIndex.hasClosePoint(current, start); attempts--) {
+                    start = new Point(start.x + dxSrcTrg, start.y - dySrcTrg);
+                    Point firstPoint = points.getPoint(0);
+                    firstPoint = new Point(firstPoint.x + dxSrcTrg, firstPoint.y - dySrcTrg);
+                    points.setPoint(firstPoint, 0);
+                }
+                for (int attempts = pointIndex.getColumnSize(end.x); attempts > 0 && pointIndex.hasClosePoint(current, end); attempts--) {
+                    end = new Point(end.x - dxTrgSrc, end.y - dyTrgSrc);
+                    Point endPoint = points.getPoint(points.size() - 1);
+                    endPoint = new Point(endPoint.x - dxTrgSrc, endPoint.y - dyTrgSrc);
+                    points.setPoint(endPoint, points.size() - 1);
                 }
                 // first
                 PointList modifiedPoints = new PointList();
@@ -315,6 +307,7 @@ public class ShortPathRouting extends ERDConnectionRouter {
                 // end
                 modifiedPoints.addPoint(points.getLastPoint());
                 current.setPoints(modifiedPoints);
+                pointIndex.update(current);
             }
             ignoreInvalidate = false;
         }
@@ -448,6 +441,62 @@ public class ShortPathRouting extends ERDConnectionRouter {
         return connectionToPaths != null && connectionToPaths.containsKey(conn);
     }
 
+    /**
+     * Connection points grouped by X coordinate
+     */
+    private static class ConnectionPointIndex {
+        private record IndexedPoint(Connection connection, int y) {
+        }
+
+        private final Map<Integer, List<IndexedPoint>> columns = new HashMap<>();
+        private final Map<Connection, PointList> indexedPoints = new HashMap<>();
+
+        ConnectionPointIndex(Collection<Connection> connections) {
+            for (Connection connection : connections) {
+                add(connection);
+            }
+        }
+
+        int getColumnSize(int x) {
+            List<IndexedPoint> column = columns.get(x);
+            return column == null ? 0 : column.size();
+        }
+
+        boolean hasClosePoint(Connection connection, Point point) {
+            List<IndexedPoint> column = columns.get(point.x);
+            if (column != null) {
+                for (IndexedPoint indexedPoint : column) {
+                    if (indexedPoint.connection != connection && Math.abs(indexedPoint.y - point.y) < POINT_DISTANCE) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        void update(Connection connection) {
+            PointList oldPoints = indexedPoints.remove(connection);
+            if (oldPoints != null) {
+                for (int i = 0; i < oldPoints.size(); i++) {
+                    List<IndexedPoint> column = columns.get(oldPoints.getPoint(i).x);
+                    if (column != null) {
+                        column.removeIf(p -> p.connection == connection);
+                    }
+                }
+            }
+            add(connection);
+        }
+
+        private void add(Connection connection) {
+            PointList points = connection.getPoints().getCopy();
+            indexedPoints.put(connection, points);
+            for (int i = 0; i < points.size(); i++) {
+                Point point = points.getPoint(i);
+                columns.computeIfAbsent(point.x, x -> new ArrayList<>(2)).add(new IndexedPoint(connection, point.y));
+            }
+        }
+    }
+
     private class LayoutTracker extends LayoutListener.Stub {
         @Override
         public void postLayout(IFigure container) {
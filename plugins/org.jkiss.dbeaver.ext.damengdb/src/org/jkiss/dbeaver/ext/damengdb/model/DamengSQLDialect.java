@@ -47,7 +47,9 @@ import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
+import java.util.StringJoiner;
 import java.util.UUID;
 
 /**
@@ -574,5 +576,17 @@ public class DamengSQLDialect extends JDBCSQLDialect
         // TODO Auto-generated method stub
         return false;
     }
+
+    @Nullable
+    @Override
+    public String getRowHashExpression(@NotNull List<String> columns) {
+        // Concatenation skips NULLs, so each value is prefixed with a marker and NULL is replaced with a sentinel.
+        // Otherwise NULL and '' (and shifted values of adjacent columns) give the same hash.
+        StringJoiner values = new StringJoiner(" || '|' || ");
+        for (String column : columns) {
+            values.add("NVL2(" + column + ", 'v' || " + column + ", 'n')");
+        }
+        return "ORA_HASH(" + values + ")";
+    }
     
 }
@@ -39,6 +39,7 @@ import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSEntity;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
+import org.jkiss.dbeaver.model.struct.DBSObjectFilter;
 import org.jkiss.dbeaver.model.struct.rdb.DBSProcedureContainer;
 import org.jkiss.dbeaver.model.struct.rdb.DBSProcedureType;
 import org.jkiss.dbeaver.model.struct.rdb.DBSSchema;
@@ -1434,6 +1435,18 @@ public class DamengSchema extends DamengGlobalObject implements DBSSchema, DBPRe
             String tableTypeColumns = hasAllAllTables ? "t.TABLE_TYPE_OWNER,t.TABLE_TYPE"
                 : "NULL as TABLE_TYPE_OWNER, NULL as TABLE_TYPE";
 
+            // Tables, views and materialized views have their own navigator filters
+            List<DBSObjectFilter> pushdownFilters = new ArrayList<>();
+            StringBuilder pushdownCondition = new StringBuilder();
+            if (object == null && objectName == null && !useAlternativeQuery) {
+                appendPushdownCondition(pushdownCondition, pushdownFilters, owner, DamengTable.class,
+                    "OBJECT_TYPE <> 'TABLE'");
+                appendPushdownCondition(pushdownCondition, pushdownFilters, owner, DamengView.class,
+                    "OBJECT_TYPE = 'TABLE' OR symbol <> 0");
+                appendPushdownCondition(pushdownCondition, pushdownFilters, owner, DamengMaterializedView.class,
+                    "OBJECT_TYPE = 'TABLE' OR symbol = 0");
+            }
+
             JDBCPreparedStatement dbStat;
             if (!useAlternativeQuery) {
                 dbStat = session.prepareStatement("SELECT * FROM ( SELECT "
@@ -1459,7 +1472,7 @@ public class DamengSchema extends DamengGlobalObject implements DBSSchema, DBPRe
                     +
                     "AND O.OWNER=? AND O.OBJECT_TYPE IN ('VIEW', 'MATERIALIZED VIEW') and s.NAME = o.OBJECT_NAME and s.schid = (select ID from sysobjects where name = ? and TYPE$ = 'SCH') "
                     + " ) where symbol >= 0  "
-                    + (object == null && objectName == null ? "" : " AND OBJECT_NAME" + tableOper + "?")
+                    + (object == null && objectName == null ? pushdownCondition : " AND OBJECT_NAME" + tableOper + "?")
                     + (object instanceof DamengTable ? " AND OBJECT_TYPE='TABLE'" : "")
                     + (object instanceof DamengView ? " AND OBJECT_TYPE='VIEW'" : "")
                     + (object instanceof DamengMaterializedView ? " AND OBJECT_TYPE='MATERIALIZED VIEW'" : ""));
@@ -1470,6 +1483,10 @@ public class DamengSchema extends DamengGlobalObject implements DBSSchema, DBPRe
                 if (object != null || objectName != null) {
                     dbStat.setString(5, object != null ? object.getName() : objectName);
                 }
+                int paramIndex = 5;
+                for (DBSObjectFilter filter : pushdownFilters) {
+                    paramIndex = JDBCUtils.setFilterParameters(dbStat, paramIndex, filter, true);
+                }
 
                 return dbStat;
             } else {
@@ -1477,6 +1494,19 @@ public class DamengSchema extends DamengGlobalObject implements DBSSchema, DBPRe
             }
         }
 
+        private void appendPushdownCondition(@NotNull StringBuilder sql, @NotNull List<DBSObjectFilter> filters,
+                                             @NotNull DamengSchema owner, @NotNull Class<?> type,
+                                             @NotNull String otherTypesCondition) {
+            DBSObjectFilter filter = getPushdownFilter(owner, type);
+            if (filter != null) {
+                // Objects of other types are not affected by the filter
+                sql.append(" AND (").append(otherTypesCondition).append(" OR (1=1");
+                JDBCUtils.appendFilterClause(sql, filter, "OBJECT_NAME", false, owner.getDataSource(), true);
+                sql.append("))");
+                filters.add(filter);
+            }
+        }
+
         @Override
         protected DamengTableBase fetchObject(@NotNull JDBCSession session, @NotNull DamengSchema owner,
                                               @NotNull JDBCResultSet dbResult) throws SQLException, DBException {
@@ -28,6 +28,7 @@ import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCConstants;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCStructLookupCache;
+import org.jkiss.dbeaver.model.struct.DBSObjectFilter;
 
 import java.sql.SQLException;
 
@@ -59,6 +60,13 @@ public class TableCache extends JDBCStructLookupCache<GenericStructContainer, Ge
     @NotNull
     @Override
     public JDBCStatement prepareLookupStatement(@NotNull JDBCSession session, @NotNull GenericStructContainer owner, @Nullable GenericTableBase object, @Nullable String objectName) throws SQLException {
+        if (object == null && objectName == null) {
+            // Single table mask is passed to the driver by the meta model, so the loaded list is partial
+            DBSObjectFilter tableFilter = dataSource.getContainer().getObjectFilter(GenericTable.class, owner, false);
+            if (tableFilter != null && tableFilter.isPushdownSupported() && tableFilter.hasSingleMask()) {
+                markPartialList();
+            }
+        }
         return dataSource.getMetaModel().prepareTableLoadStatement(session, owner, object, objectName);
     }
 
@@ -41,6 +41,11 @@ public class H2SQLDialect extends GenericSQLDialect {
         return true;
     }
 
+    @Override
+    public boolean supportsRowValueComparison() {
+        return true;
+    }
+
     @NotNull
     @Override
     public MultiValueInsertMode getDefaultMultiValueInsertMode() {
@@ -147,6 +147,20 @@ public class MySQLDateTimeValueHandler extends JDBCDateTimeValueHandler {
         return super.getValueDisplayString(column, value, format);
     }
 
+    @Override
+    public void appendValueDisplayString(
+        @NotNull DBSTypedObject column,
+        @Nullable Object value,
+        @NotNull DBDDisplayFormat format,
+        @NotNull StringBuilder buffer
+    ) {
+        if (value == ZERO_DATE || value == ZERO_TIMESTAMP) {
+            buffer.append(getValueDisplayString(column, value, format));
+        } else {
+            super.appendValueDisplayString(column, value, format, buffer);
+        }
+    }
+
     @Override
     public Object getValueFromObject(@NotNull DBCSession session, @NotNull DBSTypedObject type, Object object, boolean copy, boolean validateValue) throws DBCException {
         if (object instanceof String) {
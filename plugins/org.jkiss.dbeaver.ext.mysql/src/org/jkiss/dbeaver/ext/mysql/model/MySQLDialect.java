@@ -305,6 +305,11 @@ public class MySQLDialect extends JDBCSQLDialect implements SQLDialectSchemaCont
         return true;
     }
 
+    @Override
+    public boolean supportsRowValueComparison() {
+        return true;
+    }
+
     @Override
     public boolean supportsCommentQuery() {
         return true;
@@ -44,6 +44,7 @@ import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Locale;
 
 /**
@@ -1042,6 +1043,11 @@ public class PostgreDialect extends JDBCSQLDialect implements TPRuleProvider, SQ
         return true;
     }
 
+    @Override
+    public boolean supportsRowValueComparison() {
+        return true;
+    }
+
     @Override
     public boolean supportsColumnAutoIncrement() {
         return false;
@@ -1272,4 +1278,11 @@ public class PostgreDialect extends JDBCSQLDialect implements TPRuleProvider, SQ
     public boolean isEscapeBackslash() {
         return serverExtension != null && serverExtension.supportsBackslashStringEscape();
     }
+
+    @Nullable
+    @Override
+    public String getRowHashExpression(@NotNull List<String> columns) {
+        // First 60 bits of row text MD5, so SUM of hashes fits into numeric without precision loss
+        return "('x' || substr(md5(ROW(" + String.join(", ", columns) + ")::text), 1, 15))::bit(60)::bigint";
+    }
 }
@@ -862,10 +862,20 @@ public class PostgreSchema implements
                 .append("LEFT OUTER JOIN pg_catalog.pg_description d ON d.objoid=c.oid AND d.objsubid=0 AND d.classoid='pg_class'::regclass\n");
             sql.append("WHERE c.relnamespace=? AND c.relkind not in ('i','I','c')")
                 .append(object == null && objectName == null ? "" : " AND relname=?");
+            DBSObjectFilter tableFilter = object == null && objectName == null ?
+                getPushdownFilter(container, PostgreTable.class) : null;
+            if (tableFilter != null) {
+                // Filter regular tables only. Partitions and inherited tables are shown under their parents.
+                sql.append(" AND (c.relkind not in ('r','p') OR EXISTS (SELECT 1 FROM pg_catalog.pg_inherits i WHERE i.inhrelid=c.oid) OR (1=1");
+                JDBCUtils.appendFilterClause(sql, tableFilter, "c.relname", false, dataSource, true);
+                sql.append("))");
+            }
             final JDBCPreparedStatement dbStat = session.prepareStatement(sql.toString());
             dbStat.setLong(1, getObjectId());
             if (object != null || objectName != null)
                 dbStat.setString(2, object != null ? object.getName() : objectName);
+            if (tableFilter != null)
+                JDBCUtils.setFilterParameters(dbStat, 2, tableFilter, true);
             return dbStat;
         }
 
@@ -17,6 +17,7 @@
 package org.jkiss.dbeaver.model.ai;
 
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.ai.completion.*;
@@ -65,7 +66,8 @@ public class AIAssistantImpl implements AIAssistant {
                         monitor,
                         chatCompletionRequest.context(),
                         formatter(),
-                        engine.getMaxContextSize(monitor) -  AIConstants.MAX_RESPONSE_TOKENS
+                        engine.getMaxContextSize(monitor) -  AIConstants.MAX_RESPONSE_TOKENS,
+                        getLastUserMessage(chatCompletionRequest.messages())
                     )
                 )
             ),
@@ -113,7 +115,8 @@ public class AIAssistantImpl implements AIAssistant {
                     monitor,
                     request.context(),
                     formatter(),
-                    engine.getMaxContextSize(monitor) -  AIConstants.MAX_RESPONSE_TOKENS
+                    engine.getMaxContextSize(monitor) -  AIConstants.MAX_RESPONSE_TOKENS,
+                    request.text()
                 )
             ),
             userMessage
@@ -162,7 +165,8 @@ public class AIAssistantImpl implements AIAssistant {
                     monitor,
                     request.context(),
                     formatter(),
-                    engine.getMaxContextSize(monitor) -  AIConstants.MAX_RESPONSE_TOKENS
+                    engine.getMaxContextSize(monitor) -  AIConstants.MAX_RESPONSE_TOKENS,
+                    request.text()
                 )
             ),
             DAIChatMessage.userMessage(request.text())
@@ -219,6 +223,16 @@ public class AIAssistantImpl implements AIAssistant {
         );
     }
 
+    @Nullable
+    private static String getLastUserMessage(@NotNull List<DAIChatMessage> messages) {
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            if (messages.get(i).role() == DAIChatRole.USER) {
+                return messages.get(i).content();
+            }
+        }
+        return null;
+    }
+
     private static <T> T callWithRetry(ThrowableSupplier<T, DBException> supplier) throws DBException {
         int retry = 0;
         while (retry < MAX_RETRIES) {
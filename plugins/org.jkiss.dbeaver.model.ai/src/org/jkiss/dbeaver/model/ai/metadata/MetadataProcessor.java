@@ -68,15 +68,9 @@ public class MetadataProcessor {
                 object,
                 DBPEvaluationContext.DDL
             ) : DBUtils.getQuotedIdentifier(object);
-            description.append('\n');
-            formatter.addObjectDescriptionIfNeeded(description, object, monitor);
-            if (object instanceof DBSTable table) {
-                description.append(table.isView() ? "CREATE VIEW" : "CREATE TABLE");
-            }
-            description.append(" ").append(name).append("(");
-            DBSEntityAttribute firstAttr = addPromptAttributes(monitor, entity, description, formatter);
-            formatter.addExtraDescription(monitor, entity, description, firstAttr);
-            description.append(");");
+            description.append(describeEntityHeader(monitor, entity, formatter));
+            description.append(" ").append(name);
+            description.append(describeEntityBody(monitor, entity, formatter));
         } else if (object instanceof DBSObjectContainer objectContainer) {
             monitor.subTask("Load cache of " + object.getName());
             objectContainer.cacheStructure(
@@ -113,6 +107,22 @@ public class MetadataProcessor {
         @NotNull DAICompletionContext context,
         @NotNull IAIFormatter formatter,
         int maxRequestTokens
+    ) throws DBException {
+        return describeContext(monitor, context, formatter, maxRequestTokens, null);
+    }
+
+    /**
+     * Creates a new message containing completion metadata for the request.
+     * Tables are taken from the schema digest cache and ordered by relevance to the user prompt,
+     * so metadata is read only when the digest is built for the first time.
+     */
+    @NotNull
+    public String describeContext(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DAICompletionContext context,
+        @NotNull IAIFormatter formatter,
+        int maxRequestTokens,
+        @Nullable String prompt
     ) throws DBException {
         DBSObjectContainer mainObject = context.getScopeObject();
 
@@ -152,20 +162,53 @@ public class MetadataProcessor {
                 ));
             }
         } else {
-            sb.append(
-                generateObjectDescription(
-                monitor,
-                mainObject,
-                executionContext,
-                formatter,
-                remainingRequestTokens,
-                false
-            ));
+            SchemaDigestCache.SchemaDigest digest = SchemaDigestCache.INSTANCE.getDigest(monitor, mainObject, formatter);
+            for (SchemaDigestCache.TableDigest table : digest.selectTables(prompt, remainingRequestTokens)) {
+                sb.append(table.header())
+                    .append(" ")
+                    .append(isRequiresFullyQualifiedName(table.entity(), executionContext) ? table.fullName() : table.name())
+                    .append(table.body());
+            }
         }
 
         return sb.toString();
     }
 
+    /**
+     * Entity comment and DDL keyword which precede entity name in the prompt
+     */
+    @NotNull
+    String describeEntityHeader(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSEntity entity,
+        @NotNull IAIFormatter formatter
+    ) {
+        StringBuilder header = new StringBuilder();
+        header.append('\n');
+        formatter.addObjectDescriptionIfNeeded(header, entity, monitor);
+        if (entity instanceof DBSTable table) {
+            header.append(table.isView() ? "CREATE VIEW" : "CREATE TABLE");
+        }
+        return header.toString();
+    }
+
+    /**
+     * Entity attributes list which follows entity name in the prompt
+     */
+    @NotNull
+    String describeEntityBody(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSEntity entity,
+        @NotNull IAIFormatter formatter
+    ) throws DBException {
+        StringBuilder body = new StringBuilder();
+        body.append("(");
+        DBSEntityAttribute firstAttr = addPromptAttributes(monitor, entity, body, formatter);
+        formatter.addExtraDescription(monitor, entity, body, firstAttr);
+        body.append(");");
+        return body.toString();
+    }
+
     protected DBSEntityAttribute addPromptAttributes(
         DBRProgressMonitor monitor,
         DBSEntity entity,
@@ -0,0 +1,565 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.ai.metadata;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.DBPEvaluationContext;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.ai.AICompletionConstants;
+import org.jkiss.dbeaver.model.ai.format.IAIFormatter;
+import org.jkiss.dbeaver.model.ai.utils.AIUtils;
+import org.jkiss.dbeaver.model.navigator.DBNDatabaseNode;
+import org.jkiss.dbeaver.model.navigator.DBNEvent;
+import org.jkiss.dbeaver.model.navigator.DBNUtils;
+import org.jkiss.dbeaver.model.navigator.INavigatorListener;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.*;
+import org.jkiss.dbeaver.model.struct.rdb.DBSTablePartition;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compact descriptions of schema tables used in AI prompts.
+ * <p>
+ * Digest is built once per object container (schema, catalog or data source). After that it is kept up to date
+ * by navigator events: changed tables are described again in background, so prompt construction doesn't read metadata.
+ * Tables are selected by relevance to the user prompt (name match and foreign key proximity) within the token budget.
+ * <p>
+ * Digests reference metadata objects, so they are removed explicitly: when container or its data source is removed,
+ * unloaded or disconnected.
+ */
+public class SchemaDigestCache implements INavigatorListener {
+    public static final SchemaDigestCache INSTANCE = new SchemaDigestCache();
+    private static final Log log = Log.getLog(SchemaDigestCache.class);
+
+    // Do not describe more tables than this, they won't fit in the prompt anyway
+    private static final int MAX_DIGEST_TABLES = 10000;
+    // Part of the table score which is added to the tables related by foreign keys
+    private static final double FK_PROXIMITY_FACTOR = 0.5;
+    private static final int TABLE_NAME_SCORE = 10;
+    private static final int TABLE_NAME_PART_SCORE = 3;
+    private static final int COLUMN_NAME_SCORE = 1;
+    private static final long REFRESH_DELAY = 500;
+
+    private final Map<DigestKey, SchemaDigest> digests = new HashMap<>();
+    private final DigestRefreshJob refreshJob = new DigestRefreshJob();
+    private boolean listenerRegistered;
+
+    /**
+     * Container is identified by path, because container instances are replaced on refresh or reconnect
+     */
+    private record DigestKey(@NotNull DBPDataSourceContainer dataSourceContainer, @NotNull String objectPath) {
+    }
+
+    /**
+     * Precomputed table description
+     *
+     * @param entity        described table
+     * @param ordinal       table position in the container
+     * @param header        table comment and DDL keyword
+     * @param name          quoted table name
+     * @param fullName      fully qualified table name
+     * @param body          table columns
+     * @param tokens        prompt tokens of the description (with fully qualified name)
+     * @param nameWords     normalized words of the table name
+     * @param columnWords   normalized words of the column names
+     * @param relatedTables tables referenced by foreign keys
+     */
+    public record TableDigest(
+        @NotNull DBSEntity entity,
+        int ordinal,
+        @NotNull String header,
+        @NotNull String name,
+        @NotNull String fullName,
+        @NotNull String body,
+        int tokens,
+        @NotNull Set<String> nameWords,
+        @NotNull Set<String> columnWords,
+        @NotNull Set<DBSEntity> relatedTables
+    ) {
+    }
+
+    /**
+     * Table descriptions of a single object container
+     */
+    public static class SchemaDigest {
+        @NotNull
+        private final DBSObjectContainer container;
+        @NotNull
+        private final IAIFormatter formatter;
+        @NotNull
+        private final String settingsKey;
+        private final Map<DBSEntity, TableDigest> tables = new ConcurrentHashMap<>();
+        private final Set<DBSEntity> staleTables = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger nextOrdinal = new AtomicInteger();
+        // Whole container must be described again
+        private volatile boolean stale;
+
+        public SchemaDigest(@NotNull DBSObjectContainer container, @NotNull IAIFormatter formatter, @NotNull String settingsKey) {
+            this.container = container;
+            this.formatter = formatter;
+            this.settingsKey = settingsKey;
+        }
+
+        @NotNull
+        public DBSObjectContainer getContainer() {
+            return container;
+        }
+
+        @NotNull
+        public Collection<TableDigest> getTables() {
+            return Collections.unmodifiableCollection(tables.values());
+        }
+
+        /**
+         * Whole container must be described again
+         */
+        public boolean isStale() {
+            return stale;
+        }
+
+        /**
+         * Tables which must be described again
+         */
+        @NotNull
+        public Set<DBSEntity> getStaleTables() {
+            return Collections.unmodifiableSet(staleTables);
+        }
+
+        public void putTable(@NotNull TableDigest table) {
+            tables.put(table.entity(), table);
+        }
+
+        /**
+         * Marks tables affected by the metadata object change as stale.
+         *
+         * @param object  changed object
+         * @param action  navigator event action
+         * @param removed object was removed or unloaded
+         * @return false if the container itself was removed and the digest must be dropped
+         */
+        public boolean handleObjectChange(@NotNull DBSObject object, @NotNull DBNEvent.Action action, boolean removed) {
+            if (isParentOf(object, container)) {
+                if (removed) {
+                    return false;
+                }
+                stale = true;
+                return true;
+            }
+            if (!DBUtils.isParentOf(object, container)) {
+                return true;
+            }
+            DBSEntity entity = object instanceof DBSEntity e ? e : DBUtils.getParentOfType(DBSEntity.class, object);
+            if (entity == null) {
+                // New or refreshed nested container
+                stale = true;
+            } else if (entity == object && action == DBNEvent.Action.REMOVE) {
+                tables.remove(entity);
+                staleTables.remove(entity);
+            } else {
+                staleTables.add(entity);
+            }
+            return true;
+        }
+
+        private boolean isRefreshNeeded() {
+            return stale || !staleTables.isEmpty();
+        }
+
+        /**
+         * Selects tables which fit in the token budget. Tables most relevant to the prompt go first.
+         * If prompt is empty or nothing matches it, tables are taken in the container order.
+         */
+        @NotNull
+        public List<TableDigest> selectTables(@Nullable String prompt, int maxTokens) {
+            List<TableDigest> allTables = new ArrayList<>(tables.values());
+            allTables.sort(Comparator.comparingInt(TableDigest::ordinal));
+
+            Map<DBSEntity, Double> scores = scoreTables(allTables, splitWords(prompt));
+            if (!scores.isEmpty()) {
+                allTables.sort(Comparator
+                    .comparingDouble((TableDigest t) -> -scores.getOrDefault(t.entity(), 0.0))
+                    .thenComparingInt(TableDigest::ordinal));
+            }
+
+            List<TableDigest> result = new ArrayList<>();
+            int remainingTokens = maxTokens;
+            for (TableDigest table : allTables) {
+                if (table.tokens() > remainingTokens) {
+                    if (scores.isEmpty()) {
+                        log.debug("Trim AI metadata prompt at table '" + table.entity().getName() + "' - too long request");
+                        break;
+                    }
+                    // Less relevant but smaller tables may still fit
+                    continue;
+                }
+                result.add(table);
+                remainingTokens -= table.tokens();
+            }
+            return result;
+        }
+
+        private void putTable(@NotNull DBRProgressMonitor monitor, @NotNull DBSEntity entity) throws DBException {
+            TableDigest oldDigest = tables.get(entity);
+            putTable(createTableDigest(
+                monitor,
+                entity,
+                formatter,
+                oldDigest != null ? oldDigest.ordinal() : nextOrdinal.getAndIncrement()));
+        }
+    }
+
+    private SchemaDigestCache() {
+    }
+
+    /**
+     * Returns digest of the specified container. Digest is built if it doesn't exist yet, this is the only case when
+     * metadata is read in the caller thread. Changed tables are refreshed in background.
+     */
+    @NotNull
+    public SchemaDigest getDigest(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSObjectContainer container,
+        @NotNull IAIFormatter formatter
+    ) throws DBException {
+        String settingsKey = getSettingsKey(formatter);
+        DBPDataSourceContainer dataSourceContainer = container.getDataSource() == null ? null : container.getDataSource().getContainer();
+        if (dataSourceContainer == null) {
+            throw new DBException("Container '" + container.getName() + "' doesn't belong to a data source");
+        }
+        DigestKey key = new DigestKey(dataSourceContainer, DBUtils.getObjectFullId(container));
+        SchemaDigest digest;
+        synchronized (digests) {
+            registerListener();
+            // Disconnect event may be missed if the listener was registered after it
+            digests.keySet().removeIf(k -> !k.dataSourceContainer().isConnected());
+            digest = digests.get(key);
+            if (digest != null && (!digest.settingsKey.equals(settingsKey) || digest.container != container)) {
+                // Prompt settings were changed or container was reloaded, old descriptions are useless
+                digest = null;
+            }
+            if (digest == null) {
+                digest = new SchemaDigest(container, formatter, settingsKey);
+                digests.put(key, digest);
+                digest.stale = true;
+            }
+        }
+        if (digest.tables.isEmpty()) {
+            synchronized (digest) {
+                if (digest.stale && digest.tables.isEmpty()) {
+                    buildDigest(monitor, digest);
+                }
+            }
+        }
+        if (digest.stale || !digest.staleTables.isEmpty()) {
+            // Use what we have, changes will be ready for the next request
+            refreshJob.schedule(REFRESH_DELAY);
+        }
+        return digest;
+    }
+
+    @Override
+    public void nodeChanged(DBNEvent event) {
+        if (!(event.getNode() instanceof DBNDatabaseNode databaseNode)) {
+            return;
+        }
+        DBSObject object = databaseNode.getObject();
+        if (object == null) {
+            return;
+        }
+        DBNEvent.NodeChange nodeChange = event.getNodeChange();
+        // Data source disconnect is reported as data source node unload
+        boolean removed = event.getAction() == DBNEvent.Action.REMOVE || nodeChange == DBNEvent.NodeChange.UNLOAD;
+        if (event.getAction() == DBNEvent.Action.UPDATE && !removed && nodeChange != null &&
+            nodeChange != DBNEvent.NodeChange.REFRESH && nodeChange != DBNEvent.NodeChange.STRUCT_REFRESH) {
+            // Selection, locks and children loading don't change metadata
+            return;
+        }
+        // Called in UI thread: only mark changed tables here, they are described by the refresh job
+        boolean refreshNeeded = false;
+        synchronized (digests) {
+            for (Iterator<SchemaDigest> iter = digests.values().iterator(); iter.hasNext(); ) {
+                SchemaDigest digest = iter.next();
+                if (!digest.handleObjectChange(object, event.getAction(), removed)) {
+                    iter.remove();
+                } else if (digest.isRefreshNeeded()) {
+                    refreshNeeded = true;
+                }
+            }
+        }
+        if (refreshNeeded) {
+            refreshJob.schedule(REFRESH_DELAY);
+        }
+    }
+
+    private void registerListener() {
+        if (!listenerRegistered) {
+            DBWorkbench.getPlatform().getNavigatorModel().addListener(this);
+            listenerRegistered = true;
+        }
+    }
+
+    private static boolean isParentOf(@NotNull DBSObject parent, @NotNull DBSObject child) {
+        if (parent instanceof DBPDataSourceContainer dataSourceContainer) {
+            return child.getDataSource() != null && child.getDataSource().getContainer() == dataSourceContainer;
+        }
+        return DBUtils.isParentOf(child, parent);
+    }
+
+    /**
+     * Describes all tables of the container. Old descriptions are kept until the new ones are ready.
+     */
+    private static void buildDigest(@NotNull DBRProgressMonitor monitor, @NotNull SchemaDigest digest) throws DBException {
+        digest.stale = false;
+        Set<DBSEntity> entities = new LinkedHashSet<>();
+        collectEntities(monitor, digest.container, entities);
+        for (DBSEntity entity : entities) {
+            if (monitor.isCanceled()) {
+                digest.stale = true;
+                return;
+            }
+            digest.putTable(monitor, entity);
+        }
+        digest.tables.keySet().retainAll(entities);
+        digest.staleTables.removeAll(entities);
+    }
+
+    private static void collectEntities(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSObjectContainer container,
+        @NotNull Set<DBSEntity> entities
+    ) throws DBException {
+        monitor.subTask("Load cache of " + container.getName());
+        container.cacheStructure(monitor, DBSObjectContainer.STRUCT_ENTITIES | DBSObjectContainer.STRUCT_ATTRIBUTES);
+        Collection<? extends DBSObject> children = container.getChildren(monitor);
+        if (children == null) {
+            return;
+        }
+        for (DBSObject child : children) {
+            if (entities.size() >= MAX_DIGEST_TABLES || monitor.isCanceled()) {
+                return;
+            }
+            if (DBUtils.isSystemObject(child) || DBUtils.isHiddenObject(child) || child instanceof DBSTablePartition) {
+                continue;
+            }
+            if (DBNUtils.getNodeByObject(monitor, child, false) == null) {
+                // Skip hidden objects
+                continue;
+            }
+            if (child instanceof DBSEntity entity) {
+                entities.add(entity);
+            } else if (child instanceof DBSObjectContainer childContainer) {
+                collectEntities(monitor, childContainer, entities);
+            }
+        }
+    }
+
+    @NotNull
+    private static TableDigest createTableDigest(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSEntity entity,
+        @NotNull IAIFormatter formatter,
+        int ordinal
+    ) throws DBException {
+        MetadataProcessor processor = MetadataProcessor.INSTANCE;
+        String header = processor.describeEntityHeader(monitor, entity, formatter);
+        String body = processor.describeEntityBody(monitor, entity, formatter);
+        String name = DBUtils.getQuotedIdentifier(entity);
+        String fullName = DBUtils.getObjectFullName(entity.getDataSource(), entity, DBPEvaluationContext.DDL);
+
+        Set<String> columnWords = new HashSet<>();
+        List<? extends DBSEntityAttribute> attributes = entity.getAttributes(monitor);
+        if (attributes != null) {
+            for (DBSEntityAttribute attribute : attributes) {
+                if (!DBUtils.isHiddenObject(attribute)) {
+                    columnWords.addAll(splitWords(attribute.getName()));
+                }
+            }
+        }
+        Set<DBSEntity> relatedTables = new HashSet<>();
+        try {
+            Collection<? extends DBSEntityAssociation> associations = entity.getAssociations(monitor);
+            if (associations != null) {
+                for (DBSEntityAssociation association : associations) {
+                    DBSEntity associatedEntity = association.getAssociatedEntity();
+                    if (associatedEntity != null && associatedEntity != entity) {
+                        relatedTables.add(associatedEntity);
+                    }
+                }
+            }
+        } catch (DBException e) {
+            // Foreign keys are used for ranking only
+            log.debug("Error reading foreign keys of '" + entity.getName() + "': " + e.getMessage());
+        }
+
+        return new TableDigest(
+            entity,
+            ordinal,
+            header,
+            name,
+            fullName,
+            body,
+            AIUtils.countContentTokens(header + " " + fullName + body),
+            splitWords(entity.getName()),
+            columnWords,
+            relatedTables);
+    }
+
+    /**
+     * Scores tables by prompt words. Returns empty map if no table matches the prompt.
+     */
+    @NotNull
+    private static Map<DBSEntity, Double> scoreTables(@NotNull List<TableDigest> tables, @NotNull Set<String> promptWords) {
+        Map<DBSEntity, Double> scores = new HashMap<>();
+        if (promptWords.isEmpty()) {
+            return scores;
+        }
+        for (TableDigest table : tables) {
+            int score = 0;
+            if (promptWords.contains(normalizeWord(table.entity().getName()))) {
+                score += TABLE_NAME_SCORE;
+            }
+            for (String word : table.nameWords()) {
+                if (promptWords.contains(word)) {
+                    score += TABLE_NAME_PART_SCORE;
+                }
+            }
+            for (String word : table.columnWords()) {
+                if (promptWords.contains(word)) {
+                    score += COLUMN_NAME_SCORE;
+                }
+            }
+            if (score > 0) {
+                scores.put(table.entity(), (double) score);
+            }
+        }
+        if (scores.isEmpty()) {
+            return scores;
+        }
+        // Tables joined with matched ones are likely needed too, in both FK directions
+        Map<DBSEntity, Double> proximityScores = new HashMap<>();
+        for (TableDigest table : tables) {
+            double score = scores.getOrDefault(table.entity(), 0.0);
+            for (DBSEntity related : table.relatedTables()) {
+                double relatedScore = scores.getOrDefault(related, 0.0);
+                if (relatedScore > 0) {
+                    proximityScores.merge(table.entity(), relatedScore * FK_PROXIMITY_FACTOR, Double::sum);
+                }
+                if (score > 0) {
+                    proximityScores.merge(related, score * FK_PROXIMITY_FACTOR, Double::sum);
+                }
+            }
+        }
+        proximityScores.forEach((entity, score) -> scores.merge(entity, score, Double::sum));
+        return scores;
+    }
+
+    @NotNull
+    private static Set<String> splitWords(@Nullable String text) {
+        if (CommonUtils.isEmpty(text)) {
+            return Collections.emptySet();
+        }
+        Set<String> words = new HashSet<>();
+        for (String word : text.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(normalizeWord(word));
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Lower case and trivial plural form removal, so "customers" matches table "CUSTOMER"
+     */
+    @NotNull
+    private static String normalizeWord(@NotNull String word) {
+        String result = word.toLowerCase(Locale.ROOT);
+        if (result.length() > 3 && result.endsWith("s") && !result.endsWith("ss")) {
+            result = result.substring(0, result.length() - 1);
+        }
+        return result;
+    }
+
+    @NotNull
+    private static String getSettingsKey(@NotNull IAIFormatter formatter) {
+        return formatter.getClass().getName() + ":" +
+            DBWorkbench.getPlatform().getPreferenceStore().getBoolean(AICompletionConstants.AI_SEND_DESCRIPTION) + ":" +
+            DBWorkbench.getPlatform().getPreferenceStore().getBoolean(AICompletionConstants.AI_SEND_TYPE_INFO);
+    }
+
+    private class DigestRefreshJob extends AbstractJob {
+        DigestRefreshJob() {
+            super("Refresh AI schema digest");
+            setUser(false);
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            List<SchemaDigest> toRefresh;
+            synchronized (digests) {
+                toRefresh = new ArrayList<>(digests.values());
+            }
+            for (SchemaDigest digest : toRefresh) {
+                if (monitor.isCanceled()) {
+                    break;
+                }
+                synchronized (digest) {
+                    try {
+                        if (digest.stale) {
+                            buildDigest(monitor, digest);
+                        } else {
+                            refreshTables(monitor, digest);
+                        }
+                    } catch (Exception e) {
+                        log.debug("Error refreshing AI schema digest of '" + digest.container.getName() + "': " + e.getMessage());
+                    }
+                }
+            }
+            return Status.OK_STATUS;
+        }
+
+        private void refreshTables(@NotNull DBRProgressMonitor monitor, @NotNull SchemaDigest digest) throws DBException {
+            for (DBSEntity entity : new ArrayList<>(digest.staleTables)) {
+                digest.staleTables.remove(entity);
+                if (entity.getParentObject() instanceof DBSObjectContainer parent &&
+                    parent.getChild(monitor, entity.getName()) != entity)
+                {
+                    // Table was dropped or replaced by refresh
+                    digest.tables.remove(entity);
+                    digest.stale = true;
+                    continue;
+                }
+                digest.putTable(monitor, entity);
+            }
+            if (digest.stale) {
+                buildDigest(monitor, digest);
+            }
+        }
+    }
+}
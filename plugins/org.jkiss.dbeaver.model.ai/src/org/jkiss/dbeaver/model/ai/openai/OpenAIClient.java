@@ -19,9 +19,13 @@ package org.jkiss.dbeaver.model.ai.openai;
 import com.theokanning.openai.completion.chat.ChatCompletionRequest;
 import com.theokanning.openai.completion.chat.ChatCompletionResult;
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.ai.completion.DAICompletionChunk;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 
+import java.util.concurrent.Flow;
+
 /**
  * Client adapter for Azure AI service.
  */
@@ -35,6 +39,19 @@ public interface OpenAIClient extends AutoCloseable {
         ChatCompletionRequest request
     ) throws DBException;
 
+    /**
+     * Create a chat completion and publish its chunks as they are generated.
+     *
+     * @return chunks publisher or null if client doesn't support streaming
+     */
+    @Nullable
+    default Flow.Publisher<DAICompletionChunk> createChatCompletionStream(
+        @NotNull DBRProgressMonitor monitor,
+        ChatCompletionRequest request
+    ) throws DBException {
+        return null;
+    }
+
     @Override
     void close();
 }
@@ -16,11 +16,17 @@
  */
 package org.jkiss.dbeaver.model.ai.openai;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.theokanning.openai.client.OpenAiApi;
 import com.theokanning.openai.completion.chat.ChatCompletionRequest;
 import com.theokanning.openai.completion.chat.ChatCompletionResult;
 import com.theokanning.openai.completion.chat.ChatMessage;
 import com.theokanning.openai.service.OpenAiService;
+import okhttp3.OkHttpClient;
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.ai.AIConstants;
@@ -28,15 +34,26 @@ import org.jkiss.dbeaver.model.ai.AISettingsRegistry;
 import org.jkiss.dbeaver.model.ai.TooManyRequestsException;
 import org.jkiss.dbeaver.model.ai.completion.*;
 import org.jkiss.dbeaver.model.ai.utils.DisposableLazyValue;
+import org.jkiss.dbeaver.model.ai.utils.MonitoredHttpClient;
+import org.jkiss.dbeaver.model.ai.utils.ServerSentEventPublisher;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import retrofit2.Retrofit;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class OpenAICompletionEngine implements DAICompletionEngine {
     private static final Log log = Log.getLog(OpenAICompletionEngine.class);
 
     private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final String CHAT_COMPLETIONS_PATH = "v1/chat/completions";
 
     private final DisposableLazyValue<OpenAIClient, DBException> openAiService = new DisposableLazyValue<>() {
         @Override
@@ -64,6 +81,25 @@ public class OpenAICompletionEngine implements DAICompletionEngine {
         return new DAICompletionResponse(completionResult.getChoices().get(0).getMessage().getContent());
     }
 
+    /**
+     * Streams completion chunks as they are generated by the server.
+     * Falls back to the whole completion if client doesn't support streaming.
+     */
+    @Override
+    public Flow.Publisher<DAICompletionChunk> requestCompletionStream(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DAICompletionRequest request
+    ) throws DBException {
+        Flow.Publisher<DAICompletionChunk> publisher = openAiService.evaluate().createChatCompletionStream(
+            monitor,
+            createCompletionRequest(request.messages())
+        );
+        if (publisher == null) {
+            return DAICompletionEngine.super.requestCompletionStream(monitor, request);
+        }
+        return publisher;
+    }
+
     @Override
     public void onSettingsUpdate(AISettingsRegistry registry) {
         try {
@@ -89,7 +125,12 @@ public class OpenAICompletionEngine implements DAICompletionEngine {
         List<DAIChatMessage> messages,
         int maxTokens
     ) throws DBException {
-        ChatCompletionRequest completionRequest = ChatCompletionRequest.builder()
+        return openAiService.evaluate().createChatCompletion(monitor, createCompletionRequest(messages));
+    }
+
+    @NotNull
+    protected ChatCompletionRequest createCompletionRequest(@NotNull List<DAIChatMessage> messages) {
+        return ChatCompletionRequest.builder()
             .messages(fromMessages(messages))
             .temperature(temperature())
             .frequencyPenalty(0.0)
@@ -98,8 +139,6 @@ public class OpenAICompletionEngine implements DAICompletionEngine {
             .n(1)
             .model(model())
             .build();
-
-        return openAiService.evaluate().createChatCompletion(monitor, completionRequest);
     }
 
     private static List<ChatMessage> fromMessages(List<DAIChatMessage> messages) {
@@ -117,7 +156,28 @@ public class OpenAICompletionEngine implements DAICompletionEngine {
     }
 
     protected OpenAIClient createClient() {
-        OpenAiService aiService = new OpenAiService(OpenAISettings.INSTANCE.token(), TIMEOUT);
+        return createClient(OpenAISettings.INSTANCE.token(), null);
+    }
+
+    /**
+     * Creates client of the API at the specified base URL.
+     * Streaming requests are sent to the same endpoint as the requests of {@link OpenAiService}.
+     *
+     * @param baseUrl API base URL, or null to use the default OpenAI service URL
+     */
+    @NotNull
+    protected OpenAIClient createClient(@NotNull String token, @Nullable String baseUrl) {
+        OkHttpClient okHttpClient = OpenAiService.defaultClient(token, TIMEOUT);
+        Retrofit retrofit = OpenAiService.defaultRetrofit(okHttpClient, OpenAiService.defaultObjectMapper());
+        if (baseUrl != null) {
+            retrofit = retrofit.newBuilder().baseUrl(baseUrl).build();
+        }
+        OpenAiService aiService = new OpenAiService(
+            retrofit.create(OpenAiApi.class),
+            okHttpClient.dispatcher().executorService()
+        );
+        URI chatCompletionsUri = retrofit.baseUrl().resolve(CHAT_COMPLETIONS_PATH).uri();
+        MonitoredHttpClient httpClient = new MonitoredHttpClient(HttpClient.newBuilder().connectTimeout(TIMEOUT).build());
 
         return new OpenAIClient() {
             @NotNull
@@ -133,9 +193,41 @@ public class OpenAICompletionEngine implements DAICompletionEngine {
                 }
             }
 
+            @NotNull
+            @Override
+            public Flow.Publisher<DAICompletionChunk> createChatCompletionStream(
+                @NotNull DBRProgressMonitor monitor,
+                ChatCompletionRequest request
+            ) throws DBException {
+                HttpRequest httpRequest = HttpRequest.newBuilder()
+                    .uri(chatCompletionsUri)
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "text/event-stream")
+                    .header("Authorization", "Bearer " + token)
+                    .POST(HttpRequest.BodyPublishers.ofString(toStreamingRequestJson(request)))
+                    .build();
+                HttpResponse<Stream<String>> response = httpClient.sendStreaming(monitor, httpRequest);
+                if (response.statusCode() != 200) {
+                    String body;
+                    try (Stream<String> lines = response.body()) {
+                        body = lines.collect(Collectors.joining("\n"));
+                    }
+                    if (response.statusCode() == 429) {
+                        throw new TooManyRequestsException("OpenAI rate limit exceeded: " + body);
+                    }
+                    throw new DBException("Error executing OpenAI request: HTTP " + response.statusCode() + " " + body);
+                }
+                return new ServerSentEventPublisher<>(
+                    "Read OpenAI completion stream",
+                    response.body(),
+                    OpenAICompletionEngine::parseStreamChunk
+                );
+            }
+
             @Override
             public void close() {
                 aiService.shutdownExecutor();
+                httpClient.close();
             }
         };
     }
@@ -148,6 +240,52 @@ public class OpenAICompletionEngine implements DAICompletionEngine {
         return OpenAISettings.INSTANCE.temperature();
     }
 
+    /**
+     * Chat completion request with streaming enabled, in OpenAI API format
+     */
+    @NotNull
+    private static String toStreamingRequestJson(@NotNull ChatCompletionRequest request) {
+        JsonArray messages = new JsonArray();
+        for (ChatMessage message : request.getMessages()) {
+            JsonObject jsonMessage = new JsonObject();
+            jsonMessage.addProperty("role", message.getRole());
+            jsonMessage.addProperty("content", message.getContent());
+            messages.add(jsonMessage);
+        }
+        JsonObject json = new JsonObject();
+        json.addProperty("model", request.getModel());
+        json.add("messages", messages);
+        json.addProperty("temperature", request.getTemperature());
+        json.addProperty("frequency_penalty", request.getFrequencyPenalty());
+        json.addProperty("presence_penalty", request.getPresencePenalty());
+        json.addProperty("max_tokens", request.getMaxTokens());
+        json.addProperty("n", request.getN());
+        json.addProperty("stream", true);
+        return json.toString();
+    }
+
+    /**
+     * Extracts generated text from the stream event data.
+     * Events without content (role announcement, finish reason) are skipped.
+     */
+    @Nullable
+    private static DAICompletionChunk parseStreamChunk(@NotNull String data) {
+        JsonObject json = JsonParser.parseString(data).getAsJsonObject();
+        if (json.has("error")) {
+            throw new IllegalStateException("OpenAI completion stream error: " + json.get("error"));
+        }
+        JsonArray choices = json.getAsJsonArray("choices");
+        if (choices == null || choices.isEmpty()) {
+            return null;
+        }
+        JsonObject delta = choices.get(0).getAsJsonObject().getAsJsonObject("delta");
+        if (delta == null || !delta.has("content") || delta.get("content").isJsonNull()) {
+            return null;
+        }
+        String content = delta.get("content").getAsString();
+        return content.isEmpty() ? null : new DAICompletionChunk(content);
+    }
+
     private DBException mapHttpException(retrofit2.HttpException e) {
         if (e.code() == 429) {
             return new TooManyRequestsException("OpenAI rate limit exceeded", e);
@@ -115,7 +115,10 @@ public final class AIUtils {
         return content.substring(0, content.length() - charsToRemove) + "..";
     }
 
-    private static int countContentTokens(String content) {
+    /**
+     * Estimates number of tokens in the given text.
+     */
+    public static int countContentTokens(@NotNull String content) {
         return content.length() / 2;
     }
 
@@ -25,6 +25,7 @@ import java.net.http.HttpResponse;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 public class MonitoredHttpClient implements AutoCloseable {
     private final HttpClient client;
@@ -72,6 +73,17 @@ public class MonitoredHttpClient implements AutoCloseable {
         }
     }
 
+    /**
+     * Send an HTTP request and return the response body as a stream of lines.
+     * The method returns as soon as response headers are received, the body is read while the stream is consumed.
+     * Used for server-sent events, so the first event can be processed before the whole response is generated.
+     */
+    public HttpResponse<Stream<String>> sendStreaming(
+        DBRProgressMonitor monitor,
+        HttpRequest request
+    ) throws DBException {
+        return send(monitor, request, HttpResponse.BodyHandlers.ofLines());
+    }
 
     @Override
     public void close() {
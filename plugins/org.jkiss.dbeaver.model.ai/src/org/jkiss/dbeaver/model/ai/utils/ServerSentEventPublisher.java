@@ -0,0 +1,252 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.ai.utils;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Publishes server-sent events (text/event-stream) of an HTTP response.
+ * <p>
+ * Response lines are read in a background job and each event data is delivered to the subscriber
+ * as soon as it arrives. Reading respects subscriber demand. Cancelling the subscription closes the response stream.
+ * Only one subscriber is supported. If nobody subscribes within {@link #SUBSCRIBE_TIMEOUT} ms
+ * (or the publisher is closed before subscription) the response stream is closed.
+ */
+public class ServerSentEventPublisher<T> implements Flow.Publisher<T>, AutoCloseable {
+
+    /**
+     * Data of the event which terminates OpenAI-compatible streams
+     */
+    public static final String DONE_DATA = "[DONE]";
+    /**
+     * Period after which response of not subscribed publisher is closed
+     */
+    public static final long SUBSCRIBE_TIMEOUT = 60000;
+
+    private static final String DATA_FIELD = "data:";
+    private static final long WAIT_PERIOD = 100;
+
+    @NotNull
+    private final String name;
+    @NotNull
+    private final Stream<String> lines;
+    @NotNull
+    private final Function<String, T> dataMapper;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    @NotNull
+    private final AbstractJob closeJob;
+
+    /**
+     * @param name       stream name, used as the reader job name
+     * @param lines      response body lines
+     * @param dataMapper converts event data into item. Null result skips the event.
+     */
+    public ServerSentEventPublisher(
+        @NotNull String name,
+        @NotNull Stream<String> lines,
+        @NotNull Function<String, T> dataMapper
+    ) {
+        this.name = name;
+        this.lines = lines;
+        this.dataMapper = dataMapper;
+        this.closeJob = new AbstractJob("Close " + name) {
+            @Override
+            protected IStatus run(DBRProgressMonitor monitor) {
+                ServerSentEventPublisher.this.close();
+                return Status.OK_STATUS;
+            }
+        };
+        this.closeJob.setUser(false);
+        this.closeJob.setSystem(true);
+        this.closeJob.schedule(SUBSCRIBE_TIMEOUT);
+    }
+
+    /**
+     * Closes the response stream if the publisher is not subscribed yet.
+     * Subsequent subscribers receive an error.
+     */
+    @Override
+    public void close() {
+        if (subscribed.compareAndSet(false, true)) {
+            closeJob.cancel();
+            lines.close();
+        }
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("Event stream is already subscribed or closed"));
+            return;
+        }
+        closeJob.cancel();
+        EventSubscription subscription = new EventSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.readJob.schedule();
+    }
+
+    private class EventSubscription implements Flow.Subscription {
+        @NotNull
+        private final Flow.Subscriber<? super T> subscriber;
+        @NotNull
+        private final AbstractJob readJob;
+        // Guarded by this
+        private long demand;
+        private volatile boolean cancelled;
+
+        EventSubscription(@NotNull Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            this.readJob = new AbstractJob(name) {
+                @Override
+                protected IStatus run(DBRProgressMonitor monitor) {
+                    readEvents(monitor);
+                    return Status.OK_STATUS;
+                }
+            };
+            this.readJob.setUser(false);
+            this.readJob.setSystem(true);
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException("Invalid request size: " + n));
+                return;
+            }
+            synchronized (this) {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                notifyAll();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                notifyAll();
+            }
+            readJob.cancel();
+            // Unblocks the reader waiting for the next line
+            lines.close();
+        }
+
+        private void readEvents(@NotNull DBRProgressMonitor monitor) {
+            try {
+                StringBuilder data = null;
+                Iterator<String> iterator = lines.iterator();
+                while (!isCancelled(monitor) && iterator.hasNext()) {
+                    String line = iterator.next();
+                    if (line.isEmpty()) {
+                        // Empty line dispatches the event
+                        if (data != null && !dispatch(monitor, data.toString())) {
+                            return;
+                        }
+                        data = null;
+                    } else if (line.startsWith(DATA_FIELD)) {
+                        String value = line.substring(DATA_FIELD.length());
+                        if (value.startsWith(" ")) {
+                            value = value.substring(1);
+                        }
+                        if (data == null) {
+                            data = new StringBuilder(value);
+                        } else {
+                            data.append('\n').append(value);
+                        }
+                    }
+                    // Comments, event names, ids and retry intervals are not used
+                }
+                if (isCancelled(monitor)) {
+                    return;
+                }
+                if (data != null && !dispatch(monitor, data.toString())) {
+                    return;
+                }
+                subscriber.onComplete();
+            } catch (Throwable e) {
+                if (!isCancelled(monitor)) {
+                    subscriber.onError(e);
+                }
+            } finally {
+                lines.close();
+            }
+        }
+
+        /**
+         * Delivers event data to the subscriber.
+         *
+         * @return false if stream is finished
+         */
+        private boolean dispatch(@NotNull DBRProgressMonitor monitor, @NotNull String data) {
+            if (DONE_DATA.equals(data)) {
+                subscriber.onComplete();
+                return false;
+            }
+            T item = dataMapper.apply(data);
+            if (item == null) {
+                return true;
+            }
+            if (!awaitDemand(monitor)) {
+                return false;
+            }
+            subscriber.onNext(item);
+            return true;
+        }
+
+        private boolean awaitDemand(@NotNull DBRProgressMonitor monitor) {
+            synchronized (this) {
+                while (demand == 0) {
+                    if (isCancelled(monitor)) {
+                        return false;
+                    }
+                    try {
+                        wait(WAIT_PERIOD);
+                    } catch (InterruptedException e) {
+                        return false;
+                    }
+                }
+                if (demand != Long.MAX_VALUE) {
+                    demand--;
+                }
+                return true;
+            }
+        }
+
+        private boolean isCancelled(@NotNull DBRProgressMonitor monitor) {
+            return cancelled || monitor.isCanceled();
+        }
+    }
+}
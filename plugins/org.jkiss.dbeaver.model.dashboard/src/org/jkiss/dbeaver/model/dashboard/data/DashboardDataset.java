@@ -43,4 +43,19 @@ public class DashboardDataset {
         rows.add(row);
     }
 
+    /**
+     * Returns rows which are not older than the specified period before the last row
+     */
+    public List<DashboardDatasetRow> getLatestRows(long period) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        long fromTime = rows.get(rows.size() - 1).getTimestamp().getTime() - period;
+        int firstIndex = rows.size() - 1;
+        while (firstIndex > 0 && rows.get(firstIndex - 1).getTimestamp().getTime() >= fromTime) {
+            firstIndex--;
+        }
+        return rows.subList(firstIndex, rows.size());
+    }
+
 }
@@ -0,0 +1,233 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.dashboard.data;
+
+import org.jkiss.code.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory store of dashboard samples.
+ * <p>
+ * Each series keeps ring buffers of decreasing resolution: raw samples, 1 minute averages and 10 minutes averages.
+ * Each sample is added to the raw buffer and to the current bucket of every coarser buffer, so recent history
+ * has full precision while old history is downsampled automatically.
+ * Timestamps are kept in seconds and values as floats, so a week of one series takes about 16Kb.
+ */
+public class DashboardTimeSeriesStore {
+
+    // Bucket period (seconds) and capacity of each buffer. Zero period means raw samples
+    private static final int[] TIER_PERIODS = {0, 60, 600};
+    private static final int[] TIER_CAPACITIES = {600, 360, 1008};
+
+    private static DashboardTimeSeriesStore instance;
+
+    public synchronized static DashboardTimeSeriesStore getInstance() {
+        if (instance == null) {
+            instance = new DashboardTimeSeriesStore();
+        }
+        return instance;
+    }
+
+    // Timestamps are stored as seconds since this time, so they fit into int
+    private final long baseTime = System.currentTimeMillis();
+    private final Map<String, Series> seriesMap = new ConcurrentHashMap<>();
+
+    private DashboardTimeSeriesStore() {
+    }
+
+    /**
+     * Adds sample to the series. Samples which are not newer than the last sample of the series are ignored,
+     * so the same query result may be added several times.
+     */
+    public void addSample(@NotNull String seriesId, long timestamp, double value) {
+        seriesMap.computeIfAbsent(seriesId, id -> new Series()).add(toStoreTime(timestamp), (float) value);
+    }
+
+    /**
+     * Adds numeric values of the dataset. Each column is stored in series {@code seriesPrefix/columnName}.
+     */
+    public void addDataset(@NotNull String seriesPrefix, @NotNull DashboardDataset dataset) {
+        String[] columnNames = dataset.getColumnNames();
+        for (DashboardDatasetRow row : dataset.getRows()) {
+            Object[] values = row.getValues();
+            for (int i = 0; i < columnNames.length && i < values.length; i++) {
+                if (values[i] instanceof Number number) {
+                    addSample(seriesPrefix + "/" + columnNames[i], row.getTimestamp().getTime(), number.doubleValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads stored samples of the specified columns. Old samples are returned with the resolution they are stored with.
+     *
+     * @param fromTime minimal sample timestamp
+     * @return dataset with rows ordered by timestamp
+     */
+    @NotNull
+    public DashboardDataset getHistory(@NotNull String seriesPrefix, @NotNull String[] columnNames, long fromTime) {
+        SortedMap<Integer, Object[]> rows = new TreeMap<>();
+        int storeFromTime = toStoreTime(fromTime);
+        for (int i = 0; i < columnNames.length; i++) {
+            Series series = seriesMap.get(seriesPrefix + "/" + columnNames[i]);
+            if (series == null) {
+                continue;
+            }
+            int columnIndex = i;
+            series.read(storeFromTime, (time, value) ->
+                rows.computeIfAbsent(time, t -> new Object[columnNames.length])[columnIndex] = (double) value);
+        }
+        DashboardDataset dataset = new DashboardDataset(columnNames);
+        for (Map.Entry<Integer, Object[]> row : rows.entrySet()) {
+            dataset.addRow(new DashboardDatasetRow(new Date(baseTime + row.getKey() * 1000L), row.getValue()));
+        }
+        return dataset;
+    }
+
+    /**
+     * Prepends stored samples which are older than the first row of the dataset.
+     *
+     * @param fromTime minimal sample timestamp
+     * @return dataset with history or the same dataset if there is no history
+     */
+    @NotNull
+    public DashboardDataset prependHistory(@NotNull String seriesPrefix, @NotNull DashboardDataset dataset, long fromTime) {
+        if (dataset.getRows().isEmpty()) {
+            return dataset;
+        }
+        DashboardDataset history = getHistory(seriesPrefix, dataset.getColumnNames(), fromTime);
+        Date firstTimestamp = dataset.getRows().get(0).getTimestamp();
+        if (history.getRows().isEmpty() || !history.getRows().get(0).getTimestamp().before(firstTimestamp)) {
+            return dataset;
+        }
+        DashboardDataset result = new DashboardDataset(dataset.getColumnNames());
+        for (DashboardDatasetRow row : history.getRows()) {
+            if (row.getTimestamp().before(firstTimestamp)) {
+                result.addRow(row);
+            }
+        }
+        dataset.getRows().forEach(result::addRow);
+        return result;
+    }
+
+    private int toStoreTime(long timestamp) {
+        // Round down for timestamps before the base time too, otherwise two seconds map to zero
+        return (int) Math.floorDiv(timestamp - baseTime, 1000);
+    }
+
+    @FunctionalInterface
+    private interface SampleConsumer {
+        void accept(int time, float value);
+    }
+
+    /**
+     * Fixed size buffer which overwrites the oldest samples
+     */
+    private static class Ring {
+        private final int[] times;
+        private final float[] values;
+        private int start;
+        private int size;
+
+        Ring(int capacity) {
+            times = new int[capacity];
+            values = new float[capacity];
+        }
+
+        void add(int time, float value) {
+            int index = (start + size) % times.length;
+            times[index] = time;
+            values[index] = value;
+            if (size < times.length) {
+                size++;
+            } else {
+                start = (start + 1) % times.length;
+            }
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int getFirstTime() {
+            return times[start];
+        }
+
+        int getLastTime() {
+            return times[(start + size - 1) % times.length];
+        }
+
+        void read(int fromTime, int toTime, @NotNull SampleConsumer consumer) {
+            for (int i = 0; i < size; i++) {
+                int index = (start + i) % times.length;
+                if (times[index] >= fromTime && times[index] < toTime) {
+                    consumer.accept(times[index], values[index]);
+                }
+            }
+        }
+    }
+
+    private static class Series {
+        private final Ring[] tiers = new Ring[TIER_PERIODS.length];
+        // Current (not finished) bucket of each downsampled tier
+        private final int[] bucketTimes = new int[TIER_PERIODS.length];
+        private final double[] bucketSums = new double[TIER_PERIODS.length];
+        private final int[] bucketCounts = new int[TIER_PERIODS.length];
+
+        Series() {
+            for (int i = 0; i < tiers.length; i++) {
+                tiers[i] = new Ring(TIER_CAPACITIES[i]);
+            }
+        }
+
+        synchronized void add(int time, float value) {
+            Ring raw = tiers[0];
+            if (!raw.isEmpty() && time <= raw.getLastTime()) {
+                return;
+            }
+            raw.add(time, value);
+            for (int i = 1; i < tiers.length; i++) {
+                int bucketTime = Math.floorDiv(time, TIER_PERIODS[i]) * TIER_PERIODS[i];
+                if (bucketCounts[i] > 0 && bucketTimes[i] != bucketTime) {
+                    tiers[i].add(bucketTimes[i], (float) (bucketSums[i] / bucketCounts[i]));
+                    bucketSums[i] = 0;
+                    bucketCounts[i] = 0;
+                }
+                bucketTimes[i] = bucketTime;
+                bucketSums[i] += value;
+                bucketCounts[i]++;
+            }
+        }
+
+        /**
+         * Reads samples from the finest tier which has them. Coarse tiers are used only for periods
+         * which are older than the first sample of finer tiers.
+         */
+        synchronized void read(int fromTime, @NotNull SampleConsumer consumer) {
+            int coveredFrom = Integer.MAX_VALUE;
+            for (Ring tier : tiers) {
+                if (tier.isEmpty()) {
+                    continue;
+                }
+                tier.read(fromTime, coveredFrom, consumer);
+                coveredFrom = Math.min(coveredFrom, tier.getFirstTime());
+            }
+        }
+    }
+}
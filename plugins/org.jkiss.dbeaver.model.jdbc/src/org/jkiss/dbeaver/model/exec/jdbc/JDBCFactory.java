@@ -18,6 +18,7 @@ package org.jkiss.dbeaver.model.exec.jdbc;
 
 import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCStatementCache;
 
 import java.sql.*;
 
@@ -35,6 +36,18 @@ public interface JDBCFactory {
     JDBCPreparedStatement createPreparedStatement(@NotNull JDBCSession session, @NotNull PreparedStatement original, @Nullable String sql, boolean disableLogging)
         throws SQLException;
 
+    /**
+     * Creates prepared statement which original statement is returned to the statement cache on close.
+     * Returns null if factory doesn't support cached statements, then the statement is created by
+     * {@link #createPreparedStatement} and its original statement is closed on close.
+     */
+    @Nullable
+    default JDBCPreparedStatement createCachedPreparedStatement(@NotNull JDBCSession session, @NotNull PreparedStatement original, @NotNull String sql, boolean disableLogging, @NotNull JDBCStatementCache cache)
+        throws SQLException
+    {
+        return null;
+    }
+
     JDBCCallableStatement createCallableStatement(@NotNull JDBCSession session, @NotNull CallableStatement original, @Nullable String sql, boolean disableLogging)
         throws SQLException;
 
@@ -22,12 +22,14 @@ import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
 import org.jkiss.dbeaver.model.DBPAdaptable;
 import org.jkiss.dbeaver.model.DBPTransactionIsolation;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
 import org.jkiss.dbeaver.model.impl.AbstractExecutionContext;
 import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCSavepointImpl;
+import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCStatementCache;
 import org.jkiss.dbeaver.model.messages.ModelMessages;
 import org.jkiss.dbeaver.model.qm.QMUtils;
 import org.jkiss.dbeaver.model.runtime.AbstractJob;
@@ -64,6 +66,10 @@ public class JDBCExecutionContext extends AbstractExecutionContext<JDBCDataSourc
     private volatile Boolean autoCommit;
     private volatile Integer transactionIsolationLevel;
     private transient volatile boolean txnIsolationLevelReadInProgress;
+    @Nullable
+    private volatile JDBCIsolatedContextPool contextPool;
+    @Nullable
+    private volatile JDBCStatementCache metaStatementCache;
     private final ReentrantLock queryExecutionLock;
 
     public JDBCExecutionContext(@NotNull JDBCRemoteInstance instance, String purpose) {
@@ -91,6 +97,10 @@ public class JDBCExecutionContext extends AbstractExecutionContext<JDBCDataSourc
         this.instance = instance;
     }
 
+    void setContextPool(@Nullable JDBCIsolatedContextPool contextPool) {
+        this.contextPool = contextPool;
+    }
+
     @NotNull
     private Connection getConnection() throws DBCException {
         Connection dbCon = this.connection;
@@ -105,6 +115,14 @@ public class JDBCExecutionContext extends AbstractExecutionContext<JDBCDataSourc
         return this.connection;
     }
 
+    /**
+     * Returns cache of prepared statements used by metadata sessions or null if statements caching is disabled
+     */
+    @Nullable
+    public JDBCStatementCache getMetaStatementCache() {
+        return metaStatementCache;
+    }
+
     public void connect(DBRProgressMonitor monitor) throws DBCException {
         connect(monitor, null, null, null, true);
     }
@@ -112,7 +130,8 @@ public class JDBCExecutionContext extends AbstractExecutionContext<JDBCDataSourc
     protected void connect(@NotNull DBRProgressMonitor monitor, Boolean autoCommit, @Nullable Integer txnLevel, JDBCExecutionContext initFrom, boolean addContext) throws DBCException {
         if (connection != null && addContext) {
             log.error("Reopening not-closed connection");
-            close();
+            // Do not return context to the pool, it is still used by the caller
+            closeContext(true);
         }
         boolean connectionReadOnly = dataSource.getContainer().isConnectionReadOnly();
         final JDBCRemoteInstance currentInstance = this.instance;
@@ -125,6 +144,8 @@ public class JDBCExecutionContext extends AbstractExecutionContext<JDBCDataSourc
             if (this.connection == null) {
                 throw new DBCException("Null connection returned");
             }
+            int statementCacheSize = dataSource.getContainer().getPreferenceStore().getInt(ModelPreferences.META_STATEMENT_CACHE_SIZE);
+            this.metaStatementCache = statementCacheSize > 0 ? new JDBCStatementCache(statementCacheSize) : null;
             monitor.subTask("Set connection defaults");
             // Get defaults from preferences
             if (autoCommit == null) {
@@ -205,6 +226,12 @@ public class JDBCExecutionContext extends AbstractExecutionContext<JDBCDataSourc
         // [JDBC] Need sync here because real connection close could take some time
         // while UI may invoke callbacks to operate with connection
         synchronized (this) {
+            JDBCStatementCache statementCache = this.metaStatementCache;
+            if (statementCache != null) {
+                // Cached statements belong to the closed connection
+                statementCache.invalidate();
+                this.metaStatementCache = null;
+            }
             // If we cannot determine if connection is in autocommit mode, assume that it is not
             if (connection != null && !dataSource.closeConnection(connection, purpose, !isAutoCommit(false))) {
                 log.debug("Connection close timeout");
@@ -274,6 +301,11 @@ public class JDBCExecutionContext extends AbstractExecutionContext<JDBCDataSourc
 
     @Override
     public void close() {
+        JDBCIsolatedContextPool pool = this.contextPool;
+        if (pool != null && pool.release(this)) {
+            // Context remains open in the pool
+            return;
+        }
         closeContext(true);
     }
 
@@ -508,7 +540,7 @@ public class JDBCExecutionContext extends AbstractExecutionContext<JDBCDataSourc
     }
 
     public void reconnect(DBRProgressMonitor monitor) throws DBCException {
-        close();
+        closeContext(true);
         connect(monitor, null, null, this, true);
     }
 
@@ -0,0 +1,330 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContextDefaults;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+import org.jkiss.dbeaver.model.struct.rdb.DBSCatalog;
+import org.jkiss.dbeaver.model.struct.rdb.DBSSchema;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Pool of warm isolated execution contexts.
+ * <p>
+ * Closed isolated contexts are not disconnected but returned to the pool (if there is a room for them)
+ * and then reused by subsequent {@link JDBCRemoteInstance#openIsolatedContext} calls with the same purpose.
+ * Contexts are validated before reuse. On return their transaction settings, session state and default
+ * catalog/schema are reset to the container defaults, so callers can't tell a pooled context from a new one. Contexts idle for too long are closed by a background job.
+ */
+public class JDBCIsolatedContextPool {
+
+    private static final Log log = Log.getLog(JDBCIsolatedContextPool.class);
+
+    /**
+     * Pool statistics
+     *
+     * @param idleCount              number of contexts waiting in the pool
+     * @param activeCount            number of pooled contexts currently used by callers
+     * @param createdCount           number of physical connections opened by the pool
+     * @param reusedCount            number of requests served by idle contexts
+     * @param evictedCount           number of idle contexts closed because of idle timeout
+     * @param validationFailureCount number of idle contexts which were found dead
+     */
+    public record Statistics(
+        int idleCount,
+        int activeCount,
+        long createdCount,
+        long reusedCount,
+        long evictedCount,
+        long validationFailureCount
+    ) {
+    }
+
+    private record IdleContext(@NotNull JDBCExecutionContext context, long releaseTime) {
+    }
+
+    // Default catalog and schema of the context right after connect
+    private record DefaultObjects(@Nullable DBSCatalog catalog, @Nullable DBSSchema schema) {
+    }
+
+    @NotNull
+    private final JDBCRemoteInstance instance;
+    private final int minIdle;
+    private final int maxIdle;
+    private final long idleTimeout;
+
+    private final Map<String, Deque<IdleContext>> idleContexts = new HashMap<>();
+    private final Set<JDBCExecutionContext> activeContexts = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<JDBCExecutionContext, DefaultObjects> defaultObjects = new IdentityHashMap<>();
+    private int idleCount;
+    private boolean closed;
+
+    private long createdCount;
+    private long reusedCount;
+    private long evictedCount;
+    private long validationFailureCount;
+
+    private final EvictionJob evictionJob = new EvictionJob();
+
+    JDBCIsolatedContextPool(@NotNull JDBCRemoteInstance instance) {
+        this.instance = instance;
+        DBPPreferenceStore preferenceStore = instance.getDataSource().getContainer().getPreferenceStore();
+        this.maxIdle = Math.max(preferenceStore.getInt(ModelPreferences.CONNECTION_ISOLATED_POOL_MAX_IDLE), 1);
+        this.minIdle = Math.min(Math.max(preferenceStore.getInt(ModelPreferences.CONNECTION_ISOLATED_POOL_MIN_IDLE), 0), maxIdle);
+        this.idleTimeout = Math.max(preferenceStore.getLong(ModelPreferences.CONNECTION_ISOLATED_POOL_IDLE_TIMEOUT), 1) * 1000;
+    }
+
+    public static boolean isPoolEnabled(@NotNull DBPDataSourceContainer container) {
+        return container.getPreferenceStore().getBoolean(ModelPreferences.CONNECTION_ISOLATED_POOL_ENABLED);
+    }
+
+    @NotNull
+    public synchronized Statistics getStatistics() {
+        return new Statistics(
+            idleCount,
+            activeContexts.size(),
+            createdCount,
+            reusedCount,
+            evictedCount,
+            validationFailureCount);
+    }
+
+    /**
+     * Takes idle context with the specified purpose from the pool.
+     * Context is validated and its state is re-initialized from {@code initFrom}
+     * (idle contexts already have the container defaults).
+     *
+     * @return pooled context or null if there are no idle contexts
+     */
+    @Nullable
+    JDBCExecutionContext acquire(@NotNull DBRProgressMonitor monitor, @NotNull String purpose, @Nullable JDBCExecutionContext initFrom) {
+        while (true) {
+            JDBCExecutionContext context;
+            synchronized (this) {
+                if (closed) {
+                    return null;
+                }
+                Deque<IdleContext> contexts = idleContexts.get(purpose);
+                IdleContext idleContext = contexts == null ? null : contexts.pollLast();
+                if (idleContext == null) {
+                    return null;
+                }
+                idleCount--;
+                context = idleContext.context();
+                activeContexts.add(context);
+            }
+            try {
+                context.checkContextAlive(monitor);
+            } catch (Exception e) {
+                log.debug("Pooled context '" + purpose + "' is not alive: " + e.getMessage());
+                synchronized (this) {
+                    validationFailureCount++;
+                    activeContexts.remove(context);
+                    defaultObjects.remove(context);
+                }
+                context.close();
+                continue;
+            }
+            if (initFrom != null) {
+                try {
+                    instance.getDataSource().initializeContextState(monitor, context, initFrom);
+                } catch (DBException e) {
+                    log.warn("Error while initializing pooled context state", e);
+                }
+            }
+            synchronized (this) {
+                reusedCount++;
+            }
+            return context;
+        }
+    }
+
+    /**
+     * Registers new context opened by the instance. Context will be returned to the pool on close.
+     * Context must be connected with the container defaults (without initFrom), they are restored on release.
+     */
+    void register(@NotNull JDBCExecutionContext context) {
+        DBCExecutionContextDefaults<?, ?> contextDefaults = context.getContextDefaults();
+        DefaultObjects defaults = contextDefaults == null ? null :
+            new DefaultObjects(contextDefaults.getDefaultCatalog(), contextDefaults.getDefaultSchema());
+        synchronized (this) {
+            createdCount++;
+            activeContexts.add(context);
+            if (defaults != null) {
+                defaultObjects.put(context, defaults);
+            }
+        }
+        context.setContextPool(this);
+    }
+
+    /**
+     * Returns context to the pool. Called on context close.
+     *
+     * @return false if context must be closed
+     */
+    boolean release(@NotNull JDBCExecutionContext context) {
+        DefaultObjects defaults;
+        synchronized (this) {
+            if (!activeContexts.remove(context)) {
+                return false;
+            }
+            defaults = defaultObjects.get(context);
+            if (closed || idleCount >= maxIdle) {
+                defaultObjects.remove(context);
+                return false;
+            }
+        }
+        if (!context.isConnected() || !resetContextState(context, defaults)) {
+            synchronized (this) {
+                defaultObjects.remove(context);
+            }
+            return false;
+        }
+        synchronized (this) {
+            if (closed || idleCount >= maxIdle) {
+                defaultObjects.remove(context);
+                return false;
+            }
+            idleContexts.computeIfAbsent(context.getContextName(), purpose -> new ArrayDeque<>())
+                .addLast(new IdleContext(context, System.currentTimeMillis()));
+            idleCount++;
+        }
+        evictionJob.schedule(Duration.ofMillis(idleTimeout));
+        return true;
+    }
+
+    /**
+     * Closes all idle contexts. Contexts which are still in use are closed normally once they are released.
+     */
+    void close() {
+        List<JDBCExecutionContext> toClose = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            for (Deque<IdleContext> contexts : idleContexts.values()) {
+                for (IdleContext idleContext : contexts) {
+                    toClose.add(idleContext.context());
+                }
+            }
+            idleContexts.clear();
+            idleCount = 0;
+            activeContexts.clear();
+            defaultObjects.clear();
+        }
+        evictionJob.cancel();
+        for (JDBCExecutionContext context : toClose) {
+            context.close();
+        }
+    }
+
+    /**
+     * Rollbacks pending transaction, restores default transaction settings, session state and default catalog/schema
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private boolean resetContextState(@NotNull JDBCExecutionContext context, @Nullable DefaultObjects defaults) {
+        DBPDataSourceContainer container = instance.getDataSource().getContainer();
+        VoidProgressMonitor monitor = new VoidProgressMonitor();
+        try {
+            Connection connection = context.getConnectionOrNull();
+            if (connection == null) {
+                return false;
+            }
+            if (!context.isAutoCommit()) {
+                connection.rollback();
+            }
+            boolean defaultAutoCommit = container.isDefaultAutoCommit();
+            if (context.isAutoCommit() != defaultAutoCommit) {
+                context.setAutoCommit(monitor, defaultAutoCommit);
+            }
+            Integer defaultIsolation = container.getDefaultTransactionsIsolation();
+            if (defaultIsolation != null && connection.getTransactionIsolation() != defaultIsolation) {
+                context.setTransactionIsolation(monitor, JDBCTransactionIsolation.getByCode(defaultIsolation));
+            }
+            // Re-apply session settings and bootstrap defaults as for a new context
+            instance.getDataSource().initializeContextState(monitor, context, null);
+            DBCExecutionContextDefaults contextDefaults = context.getContextDefaults();
+            if (defaults != null && contextDefaults != null) {
+                if (defaults.catalog() != null && contextDefaults.supportsCatalogChange() &&
+                    contextDefaults.getDefaultCatalog() != defaults.catalog())
+                {
+                    contextDefaults.setDefaultCatalog(monitor, defaults.catalog(), defaults.schema());
+                } else if (defaults.schema() != null && contextDefaults.supportsSchemaChange() &&
+                    contextDefaults.getDefaultSchema() != defaults.schema())
+                {
+                    contextDefaults.setDefaultSchema(monitor, defaults.schema());
+                }
+            }
+            return true;
+        } catch (Exception e) {
+            log.debug("Can't reset pooled context '" + context.getContextName() + "' state: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void evictIdleContexts() {
+        List<JDBCExecutionContext> toClose = new ArrayList<>();
+        boolean hasIdle;
+        synchronized (this) {
+            long evictTime = System.currentTimeMillis() - idleTimeout;
+            for (Deque<IdleContext> contexts : idleContexts.values()) {
+                // Oldest contexts are in the head of queue
+                while (idleCount > minIdle && !contexts.isEmpty() && contexts.peekFirst().releaseTime() <= evictTime) {
+                    JDBCExecutionContext context = contexts.pollFirst().context();
+                    defaultObjects.remove(context);
+                    toClose.add(context);
+                    idleCount--;
+                    evictedCount++;
+                }
+            }
+            idleContexts.values().removeIf(Collection::isEmpty);
+            hasIdle = !closed && idleCount > minIdle;
+        }
+        for (JDBCExecutionContext context : toClose) {
+            context.close();
+        }
+        if (hasIdle) {
+            evictionJob.schedule(Duration.ofMillis(idleTimeout));
+        }
+    }
+
+    private class EvictionJob extends AbstractJob {
+        EvictionJob() {
+            super("Close idle isolated contexts");
+            setUser(false);
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            evictIdleContexts();
+            return Status.OK_STATUS;
+        }
+    }
+}
@@ -53,6 +53,8 @@ public class JDBCRemoteInstance implements DBSInstance {
     @NotNull
     private final List<JDBCExecutionContext> allContexts = new ArrayList<>();
     private final DBPExclusiveResource exclusiveLock = new SimpleExclusiveLock();
+    @Nullable
+    private volatile JDBCIsolatedContextPool isolatedContextPool;
 
     protected JDBCRemoteInstance(@NotNull DBRProgressMonitor monitor, @NotNull JDBCDataSource dataSource, boolean initContext)
         throws DBException {
@@ -162,17 +164,57 @@ public class JDBCRemoteInstance implements DBSInstance {
         if (sharedInstance != null) {
             return sharedInstance.openIsolatedContext(monitor, purpose, initFrom);
         }
+        JDBCIsolatedContextPool pool = getIsolatedContextPool();
+        if (pool != null) {
+            JDBCExecutionContext pooledContext = pool.acquire(monitor, purpose, (JDBCExecutionContext) initFrom);
+            if (pooledContext != null) {
+                return pooledContext;
+            }
+        }
         JDBCExecutionContext context = dataSource.createExecutionContext(this, purpose);
+        // Pooled context is connected with the container defaults first, the pool restores them when context is released
+        JDBCExecutionContext connectFrom = pool == null ? (JDBCExecutionContext) initFrom : null;
         DBExecUtils.tryExecuteRecover(monitor, getDataSource(), monitor1 -> {
             try {
-                context.connect(monitor1, null, null, (JDBCExecutionContext) initFrom, true);
+                context.connect(monitor1, null, null, connectFrom, true);
             } catch (DBCException e) {
                 throw new InvocationTargetException(e);
             }
         });
+        if (pool != null) {
+            pool.register(context);
+            if (initFrom != null) {
+                try {
+                    dataSource.initializeContextState(monitor, context, (JDBCExecutionContext) initFrom);
+                } catch (DBException e) {
+                    log.warn("Error while initializing pooled context state", e);
+                }
+            }
+        }
         return context;
     }
 
+    /**
+     * Returns pool of isolated contexts or null if pooling is disabled for this connection
+     */
+    @Nullable
+    public JDBCIsolatedContextPool getIsolatedContextPool() {
+        if (sharedInstance != null) {
+            return sharedInstance.getIsolatedContextPool();
+        }
+        JDBCIsolatedContextPool pool = this.isolatedContextPool;
+        if (pool == null && JDBCIsolatedContextPool.isPoolEnabled(dataSource.getContainer())) {
+            synchronized (this) {
+                pool = this.isolatedContextPool;
+                if (pool == null) {
+                    pool = new JDBCIsolatedContextPool(this);
+                    this.isolatedContextPool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
     @NotNull
     @Override
     public JDBCExecutionContext[] getAllContexts() {
@@ -231,6 +273,15 @@ public class JDBCRemoteInstance implements DBSInstance {
     public void shutdown(DBRProgressMonitor monitor, boolean keepMeta) {
         // [JDBC] Need sync here because real connection close could take some time
         // while UI may invoke callbacks to operate with connection
+        JDBCIsolatedContextPool pool;
+        synchronized (this) {
+            pool = this.isolatedContextPool;
+            this.isolatedContextPool = null;
+        }
+        if (pool != null) {
+            // Close idle contexts, all others are closed below
+            pool.close();
+        }
         List<JDBCExecutionContext> ctxCopy;
         synchronized (allContexts) {
             ctxCopy = new ArrayList<>(allContexts);
@@ -42,6 +42,7 @@ import java.sql.*;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -704,15 +705,30 @@ public class JDBCUtils {
                                           @NotNull String columnAlias,
                                           @NotNull boolean firstClause,
                                           DBPDataSource dataSource) {
+        appendFilterClause(sql, filter, columnAlias, firstClause, dataSource, false);
+    }
+
+    /**
+     * Appends filter clause.
+     * If {@code matchFilterCase} is set then plain names and case-insensitive masks are compared in upper case,
+     * exactly like {@link DBSObjectFilter#matches} does.
+     * Parameters must be set by {@link #setFilterParameters} with the same {@code matchFilterCase}.
+     */
+    public static void appendFilterClause(@NotNull StringBuilder sql,
+                                          @NotNull DBSObjectFilter filter,
+                                          @Nullable String columnAlias,
+                                          boolean firstClause,
+                                          @Nullable DBPDataSource dataSource,
+                                          boolean matchFilterCase) {
         if (filter.isNotApplicable()) {
             return;
         }
+        SQLDialect dialect = dataSource != null ? dataSource.getSQLDialect() : null;
         if (filter.hasSingleMask()) {
             if (columnAlias != null) {
                 firstClause = SQLUtils.appendFirstClause(sql, firstClause);
-                sql.append(columnAlias);
             }
-            SQLUtils.appendLikeCondition(sql, filter.getSingleMask(), false, dataSource != null ? dataSource.getSQLDialect() : null);
+            appendFilterMask(sql, filter, filter.getSingleMask(), columnAlias, dialect, matchFilterCase);
             return;
         }
         List<String> include = filter.getInclude();
@@ -724,10 +740,7 @@ public class JDBCUtils {
             for (int i = 0, includeSize = include.size(); i < includeSize; i++) {
                 if (i > 0)
                     sql.append(" OR ");
-                if (columnAlias != null) {
-                    sql.append(columnAlias);
-                }
-                SQLUtils.appendLikeCondition(sql, include.get(i), false, dataSource != null ? dataSource.getSQLDialect() : null);
+                appendFilterMask(sql, filter, include.get(i), columnAlias, dialect, matchFilterCase);
             }
             sql.append(")");
         }
@@ -740,27 +753,63 @@ public class JDBCUtils {
             for (int i = 0, excludeSize = exclude.size(); i < excludeSize; i++) {
                 if (i > 0)
                     sql.append(" OR ");
-                if (columnAlias != null) {
-                    sql.append(columnAlias);
-                }
-
-                SQLUtils.appendLikeCondition(sql, exclude.get(i), false, dataSource != null ? dataSource.getSQLDialect() : null);
+                appendFilterMask(sql, filter, exclude.get(i), columnAlias, dialect, matchFilterCase);
             }
             sql.append(")");
         }
     }
 
-    public static void setFilterParameters(PreparedStatement statement, int paramIndex, DBSObjectFilter filter)
+    public static int setFilterParameters(PreparedStatement statement, int paramIndex, DBSObjectFilter filter)
+        throws SQLException {
+        return setFilterParameters(statement, paramIndex, filter, false);
+    }
+
+    /**
+     * Sets parameters of clause appended by {@link #appendFilterClause}.
+     *
+     * @return next parameter index
+     */
+    public static int setFilterParameters(@NotNull PreparedStatement statement, int paramIndex, @NotNull DBSObjectFilter filter, boolean matchFilterCase)
         throws SQLException {
         if (filter.isNotApplicable()) {
-            return;
+            return paramIndex;
         }
         for (String inc : CommonUtils.safeCollection(filter.getInclude())) {
-            statement.setString(paramIndex++, SQLUtils.makeSQLLike(inc));
+            statement.setString(paramIndex++, makeFilterMaskValue(filter, inc, matchFilterCase));
         }
         for (String exc : CommonUtils.safeCollection(filter.getExclude())) {
-            statement.setString(paramIndex++, SQLUtils.makeSQLLike(exc));
+            statement.setString(paramIndex++, makeFilterMaskValue(filter, exc, matchFilterCase));
+        }
+        return paramIndex;
+    }
+
+    private static void appendFilterMask(
+        @NotNull StringBuilder sql,
+        @NotNull DBSObjectFilter filter,
+        @NotNull String mask,
+        @Nullable String columnAlias,
+        @Nullable SQLDialect dialect,
+        boolean matchFilterCase
+    ) {
+        if (columnAlias != null) {
+            if (matchFilterCase && isUpperCaseFilterMask(filter, mask)) {
+                sql.append("UPPER(").append(columnAlias).append(")");
+            } else {
+                sql.append(columnAlias);
+            }
         }
+        SQLUtils.appendLikeCondition(sql, mask, false, dialect);
+    }
+
+    @NotNull
+    private static String makeFilterMaskValue(@NotNull DBSObjectFilter filter, @NotNull String mask, boolean matchFilterCase) {
+        String value = SQLUtils.makeSQLLike(mask);
+        return matchFilterCase && isUpperCaseFilterMask(filter, mask) ? value.toUpperCase(Locale.ENGLISH) : value;
+    }
+
+    private static boolean isUpperCaseFilterMask(@NotNull DBSObjectFilter filter, @NotNull String mask) {
+        // Plain names are always compared ignoring case
+        return !filter.isCaseSensitive() || !SQLUtils.isLikePattern(mask);
     }
 
     public static void rethrowSQLException(Throwable e) throws SQLException {
@@ -21,6 +21,7 @@ import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBDatabaseException;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
 import org.jkiss.dbeaver.model.DBPDataSource;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
@@ -29,6 +30,7 @@ import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
 import org.jkiss.dbeaver.model.messages.ModelMessages;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.dbeaver.model.struct.DBSObjectFilter;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
 
 import java.sql.SQLException;
@@ -45,6 +47,8 @@ public abstract class JDBCObjectLookupCache<OWNER extends DBSObject, OBJECT exte
     private static final Log log = Log.getLog(JDBCObjectLookupCache.class);
 
     private final Set<String> missingNames = new HashSet<>();
+    // Objects list was filtered by the database, so it doesn't contain all objects
+    private boolean partialList;
 
     protected JDBCObjectLookupCache() {
     }
@@ -57,7 +61,7 @@ public abstract class JDBCObjectLookupCache<OWNER extends DBSObject, OBJECT exte
         if (cachedObject != null) {
             return cachedObject;
         }
-        if (isFullyCached() || missingNames.contains(name) || monitor == null) {
+        if ((isFullyCached() && !partialList) || missingNames.contains(name) || monitor == null) {
             return null;
         }
         // Now cache just one object
@@ -145,6 +149,34 @@ public abstract class JDBCObjectLookupCache<OWNER extends DBSObject, OBJECT exte
     public void clearCache() {
         super.clearCache();
         this.missingNames.clear();
+        this.partialList = false;
+    }
+
+    /**
+     * Returns navigator filter of the specified object type if it can be evaluated by the database
+     * in the objects list query. Loaded list becomes partial then: objects excluded by the filter
+     * are still looked up by name.
+     */
+    @Nullable
+    protected DBSObjectFilter getPushdownFilter(@NotNull OWNER owner, @NotNull Class<?> type) {
+        DBPDataSource dataSource = owner.getDataSource();
+        if (dataSource == null ||
+            !dataSource.getContainer().getPreferenceStore().getBoolean(ModelPreferences.META_USE_SERVER_SIDE_FILTERS)) {
+            return null;
+        }
+        DBSObjectFilter filter = dataSource.getContainer().getObjectFilter(type, owner, false);
+        if (filter == null || !filter.isPushdownSupported()) {
+            return null;
+        }
+        markPartialList();
+        return filter;
+    }
+
+    /**
+     * Marks objects list as filtered by the database
+     */
+    protected void markPartialList() {
+        this.partialList = true;
     }
 
 }
@@ -20,6 +20,7 @@ import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBDatabaseException;
 import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.ModelPreferences;
 import org.jkiss.dbeaver.model.DBPDataSource;
 import org.jkiss.dbeaver.model.DBPNamedObject2;
 import org.jkiss.dbeaver.model.DBUtils;
@@ -29,6 +30,7 @@ import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
 import org.jkiss.dbeaver.model.messages.ModelMessages;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.dbeaver.model.struct.DBSObjectFilter;
 
 import java.sql.SQLException;
 import java.util.HashSet;
@@ -43,6 +45,8 @@ public abstract class JDBCStructLookupCache<OWNER extends DBSObject, OBJECT exte
     implements JDBCObjectLookup<OWNER, OBJECT>
 {
     private final Set<String> missingNames = new HashSet<>();
+    // Objects list was filtered by the database, so it doesn't contain all objects
+    private boolean partialList;
 
     public JDBCStructLookupCache(Object objectNameColumn) {
         super(objectNameColumn);
@@ -56,7 +60,7 @@ public abstract class JDBCStructLookupCache<OWNER extends DBSObject, OBJECT exte
         if (cachedObject != null || monitor.isForceCacheUsage()) {
             return cachedObject;
         }
-        if (isFullyCached() || owner.getDataSource() == null || !owner.getDataSource().getContainer().isConnected() || missingNames.contains(name)) {
+        if ((isFullyCached() && !partialList) || owner.getDataSource() == null || !owner.getDataSource().getContainer().isConnected() || missingNames.contains(name)) {
             return null;
         }
         // Now cache just one object
@@ -165,6 +169,34 @@ public abstract class JDBCStructLookupCache<OWNER extends DBSObject, OBJECT exte
     public void clearCache() {
         super.clearCache();
         this.missingNames.clear();
+        this.partialList = false;
+    }
+
+    /**
+     * Returns navigator filter of the specified object type if it can be evaluated by the database
+     * in the objects list query. Loaded list becomes partial then: objects excluded by the filter
+     * are still looked up by name.
+     */
+    @Nullable
+    protected DBSObjectFilter getPushdownFilter(@NotNull OWNER owner, @NotNull Class<?> type) {
+        DBPDataSource dataSource = owner.getDataSource();
+        if (dataSource == null ||
+            !dataSource.getContainer().getPreferenceStore().getBoolean(ModelPreferences.META_USE_SERVER_SIDE_FILTERS)) {
+            return null;
+        }
+        DBSObjectFilter filter = dataSource.getContainer().getObjectFilter(type, owner, false);
+        if (filter == null || !filter.isPushdownSupported()) {
+            return null;
+        }
+        markPartialList();
+        return filter;
+    }
+
+    /**
+     * Marks objects list as filtered by the database
+     */
+    protected void markPartialList() {
+        this.partialList = true;
     }
 
 }
@@ -145,6 +145,13 @@ public class JDBCDateTimeValueHandler extends DateTimeCustomValueHandler {
         return false;
     }
 
+    /**
+     * Values are read as strings in the database native format
+     */
+    public boolean isUseNativeDateTimeFormat() {
+        return formatSettings.isUseNativeDateTimeFormat();
+    }
+
     @Override
     public void bindValueObject(@NotNull DBCSession session, @NotNull DBCStatement statement, @NotNull DBSTypedObject type, int index, @Nullable Object value) throws DBCException {
         try {
@@ -202,6 +209,20 @@ public class JDBCDateTimeValueHandler extends DateTimeCustomValueHandler {
         return super.getValueDisplayString(column, value, format);
     }
 
+    @Override
+    public void appendValueDisplayString(
+        @NotNull DBSTypedObject column,
+        @Nullable Object value,
+        @NotNull DBDDisplayFormat format,
+        @NotNull StringBuilder buffer
+    ) {
+        if (format == DBDDisplayFormat.NATIVE) {
+            buffer.append(getValueDisplayString(column, value, format));
+        } else {
+            super.appendValueDisplayString(column, value, format, buffer);
+        }
+    }
+
     @Nullable
     protected Format getNativeValueFormat(DBSTypedObject type) {
         return switch (type.getTypeID()) {
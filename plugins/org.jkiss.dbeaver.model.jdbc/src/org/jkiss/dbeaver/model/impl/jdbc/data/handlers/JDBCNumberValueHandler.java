@@ -61,12 +61,9 @@ public class JDBCNumberValueHandler extends JDBCAbstractValueHandler implements
         this.useScientificNotation = -1;
     }
 
-    /**
-     * NumberFormat is not thread safe thus this method is synchronized.
-     */
     @NotNull
     @Override
-    public synchronized String getValueDisplayString(@NotNull DBSTypedObject column, @Nullable Object value, @NotNull DBDDisplayFormat format) {
+    public String getValueDisplayString(@NotNull DBSTypedObject column, @Nullable Object value, @NotNull DBDDisplayFormat format) {
         if (value == null) {
             return DBValueFormatting.getDefaultValueDisplayString(null, format);
         }
@@ -85,16 +82,33 @@ public class JDBCNumberValueHandler extends JDBCAbstractValueHandler implements
         return getFormatter(column).formatValue(value);
     }
 
+    @Override
+    public void appendValueDisplayString(
+        @NotNull DBSTypedObject column,
+        @Nullable Object value,
+        @NotNull DBDDisplayFormat format,
+        @NotNull StringBuilder buffer
+    ) {
+        if (value instanceof Number && format != DBDDisplayFormat.NATIVE && format != DBDDisplayFormat.EDIT) {
+            getFormatter(column).formatValue(value, buffer);
+        } else {
+            buffer.append(getValueDisplayString(column, value, format));
+        }
+    }
+
     private DBDDataFormatter getFormatter(@NotNull DBSTypedObject column) {
-        if (formatter == null) {
+        // Formatters are thread-safe, handler may be used by several threads at once
+        DBDDataFormatter result = formatter;
+        if (result == null) {
             try {
-                formatter = formatSettings.getDataFormatterProfile().createFormatter(DBDDataFormatter.TYPE_NAME_NUMBER, column);
+                result = formatSettings.getDataFormatterProfile().createFormatter(DBDDataFormatter.TYPE_NAME_NUMBER, column);
             } catch (Exception e) {
                 log.error("Can't create formatter for number value handler", e); //$NON-NLS-1$
-                formatter = DefaultDataFormatter.INSTANCE;
+                result = DefaultDataFormatter.INSTANCE;
             }
+            formatter = result;
         }
-        return formatter;
+        return result;
     }
 
     @Nullable
@@ -264,6 +264,19 @@ public class JDBCConnectionImpl extends AbstractSession implements JDBCSession,
     public JDBCPreparedStatement prepareStatement(String sql)
         throws SQLException
     {
+        if (getPurpose() == DBCExecutionPurpose.META && sql != null) {
+            // Metadata queries are the same all the time, reuse statements prepared by previous sessions
+            JDBCStatementCache statementCache = context.getMetaStatementCache();
+            if (statementCache != null) {
+                PreparedStatement original = statementCache.acquire(sql);
+                if (original == null) {
+                    original = getOriginal().prepareStatement(sql);
+                }
+                JDBCPreparedStatement statement = context.getDataSource().getJdbcFactory().createCachedPreparedStatement(
+                    this, original, sql, !isLoggingEnabled(), statementCache);
+                return statement != null ? statement : createPreparedStatementImpl(original, sql);
+            }
+        }
         return createPreparedStatementImpl(getOriginal().prepareStatement(sql), sql);
     }
 
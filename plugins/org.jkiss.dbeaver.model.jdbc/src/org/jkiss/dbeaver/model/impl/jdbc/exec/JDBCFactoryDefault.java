@@ -24,7 +24,8 @@ import java.sql.*;
 
 
 /**
- * Default JDBC factory
+ * Default JDBC factory.
+ * Factories which create their own prepared statements should override {@link #createCachedPreparedStatement} as well.
  */
 public class JDBCFactoryDefault implements JDBCFactory {
 
@@ -43,6 +44,11 @@ public class JDBCFactoryDefault implements JDBCFactory {
         return new JDBCPreparedStatementImpl(session, original, sql, disableLogging);
     }
 
+    @Override
+    public JDBCPreparedStatement createCachedPreparedStatement(@NotNull JDBCSession session, @NotNull PreparedStatement original, @NotNull String sql, boolean disableLogging, @NotNull JDBCStatementCache cache) throws SQLException {
+        return new JDBCPreparedStatementCachedImpl(session, original, sql, disableLogging, cache);
+    }
+
     @Override
     public JDBCCallableStatement createCallableStatement(@NotNull JDBCSession session, @NotNull CallableStatement original, @Nullable String sql, boolean disableLogging) throws SQLException {
         return new JDBCCallableStatementImpl(session, original, sql, disableLogging);
@@ -16,20 +16,185 @@
  */
 package org.jkiss.dbeaver.model.impl.jdbc.exec;
 
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Prepared statement which original statement is returned to the statement cache on close.
+ * Statement settings changed by the caller are reset to the initial values before the statement is returned.
+ * Statements which settings can't be reset and statements which execution failed are closed instead.
+ */
 public class JDBCPreparedStatementCachedImpl extends JDBCPreparedStatementImpl {
 
-	public JDBCPreparedStatementCachedImpl(JDBCPreparedStatementImpl statment){
-		super(statment.getSession(), statment.original, statment.query, statment.disableLogging);
-	}
-
-	@Override
-	public void close() {
-		// For cached statement close() do nothing
-	}
-	
-	public void drop(){
-		super.close();
-	}
-	
+    private static final Log log = Log.getLog(JDBCPreparedStatementCachedImpl.class);
+
+    @NotNull
+    private final JDBCStatementCache cache;
+    // Statement can't be reused
+    private boolean evicted;
+    // Initial values of changed settings
+    @Nullable
+    private Integer initialMaxRows;
+    @Nullable
+    private Integer initialMaxFieldSize;
+    @Nullable
+    private Integer initialQueryTimeout;
+    @Nullable
+    private Integer initialFetchDirection;
+    @Nullable
+    private Integer initialFetchSize;
+
+    public JDBCPreparedStatementCachedImpl(
+        @NotNull JDBCSession session,
+        @NotNull PreparedStatement original,
+        @NotNull String query,
+        boolean disableLogging,
+        @NotNull JDBCStatementCache cache)
+    {
+        super(session, original, query, disableLogging);
+        this.cache = cache;
+    }
+
+    @Override
+    protected void closeOriginal() {
+        if (evicted || query == null || !resetSettings()) {
+            super.closeOriginal();
+        } else {
+            cache.release(query, original);
+        }
+    }
+
+    @Override
+    protected SQLException handleExecuteError(Throwable ex) {
+        // Statement state is unknown after the error
+        evicted = true;
+        return super.handleExecuteError(ex);
+    }
+
+    /**
+     * Closes statement without returning it to the cache
+     */
+    public void drop() {
+        evicted = true;
+        close();
+    }
+
+    @Override
+    public void setMaxRows(int max) throws SQLException {
+        if (initialMaxRows == null) {
+            initialMaxRows = original.getMaxRows();
+        }
+        super.setMaxRows(max);
+    }
+
+    @Override
+    public void setMaxFieldSize(int max) throws SQLException {
+        if (initialMaxFieldSize == null) {
+            initialMaxFieldSize = original.getMaxFieldSize();
+        }
+        super.setMaxFieldSize(max);
+    }
+
+    @Override
+    public void setQueryTimeout(int seconds) throws SQLException {
+        if (initialQueryTimeout == null) {
+            initialQueryTimeout = original.getQueryTimeout();
+        }
+        super.setQueryTimeout(seconds);
+    }
+
+    @Override
+    public void setStatementTimeout(int timeout) throws DBCException {
+        try {
+            setQueryTimeout(timeout);
+        } catch (SQLException e) {
+            throw new DBCException(e, connection.getExecutionContext());
+        }
+    }
+
+    @Override
+    public void setFetchDirection(int direction) throws SQLException {
+        if (initialFetchDirection == null) {
+            initialFetchDirection = original.getFetchDirection();
+        }
+        super.setFetchDirection(direction);
+    }
+
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        if (initialFetchSize == null) {
+            initialFetchSize = original.getFetchSize();
+        }
+        super.setFetchSize(rows);
+    }
+
+    @Override
+    public void setResultsFetchSize(int fetchSize) throws DBCException {
+        try {
+            setFetchSize(fetchSize);
+        } catch (SQLException e) {
+            throw new DBCException(e, connection.getExecutionContext());
+        }
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean enable) throws SQLException {
+        // There is no way to read the initial value
+        evicted = true;
+        super.setEscapeProcessing(enable);
+    }
+
+    @Override
+    public void setCursorName(String name) throws SQLException {
+        evicted = true;
+        super.setCursorName(name);
+    }
+
+    @Override
+    public void setPoolable(boolean poolable) throws SQLException {
+        evicted = true;
+        super.setPoolable(poolable);
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        evicted = true;
+        super.closeOnCompletion();
+    }
+
+    /**
+     * Restores initial values of changed settings
+     *
+     * @return false if settings can't be restored and statement must be closed
+     */
+    private boolean resetSettings() {
+        try {
+            if (initialMaxRows != null) {
+                original.setMaxRows(initialMaxRows);
+            }
+            if (initialMaxFieldSize != null) {
+                original.setMaxFieldSize(initialMaxFieldSize);
+            }
+            if (initialQueryTimeout != null) {
+                original.setQueryTimeout(initialQueryTimeout);
+            }
+            if (initialFetchDirection != null) {
+                original.setFetchDirection(initialFetchDirection);
+            }
+            if (initialFetchSize != null) {
+                original.setFetchSize(initialFetchSize);
+            }
+            original.clearWarnings();
+            return true;
+        } catch (Throwable e) {
+            log.debug("Can't reset cached statement settings: " + e.getMessage());
+            return false;
+        }
+    }
 }
@@ -83,7 +83,11 @@ public class JDBCResultSetCallable extends LocalResultSet<JDBCCallableStatement>
 
     @Override
     public boolean next() throws SQLException {
-        return nextRow();
+        try {
+            return nextRow();
+        } catch (DBCException e) {
+            throw new SQLException(e.getMessage(), e);
+        }
     }
 
     @Override
@@ -19,7 +19,9 @@ package org.jkiss.dbeaver.model.impl.jdbc.exec;
 import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
 import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCRowReader;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSetMetaData;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
@@ -28,6 +30,7 @@ import org.jkiss.dbeaver.model.impl.AbstractResultSet;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCTrace;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCUtils;
 import org.jkiss.dbeaver.model.qm.QMUtils;
+import org.jkiss.dbeaver.model.struct.DBSAttributeBase;
 
 import java.io.InputStream;
 import java.io.Reader;
@@ -36,6 +39,7 @@ import java.net.URL;
 import java.sql.*;
 import java.util.Calendar;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Managable result set
@@ -172,6 +176,15 @@ public class JDBCResultSetImpl extends AbstractResultSet<JDBCSession, JDBCStatem
         }
     }
 
+    @NotNull
+    @Override
+    public DBCRowReader createRowReader(
+        @NotNull DBDAttributeBinding[] bindings,
+        @NotNull Function<DBDAttributeBinding, DBSAttributeBase> attributeResolver
+    ) {
+        return new JDBCRowReader(this, bindings, attributeResolver);
+    }
+
     private void checkNotEmpty()
     {
         if (original == null) {
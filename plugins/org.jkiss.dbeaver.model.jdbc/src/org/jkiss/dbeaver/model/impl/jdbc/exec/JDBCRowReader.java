@@ -0,0 +1,158 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.exec;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDValueHandler;
+import org.jkiss.dbeaver.model.exec.DBCDefaultRowReader;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.impl.jdbc.data.handlers.JDBCBooleanValueHandler;
+import org.jkiss.dbeaver.model.impl.jdbc.data.handlers.JDBCDateTimeValueHandler;
+import org.jkiss.dbeaver.model.impl.jdbc.data.handlers.JDBCNumberValueHandler;
+import org.jkiss.dbeaver.model.impl.jdbc.data.handlers.JDBCStringValueHandler;
+import org.jkiss.dbeaver.model.struct.DBSAttributeBase;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.function.Function;
+
+/**
+ * JDBC row reader.
+ * <p>
+ * Column reader is resolved once for each attribute with standard value handler. Column readers read values
+ * directly from the driver result set, exactly as the value handler does it, but without handler dispatch
+ * and column type checks for each value.
+ * Column reader which fails or gets a value it can't handle is replaced with the value handler for the rest of rows.
+ */
+public class JDBCRowReader extends DBCDefaultRowReader {
+
+    private static final Log log = Log.getLog(JDBCRowReader.class);
+
+    // Returned by column reader if value must be read by the value handler
+    private static final Object HANDLER_VALUE = new Object();
+
+    private interface ColumnReader {
+        @Nullable
+        Object readValue(@NotNull ResultSet resultSet, int columnIndex) throws SQLException;
+    }
+
+    private static final ColumnReader LONG_READER = (resultSet, columnIndex) -> {
+        long value = resultSet.getLong(columnIndex);
+        return resultSet.wasNull() ? null : value;
+    };
+    private static final ColumnReader INT_READER = (resultSet, columnIndex) -> {
+        int value = resultSet.getInt(columnIndex);
+        return resultSet.wasNull() ? null : value;
+    };
+    private static final ColumnReader SHORT_READER = (resultSet, columnIndex) -> {
+        short value = resultSet.getShort(columnIndex);
+        return resultSet.wasNull() ? null : value;
+    };
+    private static final ColumnReader BOOLEAN_READER = (resultSet, columnIndex) -> {
+        boolean value = resultSet.getBoolean(columnIndex);
+        return resultSet.wasNull() ? null : value;
+    };
+    private static final ColumnReader OBJECT_READER = ResultSet::getObject;
+    // BIGINT, DECIMAL, floating point. Handler keeps numbers as they are and converts anything else
+    private static final ColumnReader NUMBER_READER = (resultSet, columnIndex) -> {
+        Object value = resultSet.getObject(columnIndex);
+        if (value != null && !(value instanceof Number)) {
+            return HANDLER_VALUE;
+        }
+        return resultSet.wasNull() ? null : value;
+    };
+    // Handler keeps timestamps as they are and converts anything else (local date/time, strings)
+    private static final ColumnReader TIMESTAMP_READER = (resultSet, columnIndex) -> {
+        Object value = resultSet.getObject(columnIndex);
+        return value == null || value instanceof Timestamp ? value : HANDLER_VALUE;
+    };
+
+    @NotNull
+    private final ResultSet original;
+    @NotNull
+    private final ColumnReader[] columnReaders;
+    // JDBC uses 1-based indexes
+    private final int[] columnIndexes;
+
+    public JDBCRowReader(
+        @NotNull JDBCResultSetImpl resultSet,
+        @NotNull DBDAttributeBinding[] bindings,
+        @NotNull Function<DBDAttributeBinding, DBSAttributeBase> attributeResolver
+    ) {
+        super(resultSet, bindings, attributeResolver);
+        this.original = resultSet.getOriginal();
+        this.columnReaders = new ColumnReader[bindings.length];
+        this.columnIndexes = new int[bindings.length];
+        for (int i = 0; i < bindings.length; i++) {
+            columnIndexes[i] = bindings[i].getOrdinalPosition() + 1;
+            if (attributes[i] != null) {
+                columnReaders[i] = getColumnReader(bindings[i].getValueHandler(), attributes[i]);
+            }
+        }
+    }
+
+    @Nullable
+    @Override
+    public Object readValue(int index) throws DBCException {
+        ColumnReader columnReader = columnReaders[index];
+        if (columnReader != null) {
+            try {
+                Object value = columnReader.readValue(original, columnIndexes[index]);
+                if (value != HANDLER_VALUE) {
+                    return value;
+                }
+            } catch (SQLException | ClassCastException | NumberFormatException e) {
+                log.debug("Can't read column '" + bindings[index].getName() + "' directly, use value handler: " + e.getMessage());
+            }
+            columnReaders[index] = null;
+        }
+        return super.readValue(index);
+    }
+
+    /**
+     * Returns reader for handlers which read values with a single result set call.
+     * Handler subclasses may override value fetch, so only exact handler classes are replaced.
+     */
+    @Nullable
+    private static ColumnReader getColumnReader(@NotNull DBDValueHandler valueHandler, @NotNull DBSAttributeBase attribute) {
+        Class<?> handlerClass = valueHandler.getClass();
+        if (handlerClass == JDBCNumberValueHandler.class) {
+            return switch (attribute.getTypeID()) {
+                case Types.INTEGER -> LONG_READER;
+                case Types.SMALLINT -> INT_READER;
+                case Types.TINYINT -> SHORT_READER;
+                case Types.BIGINT, Types.DECIMAL, Types.NUMERIC, Types.DOUBLE, Types.REAL, Types.FLOAT -> NUMBER_READER;
+                default -> null;
+            };
+        } else if (handlerClass == JDBCStringValueHandler.class) {
+            return OBJECT_READER;
+        } else if (handlerClass == JDBCBooleanValueHandler.class) {
+            return BOOLEAN_READER;
+        } else if (handlerClass == JDBCDateTimeValueHandler.class) {
+            if (attribute.getTypeID() == Types.TIMESTAMP && !((JDBCDateTimeValueHandler) valueHandler).isUseNativeDateTimeFormat()) {
+                return TIMESTAMP_READER;
+            }
+        }
+        return null;
+    }
+
+}
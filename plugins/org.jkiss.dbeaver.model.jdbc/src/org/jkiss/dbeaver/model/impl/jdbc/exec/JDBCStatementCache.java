@@ -0,0 +1,137 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.exec;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded cache of prepared statements of a single physical connection, keyed by SQL text.
+ * <p>
+ * Statement is removed from the cache while it is in use, so the same statement is never shared by two callers.
+ * Least recently used statements are closed when the cache is full.
+ * Cache must be invalidated when connection is closed.
+ */
+public class JDBCStatementCache {
+
+    private static final Log log = Log.getLog(JDBCStatementCache.class);
+
+    /**
+     * Cache statistics
+     *
+     * @param size           number of statements in cache
+     * @param hitCount       number of statements taken from cache
+     * @param missCount      number of statements which were not found in cache
+     * @param evictionCount  number of statements closed because cache was full
+     */
+    public record Statistics(int size, long hitCount, long missCount, long evictionCount) {
+    }
+
+    private final int maxSize;
+    private final Map<String, PreparedStatement> statements;
+    private boolean invalidated;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public JDBCStatementCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Takes statement for the specified SQL from the cache.
+     *
+     * @return cached statement or null if there is no such statement. New statement must be prepared by the caller.
+     */
+    @Nullable
+    public synchronized PreparedStatement acquire(@NotNull String sql) {
+        PreparedStatement statement = invalidated ? null : statements.remove(sql);
+        if (statement != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return statement;
+    }
+
+    /**
+     * Returns statement to the cache. Statement is closed if it can't be reused.
+     */
+    public void release(@NotNull String sql, @NotNull PreparedStatement statement) {
+        PreparedStatement evicted = null;
+        boolean cached = false;
+        try {
+            statement.clearParameters();
+            synchronized (this) {
+                if (!invalidated && !statements.containsKey(sql)) {
+                    statements.put(sql, statement);
+                    cached = true;
+                    if (statements.size() > maxSize) {
+                        Map.Entry<String, PreparedStatement> eldest = statements.entrySet().iterator().next();
+                        evicted = eldest.getValue();
+                        statements.remove(eldest.getKey());
+                        evictionCount++;
+                    }
+                }
+            }
+        } catch (Throwable e) {
+            log.debug("Can't reset cached statement: " + e.getMessage());
+        }
+        if (!cached) {
+            closeStatement(statement);
+        }
+        if (evicted != null) {
+            closeStatement(evicted);
+        }
+    }
+
+    /**
+     * Closes all cached statements. Statements which are currently in use will be closed on release.
+     */
+    public void invalidate() {
+        List<PreparedStatement> toClose;
+        synchronized (this) {
+            invalidated = true;
+            toClose = new ArrayList<>(statements.values());
+            statements.clear();
+        }
+        for (PreparedStatement statement : toClose) {
+            closeStatement(statement);
+        }
+    }
+
+    @NotNull
+    public synchronized Statistics getStatistics() {
+        return new Statistics(statements.size(), hitCount, missCount, evictionCount);
+    }
+
+    private static void closeStatement(@NotNull PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (Throwable e) {
+            log.debug("Can't close cached statement: " + e.getMessage());
+        }
+    }
+}
@@ -20,8 +20,10 @@ import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
 import org.jkiss.dbeaver.model.*;
 import org.jkiss.dbeaver.model.data.*;
+import org.jkiss.dbeaver.model.edit.DBEPersistAction;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
@@ -61,6 +63,8 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
     private static final Log log = Log.getLog(JDBCTable.class);
 
     private static final String DEFAULT_TABLE_ALIAS = "x";
+    // Number of key values in a single DELETE ... IN (...) statement
+    private static final int MULTI_DELETE_CHUNK_SIZE = 500;
 
     private boolean persisted;
 
@@ -170,12 +174,37 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
             query.append(" ").append(tableAlias); //$NON-NLS-1$
         }
         appendExtraSelectParameters(query);
+
+        // Keyset pagination: read next page after the last read key instead of skipping previous rows.
+        // Rows must be ordered by the same key on all pages.
+        List<? extends DBSEntityAttribute> keysetAttributes = hasLimits ? getKeysetAttributes(monitor, dataFilter) : null;
+        String keysetCondition = keysetAttributes != null && firstRow > 0 ?
+            makeKeysetCondition(dataSource, tableAlias, keysetAttributes, dataFilter) : null;
+        DBDDataFilter conditionFilter = dataFilter;
+        if (keysetCondition != null) {
+            // Keyset condition is added to the filter criteria, so query generator of the dialect builds the whole condition
+            conditionFilter = new DBDDataFilter(dataFilter);
+            String where = conditionFilter.getWhere();
+            conditionFilter.setWhere(CommonUtils.isEmpty(where) ? keysetCondition : "(" + where + ") AND " + keysetCondition); //$NON-NLS-1$ //$NON-NLS-2$
+        }
         try {
-            SQLUtils.appendQueryConditions(dataSource, query, tableAlias, dataFilter);
+            SQLUtils.appendQueryConditions(dataSource, query, tableAlias, conditionFilter);
         } catch (DBException e) {
             throw new DBCException("Can't generate query conditions", e, session.getExecutionContext());
         }
-        SQLUtils.appendQueryOrder(dataSource, query, tableAlias, dataFilter);
+        if (keysetAttributes != null && (dataFilter == null || !dataFilter.hasOrdering())) {
+            query.append("\nORDER BY "); //$NON-NLS-1$
+            for (int i = 0; i < keysetAttributes.size(); i++) {
+                if (i > 0) {
+                    query.append(", "); //$NON-NLS-1$
+                }
+                query.append(getKeysetAttributeName(dataSource, tableAlias, keysetAttributes.get(i)));
+            }
+        } else {
+            SQLUtils.appendQueryOrder(dataSource, query, tableAlias, dataFilter);
+        }
+        // Previous rows are already filtered out by the keyset condition
+        long queryFirstRow = keysetCondition != null ? 0 : firstRow;
 
         String sqlQuery = query.toString();
         statistics.setQueryText(sqlQuery);
@@ -187,14 +216,14 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
             session,
             DBCStatementType.SCRIPT,
             sqlQuery,
-            firstRow,
+            queryFirstRow,
             maxRows))
         {
             if (monitor.isCanceled()) {
                 return statistics;
             }
             if (dbStat instanceof JDBCStatement && (fetchSize > 0 || maxRows > 0)) {
-                DBExecUtils.setStatementFetchSize(dbStat, firstRow, maxRows, fetchSize);
+                DBExecUtils.setStatementFetchSize(dbStat, queryFirstRow, maxRows, fetchSize);
             }
 
             long startTime = System.currentTimeMillis();
@@ -238,6 +267,134 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
         }
     }
 
+    /**
+     * Returns unique key attributes used for keyset pagination or null if keyset pagination can't be used.
+     * Key must consist of mandatory numeric or string attributes and data ordering (if any) must match the key.
+     * Key values are inlined in the query text, so other types (e.g. timestamps) are not used as their
+     * literals may lose precision.
+     */
+    @Nullable
+    private List<? extends DBSEntityAttribute> getKeysetAttributes(@NotNull DBRProgressMonitor monitor, @Nullable DBDDataFilter dataFilter) {
+        if (!getDataSource().getContainer().getPreferenceStore().getBoolean(ModelPreferences.RESULT_SET_KEYSET_PAGINATION)) {
+            return null;
+        }
+        if (dataFilter != null && !CommonUtils.isEmpty(dataFilter.getOrder())) {
+            // Custom ordering expression
+            return null;
+        }
+        if (dataFilter != null && dataFilter.hasConditions() &&
+            (dataFilter.isAnyConstraint() || dataFilter.isUseDisjunctiveNormalForm()))
+        {
+            // Keyset condition can't be added to criteria combined with OR
+            return null;
+        }
+        List<? extends DBSEntityAttribute> keyAttributes;
+        try {
+            keyAttributes = DBUtils.getBestTableIdentifier(monitor, this);
+        } catch (DBException e) {
+            log.debug("Error reading table unique key", e);
+            return null;
+        }
+        if (keyAttributes.isEmpty()) {
+            return null;
+        }
+        for (DBSEntityAttribute attribute : keyAttributes) {
+            if (!attribute.isRequired() || DBUtils.isPseudoAttribute(attribute)) {
+                return null;
+            }
+            switch (attribute.getDataKind()) {
+                case NUMERIC:
+                case STRING:
+                    break;
+                default:
+                    return null;
+            }
+        }
+        if (dataFilter != null) {
+            List<DBDAttributeConstraint> orderConstraints = dataFilter.getOrderConstraints();
+            if (!orderConstraints.isEmpty()) {
+                if (orderConstraints.size() != keyAttributes.size()) {
+                    return null;
+                }
+                boolean descending = orderConstraints.get(0).isOrderDescending();
+                for (int i = 0; i < orderConstraints.size(); i++) {
+                    DBDAttributeConstraint constraint = orderConstraints.get(i);
+                    if (constraint.isOrderDescending() != descending ||
+                        !keyAttributes.get(i).getName().equals(constraint.getAttributeName()))
+                    {
+                        return null;
+                    }
+                }
+            }
+        }
+        return keyAttributes;
+    }
+
+    /**
+     * Makes condition which selects rows after the keyset position, e.g. {@code (k1, k2) > (v1, v2)}
+     *
+     * @return condition or null if filter doesn't contain position of the last row
+     */
+    @Nullable
+    private String makeKeysetCondition(
+        @NotNull DBPDataSource dataSource,
+        @Nullable String tableAlias,
+        @NotNull List<? extends DBSEntityAttribute> keyAttributes,
+        @Nullable DBDDataFilter dataFilter
+    ) {
+        DBDKeysetPosition position = dataFilter == null ? null : dataFilter.getKeysetPosition();
+        if (position == null || position.getAttributeNames().size() != keyAttributes.size()) {
+            return null;
+        }
+        List<String> names = new ArrayList<>(keyAttributes.size());
+        List<String> values = new ArrayList<>(keyAttributes.size());
+        for (int i = 0; i < keyAttributes.size(); i++) {
+            DBSEntityAttribute attribute = keyAttributes.get(i);
+            Object value = position.getValues().get(i);
+            if (!attribute.getName().equals(position.getAttributeNames().get(i)) || DBUtils.isNullValue(value)) {
+                return null;
+            }
+            names.add(getKeysetAttributeName(dataSource, tableAlias, attribute));
+            values.add(SQLUtils.convertValueToSQL(
+                dataSource, attribute, DBUtils.findValueHandler(dataSource, attribute), value, DBDDisplayFormat.NATIVE, true));
+        }
+        String operator = dataFilter.hasOrdering() && dataFilter.getOrderConstraints().get(0).isOrderDescending() ? " < " : " > ";
+        StringBuilder condition = new StringBuilder();
+        if (names.size() == 1) {
+            condition.append(names.get(0)).append(operator).append(values.get(0));
+        } else if (dataSource.getSQLDialect().supportsRowValueComparison()) {
+            condition.append('(').append(String.join(", ", names)).append(')')
+                .append(operator)
+                .append('(').append(String.join(", ", values)).append(')');
+        } else {
+            // (k1 > v1 OR (k1 = v1 AND k2 > v2) OR ...)
+            condition.append('(');
+            for (int i = 0; i < names.size(); i++) {
+                if (i > 0) {
+                    condition.append(" OR "); //$NON-NLS-1$
+                }
+                condition.append('(');
+                for (int k = 0; k < i; k++) {
+                    condition.append(names.get(k)).append(" = ").append(values.get(k)).append(" AND "); //$NON-NLS-1$
+                }
+                condition.append(names.get(i)).append(operator).append(values.get(i));
+                condition.append(')');
+            }
+            condition.append(')');
+        }
+        return condition.toString();
+    }
+
+    @NotNull
+    private static String getKeysetAttributeName(
+        @NotNull DBPDataSource dataSource,
+        @Nullable String tableAlias,
+        @NotNull DBSEntityAttribute attribute
+    ) {
+        String attributeName = DBUtils.getQuotedIdentifier(attribute);
+        return tableAlias == null ? attributeName : tableAlias + dataSource.getSQLDialect().getStructSeparator() + attributeName;
+    }
+
     @NotNull
     protected String getTableName() {
         return getFullyQualifiedName(DBPEvaluationContext.DML);
@@ -388,8 +545,18 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
         readRequiredMeta(session.getProgressMonitor());
 
         DBSAttributeBase[] attributes = ArrayUtils.concatArrays(updateAttributes, keyAttributes);
+        // Query text depends on values only if some value binder is used
+        boolean reuseStatement = true;
+        for (DBSAttributeBase attribute : updateAttributes) {
+            DBDValueHandler valueHandler = attribute instanceof DBDAttributeBinding binding ?
+                binding.getValueHandler() : DBUtils.findValueHandler(session, attribute);
+            if (valueHandler instanceof DBDValueBinder) {
+                reuseStatement = false;
+                break;
+            }
+        }
 
-        return new ExecuteBatchImpl(attributes, keysReceiver, false) {
+        return new ExecuteBatchImpl(attributes, keysReceiver, reuseStatement) {
             @NotNull
             @Override
             protected DBCStatement prepareStatement(@NotNull DBCSession session, DBDValueHandler[] handlers, Object[] attributeValues, Map<String, Object> options) throws DBCException {
@@ -469,7 +636,79 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
     {
         readRequiredMeta(session.getProgressMonitor());
 
-        return new ExecuteBatchImpl(keyAttributes, null, false) {
+        // Statement is re-prepared by the batch if NULL key values appear
+        return new ExecuteBatchImpl(keyAttributes, null, true) {
+            @NotNull
+            @Override
+            protected DBCStatistics processBatch(@NotNull DBCSession session, @Nullable List<DBEPersistAction> actions, Map<String, Object> options) throws DBCException {
+                if (actions == null && values.size() > 1 && isMultiDeleteApplicable(options)) {
+                    return deleteByKeyValues(session, options);
+                }
+                return super.processBatch(session, actions, options);
+            }
+
+            private boolean isMultiDeleteApplicable(Map<String, Object> options) {
+                if (!CommonUtils.toBoolean(options.get(DBSDataManipulator.OPTION_USE_MULTI_DELETE)) ||
+                    keyAttributes.length != 1 || DBUtils.isPseudoAttribute(keyAttributes[0])) {
+                    return false;
+                }
+                for (Object[] rowValues : values) {
+                    if (DBUtils.isNullValue(rowValues[0])) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            /**
+             * Deletes rows with a single key attribute by chunks: DELETE ... WHERE key IN (?,?,...)
+             */
+            @NotNull
+            private DBCStatistics deleteByKeyValues(@NotNull DBCSession session, Map<String, Object> options) throws DBCException {
+                DBSAttributeBase keyAttribute = keyAttributes[0];
+                DBDValueHandler handler = keyAttribute instanceof DBDAttributeBinding binding ?
+                    binding.getValueHandler() : DBUtils.findValueHandler(session, keyAttribute);
+                SQLDialect dialect = session.getDataSource().getSQLDialect();
+                DBCStatistics statistics = new DBCStatistics();
+                try {
+                    for (int offset = 0; offset < values.size(); offset += MULTI_DELETE_CHUNK_SIZE) {
+                        if (session.getProgressMonitor().isCanceled()) {
+                            break;
+                        }
+                        int chunkSize = Math.min(MULTI_DELETE_CHUNK_SIZE, values.size() - offset);
+                        StringBuilder query = new StringBuilder();
+                        appendDeleteFrom(query, null, options);
+                        query.append("\n\tWHERE ") //$NON-NLS-1$
+                            .append(dialect.getCastedAttributeName(keyAttribute, DBStructUtils.getAttributeName(keyAttribute)))
+                            .append(" IN ("); //$NON-NLS-1$
+                        for (int i = 0; i < chunkSize; i++) {
+                            if (i > 0) query.append(","); //$NON-NLS-1$
+                            query.append(dialect.getTypeCastClause(keyAttribute, "?", true)); //$NON-NLS-1$
+                        }
+                        query.append(")"); //$NON-NLS-1$
+
+                        try (DBCStatement dbStat = session.prepareStatement(DBCStatementType.QUERY, query.toString(), false, false, false)) {
+                            dbStat.setStatementSource(source);
+                            statistics.setQueryText(dbStat.getQueryString());
+                            statistics.addStatementsCount();
+                            for (int i = 0; i < chunkSize; i++) {
+                                handler.bindValueObject(session, dbStat, keyAttribute, i, values.get(offset + i)[0]);
+                            }
+                            long startTime = System.currentTimeMillis();
+                            executeStatement(statistics, dbStat);
+                            statistics.addExecuteTime(System.currentTimeMillis() - startTime);
+                            long rowCount = dbStat.getUpdateRowCount();
+                            if (rowCount > 0) {
+                                statistics.addRowsUpdated(rowCount);
+                            }
+                        }
+                    }
+                } finally {
+                    values.clear();
+                }
+                return statistics;
+            }
+
             @NotNull
             @Override
             protected DBCStatement prepareStatement(@NotNull DBCSession session, DBDValueHandler[] handlers, Object[] attributeValues, Map<String, Object> options) throws DBCException {
@@ -481,11 +720,7 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
 
                 // Make query
                 StringBuilder query = new StringBuilder();
-                String tableName = DBUtils.getEntityScriptName(JDBCTable.this, options);
-                query.append(generateTableDeleteFrom(tableName));
-                if (tableAlias != null) {
-                    query.append(' ').append(tableAlias);
-                }
+                appendDeleteFrom(query, tableAlias, options);
                 if (keyAttributes.length > 0) {
                     query.append("\n\tWHERE "); //$NON-NLS-1$ //$NON-NLS-2$
                     boolean hasKey = false;
@@ -517,6 +752,14 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
         };
     }
 
+    private void appendDeleteFrom(@NotNull StringBuilder query, @Nullable String tableAlias, Map<String, Object> options) {
+        String tableName = DBUtils.getEntityScriptName(JDBCTable.this, options);
+        query.append(generateTableDeleteFrom(tableName));
+        if (tableAlias != null) {
+            query.append(' ').append(tableAlias);
+        }
+    }
+
     ////////////////////////////////////////////////////////////////////
     // Dictionary
 
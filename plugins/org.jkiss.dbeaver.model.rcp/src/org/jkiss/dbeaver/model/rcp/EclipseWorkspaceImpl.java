@@ -19,7 +19,9 @@ package org.jkiss.dbeaver.model.rcp;
 import org.eclipse.core.resources.*;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
 import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
@@ -32,8 +34,10 @@ import org.jkiss.dbeaver.model.app.DBPProjectListener;
 import org.jkiss.dbeaver.model.app.DBPWorkspaceEclipse;
 import org.jkiss.dbeaver.model.impl.app.BaseProjectImpl;
 import org.jkiss.dbeaver.model.impl.app.BaseWorkspaceImpl;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.DBRRunnableWithResult;
+import org.jkiss.dbeaver.registry.DataSourceSerializerModern;
 import org.jkiss.dbeaver.registry.internal.RegistryMessages;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.utils.ArrayUtils;
@@ -43,6 +47,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * DBeaver workspace.
@@ -55,6 +60,8 @@ public abstract class EclipseWorkspaceImpl extends BaseWorkspaceImpl implements
 
     private static final Log log = Log.getLog(EclipseWorkspaceImpl.class);
 
+    private static final int MAX_PROJECT_LOADERS = 4;
+
     private final String workspaceId;
     private final ProjectListener projectListener;
     private final IWorkspace eclipseWorkspace;
@@ -110,6 +117,50 @@ public abstract class EclipseWorkspaceImpl extends BaseWorkspaceImpl implements
                 log.error("Error opening active project", e);
             }
         }
+        if (DBWorkbench.getPlatform().getApplication().isStandalone() &&
+            !DBWorkbench.getPlatform().getApplication().isMultiuser() &&
+            !DBWorkbench.isDistributed()
+        ) {
+            preloadProjectRegistries();
+        }
+    }
+
+    /**
+     * Loads connections of all open projects in background, several projects at once.
+     * Registry is loaded on the first access anyway, so this only removes the wait when projects are shown.
+     * Projects protected with a password are skipped, because their loading asks the user.
+     */
+    private void preloadProjectRegistries() {
+        Queue<DesktopProjectImpl> pendingProjects = new ConcurrentLinkedQueue<>();
+        for (DesktopProjectImpl project : projects.values()) {
+            if (project.isOpen() && !project.isRegistryLoaded()) {
+                pendingProjects.add(project);
+            }
+        }
+        int loaderCount = Math.min(MAX_PROJECT_LOADERS, pendingProjects.size());
+        for (int i = 0; i < loaderCount; i++) {
+            AbstractJob loadJob = new AbstractJob("Load project connections") {
+                @Override
+                protected IStatus run(DBRProgressMonitor monitor) {
+                    for (DesktopProjectImpl project = pendingProjects.poll(); project != null; project = pendingProjects.poll()) {
+                        if (monitor.isCanceled()) {
+                            break;
+                        }
+                        try {
+                            if (project.isOpen() && !DataSourceSerializerModern.isPasswordProtectedProject(project)) {
+                                project.getDataSourceRegistry();
+                            }
+                        } catch (Throwable e) {
+                            log.debug("Error loading connections of project '" + project.getName() + "': " + e.getMessage());
+                        }
+                    }
+                    return Status.OK_STATUS;
+                }
+            };
+            loadJob.setUser(false);
+            loadJob.setSystem(true);
+            loadJob.schedule();
+        }
     }
 
 
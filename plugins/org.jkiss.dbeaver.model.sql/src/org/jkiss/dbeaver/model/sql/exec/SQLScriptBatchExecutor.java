@@ -0,0 +1,125 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.exec;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.exec.DBCFeatureNotSupportedException;
+import org.jkiss.dbeaver.model.exec.DBCStatement;
+
+import java.sql.BatchUpdateException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Executes consecutive script statements in a single statement batch.
+ */
+public class SQLScriptBatchExecutor {
+
+    /**
+     * Batch execution result.
+     *
+     * @param executedCount number of statements from the batch start which were executed successfully
+     * @param updateCounts  update counts of batch statements or null if driver didn't report them
+     * @param error         batch error or null if all statements were executed
+     * @param rejected      true if driver can't execute this batch. Nothing was executed in this case
+     */
+    public record BatchResult(int executedCount, @Nullable long[] updateCounts, @Nullable Throwable error, boolean rejected) {
+
+        /**
+         * Batch failed, and it is unknown which statements were applied
+         */
+        public boolean isIndeterminate() {
+            return error != null && !rejected && updateCounts == null;
+        }
+    }
+
+    /**
+     * Checks whether driver supports statement batches
+     */
+    public static boolean isBatchSupported(@NotNull DBPDataSource dataSource) {
+        return dataSource.getInfo().supportsBatchUpdates();
+    }
+
+    /**
+     * Adds queries to the statement batch and executes it.
+     * If the batch can't be built, or driver doesn't support batch execution, then nothing is executed
+     * and the result is marked as rejected, so statements may be executed one by one.
+     */
+    @NotNull
+    public static BatchResult executeBatch(@NotNull DBCStatement statement, @NotNull List<String> queries) {
+        try {
+            for (String query : queries) {
+                statement.setQueryString(query);
+                statement.addToBatch();
+            }
+        } catch (Throwable e) {
+            // Nothing was executed yet
+            return new BatchResult(0, null, e, true);
+        }
+        try {
+            long[] updateCounts = statement.executeStatementBatch();
+            return new BatchResult(queries.size(), updateCounts, null, false);
+        } catch (Throwable e) {
+            if (isFeatureNotSupported(e)) {
+                return new BatchResult(0, null, e, true);
+            }
+            long[] updateCounts = getBatchUpdateCounts(e);
+            int executedCount = 0;
+            if (updateCounts != null) {
+                while (executedCount < updateCounts.length && executedCount < queries.size() &&
+                    updateCounts[executedCount] != Statement.EXECUTE_FAILED) {
+                    executedCount++;
+                }
+            }
+            return new BatchResult(executedCount, updateCounts, e, false);
+        }
+    }
+
+    private static boolean isFeatureNotSupported(@NotNull Throwable error) {
+        for (Throwable e = error; e != null; e = e.getCause()) {
+            if (e instanceof DBCFeatureNotSupportedException || e instanceof SQLFeatureNotSupportedException) {
+                return true;
+            }
+            if (e.getCause() == e) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private static long[] getBatchUpdateCounts(@NotNull Throwable error) {
+        for (Throwable e = error; e != null; e = e.getCause()) {
+            if (e instanceof BatchUpdateException batchError) {
+                try {
+                    return batchError.getLargeUpdateCounts();
+                } catch (Throwable ignored) {
+                    int[] counts = batchError.getUpdateCounts();
+                    return counts == null ? null : Arrays.stream(counts).asLongStream().toArray();
+                }
+            }
+            if (e.getCause() == e) {
+                break;
+            }
+        }
+        return null;
+    }
+}
@@ -34,6 +34,8 @@ public class DBDDataFilter {
     private boolean useDisjunctiveNormalForm; // see setUseDisjunctiveNormalForm
     private String order;
     private String where;
+    // Transient position of the last read row. Not a part of filter state
+    private DBDKeysetPosition keysetPosition;
 
     public DBDDataFilter() {
         this.constraints = new ArrayList<>();
@@ -52,6 +54,7 @@ public class DBDDataFilter {
         this.where = source.where;
         this.anyConstraint = source.anyConstraint;
         this.useDisjunctiveNormalForm = source.useDisjunctiveNormalForm;
+        this.keysetPosition = source.keysetPosition;
     }
 
     public List<DBDAttributeConstraint> getConstraints() {
@@ -126,6 +129,19 @@ public class DBDDataFilter {
         return attributes;
     }
 
+    /**
+     * Returns key of the last row read by previous page request.
+     * Data containers may use it to read the next page without offset.
+     */
+    @Nullable
+    public DBDKeysetPosition getKeysetPosition() {
+        return keysetPosition;
+    }
+
+    public void setKeysetPosition(@Nullable DBDKeysetPosition keysetPosition) {
+        this.keysetPosition = keysetPosition;
+    }
+
     public boolean isAnyConstraint() {
         return anyConstraint;
     }
@@ -17,6 +17,7 @@
 
 package org.jkiss.dbeaver.model.data;
 
+import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.model.struct.DBSTypedObject;
 
@@ -44,6 +45,18 @@ public interface DBDDataFormatter {
     @Nullable
     String formatValue(Object value);
 
+    /**
+     * Appends formatted value to the buffer. Nothing is appended for null values.
+     * Formatters should override it if they can format values without intermediate strings.
+     * Implementations must be thread-safe.
+     */
+    default void formatValue(@Nullable Object value, @NotNull StringBuilder buffer) {
+        String text = formatValue(value);
+        if (text != null) {
+            buffer.append(text);
+        }
+    }
+
     @Nullable
     Object parseValue(String value, @Nullable Class<?> typeHint) throws ParseException;
     
@@ -0,0 +1,60 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.data;
+
+import org.jkiss.code.NotNull;
+
+import java.util.List;
+
+/**
+ * Unique key values of the last fetched row.
+ * Used for keyset (seek) pagination: next page is read with a condition on key attributes
+ * instead of offset, so the server doesn't need to skip all previously fetched rows.
+ */
+public class DBDKeysetPosition {
+
+    @NotNull
+    private final List<String> attributeNames;
+    @NotNull
+    private final List<Object> values;
+
+    public DBDKeysetPosition(@NotNull List<String> attributeNames, @NotNull List<Object> values) {
+        if (attributeNames.size() != values.size()) {
+            throw new IllegalArgumentException("Key attributes and values mismatch");
+        }
+        this.attributeNames = List.copyOf(attributeNames);
+        this.values = values;
+    }
+
+    /**
+     * Names of the unique key attributes, in key order
+     */
+    @NotNull
+    public List<String> getAttributeNames() {
+        return attributeNames;
+    }
+
+    @NotNull
+    public List<Object> getValues() {
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return attributeNames + "=" + values;
+    }
+}
@@ -38,4 +38,17 @@ public interface DBDValueRenderer
     @NotNull
     String getValueDisplayString(@NotNull DBSTypedObject column, @Nullable Object value, @NotNull DBDDisplayFormat format);
 
+    /**
+     * Appends value in human readable format to the buffer.
+     * Result must be the same as {@link #getValueDisplayString(DBSTypedObject, Object, DBDDisplayFormat)}.
+     */
+    default void appendValueDisplayString(
+        @NotNull DBSTypedObject column,
+        @Nullable Object value,
+        @NotNull DBDDisplayFormat format,
+        @NotNull StringBuilder buffer
+    ) {
+        buffer.append(getValueDisplayString(column, value, format));
+    }
+
 }
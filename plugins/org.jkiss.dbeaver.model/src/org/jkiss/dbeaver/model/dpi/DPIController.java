@@ -54,6 +54,23 @@ public interface DPIController extends DBPPingController, AutoCloseable {
         @RequestParameter("method") @NotNull String method,
         @RequestParameter("args") @Nullable Object[] args) throws DBException;
 
+    /**
+     * Reads next rows of the result set opened by detached process.
+     *
+     * @return Base64-encoded row batch frame (see {@link org.jkiss.dbeaver.model.impl.dpi.DPIRowBatchCodec}).
+     * Result set is closed after the last batch.
+     */
+    @RequestMapping
+    String fetchResultSetRows(
+        @RequestParameter("resultSet") @NotNull String resultSetId,
+        @RequestParameter("maxRows") int maxRows) throws DBException;
+
+    /**
+     * Closes result set which wasn't fully read
+     */
+    @RequestMapping
+    void closeResultSet(@RequestParameter("resultSet") @NotNull String resultSetId) throws DBException;
+
     @RequestMapping
     Object readProperty(
         @RequestParameter("object") @NotNull String objectId,
@@ -0,0 +1,65 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.exec;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.struct.DBSAttributeBase;
+
+import java.util.function.Function;
+
+/**
+ * Row reader which reads all values with attribute value handlers
+ */
+public class DBCDefaultRowReader implements DBCRowReader {
+
+    @NotNull
+    protected final DBCSession session;
+    @NotNull
+    protected final DBCResultSet resultSet;
+    @NotNull
+    protected final DBDAttributeBinding[] bindings;
+    @NotNull
+    protected final DBSAttributeBase[] attributes;
+
+    public DBCDefaultRowReader(
+        @NotNull DBCResultSet resultSet,
+        @NotNull DBDAttributeBinding[] bindings,
+        @NotNull Function<DBDAttributeBinding, DBSAttributeBase> attributeResolver
+    ) {
+        this.session = resultSet.getSession();
+        this.resultSet = resultSet;
+        this.bindings = bindings;
+        this.attributes = new DBSAttributeBase[bindings.length];
+        for (int i = 0; i < bindings.length; i++) {
+            attributes[i] = attributeResolver.apply(bindings[i]);
+        }
+    }
+
+    @Nullable
+    @Override
+    public Object readValue(int index) throws DBCException {
+        DBSAttributeBase attribute = attributes[index];
+        if (attribute == null) {
+            return null;
+        }
+        DBDAttributeBinding binding = bindings[index];
+        return binding.getValueHandler().fetchValueObject(session, resultSet, attribute, binding.getOrdinalPosition());
+    }
+
+}
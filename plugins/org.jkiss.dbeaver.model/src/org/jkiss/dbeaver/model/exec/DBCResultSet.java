@@ -21,7 +21,11 @@ import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.model.DBPCloseableObject;
 import org.jkiss.dbeaver.model.DBPObject;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
 import org.jkiss.dbeaver.model.data.DBDValueMeta;
+import org.jkiss.dbeaver.model.struct.DBSAttributeBase;
+
+import java.util.function.Function;
 
 /**
  * DBCResultSet
@@ -66,4 +70,18 @@ public interface DBCResultSet extends DBPObject, DBPCloseableObject
 
     @Nullable
     Object getFeature(String name);
+
+    /**
+     * Creates reader of row values. Reader must be created after result set metadata was read and used for all rows.
+     *
+     * @param bindings          attribute bindings to read
+     * @param attributeResolver attribute which is passed to the value handler of each binding
+     */
+    @NotNull
+    default DBCRowReader createRowReader(
+        @NotNull DBDAttributeBinding[] bindings,
+        @NotNull Function<DBDAttributeBinding, DBSAttributeBase> attributeResolver
+    ) {
+        return new DBCDefaultRowReader(this, bindings, attributeResolver);
+    }
 }
@@ -0,0 +1,37 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.exec;
+
+import org.jkiss.code.Nullable;
+
+/**
+ * Reads values of the current result set row.
+ * Reader is created once per result set (see {@link DBCResultSet#createRowReader}) and then used for each fetched row,
+ * so per-column decisions (value handler, column type, access method) are made only once.
+ */
+public interface DBCRowReader {
+
+    /**
+     * Reads value of the attribute binding
+     *
+     * @param index binding index (in bindings array which was used to create this reader)
+     * @return value or null if value is null or binding has no attribute
+     */
+    @Nullable
+    Object readValue(int index) throws DBCException;
+
+}
@@ -17,6 +17,7 @@
 package org.jkiss.dbeaver.model.impl.data;
 
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.data.DBDDataFormatter;
 import org.jkiss.dbeaver.model.data.DBDDisplayFormat;
@@ -99,6 +100,26 @@ public abstract class DateTimeCustomValueHandler extends DateTimeValueHandler im
         }
     }
 
+    @Override
+    public void appendValueDisplayString(
+        @NotNull DBSTypedObject column,
+        @Nullable Object value,
+        @NotNull DBDDisplayFormat format,
+        @NotNull StringBuilder buffer
+    ) {
+        if (value == null || value instanceof String || value instanceof Number) {
+            buffer.append(getValueDisplayString(column, value, format));
+            return;
+        }
+        int length = buffer.length();
+        try {
+            getFormatter(column).formatValue(value, buffer);
+        } catch (Exception e) {
+            buffer.setLength(length);
+            buffer.append(value);
+        }
+    }
+
     private DBDDataFormatter getFormatter(DBSTypedObject typedObject, String typeId)
     {
         try {
@@ -112,10 +133,12 @@ public abstract class DateTimeCustomValueHandler extends DateTimeValueHandler im
     @NotNull
     protected DBDDataFormatter getFormatter(DBSTypedObject column)
     {
-        if (formatter == null) {
-            formatter = getFormatter(column, getFormatterId(column));
+        DBDDataFormatter result = formatter;
+        if (result == null) {
+            result = getFormatter(column, getFormatterId(column));
+            formatter = result;
         }
-        return formatter;
+        return result;
     }
 
     @Override
@@ -96,7 +96,7 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
      * @throws DBCException
      */
     @NotNull
-    DBCStatistics processBatch(@NotNull DBCSession session, @Nullable List<DBEPersistAction> actions, Map<String, Object> options) throws DBCException
+    protected DBCStatistics processBatch(@NotNull DBCSession session, @Nullable List<DBEPersistAction> actions, Map<String, Object> options) throws DBCException
     {
         //session.getProgressMonitor().subTask("Save batch (" + values.size() + ")");
         DBDValueHandler[] handlers = new DBDValueHandler[attributes.length];
@@ -125,6 +125,7 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
             // It makes a great sense in case of data transfer where we need millions of inserts.
             // We must be aware of nulls because actual insert statements may differ depending on null values.
             // So if row nulls aren't the same as in previous row we need to prepare new statement and restart batch.
+            // This applies even if nothing was added to batch (script generation, drivers without batches).
             // Quite complicated but works.
             boolean[] prevNulls = new boolean[attributes.length];
             boolean[] nulls = new boolean[attributes.length];
@@ -144,20 +145,18 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
                     for (int i = 0; i < rowValues.length; i++) {
                         nulls[i] = DBUtils.isNullValue(rowValues[i]);
                     }
-                    if (!Arrays.equals(prevNulls, nulls) && statementsInBatch > 0) {
-                        reuse = false;
-                    }
-                    System.arraycopy(nulls, 0, prevNulls, 0, nulls.length);
-                    if (!reuse && statementsInBatch > 0) {
-                        // Flush batch
-                        if (actions == null) {
-                            flushBatch(statistics, statement);
+                    if (statement != null && !Arrays.equals(prevNulls, nulls)) {
+                        if (statementsInBatch > 0) {
+                            // Flush batch
+                            if (actions == null) {
+                                flushBatch(statistics, statement);
+                            }
+                            statementsInBatch = 0;
                         }
                         statement.close();
                         statement = null;
-                        statementsInBatch = 0;
-                        reuse = true;
                     }
+                    System.arraycopy(nulls, 0, prevNulls, 0, nulls.length);
                 }
                 if (statement == null || !reuse) {
                     statement = prepareStatement(session, handlers, rowValues, options);
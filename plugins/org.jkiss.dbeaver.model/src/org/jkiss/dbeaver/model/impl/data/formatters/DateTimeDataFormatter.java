@@ -23,9 +23,11 @@ import org.jkiss.dbeaver.model.struct.DBSTypedObject;
 import org.jkiss.utils.CommonUtils;
 import org.jkiss.utils.time.ExtendedDateFormat;
 
+import java.sql.Timestamp;
 import java.text.DateFormat;
 import java.text.FieldPosition;
 import java.text.ParseException;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
@@ -42,12 +44,19 @@ public class DateTimeDataFormatter implements DBDDataFormatter {
     public static final String PROP_PATTERN = "pattern";
     public static final String PROP_TIMEZONE = "timezone";
 
+    // java.time uses proleptic Gregorian calendar while java.util.Date uses Julian calendar before this moment
+    private static final long GREGORIAN_CUTOVER_MILLIS = -12219292800000L;
+    // Pattern letters which have the same meaning in SimpleDateFormat and DateTimeFormatter
+    private static final String COMPATIBLE_PATTERN_LETTERS = "yMdHhmsEaDkKZ";
+
     private String pattern;
     private ZoneId zone;
     private DateFormat dateFormat;
     private StringBuffer buffer;
     private FieldPosition position;
     private DateTimeFormatter dateTimeFormatter;
+    private DateTimeFormatter legacyDateFormatter;
+    private ZoneId legacyZone;
     private boolean hasZone;
 
     @Override
@@ -68,6 +77,17 @@ public class DateTimeDataFormatter implements DBDDataFormatter {
         String java8DatePattern = pattern.replaceAll("f+", "n");
         dateTimeFormatter = DateTimeFormatter.ofPattern(java8DatePattern);
         hasZone = java8DatePattern.contains("Z");
+        // Dates are formatted by DateTimeFormatter if it produces the same result as the date format.
+        // Unlike date format it is immutable and doesn't need synchronization.
+        legacyDateFormatter = null;
+        if (isJavaTimeCompatiblePattern(sdfPattern)) {
+            try {
+                legacyDateFormatter = DateTimeFormatter.ofPattern(sdfPattern, locale);
+            } catch (IllegalArgumentException e) {
+                // Use date format
+            }
+        }
+        legacyZone = dateFormat.getTimeZone().toZoneId();
     }
 
     @Nullable
@@ -89,27 +109,104 @@ public class DateTimeDataFormatter implements DBDDataFormatter {
     @Override
     public String formatValue(Object value)
     {
-        if (value instanceof Date && zone != null) {
-            return dateTimeFormatter.format(ZonedDateTime.ofInstant(((Date) value).toInstant(), zone));
+        if (value == null) {
+            return null;
+        }
+        TemporalAccessor temporal = toTemporal(value);
+        if (temporal != null) {
+            return (value instanceof Date && zone == null ? legacyDateFormatter : dateTimeFormatter).format(temporal);
         }
-        if (value instanceof TemporalAccessor) {
+        synchronized (dateFormat) {
+            buffer.setLength(0);
+            return dateFormat.format(value, buffer, position).toString();
+        }
+    }
+
+    @Override
+    public void formatValue(@Nullable Object value, @NotNull StringBuilder target)
+    {
+        TemporalAccessor temporal = value == null ? null : toTemporal(value);
+        if (temporal != null) {
+            (value instanceof Date && zone == null ? legacyDateFormatter : dateTimeFormatter).formatTo(temporal, target);
+        } else {
+            DBDDataFormatter.super.formatValue(value, target);
+        }
+    }
+
+    /**
+     * Converts value to the temporal which can be formatted without synchronization.
+     * Returns null if value must be formatted by the date format.
+     */
+    @Nullable
+    private TemporalAccessor toTemporal(@NotNull Object value) {
+        if (value instanceof Date date) {
+            // java.sql.Date and java.sql.Time do not support toInstant()
+            Instant instant = date instanceof Timestamp timestamp ? timestamp.toInstant() : Instant.ofEpochMilli(date.getTime());
             if (zone != null) {
-                if (value instanceof LocalDateTime) {
-                    return dateTimeFormatter.format(((LocalDateTime) value).atZone(zone));
+                return ZonedDateTime.ofInstant(instant, zone);
+            }
+            if (legacyDateFormatter == null || date.getTime() < GREGORIAN_CUTOVER_MILLIS) {
+                return null;
+            }
+            return ZonedDateTime.ofInstant(instant, legacyZone);
+        }
+        if (value instanceof TemporalAccessor temporal) {
+            if (zone != null) {
+                if (value instanceof LocalDateTime localDateTime) {
+                    return localDateTime.atZone(zone);
                 }
-                if (value instanceof ZonedDateTime) {
-                    return dateTimeFormatter.format(((ZonedDateTime) value).withZoneSameInstant(zone));
+                if (value instanceof ZonedDateTime zonedDateTime) {
+                    return zonedDateTime.withZoneSameInstant(zone);
                 }
-                if (value instanceof OffsetDateTime) {
-                    return dateTimeFormatter.format(((OffsetDateTime) value).atZoneSameInstant(zone));
+                if (value instanceof OffsetDateTime offsetDateTime) {
+                    return offsetDateTime.atZoneSameInstant(zone);
                 }
             }
-            return dateTimeFormatter.format((TemporalAccessor) value);
+            return temporal;
         }
-        synchronized (dateFormat) {
-            buffer.setLength(0);
-            return value == null ? null : dateFormat.format(value, buffer, position).toString();
+        return null;
+    }
+
+    /**
+     * Checks whether date format pattern has the same meaning for DateTimeFormatter.
+     * Patterns with nanoseconds and with letters which mean different things are not compatible.
+     */
+    private static boolean isJavaTimeCompatiblePattern(@NotNull String pattern) {
+        boolean inQuote = false;
+        for (int i = 0; i < pattern.length(); ) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                inQuote = !inQuote;
+                i++;
+                continue;
+            }
+            if (inQuote) {
+                i++;
+                continue;
+            }
+            int count = 1;
+            while (i + count < pattern.length() && pattern.charAt(i + count) == c) {
+                count++;
+            }
+            i += count;
+            if (c == '[' || c == ']' || c == '{' || c == '}' || c == '#') {
+                // Reserved by DateTimeFormatter
+                return false;
+            }
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                if (c == 'S') {
+                    // Milliseconds in SimpleDateFormat, fraction of second in DateTimeFormatter
+                    if (count != 3) {
+                        return false;
+                    }
+                } else if (COMPATIBLE_PATTERN_LETTERS.indexOf(c) < 0) {
+                    return false;
+                } else if ((c == 'M' || c == 'E') && count > 4 || c == 'a' && count > 1 || c == 'Z' && count > 3) {
+                    return false;
+                }
+            }
         }
+        return true;
     }
 
     @Override
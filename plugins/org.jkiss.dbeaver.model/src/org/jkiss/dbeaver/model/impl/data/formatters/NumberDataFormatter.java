@@ -16,6 +16,7 @@
  */
 package org.jkiss.dbeaver.model.impl.data.formatters;
 
+import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.data.DBDDataFormatter;
@@ -31,6 +32,7 @@ import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Locale;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 public class NumberDataFormatter implements DBDDataFormatter {
 
@@ -38,9 +40,15 @@ public class NumberDataFormatter implements DBDDataFormatter {
 
     private static final Log log = Log.getLog(NumberDataFormatter.class);
 
-    private DecimalFormat numberFormat;
-    private StringBuffer buffer;
-    private FieldPosition position;
+    // Sample values used to check whether integers are formatted as is
+    private static final long[] PLAIN_INTEGER_SAMPLES = { 0, 7, -7, 1234567890, -9876543210L, Long.MAX_VALUE, Long.MIN_VALUE };
+
+    // DecimalFormat isn't thread-safe, so each thread uses its own copy of the configured format of each formatter
+    private static final ThreadLocal<Map<NumberDataFormatter, FormatState>> FORMAT_STATES = ThreadLocal.withInitial(WeakHashMap::new);
+
+    private volatile DecimalFormat numberFormat;
+    private volatile boolean disableUnnecessaryRounding;
+    private boolean plainIntegers;
     private boolean nativeSpecialValues;
 
     public NumberDataFormatter() {
@@ -49,7 +57,8 @@ public class NumberDataFormatter implements DBDDataFormatter {
     @Override
     public void init(DBSTypedObject type, Locale locale, Map<String, Object> properties)
     {
-        numberFormat = (DecimalFormat) NumberFormat.getNumberInstance(locale);
+        // Configured format is published only when it is complete, thread copies are cloned from it
+        DecimalFormat numberFormat = (DecimalFormat) NumberFormat.getNumberInstance(locale);
         Object useGrouping = properties.get(NumberFormatSample.PROP_USE_GROUPING);
         if (useGrouping != null) {
             numberFormat.setGroupingUsed(CommonUtils.toBoolean(useGrouping));
@@ -113,9 +122,25 @@ public class NumberDataFormatter implements DBDDataFormatter {
                 numberFormat.setGroupingUsed(false);
             }
         }
-        buffer = new StringBuffer();
-        position = new FieldPosition(0);
+        plainIntegers = isPlainIntegerFormat(numberFormat);
         nativeSpecialValues = CommonUtils.toBoolean(properties.get(NumberFormatSample.PROP_NATIVE_SPECIAL_VALUES));
+        this.numberFormat = numberFormat;
+    }
+
+    /**
+     * Returns the current thread copy of the configured format
+     */
+    @NotNull
+    private FormatState getFormatState() {
+        Map<NumberDataFormatter, FormatState> states = FORMAT_STATES.get();
+        DecimalFormat prototype = numberFormat;
+        FormatState state = states.get(this);
+        if (state == null || state.prototype != prototype) {
+            // First use in this thread or formatter was initialized again
+            state = new FormatState(prototype);
+            states.put(this, state);
+        }
+        return state;
     }
 
     @Nullable
@@ -132,70 +157,152 @@ public class NumberDataFormatter implements DBDDataFormatter {
         if (value == null) {
             return null;
         }
+        if (plainIntegers && isInteger(value)) {
+            return value.toString();
+        }
+        Object number = toFormattableNumber(value);
+        if (number == null) {
+            return value.toString();
+        }
+        StringBuffer buffer = getFormatState().formatNumber(number, this);
+        return buffer == null ? value.toString() : buffer.toString();
+    }
+
+    @Override
+    public void formatValue(@Nullable Object value, @NotNull StringBuilder target)
+    {
+        if (value == null) {
+            return;
+        }
+        if (plainIntegers && isInteger(value)) {
+            target.append(((Number) value).longValue());
+            return;
+        }
+        Object number = toFormattableNumber(value);
+        if (number == null) {
+            target.append(value);
+            return;
+        }
+        StringBuffer buffer = getFormatState().formatNumber(number, this);
+        if (buffer == null) {
+            target.append(value);
+        } else {
+            target.append(buffer);
+        }
+    }
+
+    /**
+     * Returns number which should be formatted or null if value must be rendered as is
+     */
+    @Nullable
+    private Object toFormattableNumber(@NotNull Object value) {
         if (CommonUtils.isNaN(value) || CommonUtils.isInfinite(value)) {
             if (nativeSpecialValues) {
-                return value.toString();
+                return null;
             }
         } else if (value instanceof Float || value instanceof Double) {
             // Convert to BigDecimal so we don't have rounding issues with high minimum fraction digits set
-            value = new BigDecimal(value.toString());
+            return new BigDecimal(value.toString());
         } else if (!(value instanceof Number)) {
-            return value.toString();
+            return null;
         }
+        return value;
+    }
+
+    private static boolean isInteger(@NotNull Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+
+    /**
+     * Checks whether integers are formatted exactly as Long.toString does, so formatting may be skipped
+     */
+    private static boolean isPlainIntegerFormat(@NotNull DecimalFormat format) {
         try {
-            synchronized (this) {
-                buffer.setLength(0);
-                try {
-                    return numberFormat.format(value, buffer, position).toString();
-                } catch (ArithmeticException e) {
-                    if (numberFormat.getRoundingMode() == RoundingMode.UNNECESSARY) {
-                        // This type can't use UNNECESSARY rounding. Let's set default one
-                        log.debug("Disabling UNNECESSARY rounding for numbers (" + e.getMessage() + ")");
-                        numberFormat.setRoundingMode(RoundingMode.HALF_EVEN);
-                    }
-                    return numberFormat.format(value, buffer, position).toString();
+            for (long sample : PLAIN_INTEGER_SAMPLES) {
+                if (!Long.toString(sample).equals(format.format(sample))) {
+                    return false;
                 }
             }
+            return true;
         } catch (Exception e) {
-            return value.toString();
+            return false;
         }
     }
 
     @Override
     public Object parseValue(String value, @Nullable Class<?> typeHint) throws ParseException
     {
-        synchronized (this) {
-            numberFormat.setParseBigDecimal(typeHint == BigDecimal.class || typeHint == BigInteger.class);
-            Number number = numberFormat.parse(value);
-            if (number != null && typeHint != null) {
-                boolean isFloat = number instanceof Double || number instanceof Float;
-                if (typeHint == Byte.class) {
-                    if (isFloat) {
-                        return number;
-                    }
-                    return number.byteValue();
-                } else if (typeHint == Short.class) {
-                    if (isFloat) {
-                        return number;
-                    }
-                    return number.shortValue();
-                } else if (typeHint == Integer.class) {
-                    if (isFloat) {
-                        return number;
-                    }
-                    return number.intValue();
-                } else if (typeHint == Long.class) {
-                    if (isFloat) {
-                        return number;
+        DecimalFormat numberFormat = getFormatState().format;
+        numberFormat.setParseBigDecimal(typeHint == BigDecimal.class || typeHint == BigInteger.class);
+        Number number = numberFormat.parse(value);
+        if (number != null && typeHint != null) {
+            boolean isFloat = number instanceof Double || number instanceof Float;
+            if (typeHint == Byte.class) {
+                if (isFloat) {
+                    return number;
+                }
+                return number.byteValue();
+            } else if (typeHint == Short.class) {
+                if (isFloat) {
+                    return number;
+                }
+                return number.shortValue();
+            } else if (typeHint == Integer.class) {
+                if (isFloat) {
+                    return number;
+                }
+                return number.intValue();
+            } else if (typeHint == Long.class) {
+                if (isFloat) {
+                    return number;
+                }
+                return number.longValue();
+            } else if (typeHint == Float.class) {
+                return number.floatValue();
+            } else if (typeHint == Double.class) {
+                return number.doubleValue();
+            }
+        }
+        return number;
+    }
+
+    // Doesn't reference the formatter, otherwise formatter would never be removed from the weak map
+    private static class FormatState {
+        private final DecimalFormat prototype;
+        private final DecimalFormat format;
+        private final StringBuffer buffer = new StringBuffer();
+        private final FieldPosition position = new FieldPosition(0);
+
+        FormatState(@NotNull DecimalFormat prototype) {
+            this.prototype = prototype;
+            this.format = (DecimalFormat) prototype.clone();
+        }
+
+        /**
+         * Formats number into the thread buffer. Returns null if number can't be formatted.
+         */
+        @Nullable
+        StringBuffer formatNumber(@NotNull Object number, @NotNull NumberDataFormatter formatter) {
+            if (formatter.disableUnnecessaryRounding && format.getRoundingMode() == RoundingMode.UNNECESSARY) {
+                format.setRoundingMode(RoundingMode.HALF_EVEN);
+            }
+            try {
+                buffer.setLength(0);
+                try {
+                    return format.format(number, buffer, position);
+                } catch (ArithmeticException e) {
+                    if (format.getRoundingMode() == RoundingMode.UNNECESSARY) {
+                        // This type can't use UNNECESSARY rounding. Let's set default one
+                        log.debug("Disabling UNNECESSARY rounding for numbers (" + e.getMessage() + ")");
+                        formatter.disableUnnecessaryRounding = true;
+                        format.setRoundingMode(RoundingMode.HALF_EVEN);
                     }
-                    return number.longValue();
-                } else if (typeHint == Float.class) {
-                    return number.floatValue();
-                } else if (typeHint == Double.class) {
-                    return number.doubleValue();
+                    buffer.setLength(0);
+                    return format.format(number, buffer, position);
                 }
+            } catch (Exception e) {
+                return null;
             }
-            return number;
         }
     }
 
@@ -17,6 +17,7 @@
 package org.jkiss.dbeaver.model.impl.dpi;
 
 import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.exec.DBCSession;
 import org.jkiss.dbeaver.model.exec.DBCStatement;
 import org.jkiss.dbeaver.model.impl.local.LocalResultSet;
@@ -61,7 +62,7 @@ public class DPIResultSet extends LocalResultSet<DBCStatement> {
         return meta;
     }
 
-    public List<Object[]> getAllRows() {
+    public List<Object[]> getAllRows() throws DBCException {
         return rows;
     }
 
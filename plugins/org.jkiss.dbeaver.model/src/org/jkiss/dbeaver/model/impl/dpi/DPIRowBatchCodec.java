@@ -0,0 +1,321 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.dpi;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.data.DBDComplexValue;
+import org.jkiss.dbeaver.model.data.DBDContent;
+import org.jkiss.dbeaver.model.data.DBDValue;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.impl.data.DBDValueError;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Binary encoding of result set row batches transferred between detached process and client.
+ * <p>
+ * Batch is a length-prefixed frame: {@code int length, byte version, boolean last, int columns, int rows}
+ * followed by typed cell values. Each value starts with a type tag, so numbers, dates and binaries
+ * keep their types (unlike JSON). Arrays are transferred element by element.
+ * LOBs and complex values must be converted to plain values before encoding (see {@link DPIServerResultSetStream}),
+ * they are rejected by the encoder. Other values of unsupported types are transferred as strings.
+ */
+public class DPIRowBatchCodec {
+
+    private static final byte VERSION = 1;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_BOOLEAN = 1;
+    private static final byte TYPE_BYTE = 2;
+    private static final byte TYPE_SHORT = 3;
+    private static final byte TYPE_INT = 4;
+    private static final byte TYPE_LONG = 5;
+    private static final byte TYPE_FLOAT = 6;
+    private static final byte TYPE_DOUBLE = 7;
+    private static final byte TYPE_BIG_INTEGER = 8;
+    private static final byte TYPE_BIG_DECIMAL = 9;
+    private static final byte TYPE_STRING = 10;
+    private static final byte TYPE_BYTES = 11;
+    private static final byte TYPE_TIMESTAMP = 12;
+    private static final byte TYPE_SQL_DATE = 13;
+    private static final byte TYPE_SQL_TIME = 14;
+    private static final byte TYPE_DATE = 15;
+    private static final byte TYPE_LOCAL_DATE = 16;
+    private static final byte TYPE_LOCAL_TIME = 17;
+    private static final byte TYPE_LOCAL_DATE_TIME = 18;
+    private static final byte TYPE_OFFSET_DATE_TIME = 19;
+    private static final byte TYPE_UUID = 20;
+    private static final byte TYPE_ERROR = 21;
+    private static final byte TYPE_ARRAY = 22;
+
+    /**
+     * Decoded batch
+     *
+     * @param rows batch rows
+     * @param last true if there are no more rows in the result set
+     */
+    public record Batch(@NotNull List<Object[]> rows, boolean last) {
+    }
+
+    /**
+     * Collects rows and encodes them into a frame
+     */
+    public static class Encoder {
+        private final int columnCount;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(buffer);
+        private int rowCount;
+
+        public Encoder(int columnCount) {
+            this.columnCount = columnCount;
+        }
+
+        public void addRow(@NotNull Object[] row) throws IOException {
+            for (int i = 0; i < columnCount; i++) {
+                writeValue(out, i < row.length ? row[i] : null);
+            }
+            rowCount++;
+        }
+
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * Encoded size of collected rows
+         */
+        public int getDataSize() {
+            return buffer.size();
+        }
+
+        @NotNull
+        public byte[] finish(boolean last) throws IOException {
+            out.flush();
+            byte[] data = buffer.toByteArray();
+            ByteArrayOutputStream frame = new ByteArrayOutputStream(data.length + 14);
+            DataOutputStream frameOut = new DataOutputStream(frame);
+            frameOut.writeInt(data.length + 10);
+            frameOut.writeByte(VERSION);
+            frameOut.writeBoolean(last);
+            frameOut.writeInt(columnCount);
+            frameOut.writeInt(rowCount);
+            frameOut.write(data);
+            frameOut.flush();
+            return frame.toByteArray();
+        }
+    }
+
+    @NotNull
+    public static Batch decode(@NotNull byte[] frame) throws DBCException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(frame))) {
+            int length = in.readInt();
+            if (length != frame.length - 4) {
+                throw new DBCException("Bad row batch frame length (" + length + "/" + (frame.length - 4) + ")");
+            }
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new DBCException("Unsupported row batch version " + version);
+            }
+            boolean last = in.readBoolean();
+            int columnCount = in.readInt();
+            int rowCount = in.readInt();
+            List<Object[]> rows = new ArrayList<>(rowCount);
+            for (int i = 0; i < rowCount; i++) {
+                Object[] row = new Object[columnCount];
+                for (int k = 0; k < columnCount; k++) {
+                    row[k] = readValue(in);
+                }
+                rows.add(row);
+            }
+            return new Batch(rows, last);
+        } catch (IOException e) {
+            throw new DBCException("Error decoding row batch", e);
+        }
+    }
+
+    private static void writeValue(@NotNull DataOutputStream out, @Nullable Object value) throws IOException {
+        if (value instanceof DBDValueError error) {
+            out.writeByte(TYPE_ERROR);
+            writeString(out, error.getErrorTitle());
+            return;
+        }
+        if (value instanceof DBDContent || value instanceof DBDComplexValue) {
+            DBDValue dbdValue = (DBDValue) value;
+            if (!dbdValue.isNull()) {
+                throw new IOException("Value of type " + value.getClass().getName() + " can't be encoded in row batch");
+            }
+            value = null;
+        } else if (value instanceof DBDValue dbdValue) {
+            // Simple value holders are transferred as their raw values
+            value = dbdValue.isNull() ? null : dbdValue.getRawValue();
+        }
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof Boolean v) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean(v);
+        } else if (value instanceof Byte v) {
+            out.writeByte(TYPE_BYTE);
+            out.writeByte(v);
+        } else if (value instanceof Short v) {
+            out.writeByte(TYPE_SHORT);
+            out.writeShort(v);
+        } else if (value instanceof Integer v) {
+            out.writeByte(TYPE_INT);
+            out.writeInt(v);
+        } else if (value instanceof Long v) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong(v);
+        } else if (value instanceof Float v) {
+            out.writeByte(TYPE_FLOAT);
+            out.writeFloat(v);
+        } else if (value instanceof Double v) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble(v);
+        } else if (value instanceof BigInteger v) {
+            out.writeByte(TYPE_BIG_INTEGER);
+            writeBytes(out, v.toByteArray());
+        } else if (value instanceof BigDecimal v) {
+            out.writeByte(TYPE_BIG_DECIMAL);
+            out.writeInt(v.scale());
+            writeBytes(out, v.unscaledValue().toByteArray());
+        } else if (value instanceof byte[] v) {
+            out.writeByte(TYPE_BYTES);
+            writeBytes(out, v);
+        } else if (value instanceof Object[] v) {
+            out.writeByte(TYPE_ARRAY);
+            out.writeInt(v.length);
+            for (Object item : v) {
+                writeValue(out, item);
+            }
+        } else if (value instanceof Timestamp v) {
+            out.writeByte(TYPE_TIMESTAMP);
+            out.writeLong(v.getTime());
+            out.writeInt(v.getNanos());
+        } else if (value instanceof java.sql.Date v) {
+            out.writeByte(TYPE_SQL_DATE);
+            out.writeLong(v.getTime());
+        } else if (value instanceof Time v) {
+            out.writeByte(TYPE_SQL_TIME);
+            out.writeLong(v.getTime());
+        } else if (value instanceof Date v) {
+            out.writeByte(TYPE_DATE);
+            out.writeLong(v.getTime());
+        } else if (value instanceof LocalDate v) {
+            out.writeByte(TYPE_LOCAL_DATE);
+            out.writeLong(v.toEpochDay());
+        } else if (value instanceof LocalTime v) {
+            out.writeByte(TYPE_LOCAL_TIME);
+            out.writeLong(v.toNanoOfDay());
+        } else if (value instanceof LocalDateTime v) {
+            out.writeByte(TYPE_LOCAL_DATE_TIME);
+            out.writeLong(v.toLocalDate().toEpochDay());
+            out.writeLong(v.toLocalTime().toNanoOfDay());
+        } else if (value instanceof OffsetDateTime v) {
+            out.writeByte(TYPE_OFFSET_DATE_TIME);
+            out.writeLong(v.toLocalDate().toEpochDay());
+            out.writeLong(v.toLocalTime().toNanoOfDay());
+            out.writeInt(v.getOffset().getTotalSeconds());
+        } else if (value instanceof UUID v) {
+            out.writeByte(TYPE_UUID);
+            out.writeLong(v.getMostSignificantBits());
+            out.writeLong(v.getLeastSignificantBits());
+        } else {
+            out.writeByte(TYPE_STRING);
+            writeString(out, value.toString());
+        }
+    }
+
+    @Nullable
+    private static Object readValue(@NotNull DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        return switch (type) {
+            case TYPE_NULL -> null;
+            case TYPE_BOOLEAN -> in.readBoolean();
+            case TYPE_BYTE -> in.readByte();
+            case TYPE_SHORT -> in.readShort();
+            case TYPE_INT -> in.readInt();
+            case TYPE_LONG -> in.readLong();
+            case TYPE_FLOAT -> in.readFloat();
+            case TYPE_DOUBLE -> in.readDouble();
+            case TYPE_BIG_INTEGER -> new BigInteger(readBytes(in));
+            case TYPE_BIG_DECIMAL -> {
+                int scale = in.readInt();
+                yield new BigDecimal(new BigInteger(readBytes(in)), scale);
+            }
+            case TYPE_STRING -> readString(in);
+            case TYPE_BYTES -> readBytes(in);
+            case TYPE_TIMESTAMP -> {
+                Timestamp timestamp = new Timestamp(in.readLong());
+                timestamp.setNanos(in.readInt());
+                yield timestamp;
+            }
+            case TYPE_SQL_DATE -> new java.sql.Date(in.readLong());
+            case TYPE_SQL_TIME -> new Time(in.readLong());
+            case TYPE_DATE -> new Date(in.readLong());
+            case TYPE_LOCAL_DATE -> LocalDate.ofEpochDay(in.readLong());
+            case TYPE_LOCAL_TIME -> LocalTime.ofNanoOfDay(in.readLong());
+            case TYPE_LOCAL_DATE_TIME -> LocalDateTime.of(LocalDate.ofEpochDay(in.readLong()), LocalTime.ofNanoOfDay(in.readLong()));
+            case TYPE_OFFSET_DATE_TIME -> OffsetDateTime.of(
+                LocalDate.ofEpochDay(in.readLong()),
+                LocalTime.ofNanoOfDay(in.readLong()),
+                ZoneOffset.ofTotalSeconds(in.readInt()));
+            case TYPE_UUID -> new UUID(in.readLong(), in.readLong());
+            case TYPE_ERROR -> new DBDValueError(new DBCException(readString(in)));
+            case TYPE_ARRAY -> {
+                Object[] items = new Object[in.readInt()];
+                for (int i = 0; i < items.length; i++) {
+                    items[i] = readValue(in);
+                }
+                yield items;
+            }
+            default -> throw new IOException("Unsupported value type " + type);
+        };
+    }
+
+    private static void writeString(@NotNull DataOutputStream out, @Nullable String value) throws IOException {
+        writeBytes(out, value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @NotNull
+    private static String readString(@NotNull DataInputStream in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(@NotNull DataOutputStream out, @NotNull byte[] value) throws IOException {
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    @NotNull
+    private static byte[] readBytes(@NotNull DataInputStream in) throws IOException {
+        byte[] value = new byte[in.readInt()];
+        in.readFully(value);
+        return value;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.dpi;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.data.*;
+import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.impl.data.DBDValueError;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.utils.ContentUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Server side of the result set transferred to the client by row batches.
+ * Rows are read from the original result set on demand, so neither server nor client holds the whole result set.
+ */
+public class DPIServerResultSetStream implements AutoCloseable {
+
+    // Batch is sent when it reaches this size even if it has less rows than requested
+    private static final int MAX_BATCH_DATA_SIZE = 4 * 1024 * 1024;
+
+    @NotNull
+    private final DBCResultSet resultSet;
+    @NotNull
+    private final List<DPIResultSetColumn> metaColumns = new ArrayList<>();
+    // Null if rows are already fetched
+    private final DBCRowReader rowReader;
+    private boolean finished;
+
+    public DPIServerResultSetStream(@NotNull DBCResultSet resultSet) throws DBCException {
+        this.resultSet = resultSet;
+        if (resultSet instanceof DPIResultSet dpiResultSet) {
+            // Already fetched rows
+            metaColumns.addAll(dpiResultSet.getMetaColumns());
+            rowReader = null;
+        } else {
+            DBCSession session = resultSet.getSession();
+            List<? extends DBCAttributeMetaData> attributes = resultSet.getMeta().getAttributes();
+            DBDAttributeBinding[] bindings = new DBDAttributeBinding[attributes.size()];
+            for (int i = 0; i < attributes.size(); i++) {
+                DBCAttributeMetaData attribute = attributes.get(i);
+                metaColumns.add(new DPIResultSetColumn(i, attribute.getLabel(), attribute));
+                bindings[i] = new DBDAttributeBindingMeta(null, session, attribute);
+            }
+            rowReader = resultSet.createRowReader(bindings, DBDAttributeBinding::getMetaAttribute);
+        }
+    }
+
+    @NotNull
+    public DBCResultSet getResultSet() {
+        return resultSet;
+    }
+
+    @NotNull
+    public List<DPIResultSetColumn> getMetaColumns() {
+        return metaColumns;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Reads next rows and encodes them in a single frame
+     */
+    @NotNull
+    public byte[] readBatch(int maxRows) throws DBCException {
+        DPIRowBatchCodec.Encoder encoder = new DPIRowBatchCodec.Encoder(metaColumns.size());
+        try {
+            while (!finished && encoder.getRowCount() < maxRows && encoder.getDataSize() < MAX_BATCH_DATA_SIZE) {
+                if (!resultSet.nextRow()) {
+                    finished = true;
+                    break;
+                }
+                encoder.addRow(fetchRow());
+            }
+            return encoder.finish(finished);
+        } catch (IOException e) {
+            throw new DBCException("Error encoding result set rows", e);
+        }
+    }
+
+    @NotNull
+    private Object[] fetchRow() throws DBCException {
+        DBRProgressMonitor monitor = resultSet.getSession().getProgressMonitor();
+        Object[] row = new Object[metaColumns.size()];
+        for (int i = 0; i < row.length; i++) {
+            try {
+                if (rowReader == null) {
+                    row[i] = toTransferValue(monitor, resultSet.getAttributeValue(i));
+                } else {
+                    row[i] = toTransferValue(monitor, rowReader.readValue(i));
+                }
+            } catch (Throwable e) {
+                row[i] = new DBDValueError(e);
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Converts LOBs and arrays into values supported by {@link DPIRowBatchCodec}.
+     * LOB contents are read fully, because LOB locators are not valid outside of the server session.
+     */
+    @Nullable
+    private static Object toTransferValue(@NotNull DBRProgressMonitor monitor, @Nullable Object value) throws DBCException {
+        if (value instanceof DBDContent content) {
+            try {
+                if (content.isNull()) {
+                    return null;
+                }
+                return ContentUtils.isTextContent(content) ?
+                    ContentUtils.getContentStringValue(monitor, content) :
+                    ContentUtils.getContentBinaryValue(monitor, content);
+            } finally {
+                content.release();
+            }
+        }
+        if (value instanceof DBDCollection collection) {
+            if (collection.isNull()) {
+                return null;
+            }
+            Object[] items = new Object[collection.getItemCount()];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = toTransferValue(monitor, collection.getItem(i));
+            }
+            return items;
+        }
+        if (value instanceof DBDComplexValue) {
+            throw new DBCException("Values of type " + value.getClass().getSimpleName() + " can't be transferred from detached process");
+        }
+        return value;
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        resultSet.close();
+    }
+}
@@ -259,6 +259,11 @@ public class BasicSQLDialect extends AbstractSQLDialect implements SQLDialectRel
         return true;
     }
 
+    @Override
+    public boolean supportsRowValueComparison() {
+        return false;
+    }
+
     @Override
     public boolean supportsOrderBy() {
         return true;
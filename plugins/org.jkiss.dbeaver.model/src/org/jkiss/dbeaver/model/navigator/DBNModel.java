@@ -42,6 +42,7 @@ import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -62,6 +63,9 @@ public class DBNModel {
     public static final String FAKE_RESOURCE_ROOT_NODE = "resources";
     private static final Log log = Log.getLog(DBNModel.class);
 
+    // Children of database nodes are indexed by node id only if there are many of them
+    private static final int CHILD_INDEX_THRESHOLD = 32;
+
     public static class NodePath {
         DBNNode.NodePathType type;
         List<String> pathItems;
@@ -83,13 +87,18 @@ public class DBNModel {
         }
     }
 
+    private record ChildIndex(@NotNull DBNNode[] children, @NotNull Map<String, DBNNode> nodesById) {
+    }
+
     private final DBPPlatform platform;
     private final List<? extends DBPProject> modelProjects;
     private DBNRoot root;
     private final List<INavigatorListener> listeners = new ArrayList<>();
     private transient INavigatorListener[] listenersCopy = null;
     private final transient List<DBNEvent> eventCache = new ArrayList<>();
-    private final Map<DBSObject, Object> nodeMap = new HashMap<>();
+    // Values are either single node or immutable list of nodes, so lookups don't need a lock
+    private final Map<DBSObject, Object> nodeMap = new ConcurrentHashMap<>();
+    private final Map<DBNNode, ChildIndex> childIndexes = new ConcurrentHashMap<>();
     private final List<Function<DBNNode, Boolean>> nodeFilters = new ArrayList<>();
 
     private SMSessionContext modelAuthContext;
@@ -141,9 +150,8 @@ public class DBNModel {
 
         if (root != null) {
             this.root.dispose(false);
-            synchronized (nodeMap) {
-                this.nodeMap.clear();
-            }
+            this.nodeMap.clear();
+            this.childIndexes.clear();
             this.root = null;
         }
         synchronized (this.listeners) {
@@ -183,11 +191,11 @@ public class DBNModel {
             return (DBNDatabaseNode)object;
         }
         object = DBUtils.getPublicObjectContainer(object);
-
-        Object obj;
-        synchronized (nodeMap) {
-            obj = nodeMap.get(object);
+        if (object == null) {
+            return null;
         }
+
+        Object obj = nodeMap.get(object);
         if (obj == null) {
             return null;
         } else if (obj instanceof DBNDatabaseNode) {
@@ -237,7 +245,15 @@ public class DBNModel {
             return node;
         }
         DBSObject[] path = DBUtils.getObjectPath(object, true);
-        for (int i = 0; i < path.length - 1; i++) {
+        // Start from the deepest already loaded parent
+        int startIndex = 0;
+        for (int i = path.length - 2; i > 0; i--) {
+            if (getNodeByObject(path[i]) != null) {
+                startIndex = i;
+                break;
+            }
+        }
+        for (int i = startIndex; i < path.length - 1; i++) {
             DBSObject item = path[i];
             DBSObject nextItem = path[i + 1];
             node = getNodeByObject(item);
@@ -360,13 +376,7 @@ public class DBNModel {
             return null;
         }
 
-        DBNNode detectedNode = null;
-        for (DBNNode child : children) {
-            if (child.getNodeId().equals(expectedNodePathName)) {
-                detectedNode = child;
-                break;
-            }
-        }
+        DBNNode detectedNode = findChildById(currentNode, children, expectedNodePathName);
 
         if (detectedNode == null) {
             log.debug("Node '" + expectedNodePathName + "' not found in parent node '"
@@ -382,6 +392,36 @@ public class DBNModel {
     }
 
 
+    /**
+     * Finds child node by id. Big lists of database node children are indexed, index is rebuilt when children change.
+     */
+    @Nullable
+    private DBNNode findChildById(@NotNull DBNNode parent, @NotNull DBNNode[] children, @NotNull String nodeId) {
+        if (children.length < CHILD_INDEX_THRESHOLD || !(parent instanceof DBNDatabaseNode)) {
+            for (DBNNode child : children) {
+                if (child.getNodeId().equals(nodeId)) {
+                    return child;
+                }
+            }
+            return null;
+        }
+        ChildIndex index = childIndexes.get(parent);
+        if (index != null && index.children() == children) {
+            DBNNode child = index.nodesById().get(nodeId);
+            if (child != null && child.getNodeId().equals(nodeId)) {
+                return child;
+            }
+            // Not found or child was renamed. Rebuild index to be sure
+        }
+        Map<String, DBNNode> nodesById = new HashMap<>(children.length);
+        for (DBNNode child : children) {
+            // The first node with the same id wins, like in plain search
+            nodesById.putIfAbsent(child.getNodeId(), child);
+        }
+        childIndexes.put(parent, new ChildIndex(children, nodesById));
+        return nodesById.get(nodeId);
+    }
+
     private boolean cacheNodeChildren(DBRProgressMonitor monitor, DBNDatabaseNode node, DBSObject objectToCache, boolean addFiltered) throws DBException
     {
         DBNDatabaseNode[] children = node.getChildren(monitor);
@@ -470,23 +510,26 @@ public class DBNModel {
 
     void addNode(DBNDatabaseNode node, boolean reflect)
     {
-        synchronized (nodeMap) {
-            Object obj = nodeMap.get(node.getObject());
-            if (obj == null) {
-                // New node
-                nodeMap.put(node.getObject(), node);
-            } else if (obj instanceof DBNNode) {
-                // Second node - make a list
-                List<DBNNode> nodeList = new ArrayList<>(2);
-                nodeList.add((DBNNode)obj);
-                nodeList.add(node);
-                nodeMap.put(node.getObject(), nodeList);
-            } else if (obj instanceof List) {
-                // Multiple nodes
-                @SuppressWarnings("unchecked")
-                List<DBNNode> nodeList = (List<DBNNode>) obj;
+        DBSObject object = node.getObject();
+        if (object != null) {
+            nodeMap.compute(object, (key, obj) -> {
+                if (obj == null) {
+                    // New node
+                    return node;
+                }
+                List<DBNNode> nodeList = new ArrayList<>();
+                if (obj instanceof DBNNode) {
+                    // Second node - make a list
+                    nodeList.add((DBNNode) obj);
+                } else {
+                    // Multiple nodes
+                    @SuppressWarnings("unchecked")
+                    List<DBNNode> oldList = (List<DBNNode>) obj;
+                    nodeList.addAll(oldList);
+                }
                 nodeList.add(node);
-            }
+                return Collections.unmodifiableList(nodeList);
+            });
         }
         if (reflect) {
             this.fireNodeEvent(new DBNEvent(this, DBNEvent.Action.ADD, DBNEvent.NodeChange.LOAD, node));
@@ -495,30 +538,36 @@ public class DBNModel {
 
     void removeNode(DBNDatabaseNode node, boolean reflect)
     {
-        boolean badNode = false;
-        synchronized (nodeMap) {
-            Object obj = nodeMap.get(node.getObject());
-            if (obj == null) {
-                // No found
-                badNode = true;
-            } else if (obj instanceof DBNNode) {
-                // Just remove it
-                if (nodeMap.remove(node.getObject()) != node) {
-                    badNode = true;
-                }
-            } else if (obj instanceof List) {
-                // Multiple nodes
-                @SuppressWarnings("unchecked")
-                List<DBNNode> nodeList = (List<DBNNode>) obj;
-                if (!nodeList.remove(node)) {
-                    badNode = true;
-                }
-                if (nodeList.isEmpty()) {
-                    nodeMap.remove(node.getObject());
+        childIndexes.remove(node);
+        boolean[] badNode = new boolean[1];
+        DBSObject object = node.getObject();
+        if (object == null) {
+            badNode[0] = true;
+        } else {
+            nodeMap.compute(object, (key, obj) -> {
+                if (obj == null) {
+                    // No found
+                    badNode[0] = true;
+                    return null;
+                } else if (obj instanceof DBNNode) {
+                    // Just remove it
+                    if (obj != node) {
+                        badNode[0] = true;
+                        return obj;
+                    }
+                    return null;
+                } else {
+                    // Multiple nodes
+                    @SuppressWarnings("unchecked")
+                    List<DBNNode> nodeList = new ArrayList<>((List<DBNNode>) obj);
+                    if (!nodeList.remove(node)) {
+                        badNode[0] = true;
+                    }
+                    return nodeList.isEmpty() ? null : Collections.unmodifiableList(nodeList);
                 }
-            }
+            });
         }
-        if (badNode) {
+        if (badNode[0]) {
             log.warn("Remove unregistered meta node object " + node.getNodeDisplayName());
         } else {
             if (reflect) {
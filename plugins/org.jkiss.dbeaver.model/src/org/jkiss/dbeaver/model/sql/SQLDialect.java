@@ -310,6 +310,11 @@ public interface SQLDialect {
 
     boolean supportsOrderByIndex();
 
+    /**
+     * Checks whether dialect supports row value comparison, e.g. {@code (a, b) > (1, 2)}
+     */
+    boolean supportsRowValueComparison();
+
     boolean supportsNestedComments();
 
     /**
@@ -538,4 +543,17 @@ public interface SQLDialect {
         return false;
     }
 
+    /**
+     * Returns numeric expression which computes a hash of the row values.
+     * Row hashes are summed to get a checksum of the whole row range, so the result must be an integer
+     * which can be aggregated with SUM without overflow (e.g. 60-bit or smaller).
+     *
+     * @param columns column expressions (already quoted)
+     * @return hash expression or null if dialect doesn't support server-side row hashes
+     */
+    @Nullable
+    default String getRowHashExpression(@NotNull List<String> columns) {
+        return null;
+    }
+
 }
@@ -21,8 +21,7 @@ import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.model.sql.SQLUtils;
 import org.jkiss.utils.CommonUtils;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 import java.util.regex.Pattern;
 
 /**
@@ -36,8 +35,8 @@ public class DBSObjectFilter {
     private List<String> exclude;
     private boolean caseSensitive;
 
-    private transient List<Object> includePatterns = null;
-    private transient List<Object> excludePatterns = null;
+    // Compiled on first use and reset on any filter change
+    private transient volatile CompiledFilter compiledFilter = null;
 
     public DBSObjectFilter() {
     }
@@ -76,6 +75,7 @@ public class DBSObjectFilter {
 
     public void setCaseSensitive(boolean caseSensitive) {
         this.caseSensitive = caseSensitive;
+        this.compiledFilter = null;
     }
 
     public String getDescription() {
@@ -105,12 +105,12 @@ public class DBSObjectFilter {
         if (!include.contains(name)) {
             include.add(name);
         }
-        this.includePatterns = null;
+        this.compiledFilter = null;
     }
 
     public void setInclude(List<String> include) {
         this.include = include;
-        this.includePatterns = null;
+        this.compiledFilter = null;
     }
 
     public List<String> getExclude() {
@@ -124,12 +124,12 @@ public class DBSObjectFilter {
         if (!exclude.contains(name)) {
             exclude.add(name);
         }
-        this.excludePatterns = null;
+        this.compiledFilter = null;
     }
 
     public void setExclude(List<String> exclude) {
         this.exclude = exclude;
-        this.excludePatterns = null;
+        this.compiledFilter = null;
     }
 
     public boolean isNotApplicable() {
@@ -149,65 +149,94 @@ public class DBSObjectFilter {
         return !CommonUtils.isEmpty(include) ? include.get(0) : null;
     }
 
-    public synchronized boolean matches(String name) {
-        if (includePatterns == null && !CommonUtils.isEmpty(include)) {
-            includePatterns = new ArrayList<>(include.size());
-            for (String inc : include) {
-                if (!inc.isEmpty()) {
-                    includePatterns.add(makePattern(inc, isCaseSensitive()));
-                }
-            }
+    /**
+     * Returns true if filter consists of masks only and thus may be evaluated by the database with LIKE conditions.
+     */
+    public boolean isPushdownSupported() {
+        if (isNotApplicable()) {
+            return false;
         }
-        if (includePatterns != null) {
-            // Match includes (at least one should match)
-            boolean matched = false;
-            for (Object pattern : includePatterns) {
-                if (matchesPattern(pattern, name)) {
-                    matched = true;
-                    break;
-                }
-            }
-            if (!matched) {
+        for (String mask : CommonUtils.safeCollection(include)) {
+            if (CommonUtils.isEmpty(mask)) {
                 return false;
             }
         }
-
-        if (excludePatterns == null && !CommonUtils.isEmpty(exclude)) {
-            excludePatterns = new ArrayList<>(exclude.size());
-            for (String exc : exclude) {
-                if (!exc.isEmpty()) {
-                    excludePatterns.add(makePattern(exc, isCaseSensitive()));
-                }
-            }
-        }
-        if (excludePatterns != null) {
-            // Match excludes
-            for (Object pattern : excludePatterns) {
-                if (matchesPattern(pattern, name)) {
-                    return false;
-                }
+        for (String mask : CommonUtils.safeCollection(exclude)) {
+            if (CommonUtils.isEmpty(mask)) {
+                return false;
             }
         }
-        // Done
         return true;
     }
 
-    private static boolean matchesPattern(Object pattern, String name) {
-        if (pattern instanceof Pattern) {
-            return ((Pattern) pattern).matcher(name).matches();
-        } else {
-            return ((String) pattern).equalsIgnoreCase(name);
+    public boolean matches(String name) {
+        CompiledFilter filter = compiledFilter;
+        if (filter == null) {
+            filter = new CompiledFilter(include, exclude, caseSensitive);
+            compiledFilter = filter;
         }
+        return filter.matches(name);
     }
 
-    @NotNull
-    private static Object makePattern(String str, boolean caseSensitive) {
+    /**
+     * Immutable matcher. All plain names are kept in a set and all masks are combined in a single pattern.
+     */
+    private static class CompiledFilter {
+        @Nullable
+        private final NameMatcher include;
+        @Nullable
+        private final NameMatcher exclude;
+
+        CompiledFilter(@Nullable List<String> include, @Nullable List<String> exclude, boolean caseSensitive) {
+            this.include = NameMatcher.compile(include, caseSensitive);
+            this.exclude = NameMatcher.compile(exclude, caseSensitive);
+        }
+
+        boolean matches(String name) {
+            // Match includes (at least one should match)
+            if (include != null && !include.matches(name)) {
+                return false;
+            }
+            // Match excludes
+            return exclude == null || !exclude.matches(name);
+        }
+    }
+
+    private record NameMatcher(@NotNull Set<String> names, @Nullable Pattern pattern) {
+
+        @Nullable
+        static NameMatcher compile(@Nullable List<String> masks, boolean caseSensitive) {
+            if (CommonUtils.isEmpty(masks)) {
+                return null;
+            }
+            // Plain names are always compared ignoring case
+            Set<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+            StringBuilder patterns = new StringBuilder();
+            for (String mask : masks) {
+                if (mask.isEmpty()) {
+                    continue;
+                }
+                if (SQLUtils.isLikePattern(mask)) {
+                    if (!patterns.isEmpty()) {
+                        patterns.append('|');
+                    }
+                    patterns.append("(?:").append(SQLUtils.makeLikePattern(mask)).append(')');
+                } else {
+                    names.add(mask);
+                }
+            }
+            if (names.isEmpty() && patterns.isEmpty()) {
+                // Only empty masks. Nothing can match
+                return new NameMatcher(Collections.emptySet(), null);
+            }
+            Pattern pattern = patterns.isEmpty() ? null : Pattern.compile(
+                patterns.toString(),
+                caseSensitive ? Pattern.MULTILINE : Pattern.CASE_INSENSITIVE | Pattern.MULTILINE);
+            return new NameMatcher(Collections.unmodifiableSet(names), pattern);
+        }
 
-        if (SQLUtils.isLikePattern(str)) {
-            return caseSensitive ? Pattern.compile(
-                SQLUtils.makeLikePattern(str), Pattern.MULTILINE) : Pattern.compile(SQLUtils.makeLikePattern(str), Pattern.CASE_INSENSITIVE | Pattern.MULTILINE);
-        } else {
-            return str;
+        boolean matches(String name) {
+            return names.contains(name) || (pattern != null && pattern.matcher(name).matches());
         }
     }
 
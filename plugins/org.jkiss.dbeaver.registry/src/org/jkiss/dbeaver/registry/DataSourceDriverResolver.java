@@ -0,0 +1,114 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.registry;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.registry.driver.DriverDescriptor;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolves drivers of data sources read from a single configuration.
+ * <p>
+ * Resolved drivers are cached, because most connections of big configurations use a few drivers.
+ * Missing providers and drivers are added to the global registry, so lookups are serialized between resolvers
+ * of configurations loaded in parallel.
+ */
+public class DataSourceDriverResolver {
+
+    private static final Log log = Log.getLog(DataSourceDriverResolver.class);
+
+    // Resolved drivers by provider and driver ID
+    private final Map<String, DriverDescriptor> resolvedDrivers = new HashMap<>();
+
+    /**
+     * Finds driver in the provider registry.
+     *
+     * @param id             ID of the data source which uses the driver, used in log messages
+     * @param createIfAbsent create fake provider and driver if there are no such
+     * @return driver or null if there is no such driver
+     */
+    @Nullable
+    public DriverDescriptor resolveDriver(
+        @NotNull String id,
+        @Nullable String providerId,
+        @Nullable String driverId,
+        boolean createIfAbsent
+    ) {
+        String driverKey = providerId + ":" + driverId;
+        DriverDescriptor driver = resolvedDrivers.get(driverKey);
+        if (driver == null) {
+            synchronized (DataSourceProviderRegistry.getInstance()) {
+                driver = findDriver(id, providerId, driverId, createIfAbsent);
+            }
+            if (driver != null) {
+                resolvedDrivers.put(driverKey, driver);
+            }
+        }
+        return driver;
+    }
+
+    @Nullable
+    private static DriverDescriptor findDriver(
+        @NotNull String id,
+        @Nullable String providerId,
+        @Nullable String driverId,
+        boolean createIfAbsent
+    ) {
+        if (CommonUtils.isEmpty(providerId)) {
+            log.debug("Empty datasource provider for datasource '" + id + "'");
+            return null;
+        }
+
+        if (CommonUtils.isEmpty(driverId)) {
+            log.debug("Empty driver for datasource '" + id + "'");
+            return null;
+        }
+
+        DataSourceProviderDescriptor provider = DataSourceProviderRegistry.getInstance().getDataSourceProvider(providerId);
+        if (provider == null) {
+            if (createIfAbsent) {
+                log.debug("Can't find datasource provider " + providerId + " for datasource '" + id + "'");
+                provider = (DataSourceProviderDescriptor) DataSourceProviderRegistry.getInstance().makeFakeProvider(providerId);
+            } else {
+                return null;
+            }
+        }
+
+        DriverDescriptor driver = provider.getOriginalDriver(driverId);
+        if (driver == null) {
+            if (createIfAbsent) {
+                log.debug("Can't find driver " + driverId + " in datasource provider "
+                    + provider.getId() + " for datasource '" + id + "'. Create new driver");
+                driver = provider.createDriver(driverId);
+                driver.setName(driverId);
+                driver.setDescription("Missing driver " + driverId);
+                driver.setDriverClassName("java.sql.Driver");
+                driver.setTemporary(true);
+                provider.addDriver(driver);
+            } else {
+                return null;
+            }
+        }
+
+        return driver;
+    }
+}
@@ -347,6 +347,17 @@ public class DataSourceProviderRegistry implements DBPDataSourceProviderRegistry
         return provider;
     }
 
+    /**
+     * Removes temporary provider created by {@link #makeFakeProvider}
+     */
+    public void removeFakeProvider(@NotNull DataSourceProviderDescriptor provider) {
+        if (!provider.isTemporary()) {
+            throw new IllegalArgumentException("Data source provider '" + provider.getId() + "' is not temporary");
+        }
+        dataSourceProviders.remove(provider);
+        dataSourceProvidersMap.remove(provider.getId(), provider);
+    }
+
     public List<DataSourceProviderDescriptor> getDataSourceProviders() {
         return dataSourceProviders;
     }
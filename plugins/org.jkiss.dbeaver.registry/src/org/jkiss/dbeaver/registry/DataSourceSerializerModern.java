@@ -93,11 +93,20 @@ public class DataSourceSerializerModern<T extends DataSourceDescriptor> implemen
     //  2 level: map of secured properties
     private final Map<String, Map<String, Map<String, String>>> secureProperties = new LinkedHashMap<>();
     private final boolean isDetachedProcess = DBWorkbench.getPlatform().getApplication().isDetachedProcess();
+    private final DataSourceDriverResolver driverResolver = new DataSourceDriverResolver();
 
    protected DataSourceSerializerModern(@NotNull DataSourceRegistry<T> registry) {
         this.registry = registry;
     }
 
+    /**
+     * Checks whether project configuration reading may ask user for a project password
+     */
+    public static boolean isPasswordProtectedProject(@NotNull DBPProject project) {
+        return CommonUtils.toBoolean(project.getProjectProperty(ENCRYPTED_CONFIGURATION)) ||
+            CommonUtils.toBoolean(project.getProjectProperty(USE_PROJECT_PASSWORD));
+    }
+
     @Override
     public void saveDataSources(
         DBRProgressMonitor monitor,
@@ -560,11 +569,11 @@ public class DataSourceSerializerModern<T extends DataSourceDescriptor> implemen
                 DriverDescriptor substitutedDriver;
 
                 if (CommonUtils.isEmpty(originalProviderId) || CommonUtils.isEmpty(originalDriverId)) {
-                    originalDriver = parseDriver(id, substitutedProviderId, substitutedDriverId, !isDetachedProcess);
+                    originalDriver = driverResolver.resolveDriver(id, substitutedProviderId, substitutedDriverId, !isDetachedProcess);
                     substitutedDriver = originalDriver;
                 } else {
-                    originalDriver = parseDriver(id, originalProviderId, originalDriverId, !isDetachedProcess);
-                    substitutedDriver = parseDriver(id, substitutedProviderId, substitutedDriverId, false);
+                    originalDriver = driverResolver.resolveDriver(id, originalProviderId, originalDriverId, !isDetachedProcess);
+                    substitutedDriver = driverResolver.resolveDriver(id, substitutedProviderId, substitutedDriverId, false);
                 }
                 if (originalDriver == null) {
                     continue;
@@ -892,7 +901,11 @@ public class DataSourceSerializerModern<T extends DataSourceDescriptor> implemen
             return null;
         }
         try (is) {
-            final String data = loadConfigFile(is, CommonUtils.toBoolean(registry.getProject().isEncryptedProject()));
+            if (!CommonUtils.toBoolean(registry.getProject().isEncryptedProject())) {
+                // Parse plain configuration right from the stream, big configurations are not copied into a string
+                return JSONUtils.parseMap(CONFIG_GSON, new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8)));
+            }
+            final String data = loadConfigFile(is, true);
             return JSONUtils.parseMap(CONFIG_GSON, new StringReader(data));
         } catch (DBInterruptedException e) {
             // happens only if user cancelled entering password
@@ -905,52 +918,6 @@ public class DataSourceSerializerModern<T extends DataSourceDescriptor> implemen
         }
     }
 
-    @Nullable
-    private static DriverDescriptor parseDriver(
-        @NotNull String id,
-        @NotNull String providerId,
-        @NotNull String driverId,
-        boolean createIfAbsent
-    ) {
-        if (CommonUtils.isEmpty(providerId)) {
-            log.debug("Empty datasource provider for datasource '" + id + "'");
-            return null;
-        }
-
-        if (CommonUtils.isEmpty(driverId)) {
-            log.debug("Empty driver for datasource '" + id + "'");
-            return null;
-        }
-
-        DataSourceProviderDescriptor provider = DataSourceProviderRegistry.getInstance().getDataSourceProvider(providerId);
-        if (provider == null) {
-            if (createIfAbsent) {
-                log.debug("Can't find datasource provider " + providerId + " for datasource '" + id + "'");
-                provider = (DataSourceProviderDescriptor) DataSourceProviderRegistry.getInstance().makeFakeProvider(providerId);
-            } else {
-                return null;
-            }
-        }
-
-        DriverDescriptor driver = provider.getOriginalDriver(driverId);
-        if (driver == null) {
-            if (createIfAbsent) {
-                log.debug("Can't find driver " + driverId + " in datasource provider "
-                    + provider.getId() + " for datasource '" + id + "'. Create new driver");
-                driver = provider.createDriver(driverId);
-                driver.setName(driverId);
-                driver.setDescription("Missing driver " + driverId);
-                driver.setDriverClassName("java.sql.Driver");
-                driver.setTemporary(true);
-                provider.addDriver(driver);
-            } else {
-                return null;
-            }
-        }
-
-        return driver;
-    }
-
     private void deserializeModifyPermissions(Map<String, Object> conObject, DBPDataSourcePermissionOwner permissionOwner) {
         if (conObject == null) {
             return;
@@ -58,6 +58,8 @@ public class DashboardRendererTimeseries extends DashboardRendererDatabaseChart
 
     private static final Font DEFAULT_TICK_LABEL_FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 8);
     public static final int MAX_TIMESERIES_RANGE_LABELS = 25;
+    // Maximum number of points of per-second charts shown at once
+    private static final int MAX_SECOND_DATA_POINTS = 200;
 
     @Override
     public DashboardChartComposite createDashboard(@NotNull Composite composite, @NotNull DashboardItemContainer container, @NotNull DashboardContainer viewContainer, @NotNull Point preferredSize) {
@@ -225,21 +227,12 @@ public class DashboardRendererTimeseries extends DashboardRendererDatabaseChart
 
             switch (dashboard.getCalcType()) {
                 case value: {
-                    int maxDP = 200;
-                    Date startTime = null;
-
-                    for (DashboardDatasetRow row : rows) {
-                        if (startTime == null) {
-                            startTime = row.getTimestamp();
-                        } else {
-                            if (dashboard.getInterval() == DBDashboardInterval.second || dashboard.getInterval() == DBDashboardInterval.millisecond) {
-                                long diffSeconds = (row.getTimestamp().getTime() - startTime.getTime()) / 1000;
-                                if (diffSeconds > maxDP) {
-                                    // Too big difference between start and end points. Stop here otherwise we'll flood chart with too many ticks
-                                    break;
-                                }
-                            }
-                        }
+                    List<DashboardDatasetRow> valueRows = rows;
+                    if (dashboard.getInterval() == DBDashboardInterval.second || dashboard.getInterval() == DBDashboardInterval.millisecond) {
+                        // Show the latest points only, otherwise we'll flood chart with too many ticks
+                        valueRows = dataset.getLatestRows(MAX_SECOND_DATA_POINTS * 1000L);
+                    }
+                    for (DashboardDatasetRow row : valueRows) {
                         Object value = row.getValues()[i];
                         if (value instanceof Number) {
                             series.addOrUpdate(makeDataItem(container, row), (Number) value);
@@ -248,17 +241,19 @@ public class DashboardRendererTimeseries extends DashboardRendererDatabaseChart
                     break;
                 }
                 case delta: {
-                    if (lastUpdateTime == null) {
-                        return;
-                    }
                     //System.out.println("LAST=" + lastUpdateTime + "; CUR=" + new Date());
+                    // Last row of the previous chart data can't be used after reset
+                    DashboardDatasetRow prevRow = lastUpdateTime == null ? null : lastRow;
                     for (DashboardDatasetRow row : rows) {
-                        if (lastRow != null) {
-                            Object prevValue = lastRow.getValues()[i];
+                        if (prevRow != null) {
+                            Object prevValue = prevRow.getValues()[i];
                             Object newValue = row.getValues()[i];
                             if (newValue instanceof Number && prevValue instanceof Number) {
+                                // Several rows come from the stored history, they have their own time distance
+                                long deltaSeconds = prevRow == lastRow ?
+                                    secondsPassed : (row.getTimestamp().getTime() - prevRow.getTimestamp().getTime()) / 1000;
                                 double deltaValue = ((Number) newValue).doubleValue() - ((Number) prevValue).doubleValue();
-                                deltaValue /= secondsPassed;
+                                deltaValue /= Math.max(deltaSeconds, 1);
                                 if (dashboard.getValueType() != DBDashboardValueType.decimal) {
                                     deltaValue = Math.round(deltaValue);
                                 }
@@ -267,6 +262,7 @@ public class DashboardRendererTimeseries extends DashboardRendererDatabaseChart
                                     deltaValue);
                             }
                         }
+                        prevRow = row;
                     }
                     break;
                 }
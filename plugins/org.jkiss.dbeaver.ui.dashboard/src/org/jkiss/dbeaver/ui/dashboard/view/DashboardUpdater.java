@@ -17,6 +17,8 @@
 package org.jkiss.dbeaver.ui.dashboard.view;
 
 import org.apache.commons.jexl3.JexlContext;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.ui.*;
 import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.DBException;
@@ -30,7 +32,9 @@ import org.jkiss.dbeaver.model.dashboard.DBDashboardQuery;
 import org.jkiss.dbeaver.model.dashboard.DashboardConstants;
 import org.jkiss.dbeaver.model.dashboard.data.DashboardDataset;
 import org.jkiss.dbeaver.model.dashboard.data.DashboardDatasetRow;
+import org.jkiss.dbeaver.model.dashboard.data.DashboardTimeSeriesStore;
 import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.dbeaver.ui.dashboard.control.DashboardListViewer;
@@ -42,10 +46,22 @@ import org.jkiss.utils.CommonUtils;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
-
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects data of all visible dashboards.
+ * <p>
+ * Data sources are queried in parallel, one job per data source. Within a data source identical queries
+ * of different dashboards are executed once per update. Collected samples are kept in {@link DashboardTimeSeriesStore},
+ * so dashboard history survives dashboard view re-creation.
+ */
 public class DashboardUpdater {
 
     private static final Log log = Log.getLog(DashboardUpdater.class);
+
+    private static final long WAIT_PERIOD = 100;
+
     private final Map<DBPDataSourceContainer, List<MapQueryInfo>> mapQueries = new HashMap<>();
 
     private static class MapQueryInfo {
@@ -62,6 +78,21 @@ public class DashboardUpdater {
         }
     }
 
+    private record QueryKey(@NotNull DBCExecutionContext executionContext, @NotNull String queryText) {
+    }
+
+    /**
+     * Query results read once and shared by all dashboards with the same query
+     */
+    private static class QueryResult {
+        private final String[] columnNames;
+        private final List<DashboardDatasetRow> rows = new ArrayList<>();
+
+        QueryResult(String[] columnNames) {
+            this.columnNames = columnNames;
+        }
+    }
+
     public DashboardUpdater() {
     }
 
@@ -84,7 +115,9 @@ public class DashboardUpdater {
         monitor.beginTask("Update dashboards", dashboards.size());
 
         // Get all map queries used by dashboards
+        Map<DBPDataSourceContainer, List<DashboardItemContainer>> dataSourceDashboards = new LinkedHashMap<>();
         for (DashboardItemContainer dashboard : dashboards) {
+            dataSourceDashboards.computeIfAbsent(dashboard.getDataSourceContainer(), k -> new ArrayList<>()).add(dashboard);
             DBDashboardMapQuery mapQuery = dashboard.getMapQuery();
             if (mapQuery != null) {
                 List<MapQueryInfo> queryList = mapQueries.computeIfAbsent(
@@ -102,17 +135,51 @@ public class DashboardUpdater {
             }
         }
 
-        for (Map.Entry<DBPDataSourceContainer, List<MapQueryInfo>> mqEntry : mapQueries.entrySet()) {
-            monitor.subTask("Read dashboard data");
-            DBPDataSourceContainer dsContainer = mqEntry.getKey();
-            DBPDataSource dataSource = dsContainer.getDataSource();
-            if (dataSource == null) {
-                continue;
+        try {
+            if (dataSourceDashboards.size() == 1) {
+                Map.Entry<DBPDataSourceContainer, List<DashboardItemContainer>> entry = dataSourceDashboards.entrySet().iterator().next();
+                updateDataSourceDashboards(monitor, entry.getKey(), entry.getValue());
+                return;
             }
+            // Different data sources are queried in parallel
+            CountDownLatch finishLatch = new CountDownLatch(dataSourceDashboards.size());
+            List<DataSourceUpdateJob> updateJobs = new ArrayList<>();
+            for (Map.Entry<DBPDataSourceContainer, List<DashboardItemContainer>> entry : dataSourceDashboards.entrySet()) {
+                DataSourceUpdateJob updateJob = new DataSourceUpdateJob(entry.getKey(), entry.getValue(), finishLatch);
+                updateJobs.add(updateJob);
+                updateJob.schedule();
+            }
+            try {
+                while (!finishLatch.await(WAIT_PERIOD, TimeUnit.MILLISECONDS)) {
+                    if (monitor.isCanceled()) {
+                        updateJobs.forEach(AbstractJob::cancel);
+                        break;
+                    }
+                }
+            } catch (InterruptedException e) {
+                updateJobs.forEach(AbstractJob::cancel);
+            }
+        } finally {
+            monitor.done();
+        }
+    }
+
+    private void updateDataSourceDashboards(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBPDataSourceContainer dsContainer,
+        @NotNull List<DashboardItemContainer> dashboards
+    ) {
+        DBPDataSource dataSource = dsContainer.getDataSource();
+        if (dataSource == null) {
+            return;
+        }
+        List<MapQueryInfo> mapQueryList = mapQueries.get(dsContainer);
+        if (mapQueryList != null) {
+            monitor.subTask("Read dashboard data");
             try {
                 DBExecUtils.tryExecuteRecover(dashboards, dataSource, param -> {
                     try {
-                        for (MapQueryInfo mqi : mqEntry.getValue()) {
+                        for (MapQueryInfo mqi : mapQueryList) {
                             if (!mqi.dashboard.isAutoUpdateEnabled()) {
                                 continue;
                             }
@@ -134,18 +201,27 @@ public class DashboardUpdater {
             }
         }
 
+        // Identical queries are executed once, with the maximum number of rows required by their dashboards
+        Map<QueryKey, Integer> queryRowLimits = new HashMap<>();
         for (DashboardItemContainer dashboard : dashboards) {
-            if (!dashboard.isAutoUpdateEnabled()) {
+            DBCExecutionContext executionContext = dashboard.getGroup().getView().getExecutionContext();
+            if (executionContext == null || dashboard.getMapQuery() != null) {
                 continue;
             }
-            DBPDataSource dataSource = dashboard.getDataSourceContainer().getDataSource();
-            if (dataSource == null) {
+            for (DBDashboardQuery query : dashboard.getQueryList()) {
+                queryRowLimits.merge(new QueryKey(executionContext, query.getQueryText()), dashboard.getDashboardMaxItems(), Math::max);
+            }
+        }
+        Map<QueryKey, QueryResult> queryResults = new HashMap<>();
+
+        for (DashboardItemContainer dashboard : dashboards) {
+            if (!dashboard.isAutoUpdateEnabled()) {
                 continue;
             }
             try {
                 DBExecUtils.tryExecuteRecover(dashboards, dataSource, param -> {
                     try {
-                        updateDashboard(monitor, dashboard);
+                        updateDashboard(monitor, dashboard, queryRowLimits, queryResults);
                     } catch (Throwable e) {
                         log.debug("Datasource '" + dashboard.getDataSourceContainer().getName() + "' dashboard query failed. Stopping update of dashboards for this datasource.");
                         dashboard.disableAutoUpdate();
@@ -157,7 +233,6 @@ public class DashboardUpdater {
             }
             monitor.worked(1);
         }
-        monitor.done();
     }
 
     private void readMapQueryData(DBRProgressMonitor monitor, MapQueryInfo mqInfo) throws DBCException {
@@ -185,7 +260,12 @@ public class DashboardUpdater {
         }
     }
 
-    private void updateDashboard(DBRProgressMonitor monitor, DashboardItemContainer dashboard) throws DBCException {
+    private void updateDashboard(
+        DBRProgressMonitor monitor,
+        DashboardItemContainer dashboard,
+        Map<QueryKey, Integer> queryRowLimits,
+        Map<QueryKey, QueryResult> queryResults
+    ) throws DBCException {
         if (!dashboard.getDataSourceContainer().isConnected() || DBWorkbench.getPlatform().isShuttingDown()) {
             return;
         }
@@ -219,16 +299,26 @@ public class DashboardUpdater {
             }
             try {
                 for (DBDashboardQuery query : queries) {
-                    try (DBCStatement dbStat = session.prepareStatement(DBCStatementType.QUERY, query.getQueryText(), false, false, false)) {
-                        if (dbStat.executeStatement()) {
-                            try (DBCResultSet dbResults = dbStat.openResultSet()) {
-                                if (dbResults != null) {
-                                    fetchDashboardData(dashboard, dbResults);
+                    QueryKey queryKey = new QueryKey(executionContext, query.getQueryText());
+                    QueryResult queryResult = queryResults.get(queryKey);
+                    if (queryResult == null) {
+                        try (DBCStatement dbStat = session.prepareStatement(DBCStatementType.QUERY, query.getQueryText(), false, false, false)) {
+                            if (dbStat.executeStatement()) {
+                                try (DBCResultSet dbResults = dbStat.openResultSet()) {
+                                    if (dbResults != null) {
+                                        queryResult = readQueryResult(
+                                            dbResults,
+                                            queryRowLimits.getOrDefault(queryKey, dashboard.getDashboardMaxItems()));
+                                        queryResults.put(queryKey, queryResult);
+                                    }
                                 }
                             }
+                        } catch (Exception e) {
+                            throw new DBCException("Error updating dashboard " + dashboard.getItemDescriptor().getId(), e, session.getExecutionContext());
                         }
-                    } catch (Exception e) {
-                        throw new DBCException("Error updating dashboard " + dashboard.getItemDescriptor().getId(), e, session.getExecutionContext());
+                    }
+                    if (queryResult != null) {
+                        fetchDashboardData(dashboard, queryResult);
                     }
                 }
             } finally {
@@ -269,7 +359,7 @@ public class DashboardUpdater {
                     timestamp = new Date();
                 }
                 dataset.addRow(new DashboardDatasetRow(timestamp, mapValues));
-                dashboard.updateDashboardData(dataset);
+                updateDashboardData(dashboard, dataset);
             } else if (dashboard.getMapFormula() != null) {
                 Map<String, Object> ciMap = new HashMap<>(mapValue.size());
                 for (Map.Entry<String, Object> me : mapValue.entrySet()) {
@@ -306,7 +396,7 @@ public class DashboardUpdater {
                     }
                     DashboardDataset dataset = new DashboardDataset(new String[]{ columnName });
                     dataset.addRow(new DashboardDatasetRow(new Date(), new Object[] { result } ));
-                    dashboard.updateDashboardData(dataset);
+                    updateDashboardData(dashboard, dataset);
                 } else {
                     log.debug("Wrong expression result: " + result);
                 }
@@ -314,7 +404,7 @@ public class DashboardUpdater {
         }
     }
 
-    private void fetchDashboardData(DashboardItemContainer dashboardContainer, DBCResultSet dbResults) throws DBCException {
+    private QueryResult readQueryResult(DBCResultSet dbResults, int maxRows) throws DBCException {
         DBCResultSetMetaData meta = dbResults.getMeta();
         List<? extends DBCAttributeMetaData> rsAttrs = meta.getAttributes();
         List<String> colNames = new ArrayList<>();
@@ -330,7 +420,7 @@ public class DashboardUpdater {
                 colNames.add(colName);
             }
         }
-        DashboardDataset dataset = new DashboardDataset(colNames.toArray(new String[0]));
+        QueryResult result = new QueryResult(colNames.toArray(new String[0]));
 
         while (dbResults.nextRow()) {
             Object[] values = new Object[colNames.size()];
@@ -343,10 +433,22 @@ public class DashboardUpdater {
             for (int i = 0; i < colNames.size(); i++) {
                 values[i] = dbResults.getAttributeValue(colNames.get(i));
             }
-            dataset.addRow(new DashboardDatasetRow(timestamp, values));
-            if (dataset.getRows().size() >= dashboardContainer.getDashboardMaxItems()) {
+            result.rows.add(new DashboardDatasetRow(timestamp, values));
+            if (result.rows.size() >= maxRows) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private void fetchDashboardData(DashboardItemContainer dashboardContainer, QueryResult queryResult) {
+        DashboardDataset dataset = new DashboardDataset(queryResult.columnNames);
+        int maxItems = dashboardContainer.getDashboardMaxItems();
+        for (DashboardDatasetRow row : queryResult.rows) {
+            if (dataset.getRows().size() >= maxItems) {
                 break;
             }
+            dataset.addRow(row);
         }
 
         switch (dashboardContainer.getItemDescriptor().getFetchType()) {
@@ -354,7 +456,26 @@ public class DashboardUpdater {
                 dataset = transposeDataset(dataset);
                 break;
         }
-        dashboardContainer.updateDashboardData(dataset);
+        updateDashboardData(dashboardContainer, dataset);
+    }
+
+    /**
+     * Saves time series samples in the store and passes dataset to the dashboard.
+     * Dashboard without data (e.g. just opened view) gets the stored history first.
+     */
+    private void updateDashboardData(DashboardItemContainer dashboard, DashboardDataset dataset) {
+        if (dashboard.getItemDescriptor().getDataType() != DBDashboardDataType.timeseries || dataset.getRows().isEmpty()) {
+            dashboard.updateDashboardData(dataset);
+            return;
+        }
+        DashboardTimeSeriesStore store = DashboardTimeSeriesStore.getInstance();
+        String seriesId = dashboard.getDataSourceContainer().getId() + "/" + dashboard.getItemDescriptor().getId();
+        DashboardDataset dashboardDataset = dataset;
+        if (dashboard.getLastUpdateTime() == null) {
+            dashboardDataset = store.prependHistory(seriesId, dataset, System.currentTimeMillis() - dashboard.getDashboardMaxAge());
+        }
+        store.addDataset(seriesId, dataset);
+        dashboard.updateDashboardData(dashboardDataset);
     }
 
     private DashboardDataset transposeDataset(DashboardDataset dataset) {
@@ -443,4 +564,41 @@ public class DashboardUpdater {
         return null;
     }
 
-}
\ No newline at end of file
+    /**
+     * Updates dashboards of one data source
+     */
+    private class DataSourceUpdateJob extends AbstractJob {
+        @NotNull
+        private final DBPDataSourceContainer dsContainer;
+        @NotNull
+        private final List<DashboardItemContainer> dashboards;
+        @NotNull
+        private final CountDownLatch finishLatch;
+
+        DataSourceUpdateJob(
+            @NotNull DBPDataSourceContainer dsContainer,
+            @NotNull List<DashboardItemContainer> dashboards,
+            @NotNull CountDownLatch finishLatch
+        ) {
+            super("Update dashboards of " + dsContainer.getName());
+            setUser(false);
+            setSystem(true);
+            this.dsContainer = dsContainer;
+            this.dashboards = dashboards;
+            this.finishLatch = finishLatch;
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            try {
+                updateDataSourceDashboards(monitor, dsContainer, dashboards);
+            } catch (Exception e) {
+                log.debug("Error updating dashboards of '" + dsContainer.getName() + "'", e);
+            } finally {
+                finishLatch.countDown();
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
+}
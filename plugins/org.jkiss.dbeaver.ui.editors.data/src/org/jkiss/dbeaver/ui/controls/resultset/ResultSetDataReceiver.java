@@ -26,7 +26,6 @@ import org.jkiss.dbeaver.model.data.DBDDataReceiverInteractive;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.impl.data.DBDValueError;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
-import org.jkiss.dbeaver.model.struct.DBSAttributeBase;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
 import org.jkiss.dbeaver.model.struct.DBSEntity;
 import org.jkiss.dbeaver.ui.UIUtils;
@@ -46,6 +45,7 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
     private ResultSetViewer resultSetViewer;
     private int columnsCount;
     private DBDAttributeBinding[] metaColumns;
+    private DBCRowReader rowReader;
     private List<Object[]> rows = new ArrayList<>();
     private boolean hasMoreData;
     private boolean nextSegmentRead;
@@ -89,6 +89,10 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
         return errorList;
     }
 
+    DBDAttributeBinding[] getMetaColumns() {
+        return metaColumns;
+    }
+
     @Override
     public void fetchStart(@NotNull DBCSession session, @NotNull final DBCResultSet resultSet, long offset, long maxRows)
         throws DBCException {
@@ -112,6 +116,7 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
 
             resultSetViewer.setMetaData(resultSet, metaColumns);
         }
+        rowReader = resultSet.createRowReader(metaColumns, DBDAttributeBinding::getAttribute);
     }
 
     @Override
@@ -119,15 +124,7 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
         Object[] row = new Object[columnsCount];
         for (int i = 0; i < columnsCount; i++) {
             try {
-                DBSAttributeBase metaAttribute = metaColumns[i].getAttribute();
-                if (metaAttribute == null) {
-                    continue;
-                }
-                row[i] = metaColumns[i].getValueHandler().fetchValueObject(
-                    session,
-                    resultSet,
-                    metaAttribute,
-                    metaColumns[i].getOrdinalPosition());
+                row[i] = rowReader.readValue(i);
             } catch (Throwable e) {
                 // Do not reports the same error multiple times
                 // There are a lot of error could occur during result set fetch
@@ -207,6 +204,25 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
         });
     }
 
+    /**
+     * Appends next segment rows which were prefetched by the read-ahead job
+     */
+    void appendPrefetchedRows(@NotNull DBRProgressMonitor monitor, @NotNull List<Object[]> segmentRows, long maxRows) {
+        errorList.clear();
+        monitor.beginTask("Populate data", 1);
+        monitor.subTask("Append data");
+        resultSetViewer.appendData(monitor, segmentRows, false);
+        hasMoreData = maxRows > 0 && segmentRows.size() >= maxRows;
+        monitor.done();
+
+        UIUtils.syncExec(() -> {
+            if (!resultSetViewer.getControl().isDisposed()) {
+                resultSetViewer.getActivePresentation().refreshData(false, true, true);
+            }
+        });
+        close();
+    }
+
     private DBSDataContainer getDataContainer() {
         return targetDataContainer != null ? targetDataContainer : resultSetViewer.getDataContainer();
     }
@@ -217,6 +233,7 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
 
         attrErrors.clear();
         rows = new ArrayList<>();
+        rowReader = null;
     }
 
     @Override
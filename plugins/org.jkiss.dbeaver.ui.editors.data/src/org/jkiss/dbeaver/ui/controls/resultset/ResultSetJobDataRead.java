@@ -62,11 +62,19 @@ abstract class ResultSetJobDataRead extends ResultSetJobAbstract implements ILoa
         this.offset = offset;
     }
 
+    int getOffset() {
+        return offset;
+    }
+
     public void setMaxRows(int maxRows)
     {
         this.maxRows = maxRows;
     }
 
+    int getMaxRows() {
+        return maxRows;
+    }
+
     public void setRefresh(boolean refresh) {
         this.refresh = refresh;
     }
@@ -54,6 +54,9 @@ class ResultSetPersister {
 
     private static final Log log = Log.getLog(ResultSetPersister.class);
 
+    // Max number of rows saved in a single batch
+    private static final int MAX_BATCH_SIZE = 1000;
+
     /**
      * Data update listener
      */
@@ -801,6 +804,7 @@ class ResultSetPersister {
         private Throwable executeStatements(DBCSession session) {
             Map<String, Object> options = new LinkedHashMap<>();
             options.put(DBPScriptObject.OPTION_FULLY_QUALIFIED_NAMES, settings.isUseFullyQualifiedNames());
+            options.put(DBSDataManipulator.OPTION_USE_MULTI_DELETE, true);
 
             DBRProgressMonitor monitor = session.getProgressMonitor();
             DBCTransactionManager txnManager = DBUtils.getTransactionManager(getExecutionContext());
@@ -824,118 +828,226 @@ class ResultSetPersister {
                     }
                 }
             }
+            // Statements are grouped in batches only if failed batch can be rolled back and re-executed row by row
+            boolean canGroup = generateScript ||
+                (txnManager != null && !this.autocommit && txnManager.supportsSavepoints());
             try {
-                for (DataStatementInfo statement : ResultSetPersister.this.deleteStatements) {
-                    if (monitor.isCanceled()) break;
-                    try {
-                        DBSDataManipulator dataContainer = getDataManipulator(statement.entity);
-                        try (DBSDataManipulator.ExecuteBatch batch = dataContainer.deleteData(
-                            session,
-                            DBDAttributeValue.getAttributes(statement.keyAttributes),
-                            new ExecutionSource(dataContainer))) {
-                            batch.add(DBDAttributeValue.getValues(statement.keyAttributes));
-                            if (generateScript) {
-                                batch.generatePersistActions(session, script, options);
-                            } else {
-                                DBCStatistics bs = batch.execute(session, options);
-                                // Notify rsv container about statement execute
-                                this.notifyContainer(bs);
-
-                                deleteStats.accumulate(bs);
-                            }
+                for (List<DataStatementInfo> statements : List.of(
+                    ResultSetPersister.this.deleteStatements,
+                    ResultSetPersister.this.insertStatements,
+                    ResultSetPersister.this.updateStatements))
+                {
+                    for (List<DataStatementInfo> group : groupStatements(statements, canGroup)) {
+                        if (monitor.isCanceled()) break;
+                        Throwable error = group.size() > 1 ?
+                            executeStatementGroup(session, group, options, txnManager) :
+                            executeStatement(session, group.get(0), options);
+                        if (error != null) {
+                            return error;
                         }
-                        processStatementChanges(statement);
-                    } catch (DBException e) {
-                        processStatementError(statement, session);
-                        return e;
+                        monitor.worked(group.size());
                     }
-                    monitor.worked(1);
                 }
-                for (DataStatementInfo statement : ResultSetPersister.this.insertStatements) {
-                    if (monitor.isCanceled()) break;
+
+                return null;
+            } finally {
+                if (!generateScript && txnManager != null && this.savepoint != null) {
                     try {
-                        DBSDataManipulator dataContainer = getDataManipulator(statement.entity);
-                        try (DBSDataManipulator.ExecuteBatch batch = dataContainer.insertData(
-                            session,
-                            DBDAttributeValue.getAttributes(statement.keyAttributes),
-                            statement.needKeys() ? new KeyDataReceiver(statement) : null,
-                            new ExecutionSource(dataContainer),
-                            options)) {
-                            batch.add(DBDAttributeValue.getValues(statement.keyAttributes));
-                            if (generateScript) {
-                                batch.generatePersistActions(session, script, options);
-                            } else {
-                                DBCStatistics bs = batch.execute(session, options);
-                                // Notify rsv container about statement execute
-                                this.notifyContainer(bs);
-
-                                insertStats.accumulate(bs);
-                            }
-                        }
-                        processStatementChanges(statement);
-                    } catch (DBException e) {
-                        processStatementError(statement, session);
-                        return e;
+                        txnManager.releaseSavepoint(monitor, this.savepoint);
+                    } catch (Throwable e) {
+                        // Maybe savepoints not supported
+                        log.debug("Can't release savepoint", e);
                     }
-                    monitor.worked(1);
                 }
-                for (DataStatementInfo statement : ResultSetPersister.this.updateStatements) {
-                    if (monitor.isCanceled()) break;
-                    try {
-                        DBSDataManipulator dataContainer = getDataManipulator(statement.entity);
-                        try (DBSDataManipulator.ExecuteBatch batch = dataContainer.updateData(
-                            session,
-                            DBDAttributeValue.getAttributes(statement.updateAttributes),
-                            DBDAttributeValue.getAttributes(statement.keyAttributes),
-                            null,
-                            new ExecutionSource(dataContainer))) {
-                            // Make single array of values
-                            Object[] attributes = new Object[statement.updateAttributes.size() + statement.keyAttributes.size()];
-                            for (int i = 0; i < statement.updateAttributes.size(); i++) {
-                                attributes[i] = statement.updateAttributes.get(i).getValue();
-                            }
-                            for (int i = 0; i < statement.keyAttributes.size(); i++) {
-                                attributes[statement.updateAttributes.size() + i] = statement.keyAttributes.get(i).getValue();
-                            }
-                            // Execute
-                            batch.add(attributes);
-                            if (generateScript) {
-                                batch.generatePersistActions(session, script, options);
-                            } else {
-                                DBCStatistics bs = batch.execute(session, options);
-                                // Notify rsv container about statement execute
-                                this.notifyContainer(bs);
-
-                                updateStats.accumulate(bs);
-                            }
-                        }
-                        processStatementChanges(statement);
-                    } catch (DBException e) {
-                        processStatementError(statement, session);
-                        return e;
-                    }
-                    monitor.worked(1);
+            }
+        }
+
+        /**
+         * Splits statements into groups of consecutive statements with the same entity, key attributes and
+         * updated attributes. Statements order is preserved (cascade deletes depend on it).
+         */
+        @NotNull
+        private List<List<DataStatementInfo>> groupStatements(@NotNull List<DataStatementInfo> statements, boolean canGroup) {
+            List<List<DataStatementInfo>> groups = new ArrayList<>();
+            List<DataStatementInfo> group = null;
+            for (DataStatementInfo statement : statements) {
+                if (group == null || !canGroup || group.size() >= MAX_BATCH_SIZE || !group.get(0).hasSameShape(statement)) {
+                    group = new ArrayList<>();
+                    groups.add(group);
                 }
+                group.add(statement);
+            }
+            return groups;
+        }
 
+        @Nullable
+        private Throwable executeStatement(
+            @NotNull DBCSession session,
+            @NotNull DataStatementInfo statement,
+            @NotNull Map<String, Object> options
+        ) {
+            try {
+                executeBatch(session, List.of(statement), options);
+                return null;
+            } catch (DBException e) {
+                processStatementError(statement, session);
+                return e;
+            }
+        }
+
+        /**
+         * Executes statements in a single batch.
+         * If batch fails then it is rolled back and its statements are executed one by one to find the failed row.
+         * Statements are executed one by one from the start if the batch savepoint can't be set.
+         */
+        @Nullable
+        private Throwable executeStatementGroup(
+            @NotNull DBCSession session,
+            @NotNull List<DataStatementInfo> statements,
+            @NotNull Map<String, Object> options,
+            @Nullable DBCTransactionManager txnManager
+        ) {
+            DBRProgressMonitor monitor = session.getProgressMonitor();
+            DBCSavepoint groupSavepoint = null;
+            if (!generateScript && txnManager != null && txnManager.supportsSavepoints()) {
+                try {
+                    groupSavepoint = txnManager.setSavepoint(monitor, null);
+                } catch (Throwable e) {
+                    log.debug("Can't set savepoint", e);
+                }
+                if (groupSavepoint == null) {
+                    return executeStatementsSeparately(session, statements, options);
+                }
+            }
+            try {
+                executeBatch(session, statements, options);
                 return null;
+            } catch (DBException e) {
+                if (groupSavepoint == null) {
+                    processGroupError(statements, session);
+                    return e;
+                }
+                try {
+                    txnManager.rollback(session, groupSavepoint);
+                } catch (Throwable e1) {
+                    // We can't tell which rows were applied, so the whole group stays unsaved
+                    log.debug("Error during batch rollback", e1);
+                    processGroupError(statements, session);
+                    return e;
+                }
+                for (DataStatementInfo statement : statements) {
+                    statement.executed = false;
+                }
+                Throwable error = executeStatementsSeparately(session, statements, options);
+                if (error == null) {
+                    log.debug("Batch failed but its statements were executed separately: " + e.getMessage());
+                }
+                return error;
             } finally {
-                if (!generateScript && txnManager != null && this.savepoint != null) {
+                if (groupSavepoint != null) {
                     try {
-                        txnManager.releaseSavepoint(monitor, this.savepoint);
+                        txnManager.releaseSavepoint(monitor, groupSavepoint);
                     } catch (Throwable e) {
-                        // Maybe savepoints not supported
+                        // Savepoint may be already released by transaction rollback
                         log.debug("Can't release savepoint", e);
                     }
                 }
             }
         }
 
+        @Nullable
+        private Throwable executeStatementsSeparately(
+            @NotNull DBCSession session,
+            @NotNull List<DataStatementInfo> statements,
+            @NotNull Map<String, Object> options
+        ) {
+            for (DataStatementInfo statement : statements) {
+                Throwable error = executeStatement(session, statement, options);
+                if (error != null) {
+                    return error;
+                }
+            }
+            return null;
+        }
+
+        private void executeBatch(
+            @NotNull DBCSession session,
+            @NotNull List<DataStatementInfo> statements,
+            @NotNull Map<String, Object> options
+        ) throws DBException {
+            DataStatementInfo first = statements.get(0);
+            DBSDataManipulator dataContainer = getDataManipulator(first.entity);
+            try (DBSDataManipulator.ExecuteBatch batch = createBatch(session, dataContainer, first, options)) {
+                for (DataStatementInfo statement : statements) {
+                    batch.add(statement.getBatchValues());
+                }
+                if (generateScript) {
+                    batch.generatePersistActions(session, script, options);
+                } else {
+                    DBCStatistics bs = batch.execute(session, options);
+                    // Notify rsv container about statement execute
+                    this.notifyContainer(bs);
+
+                    if (first.type == DBSManipulationType.DELETE) {
+                        deleteStats.accumulate(bs);
+                    } else if (first.type == DBSManipulationType.INSERT) {
+                        insertStats.accumulate(bs);
+                    } else {
+                        updateStats.accumulate(bs);
+                    }
+                }
+            }
+            for (DataStatementInfo statement : statements) {
+                processStatementChanges(statement);
+            }
+        }
+
+        @NotNull
+        private DBSDataManipulator.ExecuteBatch createBatch(
+            @NotNull DBCSession session,
+            @NotNull DBSDataManipulator dataContainer,
+            @NotNull DataStatementInfo statement,
+            @NotNull Map<String, Object> options
+        ) throws DBException {
+            if (statement.type == DBSManipulationType.DELETE) {
+                return dataContainer.deleteData(
+                    session,
+                    DBDAttributeValue.getAttributes(statement.keyAttributes),
+                    new ExecutionSource(dataContainer));
+            } else if (statement.type == DBSManipulationType.INSERT) {
+                return dataContainer.insertData(
+                    session,
+                    DBDAttributeValue.getAttributes(statement.keyAttributes),
+                    statement.needKeys() ? new KeyDataReceiver(statement) : null,
+                    new ExecutionSource(dataContainer),
+                    options);
+            } else {
+                return dataContainer.updateData(
+                    session,
+                    DBDAttributeValue.getAttributes(statement.updateAttributes),
+                    DBDAttributeValue.getAttributes(statement.keyAttributes),
+                    null,
+                    new ExecutionSource(dataContainer));
+            }
+        }
+
         private void processStatementChanges(DataStatementInfo statement) {
             statement.executed = true;
         }
 
         private void processStatementError(DataStatementInfo statement, DBCSession session) {
             statement.executed = false;
+            rollbackChanges(session);
+        }
+
+        private void processGroupError(List<DataStatementInfo> statements, DBCSession session) {
+            for (DataStatementInfo statement : statements) {
+                statement.executed = false;
+            }
+            rollbackChanges(session);
+        }
+
+        private void rollbackChanges(DBCSession session) {
             if (!generateScript) {
                 DBCTransactionManager txnManager = DBUtils.getTransactionManager(getExecutionContext());
                 if (txnManager != null) {
@@ -1046,6 +1158,43 @@ class ResultSetPersister {
             this.entity = entity;
         }
 
+        /**
+         * Returns true if both statements may be executed in the same batch.
+         * Null key values change the key condition (IS NULL), so they must be null in both statements.
+         */
+        boolean hasSameShape(@NotNull DataStatementInfo statement) {
+            return type == statement.type &&
+                entity == statement.entity &&
+                !needKeys() && !statement.needKeys() &&
+                Arrays.equals(DBDAttributeValue.getAttributes(keyAttributes), DBDAttributeValue.getAttributes(statement.keyAttributes)) &&
+                Arrays.equals(DBDAttributeValue.getAttributes(updateAttributes), DBDAttributeValue.getAttributes(statement.updateAttributes)) &&
+                Arrays.equals(getKeyNulls(), statement.getKeyNulls());
+        }
+
+        @NotNull
+        private boolean[] getKeyNulls() {
+            boolean[] nulls = new boolean[keyAttributes.size()];
+            for (int i = 0; i < nulls.length; i++) {
+                nulls[i] = DBUtils.isNullValue(keyAttributes.get(i).getValue());
+            }
+            return nulls;
+        }
+
+        /**
+         * Batch values: updated attribute values followed by key attribute values
+         */
+        @NotNull
+        Object[] getBatchValues() {
+            Object[] values = new Object[updateAttributes.size() + keyAttributes.size()];
+            for (int i = 0; i < updateAttributes.size(); i++) {
+                values[i] = updateAttributes.get(i).getValue();
+            }
+            for (int i = 0; i < keyAttributes.size(); i++) {
+                values[updateAttributes.size() + i] = keyAttributes.get(i).getValue();
+            }
+            return values;
+        }
+
         boolean needKeys() {
             for (DBDAttributeValue col : keyAttributes) {
                 if (col.getAttribute().isAutoGenerated() && DBUtils.isNullValue(col.getValue())) {
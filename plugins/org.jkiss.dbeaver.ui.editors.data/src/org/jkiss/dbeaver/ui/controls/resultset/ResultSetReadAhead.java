@@ -0,0 +1,416 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
+import org.jkiss.dbeaver.model.data.DBDDataReceiver;
+import org.jkiss.dbeaver.model.data.DBDKeysetPosition;
+import org.jkiss.dbeaver.model.data.DBDValue;
+import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.impl.data.DBDValueError;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.model.struct.DBSInstance;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reads next result set segments in background while user looks at the already fetched rows.
+ * <p>
+ * Prefetched segments are kept in a bounded buffer. Next segment read takes rows from the buffer
+ * instead of executing a query. Buffer is dropped when data container or data filter (e.g. ordering) changes.
+ * Read-ahead stops if heap usage is high, so prefetched rows never push the workbench out of memory.
+ * <p>
+ * Segments are read in a separate isolated context, so read-ahead never runs statements on the viewer context
+ * concurrently with data save, refresh or SQL editor queries. As the isolated context doesn't see uncommitted
+ * changes, nothing is read ahead if the viewer context is in manual commit mode.
+ */
+class ResultSetReadAhead {
+
+    private static final Log log = Log.getLog(ResultSetReadAhead.class);
+
+    // Do not prefetch anything if used heap exceeds this part of max heap
+    private static final double MAX_HEAP_USAGE = 0.7;
+    private static final long WAIT_PERIOD = 100;
+    private static final String CONTEXT_PURPOSE = "Result set read-ahead";
+
+    @NotNull
+    private final ResultSetViewer viewer;
+
+    // Buffer state. Guarded by this
+    private DBSDataContainer dataContainer;
+    private DBDDataFilter dataFilter;
+    private final Deque<List<Object[]>> segments = new ArrayDeque<>();
+    private int bufferOffset;
+    private int bufferedRows;
+    private boolean hasMoreData;
+    // Incremented on each reset, so the running job can't put stale rows in the buffer
+    private long generation;
+
+    private ReadAheadJob readJob;
+    private boolean readJobRunning;
+
+    ResultSetReadAhead(@NotNull ResultSetViewer viewer) {
+        this.viewer = viewer;
+    }
+
+    /**
+     * Starts read-ahead of segments which follow the specified offset.
+     * Rows which were already prefetched for the same container and filter are kept.
+     * Model state (offset, keys) must be taken in UI thread, the job itself doesn't access the model.
+     *
+     * @param lastRowPosition key position of the last fetched row, or null if rows are not read by key
+     * @param keysetResolver  makes key position of prefetched row, or null if rows are not read by key
+     */
+    void schedule(
+        @NotNull DBSDataContainer dataContainer,
+        @NotNull DBDDataFilter dataFilter,
+        @NotNull DBCExecutionContext executionContext,
+        @NotNull DBDAttributeBinding[] attributes,
+        int offset,
+        int segmentSize,
+        int segmentCount,
+        @Nullable DBDKeysetPosition lastRowPosition,
+        @Nullable Function<Object[], DBDKeysetPosition> keysetResolver
+    ) {
+        ReadAheadJob job;
+        synchronized (this) {
+            if (!isSameSource(dataContainer, dataFilter) || bufferOffset != offset) {
+                resetBuffer();
+                this.dataContainer = dataContainer;
+                this.dataFilter = new DBDDataFilter(dataFilter);
+                this.bufferOffset = offset;
+                this.hasMoreData = true;
+            }
+            if (!hasMoreData || segments.size() >= segmentCount || readJobRunning) {
+                return;
+            }
+            job = new ReadAheadJob(
+                executionContext, attributes, segmentSize, segmentCount, generation, lastRowPosition, keysetResolver);
+            readJob = job;
+            readJobRunning = true;
+        }
+        job.schedule();
+    }
+
+    /**
+     * Takes prefetched segment which starts at the specified offset.
+     * Waits for the running read-ahead job, so the same rows are not read twice.
+     *
+     * @return segment rows or null if there is no such segment in the buffer
+     */
+    @Nullable
+    List<Object[]> takeSegment(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSDataContainer dataContainer,
+        @Nullable DBDDataFilter dataFilter,
+        int offset
+    ) {
+        synchronized (this) {
+            if (dataFilter == null || !isSameSource(dataContainer, dataFilter) || bufferOffset != offset) {
+                resetBuffer();
+                return null;
+            }
+            // Job notifies when it finishes. Wait period only limits reaction on the monitor cancel.
+            while (readJobRunning) {
+                if (monitor.isCanceled()) {
+                    return null;
+                }
+                try {
+                    wait(WAIT_PERIOD);
+                } catch (InterruptedException e) {
+                    return null;
+                }
+            }
+            if (!isSameSource(dataContainer, dataFilter) || bufferOffset != offset) {
+                return null;
+            }
+            List<Object[]> rows = segments.pollFirst();
+            if (rows != null) {
+                bufferOffset += rows.size();
+                bufferedRows -= rows.size();
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * Cancels read-ahead and drops all prefetched rows
+     */
+    void reset() {
+        ReadAheadJob job;
+        synchronized (this) {
+            resetBuffer();
+            dataContainer = null;
+            dataFilter = null;
+            job = readJob;
+            readJob = null;
+            readJobRunning = false;
+            notifyAll();
+        }
+        if (job != null) {
+            // Job reads in its own context, so there is no need to wait for it
+            job.cancel();
+        }
+    }
+
+    private boolean isSameSource(@NotNull DBSDataContainer dataContainer, @NotNull DBDDataFilter dataFilter) {
+        return this.dataContainer == dataContainer && CommonUtils.equalObjects(this.dataFilter, dataFilter);
+    }
+
+    private void resetBuffer() {
+        generation++;
+        for (List<Object[]> rows : segments) {
+            releaseRows(rows);
+        }
+        segments.clear();
+        bufferedRows = 0;
+    }
+
+    private static void releaseRows(@NotNull List<Object[]> rows) {
+        for (Object[] row : rows) {
+            for (Object value : row) {
+                if (value instanceof DBDValue dbdValue) {
+                    dbdValue.release();
+                }
+            }
+        }
+    }
+
+    private static boolean isHeapUsageHigh() {
+        Runtime runtime = Runtime.getRuntime();
+        long usedMemory = runtime.totalMemory() - runtime.freeMemory();
+        return usedMemory > runtime.maxMemory() * MAX_HEAP_USAGE;
+    }
+
+    private class ReadAheadJob extends AbstractJob {
+
+        @NotNull
+        private final DBCExecutionContext executionContext;
+        @NotNull
+        private final DBDAttributeBinding[] attributes;
+        private final int segmentSize;
+        private final int segmentCount;
+        private final long jobGeneration;
+        @Nullable
+        private final DBDKeysetPosition lastRowPosition;
+        @Nullable
+        private final Function<Object[], DBDKeysetPosition> keysetResolver;
+
+        ReadAheadJob(
+            @NotNull DBCExecutionContext executionContext,
+            @NotNull DBDAttributeBinding[] attributes,
+            int segmentSize,
+            int segmentCount,
+            long jobGeneration,
+            @Nullable DBDKeysetPosition lastRowPosition,
+            @Nullable Function<Object[], DBDKeysetPosition> keysetResolver
+        ) {
+            super("Read ahead next result set segment");
+            setUser(false);
+            setSystem(true);
+            this.executionContext = executionContext;
+            this.attributes = attributes;
+            this.segmentSize = segmentSize;
+            this.segmentCount = segmentCount;
+            this.jobGeneration = jobGeneration;
+            this.lastRowPosition = lastRowPosition;
+            this.keysetResolver = keysetResolver;
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            try {
+                readSegments(monitor);
+            } finally {
+                synchronized (ResultSetReadAhead.this) {
+                    if (readJob == this) {
+                        readJobRunning = false;
+                        ResultSetReadAhead.this.notifyAll();
+                    }
+                }
+            }
+            return Status.OK_STATUS;
+        }
+
+        private void readSegments(@NotNull DBRProgressMonitor monitor) {
+            try {
+                DBCTransactionManager txnManager = DBUtils.getTransactionManager(executionContext);
+                if (txnManager != null && !txnManager.isAutoCommit()) {
+                    // Isolated context won't see uncommitted changes of the viewer context
+                    return;
+                }
+            } catch (DBCException e) {
+                log.debug("Error reading auto-commit mode: " + e.getMessage());
+                return;
+            }
+            DBSDataContainer container;
+            synchronized (ResultSetReadAhead.this) {
+                if (generation != jobGeneration) {
+                    return;
+                }
+                container = dataContainer;
+            }
+            DBSInstance instance = DBUtils.getObjectOwnerInstance(container);
+            DBCExecutionContext isolatedContext;
+            try {
+                isolatedContext = instance.openIsolatedContext(monitor, CONTEXT_PURPOSE, executionContext);
+            } catch (DBException e) {
+                log.debug("Error opening read-ahead context: " + e.getMessage());
+                return;
+            }
+            try {
+                readSegments(monitor, isolatedContext);
+            } finally {
+                isolatedContext.close();
+            }
+        }
+
+        private void readSegments(@NotNull DBRProgressMonitor monitor, @NotNull DBCExecutionContext isolatedContext) {
+            while (!monitor.isCanceled() && !viewer.isRefreshInProgress()) {
+                if (isHeapUsageHigh()) {
+                    log.debug("Result set read-ahead stopped: heap usage is too high");
+                    break;
+                }
+                DBSDataContainer container;
+                DBDDataFilter filter;
+                int offset;
+                Object[] lastRow;
+                synchronized (ResultSetReadAhead.this) {
+                    if (generation != jobGeneration || !hasMoreData || segments.size() >= segmentCount) {
+                        break;
+                    }
+                    container = dataContainer;
+                    filter = dataFilter;
+                    offset = bufferOffset + bufferedRows;
+                    List<Object[]> lastSegment = segments.peekLast();
+                    lastRow = CommonUtils.isEmpty(lastSegment) ? null : lastSegment.get(lastSegment.size() - 1);
+                }
+                // Read after the last prefetched row key if possible, otherwise after the last model row
+                DBDKeysetPosition keysetPosition;
+                if (lastRow == null) {
+                    keysetPosition = lastRowPosition;
+                } else {
+                    keysetPosition = keysetResolver == null ? null : keysetResolver.apply(lastRow);
+                }
+                if (keysetPosition != null) {
+                    filter = new DBDDataFilter(filter);
+                    filter.setKeysetPosition(keysetPosition);
+                }
+                List<Object[]> rows;
+                try {
+                    rows = readSegment(monitor, isolatedContext, container, filter, offset);
+                } catch (Throwable e) {
+                    // Segment will be read by the viewer itself and error will be shown there
+                    log.debug("Error reading result set segment ahead: " + e.getMessage());
+                    break;
+                }
+                synchronized (ResultSetReadAhead.this) {
+                    if (generation != jobGeneration || monitor.isCanceled()) {
+                        releaseRows(rows);
+                        break;
+                    }
+                    segments.addLast(rows);
+                    bufferedRows += rows.size();
+                    hasMoreData = rows.size() >= segmentSize;
+                }
+            }
+        }
+
+        @NotNull
+        private List<Object[]> readSegment(
+            @NotNull DBRProgressMonitor monitor,
+            @NotNull DBCExecutionContext isolatedContext,
+            @NotNull DBSDataContainer container,
+            @NotNull DBDDataFilter filter,
+            long offset
+        ) throws DBCException {
+            SegmentReceiver receiver = new SegmentReceiver(attributes);
+            try (DBCSession session = isolatedContext.openSession(
+                monitor,
+                filter.hasFilters() ? DBCExecutionPurpose.USER_FILTERED : DBCExecutionPurpose.USER,
+                "Read ahead result set segment"))
+            {
+                container.readData(
+                    new ResultSetExecutionSource(container, viewer, this, filter),
+                    session,
+                    receiver,
+                    filter,
+                    offset,
+                    segmentSize,
+                    DBSDataContainer.FLAG_READ_PSEUDO | DBSDataContainer.FLAG_FETCH_SEGMENT,
+                    0);
+            }
+            return receiver.rows;
+        }
+    }
+
+    /**
+     * Collects segment rows. Values are fetched exactly like the viewer data receiver does it for the next segment read.
+     */
+    private static class SegmentReceiver implements DBDDataReceiver {
+
+        @NotNull
+        private final DBDAttributeBinding[] attributes;
+        private final List<Object[]> rows = new ArrayList<>();
+        private DBCRowReader rowReader;
+
+        SegmentReceiver(@NotNull DBDAttributeBinding[] attributes) {
+            this.attributes = attributes;
+        }
+
+        @Override
+        public void fetchStart(@NotNull DBCSession session, @NotNull DBCResultSet resultSet, long offset, long maxRows) {
+            rowReader = resultSet.createRowReader(attributes, DBDAttributeBinding::getAttribute);
+        }
+
+        @Override
+        public void fetchRow(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) {
+            Object[] row = new Object[attributes.length];
+            for (int i = 0; i < attributes.length; i++) {
+                try {
+                    row[i] = rowReader.readValue(i);
+                } catch (Throwable e) {
+                    row[i] = new DBDValueError(e);
+                }
+            }
+            rows.add(row);
+        }
+
+        @Override
+        public void fetchEnd(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -123,6 +123,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 /**
  * ResultSetViewer
@@ -219,6 +220,7 @@ public class ResultSetViewer extends Viewer
     private final AtomicBoolean dataPumpRunning = new AtomicBoolean();
 
     private final ResultSetModel model = new ResultSetModel();
+    private final ResultSetReadAhead readAhead = new ResultSetReadAhead(this);
     private HistoryStateItem curState = null;
     private final List<HistoryStateItem> stateHistory = new ArrayList<>();
     private int historyPosition = -1;
@@ -238,6 +240,8 @@ public class ResultSetViewer extends Viewer
     private volatile long lastThemeUpdateTime;
 
     private volatile boolean nextSegmentReadingBlocked;
+    // Rows were reordered in the client, so the last model row is not the last row read from the server
+    private volatile boolean orderedLocally;
 
     private volatile boolean isWindowVisible = true;
     private volatile boolean needToRetryTaskOnWindowDeiconified = false;
@@ -2489,6 +2493,7 @@ public class ResultSetViewer extends Viewer
     private void reorderLocally(DBDAttributeBinding columnElement)
     {
         this.rejectChanges();
+        this.orderedLocally = true;
         this.getModel().resetOrdering(columnElement);
         this.getActivePresentation().refreshData(false, false, true);
         this.updateFiltersText();
@@ -4153,9 +4158,16 @@ public class ResultSetViewer extends Viewer
                 dataReceiver.setHasMoreData(false);
                 dataReceiver.setNextSegmentRead(true);
 
+                DBDDataFilter dataFilter = model.getDataFilter();
+                DBDKeysetPosition keysetPosition = getLastRowKeysetPosition(dataContainer);
+                if (keysetPosition != null) {
+                    // Let container read next segment after the last row key
+                    dataFilter = new DBDDataFilter(dataFilter);
+                    dataFilter.setKeysetPosition(keysetPosition);
+                }
                 runDataPump(
                     dataContainer,
-                    model.getDataFilter(),
+                    dataFilter,
                     model.getRowCount(),
                     getSegmentMaxRows(),
                     -1,//curRow == null ? -1 : curRow.getRowNumber(), // Do not reposition cursor after next segment read!
@@ -4167,6 +4179,57 @@ public class ResultSetViewer extends Viewer
         });
     }
 
+    /**
+     * Returns unique key values of the last read row.
+     * Returns null if rows were reordered locally: the next segment is then read by offset.
+     */
+    @Nullable
+    private DBDKeysetPosition getLastRowKeysetPosition(@NotNull DBSDataContainer dataContainer) {
+        if (orderedLocally) {
+            return null;
+        }
+        int rowCount = model.getRowCount();
+        if (rowCount == 0) {
+            return null;
+        }
+        ResultSetRow lastRow = model.getRow(rowCount - 1);
+        if (lastRow.getState() != ResultSetRow.STATE_NORMAL) {
+            return null;
+        }
+        Function<Object[], DBDKeysetPosition> keysetResolver = getKeysetResolver(dataContainer);
+        return keysetResolver == null ? null : keysetResolver.apply(lastRow.getValues());
+    }
+
+    /**
+     * Returns function which makes unique key values of the row values.
+     * Must be called in UI thread. Resolver doesn't access the model, so it may be used in any thread.
+     *
+     * @return resolver or null if rows of this container have no unique key
+     */
+    @Nullable
+    private Function<Object[], DBDKeysetPosition> getKeysetResolver(@NotNull DBSDataContainer dataContainer) {
+        DBDRowIdentifier rowIdentifier = model.getDefaultRowIdentifier();
+        if (rowIdentifier == null || rowIdentifier.isIncomplete() || rowIdentifier.getEntity() != dataContainer) {
+            return null;
+        }
+        List<DBDAttributeBinding> keyBindings = new ArrayList<>(rowIdentifier.getAttributes());
+        DBDAttributeBinding[] attributes = model.getAttributes();
+        return rowValues -> {
+            List<String> names = new ArrayList<>();
+            List<Object> values = new ArrayList<>();
+            for (DBDAttributeBinding binding : keyBindings) {
+                DBSEntityAttribute entityAttribute = binding.getEntityAttribute();
+                Object value = DBUtils.getAttributeValue(binding, attributes, rowValues);
+                if (entityAttribute == null || DBUtils.isNullValue(value)) {
+                    return null;
+                }
+                names.add(entityAttribute.getName());
+                values.add(value);
+            }
+            return new DBDKeysetPosition(names, values);
+        };
+    }
+
     private boolean verifyQuerySafety() {
         if (container.getDataContainer() == null || !container.getDataContainer().isFeatureSupported(DBSDataContainer.FEATURE_DATA_MODIFIED_ON_REFRESH) ) {
             return true;
@@ -4266,6 +4329,36 @@ public class ResultSetViewer extends Viewer
         return size;
     }
 
+    /**
+     * Starts background read of the next segments (if enabled).
+     * Only entities are read ahead: queries may have side effects and must be executed only on user request.
+     * Must be called in UI thread.
+     */
+    private void scheduleReadAhead(@NotNull DBSDataContainer dataContainer, @NotNull DBCExecutionContext executionContext) {
+        if (getControl().isDisposed() || model.isUpdateInProgress()) {
+            return;
+        }
+        int segmentCount = getPreferenceStore().getInt(ResultSetPreferences.RESULT_SET_READ_AHEAD_SEGMENTS);
+        int segmentSize = getSegmentMaxRows();
+        DBDAttributeBinding[] metaColumns = dataReceiver.getMetaColumns();
+        if (segmentCount <= 0 || segmentSize <= 0 || metaColumns == null || !dataReceiver.isHasMoreData() ||
+            !(dataContainer instanceof DBSEntity) || dataContainer != getDataContainer() ||
+            getPreferenceStore().getBoolean(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING))
+        {
+            return;
+        }
+        readAhead.schedule(
+            dataContainer,
+            model.getDataFilter(),
+            executionContext,
+            metaColumns,
+            model.getRowCount(),
+            segmentSize,
+            segmentCount,
+            getLastRowKeysetPosition(dataContainer),
+            orderedLocally ? null : getKeysetResolver(dataContainer));
+    }
+
     @NotNull
     public String getActiveQueryText() {
         DBCStatistics statistics = getModel().getStatistics();
@@ -4311,6 +4404,12 @@ public class ResultSetViewer extends Viewer
         }
         // Cancel any refresh jobs
         autoRefreshControl.cancelRefresh();
+        if (!scroll) {
+            // Prefetched rows belong to the previous data
+            readAhead.reset();
+            // Rows will be read in the server order
+            orderedLocally = false;
+        }
 
         // Read data
         Composite progressControl = viewerPanel;
@@ -4407,6 +4506,7 @@ public class ResultSetViewer extends Viewer
 
     public void clearData(boolean clearMetaData)
     {
+        this.readAhead.reset();
         this.model.releaseAllData();
         this.model.clearData();
         this.curRow = null;
@@ -5109,10 +5209,24 @@ public class ResultSetViewer extends Viewer
             }
             beforeDataRead();
             try {
+                if (scroll) {
+                    List<Object[]> prefetchedRows = readAhead.takeSegment(
+                        monitor,
+                        executionSource.getDataContainer(),
+                        executionSource.getUseDataFilter(),
+                        getOffset());
+                    if (prefetchedRows != null) {
+                        dataReceiver.appendPrefetchedRows(monitor, prefetchedRows, getMaxRows());
+                        return Status.OK_STATUS;
+                    }
+                }
                 return super.run(monitor);
             } finally {
                 afterDataRead();
                 releaseDataReadLock();
+                if (getError() == null) {
+                    UIUtils.asyncExec(() -> scheduleReadAhead(executionSource.getDataContainer(), getExecutionContext()));
+                }
             }
         }
 
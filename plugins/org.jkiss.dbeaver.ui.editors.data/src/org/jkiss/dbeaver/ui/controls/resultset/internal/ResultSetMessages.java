@@ -339,6 +339,10 @@ public class ResultSetMessages extends NLS {
     public static String pref_page_database_resultsets_label_reread_on_scrolling_tip;
     public static String pref_page_database_resultsets_label_use_sql;
     public static String pref_page_database_resultsets_label_use_sql_tip;
+    public static String pref_page_database_resultsets_label_keyset_pagination;
+    public static String pref_page_database_resultsets_label_keyset_pagination_tip;
+    public static String pref_page_database_resultsets_label_read_ahead_segments;
+    public static String pref_page_database_resultsets_label_read_ahead_segments_tip;
     public static String pref_page_database_resultsets_label_order_mode;
     public static String pref_page_database_resultsets_label_order_mode_tip;
     public static String pref_page_database_resultsets_label_order_mode_smart;
@@ -58,6 +58,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
     private Button rereadOnScrollingCheck;
     private Text resultSetSize;
     private Button resultSetUseSQLCheck;
+    private Button keysetPaginationCheck;
+    private Text readAheadSegments;
     private Combo orderingModeCombo;
     private Text queryCancelTimeout;
     private Button filterForceSubselect;
@@ -93,6 +95,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
             store.contains(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING) ||
             store.contains(ModelPreferences.RESULT_SET_MAX_ROWS) ||
             store.contains(ModelPreferences.RESULT_SET_MAX_ROWS_USE_SQL) ||
+            store.contains(ModelPreferences.RESULT_SET_KEYSET_PAGINATION) ||
+            store.contains(ResultSetPreferences.RESULT_SET_READ_AHEAD_SEGMENTS) ||
             store.contains(ResultSetPreferences.RESULT_SET_AUTOMATIC_ROW_COUNT) ||
             store.contains(ResultSetPreferences.RESULT_SET_CANCEL_TIMEOUT) ||
             store.contains(ModelPreferences.SQL_FILTER_FORCE_SUBSELECT) ||
@@ -145,6 +149,10 @@ public class PrefPageResultSetMain extends TargetPrefPage
             autoFetchNextSegmentCheck = UIUtils.createCheckbox(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_auto_fetch_segment, ResultSetMessages.pref_page_database_resultsets_label_auto_fetch_segment_tip, true, 2);
             rereadOnScrollingCheck = UIUtils.createCheckbox(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_reread_on_scrolling, ResultSetMessages.pref_page_database_resultsets_label_reread_on_scrolling_tip, true, 2);
             resultSetUseSQLCheck = UIUtils.createCheckbox(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_use_sql, ResultSetMessages.pref_page_database_resultsets_label_use_sql_tip, false, 2);
+            keysetPaginationCheck = UIUtils.createCheckbox(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_keyset_pagination, ResultSetMessages.pref_page_database_resultsets_label_keyset_pagination_tip, false, 2);
+            readAheadSegments = UIUtils.createLabelText(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_read_ahead_segments, "0", SWT.BORDER);
+            readAheadSegments.addVerifyListener(UIUtils.getIntegerVerifyListener(Locale.getDefault()));
+            readAheadSegments.setToolTipText(ResultSetMessages.pref_page_database_resultsets_label_read_ahead_segments_tip);
             automaticRowCountCheck = UIUtils.createCheckbox(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_automatic_row_count, ResultSetMessages.pref_page_database_resultsets_label_automatic_row_count_tip, false, 2);
             orderingModeCombo = UIUtils.createLabelCombo(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_order_mode, ResultSetMessages.pref_page_database_resultsets_label_order_mode_tip, SWT.DROP_DOWN | SWT.READ_ONLY);
             for (ResultSetUtils.OrderingMode mode : ResultSetUtils.OrderingMode.values()) {
@@ -256,6 +264,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
             }
             resultSetSize.setText(String.valueOf(rsSegmentSize));
             resultSetUseSQLCheck.setSelection(store.getBoolean(ModelPreferences.RESULT_SET_MAX_ROWS_USE_SQL));
+            keysetPaginationCheck.setSelection(store.getBoolean(ModelPreferences.RESULT_SET_KEYSET_PAGINATION));
+            readAheadSegments.setText(String.valueOf(store.getInt(ResultSetPreferences.RESULT_SET_READ_AHEAD_SEGMENTS)));
             automaticRowCountCheck.setSelection(store.getBoolean(ResultSetPreferences.RESULT_SET_AUTOMATIC_ROW_COUNT));
             orderingModeCombo.select(CommonUtils.valueOf(ResultSetUtils.OrderingMode.class, store.getString(ResultSetPreferences.RESULT_SET_ORDERING_MODE), ResultSetUtils.OrderingMode.SMART).ordinal());
             queryCancelTimeout.setText(store.getString(ResultSetPreferences.RESULT_SET_CANCEL_TIMEOUT));
@@ -292,6 +302,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
             store.setValue(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING, rereadOnScrollingCheck.getSelection());
             store.setValue(ModelPreferences.RESULT_SET_MAX_ROWS, resultSetSize.getText());
             store.setValue(ModelPreferences.RESULT_SET_MAX_ROWS_USE_SQL, resultSetUseSQLCheck.getSelection());
+            store.setValue(ModelPreferences.RESULT_SET_KEYSET_PAGINATION, keysetPaginationCheck.getSelection());
+            store.setValue(ResultSetPreferences.RESULT_SET_READ_AHEAD_SEGMENTS, CommonUtils.toInt(readAheadSegments.getText()));
             store.setValue(ResultSetPreferences.RESULT_SET_AUTOMATIC_ROW_COUNT, automaticRowCountCheck.getSelection());
             store.setValue(ResultSetPreferences.RESULT_SET_ORDERING_MODE, ResultSetUtils.OrderingMode.values()[orderingModeCombo.getSelectionIndex()].toString());
             store.setValue(ResultSetPreferences.RESULT_SET_CANCEL_TIMEOUT, queryCancelTimeout.getText());
@@ -327,6 +339,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
         store.setToDefault(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING);
         store.setToDefault(ModelPreferences.RESULT_SET_MAX_ROWS);
         store.setToDefault(ModelPreferences.RESULT_SET_MAX_ROWS_USE_SQL);
+        store.setToDefault(ModelPreferences.RESULT_SET_KEYSET_PAGINATION);
+        store.setToDefault(ResultSetPreferences.RESULT_SET_READ_AHEAD_SEGMENTS);
         store.setToDefault(ResultSetPreferences.RESULT_SET_AUTOMATIC_ROW_COUNT);
         store.setToDefault(ResultSetPreferences.RESULT_SET_ORDERING_MODE);
         store.setToDefault(ResultSetPreferences.RESULT_SET_CANCEL_TIMEOUT);
@@ -356,6 +370,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
         rereadOnScrollingCheck.setSelection(store.getDefaultBoolean(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING));
         resultSetSize.setText(String.valueOf(store.getDefaultInt(ModelPreferences.RESULT_SET_MAX_ROWS)));
         resultSetUseSQLCheck.setSelection(store.getDefaultBoolean(ModelPreferences.RESULT_SET_MAX_ROWS_USE_SQL));
+        keysetPaginationCheck.setSelection(store.getDefaultBoolean(ModelPreferences.RESULT_SET_KEYSET_PAGINATION));
+        readAheadSegments.setText(String.valueOf(store.getDefaultInt(ResultSetPreferences.RESULT_SET_READ_AHEAD_SEGMENTS)));
         automaticRowCountCheck.setSelection(store.getDefaultBoolean(ResultSetPreferences.RESULT_SET_AUTOMATIC_ROW_COUNT));
         orderingModeCombo.select(ResultSetUtils.OrderingMode.SMART.ordinal());
         queryCancelTimeout.setText(String.valueOf(store.getDefaultInt(ResultSetPreferences.RESULT_SET_CANCEL_TIMEOUT)));
@@ -26,6 +26,8 @@ import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
 import java.util.*;
 
 
@@ -82,7 +84,7 @@ public class BinaryContent {
             this(aPosition, aFile.length());
             if (length < 0L) throw new IOException("File error");
 
-            data = new RandomAccessFile(aFile, "r");
+            data = new MappedFileData(aFile);
             dirty = isDirty;
         }
 
@@ -137,6 +139,8 @@ public class BinaryContent {
     private long changesPosition = -1L;
     private TreeSet<Range> ranges = new TreeSet<>();
     private Iterator<Range> tailTree = null;
+    private final List<MappedFileData> fileData = new ArrayList<>();  // all files read by ranges and undo history
+    private final List<File> backupFiles = new ArrayList<>();
 
     /**
      * Create new empty content.
@@ -158,7 +162,7 @@ public class BinaryContent {
         if (aFile == null || aFile.length() < 1L)
             return;
 
-        ranges.add(new Range(0L, aFile, false));
+        ranges.add(createFileRange(0L, aFile, false));
     }
 
 
@@ -365,6 +369,16 @@ public class BinaryContent {
             actions.dispose();
             actions = null;
         }
+        for (MappedFileData data : fileData) {
+            ContentUtils.close(data);
+        }
+        fileData.clear();
+        for (File backupFile : backupFiles) {
+            if (!backupFile.delete()) {
+                backupFile.deleteOnExit();
+            }
+        }
+        backupFiles.clear();
         ranges = null;
         listeners = null;
     }
@@ -399,18 +413,11 @@ public class BinaryContent {
                 src.limit(src.position() + Math.min(dst.remaining(), maxCopyLength));
             }
             dst.put(src);
-        } else if (sourceRange.data instanceof RandomAccessFile) {
-            RandomAccessFile src = (RandomAccessFile) sourceRange.data;
+        } else if (sourceRange.data instanceof MappedFileData) {
+            MappedFileData src = (MappedFileData) sourceRange.data;
             long start = sourceRange.dataOffset + overlapBytes;
             int length = (int) Math.min(sourceRange.length - overlapBytes, maxCopyLength);
-            int limit = -1;
-            if (dst.remaining() > length) {
-                limit = dst.limit();
-                dst.limit(dst.position() + length);
-            }
-            src.getChannel().read(dst, start);
-            if (limit > 0)
-                dst.limit(limit);
+            src.read(dst, start, length);
         }
 
         return dst.position() - dstInitialPosition;
@@ -538,7 +545,11 @@ public class BinaryContent {
 
 
     /**
-     * Reads a sequence of bytes from this content into the given file
+     * Reads a sequence of bytes from this content into the given file.
+     * Content is written into a temporary file which then replaces the destination file, so the destination
+     * may be the file which backs this content (it is mapped and read while the new content is written).
+     * If the destination is a link or its attributes can't be copied onto the temporary file, the destination
+     * is rewritten in place instead.
      *
      * @param start  first byte in sequence
      * @param length number of bytes to read
@@ -553,6 +564,144 @@ public class BinaryContent {
             actions.endAction();
         commitChanges();
 
+        File targetFile = destinationFile.getAbsoluteFile();
+        File tempFile = File.createTempFile(targetFile.getName(), ".tmp", targetFile.getParentFile());
+        try {
+            writeToFile(tempFile, start, length);
+            Path tempPath = tempFile.toPath();
+            Path targetPath = targetFile.toPath();
+            if (canReplaceFile(targetPath, tempPath)) {
+                try {
+                    Files.move(tempPath, targetPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempPath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } else {
+                detachFile(targetFile);
+                rewriteFile(tempPath, targetPath);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile.toPath());
+        }
+
+        return length;
+    }
+
+
+    /**
+     * Checks that the target may be replaced by the source file without losing its identity: links are kept
+     * and all attributes are copied onto the source file
+     */
+    private static boolean canReplaceFile(Path target, Path source)
+    {
+        if (!Files.exists(target, LinkOption.NOFOLLOW_LINKS)) {
+            return true;
+        }
+        if (Files.isSymbolicLink(target)) {
+            return false;
+        }
+        try {
+            if (target.getFileSystem().supportedFileAttributeViews().contains("unix")) {
+                Object linkCount = Files.getAttribute(target, "unix:nlink", LinkOption.NOFOLLOW_LINKS);
+                if (linkCount instanceof Number && ((Number) linkCount).intValue() > 1) {
+                    return false;
+                }
+            }
+            PosixFileAttributeView targetPosix = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+            if (targetPosix != null) {
+                PosixFileAttributeView sourcePosix = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+                PosixFileAttributes attributes = targetPosix.readAttributes();
+                sourcePosix.setPermissions(attributes.permissions());
+                if (!attributes.owner().equals(sourcePosix.getOwner())) {
+                    sourcePosix.setOwner(attributes.owner());
+                }
+                if (!attributes.group().equals(sourcePosix.readAttributes().group())) {
+                    sourcePosix.setGroup(attributes.group());
+                }
+            }
+            AclFileAttributeView targetAcl = Files.getFileAttributeView(target, AclFileAttributeView.class);
+            if (targetAcl != null) {
+                Files.getFileAttributeView(source, AclFileAttributeView.class).setAcl(targetAcl.getAcl());
+            }
+            DosFileAttributeView targetDos = Files.getFileAttributeView(target, DosFileAttributeView.class);
+            if (targetDos != null && targetPosix == null) {
+                DosFileAttributes attributes = targetDos.readAttributes();
+                DosFileAttributeView sourceDos = Files.getFileAttributeView(source, DosFileAttributeView.class);
+                sourceDos.setHidden(attributes.isHidden());
+                sourceDos.setSystem(attributes.isSystem());
+                sourceDos.setArchive(attributes.isArchive());
+            }
+            UserDefinedFileAttributeView targetUser = Files.getFileAttributeView(target, UserDefinedFileAttributeView.class);
+            if (targetUser != null) {
+                UserDefinedFileAttributeView sourceUser = Files.getFileAttributeView(source, UserDefinedFileAttributeView.class);
+                for (String name : targetUser.list()) {
+                    ByteBuffer value = ByteBuffer.allocate(targetUser.size(name));
+                    targetUser.read(name, value);
+                    value.flip();
+                    sourceUser.write(name, value);
+                }
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // Not permitted or not supported, e.g. changing the owner requires privileges
+            return false;
+        }
+    }
+
+
+    /**
+     * Moves reading of the given file to its backup copy, so the file may be rewritten while it backs this content
+     */
+    private void detachFile(File file)
+        throws IOException
+    {
+        if (!file.exists()) return;
+
+        File backupFile = null;
+        for (MappedFileData data : fileData) {
+            File dataFile = data.getFile();
+            if (!dataFile.exists() || !Files.isSameFile(dataFile.toPath(), file.toPath())) continue;
+
+            if (backupFile == null) {
+                backupFile = File.createTempFile(file.getName(), ".bak");
+                backupFiles.add(backupFile);
+                Files.copy(file.toPath(), backupFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            data.relocate(backupFile);
+        }
+    }
+
+
+    /**
+     * Writes the source file bytes over the target file, the target file itself (its links and attributes) is kept
+     */
+    private static void rewriteFile(Path source, Path target)
+        throws IOException
+    {
+        try (FileChannel src = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel dst = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.CREATE)) {
+            long size = src.size();
+            for (long position = 0L; position < size; ) {
+                position += src.transferTo(position, size - position, dst.position(position));
+            }
+            dst.truncate(size);
+            dst.force(true);
+        }
+    }
+
+
+    private Range createFileRange(long position, File aFile, boolean isDirty)
+        throws IOException
+    {
+        Range range = new Range(position, aFile, isDirty);
+        fileData.add((MappedFileData) range.data);
+        return range;
+    }
+
+
+    private void writeToFile(File destinationFile, long start, long length)
+        throws IOException
+    {
         RandomAccessFile dst = new RandomAccessFile(destinationFile, "rws");
         try {
             dst.setLength(length);
@@ -592,8 +741,6 @@ public class BinaryContent {
         finally {
             ContentUtils.close(dst);
         }
-
-        return length;
     }
 
 
@@ -610,12 +757,9 @@ public class BinaryContent {
             if (value instanceof ByteBuffer) {
                 ByteBuffer data = (ByteBuffer) value;
                 data.limit(data.capacity());
-                data.position((int) range.dataOffset);
-                result = data.get((int) (position - range.position)) & 0x0ff;
-            } else if (value instanceof RandomAccessFile) {
-                RandomAccessFile randomFile = (RandomAccessFile) value;
-                randomFile.seek(position);
-                result = randomFile.read();
+                result = data.get((int) (range.dataOffset + position - range.position)) & 0x0ff;
+            } else if (value instanceof MappedFileData) {
+                result = ((MappedFileData) value).get(range.dataOffset + position - range.position);
             }
         }
 
@@ -705,7 +849,7 @@ public class BinaryContent {
         long fileLength = aFile.length();
         if (fileLength < 1L || position > length()) return;
 
-        Range newRange = new Range(position, aFile, true);
+        Range newRange = createFileRange(position, aFile, true);
         dirty = true;
         lastUpperNibblePosition = -1L;
         if (actions != null)
@@ -873,7 +1017,7 @@ public class BinaryContent {
         throws IOException
     {
         if (aFile.length() > 0L && position < length())
-            overwriteInternal(new Range(position, aFile, true));
+            overwriteInternal(createFileRange(position, aFile, true));
     }
 
 
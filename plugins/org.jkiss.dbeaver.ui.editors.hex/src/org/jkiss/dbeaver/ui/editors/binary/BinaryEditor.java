@@ -48,8 +48,6 @@ import org.jkiss.dbeaver.utils.RuntimeUtils;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.ByteBuffer;
-import java.nio.file.Files;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -207,18 +205,9 @@ public class BinaryEditor extends EditorPart implements ISelectionProvider, IMen
         }
         if (systemFile != null) {
             try {
-                final BinaryContent content;
-
-                if (RuntimeUtils.isLinux() || RuntimeUtils.isMacOS()) {
-                    // The implementation of hex editor may have two RandomAccessFile at the same time.
-                    // In such case, reading from one blocks file descriptor and the application hangs.
-                    // To avoid rewriting a big chunk of the editor, let's just pass a buffer instead.
-                    content = new BinaryContent();
-                    content.insert(ByteBuffer.wrap(Files.readAllBytes(systemFile.toPath())), 0);
-                } else {
-                    content = new BinaryContent(systemFile);
-                }
-
+                // File content is read with positional reads from mapped pages, so it is never loaded into heap
+                // as a whole and concurrent readers do not block each other.
+                final BinaryContent content = new BinaryContent(systemFile);
                 manager.setContent(content, charset);
             } catch (IOException e) {
                 log.error("Can't open binary content", e);
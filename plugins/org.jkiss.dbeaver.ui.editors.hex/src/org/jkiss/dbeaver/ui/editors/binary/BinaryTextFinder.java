@@ -20,6 +20,7 @@ package org.jkiss.dbeaver.ui.editors.binary;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -44,6 +45,10 @@ public class BinaryTextFinder {
     private boolean currentPartFoundIsUnicode = false;
     private long currentPosition = 0L;  // absolute value, start of forward finds, end(exclusive) of backward finds
     private byte[] byteFindSequence = null;
+    private byte[] foldedSequence = null;
+    private byte[] foldTable = null;
+    private int[] skipTable = null;
+    private int[] skipBackTable = null;
     private boolean caseSensitive = true;
     private BinaryContent content = null;
     private boolean directionForward = true;
@@ -104,30 +109,35 @@ public class BinaryTextFinder {
         throws IOException
     {
         if (byteFindSequence == null) return -1;
-
-        int start = 0;
-        int inclusiveEnd = byteBuffer.limit() - byteFindSequence.length;
-        if (!directionForward) {
-            start = inclusiveEnd;
-            inclusiveEnd = 0;
-        }
-
-        for (int i = start;
-            directionForward && i <= inclusiveEnd || !directionForward && i >= inclusiveEnd;
-            i += directionForward ? 1 : -1)
-        {
-            boolean matchesSoFar = true;
-            for (int j = 0; j < byteFindSequence.length && matchesSoFar; ++j) {
-                byte existing = byteBuffer.get(i + j);
-                byte matcher = byteFindSequence[j];
-                if (existing != matcher) {
-                    if (caseSensitive || existing < 'A' || existing > 'z' || matcher < 'A' ||
-                        matcher > 'z' || existing - matcher != 32 && matcher - existing != 32)
-                        matchesSoFar = false;
+        if (skipTable == null) initSkipTable();
+
+        // Boyer-Moore-Horspool search: on mismatch the window is shifted by the distance
+        // to the next occurrence of the byte which is aligned with the window edge
+        byte[] buffer = byteBuffer.array();
+        int bufferOffset = byteBuffer.arrayOffset();
+        int patternLength = foldedSequence.length;
+        int lastWindowStart = byteBuffer.limit() - patternLength;
+        if (directionForward) {
+            for (int i = 0; i <= lastWindowStart; ) {
+                int j = patternLength - 1;
+                while (j >= 0 && foldTable[buffer[bufferOffset + i + j] & 0xff] == foldedSequence[j]) {
+                    j--;
                 }
+                if (j < 0) {
+                    return i;
+                }
+                i += skipTable[foldTable[buffer[bufferOffset + i + patternLength - 1] & 0xff] & 0xff];
             }
-            if (matchesSoFar) {
-                return i;
+        } else {
+            for (int i = lastWindowStart; i >= 0; ) {
+                int j = 0;
+                while (j < patternLength && foldTable[buffer[bufferOffset + i + j] & 0xff] == foldedSequence[j]) {
+                    j++;
+                }
+                if (j == patternLength) {
+                    return i;
+                }
+                i -= skipBackTable[foldTable[buffer[bufferOffset + i] & 0xff] & 0xff];
             }
         }
 
@@ -135,6 +145,32 @@ public class BinaryTextFinder {
     }
 
 
+    private void initSkipTable()
+    {
+        foldTable = new byte[256];
+        for (int i = 0; i < 256; i++) {
+            foldTable[i] = (byte) (!caseSensitive && i >= 'a' && i <= 'z' ? i - 32 : i);
+        }
+        int patternLength = byteFindSequence.length;
+        foldedSequence = new byte[patternLength];
+        for (int i = 0; i < patternLength; i++) {
+            foldedSequence[i] = foldTable[byteFindSequence[i] & 0xff];
+        }
+        // Forward shift: distance from the last occurrence of the byte (excluding the last one) to the pattern end
+        skipTable = new int[256];
+        Arrays.fill(skipTable, patternLength);
+        for (int i = 0; i < patternLength - 1; i++) {
+            skipTable[foldedSequence[i] & 0xff] = patternLength - 1 - i;
+        }
+        // Backward shift: distance from the pattern start to the first occurrence of the byte (excluding the first one)
+        skipBackTable = new int[256];
+        Arrays.fill(skipBackTable, patternLength);
+        for (int i = patternLength - 1; i > 0; i--) {
+            skipBackTable[foldedSequence[i] & 0xff] = i;
+        }
+    }
+
+
     private int findUnicodeMatchInPart()
         throws IOException
     {
@@ -224,6 +260,7 @@ public class BinaryTextFinder {
         }
 
         literalByteLength = byteFindSequence.length;
+        skipTable = null;
     }
 
 
@@ -269,6 +306,7 @@ public class BinaryTextFinder {
 
         if (isAsciiCompatible)
             byteFindSequence = tmpBytes;
+        skipTable = null;
     }
 
 
@@ -310,10 +348,10 @@ public class BinaryTextFinder {
     {
         if (content == null) return;
 
-        byteBuffer = null;  // multiple FileChannel.read(byteBuffer) leak memory, so don't reuse buffer
-        byteBuffer = ByteBuffer.allocate(MAP_SIZE);
-//	if (byteBuffer == null)
-//		byteBuffer = ByteBuffer.allocate(MAP_SIZE);
+        // File content is copied from mapped pages, so the buffer may be reused between parts
+        if (byteBuffer == null)
+            byteBuffer = ByteBuffer.allocate(MAP_SIZE);
+        byteBuffer.order(ByteOrder.BIG_ENDIAN);
         byteBuffer.limit(size);
         byteBuffer.position(0);
 //	try {
@@ -340,6 +378,7 @@ public class BinaryTextFinder {
         if (caseSensitive == beSensitive) return;
 
         caseSensitive = beSensitive;
+        skipTable = null;
         if (literal != null)
             initSearchUnicodeAscii();
     }
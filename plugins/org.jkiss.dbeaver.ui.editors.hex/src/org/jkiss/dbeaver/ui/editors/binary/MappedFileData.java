@@ -0,0 +1,160 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.editors.binary;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.utils.RuntimeUtils;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Read-only file data accessed through memory-mapped pages.
+ * Only a limited number of recently used pages is kept mapped, so huge files do not consume heap
+ * and do not exhaust the address space. Reads are positional, so the file may be read by several
+ * threads (e.g. editor and finder) at the same time.
+ */
+class MappedFileData implements Closeable {
+
+    static final int PAGE_SIZE = 4 * 1024 * 1024;
+    private static final int MAX_CACHED_PAGES = 16;
+
+    private File file;
+    private FileChannel channel;
+    private final long length;
+    private final Map<Long, ByteBuffer> pages = new LinkedHashMap<>(MAX_CACHED_PAGES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, ByteBuffer> eldest) {
+            return size() > MAX_CACHED_PAGES;
+        }
+    };
+    // Mapped file can't be truncated or replaced on Windows until the mapping is garbage collected,
+    // which breaks saving edited content back into the same file
+    private boolean mappingSupported = !RuntimeUtils.isWindows();
+
+    MappedFileData(@NotNull File file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        this.length = channel.size();
+    }
+
+    @NotNull
+    synchronized File getFile() {
+        return file;
+    }
+
+    /**
+     * Switches reading to another file with the same bytes, so the original file may be rewritten
+     */
+    synchronized void relocate(@NotNull File newFile) throws IOException {
+        FileChannel newChannel = FileChannel.open(newFile.toPath(), StandardOpenOption.READ);
+        if (newChannel.size() != length) {
+            newChannel.close();
+            throw new IOException("File '" + newFile + "' doesn't match the size of '" + file + "'");
+        }
+        pages.clear();
+        channel.close();
+        channel = newChannel;
+        file = newFile;
+    }
+
+    long length() {
+        return length;
+    }
+
+    /**
+     * Reads up to maxLength bytes starting from the given offset into the destination buffer
+     *
+     * @return number of bytes read
+     */
+    synchronized int read(@NotNull ByteBuffer dst, long offset, int maxLength) throws IOException {
+        int total = 0;
+        int toRead = (int) Math.min(Math.min(dst.remaining(), maxLength), Math.max(0, length - offset));
+        while (total < toRead) {
+            long pageIndex = (offset + total) / PAGE_SIZE;
+            int pageOffset = (int) ((offset + total) % PAGE_SIZE);
+            ByteBuffer page = getPage(pageIndex);
+            if (page == null) {
+                // Mapping is not available, read directly
+                int limit = dst.limit();
+                dst.limit(dst.position() + (toRead - total));
+                try {
+                    int count = channel.read(dst, offset + total);
+                    if (count <= 0) {
+                        break;
+                    }
+                    total += count;
+                } finally {
+                    dst.limit(limit);
+                }
+                continue;
+            }
+            int count = Math.min(page.capacity() - pageOffset, toRead - total);
+            dst.put(page.slice(pageOffset, count));
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Reads a single unsigned byte
+     */
+    synchronized int get(long offset) throws IOException {
+        if (offset < 0 || offset >= length) {
+            return 0;
+        }
+        ByteBuffer page = getPage(offset / PAGE_SIZE);
+        if (page == null) {
+            ByteBuffer buffer = ByteBuffer.allocate(1);
+            channel.read(buffer, offset);
+            return buffer.get(0) & 0x0ff;
+        }
+        return page.get((int) (offset % PAGE_SIZE)) & 0x0ff;
+    }
+
+    private ByteBuffer getPage(long pageIndex) throws IOException {
+        if (!mappingSupported) {
+            return null;
+        }
+        ByteBuffer page = pages.get(pageIndex);
+        if (page == null) {
+            long pageStart = pageIndex * PAGE_SIZE;
+            try {
+                page = channel.map(FileChannel.MapMode.READ_ONLY, pageStart, Math.min(PAGE_SIZE, length - pageStart));
+            } catch (IOException | UnsupportedOperationException e) {
+                // Some file systems do not support mapping
+                mappingSupported = false;
+                return null;
+            }
+            pages.put(pageIndex, page);
+        }
+        return page;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        // Mapped buffers are released by GC, all we can do is to drop references to them
+        pages.clear();
+        channel.close();
+    }
+}
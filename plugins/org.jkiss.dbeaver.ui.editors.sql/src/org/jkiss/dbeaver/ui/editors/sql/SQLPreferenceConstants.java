@@ -238,6 +238,10 @@ public class SQLPreferenceConstants {
     public static final String SCRIPT_COMMIT_LINES                      = "script.commit.lines"; //$NON-NLS-1$
     public static final String SCRIPT_ERROR_HANDLING                    = "script.error.handling"; //$NON-NLS-1$
     public static final String SCRIPT_FETCH_RESULT_SETS                 = "script.fetch.resultset"; //$NON-NLS-1$
+    public static final String SCRIPT_BATCH_DML                         = "script.batch.dml"; //$NON-NLS-1$
+    public static final String SCRIPT_BATCH_SIZE                        = "script.batch.size"; //$NON-NLS-1$
+    public static final String SCRIPT_PARALLEL_EXECUTE                  = "script.parallel.execute"; //$NON-NLS-1$
+    public static final String SCRIPT_PARALLEL_CONNECTIONS              = "script.parallel.connections"; //$NON-NLS-1$
     public static final String NEW_SCRIPT_TEMPLATE_ENABLED              = "new.script.template.enabled"; //$NON-NLS-1$
     public static final String NEW_SCRIPT_TEMPLATE                      = "new.script.template"; //$NON-NLS-1$
     public static final String STATEMENT_INVALIDATE_BEFORE_EXECUTE      = "statement.invalidate.before.execute"; //$NON-NLS-1$
@@ -51,6 +51,7 @@ import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.DBRRunnableParametrized;
 import org.jkiss.dbeaver.model.sql.*;
 import org.jkiss.dbeaver.model.sql.data.SQLQueryDataContainer;
+import org.jkiss.dbeaver.model.sql.exec.SQLScriptBatchExecutor;
 import org.jkiss.dbeaver.model.sql.parser.SQLSemanticProcessor;
 import org.jkiss.dbeaver.model.sql.registry.SQLCommandsRegistry;
 import org.jkiss.dbeaver.model.sql.registry.SQLPragmaHandlerDescriptor;
@@ -77,8 +78,11 @@ import java.lang.reflect.InvocationTargetException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * SQLQueryJob
@@ -92,6 +96,10 @@ public class SQLQueryJob extends DataSourceJob
     public static final Object STATS_RESULTS = new Object();
     private static final int MAX_QUERY_PREVIEW_LENGTH = 8192;
     private static final int MAX_UPDATE_COUNT_READS = 1000;
+    private static final int MIN_BATCH_SIZE = 2;
+    private static final int MAX_PARALLEL_STATEMENTS = 1000;
+    // Statement group failed and its statements can't be executed again
+    private static final int GROUP_FAILED = -1;
 
     private final DBSDataContainer dataContainer;
     private final List<SQLScriptElement> queries;
@@ -108,6 +116,15 @@ public class SQLQueryJob extends DataSourceJob
     private boolean fetchResultSets;
     private long rsOffset;
     private long rsMaxRows;
+    private boolean batchDml;
+    private int batchSize;
+    private boolean parallelExecute;
+    private int parallelConnections;
+    private final List<DBCExecutionContext> parallelContexts = new ArrayList<>();
+    // Temporary tables created in the main session. Parallel contexts can't see them
+    private final Set<String> sessionTables = new HashSet<>();
+    // Statements which were executed by a failed batch or parallel group after the failed statement (query index -> update count)
+    private final Map<Integer, Long> executedQueries = new HashMap<>();
 
     private DBCStatement curStatement;
     private final List<DBCResultSet> curResultSets = new ArrayList<>();
@@ -154,6 +171,10 @@ public class SQLQueryJob extends DataSourceJob
                 preferenceStore.getBoolean(SQLPreferenceConstants.SCRIPT_FETCH_RESULT_SETS) && !isDisableFetchResultSet
             );
             this.rsMaxRows = preferenceStore.getInt(ModelPreferences.RESULT_SET_MAX_ROWS);
+            this.batchDml = queries.size() > 1 && preferenceStore.getBoolean(SQLPreferenceConstants.SCRIPT_BATCH_DML);
+            this.batchSize = Math.max(MIN_BATCH_SIZE, preferenceStore.getInt(SQLPreferenceConstants.SCRIPT_BATCH_SIZE));
+            this.parallelExecute = queries.size() > 1 && preferenceStore.getBoolean(SQLPreferenceConstants.SCRIPT_PARALLEL_EXECUTE);
+            this.parallelConnections = Math.max(2, preferenceStore.getInt(SQLPreferenceConstants.SCRIPT_PARALLEL_CONNECTIONS));
         }
     }
 
@@ -240,8 +261,27 @@ public class SQLQueryJob extends DataSourceJob
                     // Execute query
                     SQLScriptElement query = queries.get(queryNum);
 
+                    if (batchDml || parallelExecute || !executedQueries.isEmpty()) {
+                        int executedCount = executeStatementGroup(session, txnManager);
+                        if (executedCount == GROUP_FAILED) {
+                            // Error is already reported. We don't know which statements were applied, so the script can't continue
+                            break;
+                        }
+                        if (executedCount > 0) {
+                            monitor.worked(executedCount);
+                            queryNum += executedCount;
+                            if (monitor.isCanceled()) {
+                                break;
+                            }
+                            continue;
+                        }
+                    }
+
                     fetchResultSetNumber = resultSetNumber;
                     boolean runNext = executeSingleQuery(session, query, true);
+                    if (parallelExecute && query instanceof SQLQuery sqlQuery) {
+                        checkSessionState(sqlQuery);
+                    }
 
                     if (txnManager != null && txnManager.isSupportsTransactions()
                         && !oldAutoCommit && commitType != SQLScriptCommitType.AUTOCOMMIT
@@ -281,6 +321,9 @@ public class SQLQueryJob extends DataSourceJob
                         }
 
                         if (stopScript) {
+                            if (!executedQueries.isEmpty()) {
+                                log.warn(executedQueries.size() + " script statement(s) after the failed one were already executed in batch or in parallel");
+                            }
                             break;
                         }
                     }
@@ -342,6 +385,7 @@ public class SQLQueryJob extends DataSourceJob
         }
         finally {
             monitor.done();
+            closeParallelContexts();
 
             // Notify job end
             if (listener != null) {
@@ -607,6 +651,318 @@ public class SQLQueryJob extends DataSourceJob
         return true;
     }
 
+    /**
+     * Executes several statements starting from the current one in parallel or in a batch.
+     *
+     * @return number of executed statements. Zero means that the current statement must be executed separately.
+     * {@link #GROUP_FAILED} means that the group failed and the script must be stopped.
+     */
+    private int executeStatementGroup(@NotNull DBCSession session, @Nullable DBCTransactionManager txnManager) {
+        Long executedUpdateCount = executedQueries.remove(queryNum);
+        if (executedUpdateCount != null) {
+            reportExecutedQuery(session, (SQLQuery) queries.get(queryNum), executedUpdateCount, 0);
+            return 1;
+        }
+        // Isolated contexts commit their changes immediately, so statements are executed in parallel only in auto-commit mode.
+        // Worker contexts are switched to auto-commit explicitly when they are opened
+        if (parallelExecute && (txnManager == null || txnManager.isAutoCommit()) &&
+            !(resultsConsumer instanceof ISmartTransactionManager smartTransactionManager && smartTransactionManager.isSmartAutoCommit())
+        ) {
+            int executedCount = executeParallel(session);
+            if (executedCount > 0) {
+                return executedCount;
+            }
+        }
+        return batchDml ? executeDmlBatch(session) : 0;
+    }
+
+    /**
+     * Executes independent statements which start at the current query concurrently in isolated contexts.
+     * Statements which use the same tables keep script order. Results are reported in script order.
+     * If some statement fails, statements before it are reported and the failed one is left for the single execution.
+     *
+     * @return number of executed statements. Zero means that the current statement must be executed separately.
+     */
+    private int executeParallel(@NotNull DBCSession session) {
+        List<SQLQuery> groupQueries = new ArrayList<>();
+        List<SQLScriptParallelExecutor.StatementTables> groupTables = new ArrayList<>();
+        for (int i = queryNum; i < queries.size() && groupQueries.size() < MAX_PARALLEL_STATEMENTS; i++) {
+            SQLScriptElement element = queries.get(i);
+            if (executedQueries.containsKey(i) || !isDirectlyExecutableQuery(element)) {
+                break;
+            }
+            SQLScriptParallelExecutor.StatementTables tables = SQLScriptParallelExecutor.getStatementTables((SQLQuery) element, sessionTables);
+            if (tables == null) {
+                break;
+            }
+            groupQueries.add((SQLQuery) element);
+            groupTables.add(tables);
+        }
+        if (groupQueries.size() < 2) {
+            return 0;
+        }
+        SQLScriptParallelExecutor executor = new SQLScriptParallelExecutor(groupQueries, groupTables);
+        if (!executor.hasIndependentQueries()) {
+            return 0;
+        }
+        DBRProgressMonitor monitor = session.getProgressMonitor();
+        if (!openParallelContexts(monitor, session.getExecutionContext(), groupQueries.size())) {
+            return 0;
+        }
+
+        monitor.subTask("Execute " + groupQueries.size() + " statements in parallel");
+        closeStatement();
+        long startTime = System.currentTimeMillis();
+        SQLScriptParallelExecutor.StatementResult[] results = executor.execute(monitor, parallelContexts, this::executeParallelStatement);
+        statistics.addExecuteTime(System.currentTimeMillis() - startTime);
+
+        int executedCount = 0;
+        while (executedCount < results.length && results[executedCount] != null && results[executedCount].error() == null) {
+            executedCount++;
+        }
+        if (executedCount < results.length) {
+            // Statement failed or execution was canceled. Statements which were already running when it happened
+            // are finished and remembered, they can't be undone even if the script is stopped.
+            // The rest of the script is executed serially.
+            for (int i = executedCount + 1; i < results.length; i++) {
+                if (results[i] != null && results[i].error() == null) {
+                    executedQueries.put(queryNum + i, results[i].updateCount());
+                }
+            }
+            parallelExecute = false;
+            closeParallelContexts();
+        }
+        if (executedCount > 0) {
+            lastError = null;
+        }
+        for (int i = 0; i < executedCount; i++) {
+            reportExecutedQuery(session, groupQueries.get(i), results[i].updateCount(), results[i].executeTime());
+        }
+        return executedCount;
+    }
+
+    private long executeParallelStatement(@NotNull DBCSession session, @NotNull SQLQuery query) throws DBException {
+        AbstractExecutionSource source = new AbstractExecutionSource(dataContainer, session.getExecutionContext(), partSite.getPart(), query);
+        source.setScriptContext(scriptContext);
+        try (DBCStatement dbcStatement = DBUtils.makeStatement(source, session, DBCStatementType.SCRIPT, query, 0, 0)) {
+            dbcStatement.executeStatement();
+            return dbcStatement.getUpdateRowCount();
+        }
+    }
+
+    /**
+     * Main session statement may change session state (current schema, variables, temporary tables).
+     * Parallel contexts are closed in this case and will be reopened with the new state for the next parallel group.
+     */
+    private void checkSessionState(@NotNull SQLQuery query) {
+        if (SQLScriptParallelExecutor.isSessionStateStatement(query)) {
+            sessionTables.addAll(SQLScriptParallelExecutor.getCreatedTemporaryTables(query));
+            closeParallelContexts();
+        }
+    }
+
+    /**
+     * Opens isolated contexts for parallel execution. Contexts are reused by parallel groups of the script
+     * until some statement changes the main session state.
+     * Contexts are switched to auto-commit mode, because connection default may be manual commit.
+     *
+     * @return false if no contexts can be opened
+     */
+    private boolean openParallelContexts(@NotNull DBRProgressMonitor monitor, @NotNull DBCExecutionContext context, int statementCount) {
+        int contextCount = Math.min(parallelConnections, statementCount);
+        while (parallelContexts.size() < contextCount) {
+            try {
+                DBCExecutionContext workerContext = context.getOwnerInstance().openIsolatedContext(monitor, "Parallel SQL script", context);
+                try {
+                    DBCTransactionManager workerTxnManager = DBUtils.getTransactionManager(workerContext);
+                    if (workerTxnManager != null && workerTxnManager.isSupportsTransactions() && !workerTxnManager.isAutoCommit()) {
+                        workerTxnManager.setAutoCommit(monitor, true);
+                        if (!workerTxnManager.isAutoCommit()) {
+                            throw new DBCException("Can't switch parallel script context to auto-commit mode");
+                        }
+                    }
+                } catch (Throwable e) {
+                    workerContext.close();
+                    throw e;
+                }
+                parallelContexts.add(workerContext);
+            } catch (Throwable e) {
+                log.warn("Can't open isolated context for parallel script execution", e);
+                // Don't try to open more connections, use the opened ones
+                parallelConnections = parallelContexts.size();
+                if (parallelContexts.size() < 2) {
+                    parallelExecute = false;
+                    return false;
+                }
+                break;
+            }
+        }
+        return true;
+    }
+
+    private void closeParallelContexts() {
+        for (DBCExecutionContext context : parallelContexts) {
+            try {
+                context.close();
+            } catch (Throwable e) {
+                log.debug("Error closing parallel script context: " + e.getMessage());
+            }
+        }
+        parallelContexts.clear();
+    }
+
+    /**
+     * Executes consecutive DML statements which start at the current query in a single statement batch.
+     * Statements are reported to the listener one by one, so the script log and error positions stay the same.
+     * If driver rejects the batch before executing it, batches are disabled and statements are executed one by one.
+     * If batch fails, statements which succeeded are reported and the failed one is left for the single execution.
+     * If driver doesn't report which statements succeeded, batch error is reported and script is stopped:
+     * statements before the failed one may be already applied (and committed in auto-commit mode), so they can't be executed again.
+     *
+     * @return number of executed statements. Zero means that the current statement must be executed separately.
+     * {@link #GROUP_FAILED} means that the batch failed and the script must be stopped.
+     */
+    private int executeDmlBatch(@NotNull DBCSession session) {
+        if (!SQLScriptBatchExecutor.isBatchSupported(session.getDataSource())) {
+            batchDml = false;
+            return 0;
+        }
+        List<SQLQuery> batchQueries = new ArrayList<>();
+        for (int i = queryNum; i < queries.size() && batchQueries.size() < batchSize; i++) {
+            if (executedQueries.containsKey(i) || !isBatchableQuery(session, queries.get(i))) {
+                break;
+            }
+            batchQueries.add((SQLQuery) queries.get(i));
+        }
+        if (batchQueries.size() < MIN_BATCH_SIZE) {
+            return 0;
+        }
+
+        DBRProgressMonitor monitor = session.getProgressMonitor();
+        monitor.subTask("Execute batch of " + batchQueries.size() + " statements");
+        SQLQuery firstQuery = batchQueries.get(0);
+        if (resultsConsumer instanceof ISmartTransactionManager smartTransactionManager && smartTransactionManager.isSmartAutoCommit()) {
+            DBExecUtils.checkSmartAutoCommit(session, firstQuery.getText());
+        }
+        closeStatement();
+
+        long startTime = System.currentTimeMillis();
+        SQLScriptBatchExecutor.BatchResult result;
+        try {
+            AbstractExecutionSource source = new AbstractExecutionSource(dataContainer, session.getExecutionContext(), partSite.getPart(), firstQuery);
+            source.setScriptContext(scriptContext);
+            try (DBCStatement dbcStatement = DBUtils.makeStatement(source, session, DBCStatementType.SCRIPT, firstQuery, 0, 0)) {
+                List<String> queryTexts = new ArrayList<>(batchQueries.size());
+                for (SQLQuery query : batchQueries) {
+                    queryTexts.add(query.getText());
+                }
+                result = SQLScriptBatchExecutor.executeBatch(dbcStatement, queryTexts);
+            }
+        } catch (Throwable e) {
+            // Statement wasn't created, nothing was executed
+            result = new SQLScriptBatchExecutor.BatchResult(0, null, e, true);
+        }
+        if (result.rejected()) {
+            log.debug("Driver can't execute statement batch, execute script statements one by one: " + result.error().getMessage());
+            batchDml = false;
+            return 0;
+        }
+        long[] updateCounts = result.updateCounts();
+        if (result.isIndeterminate()) {
+            // Without update counts we can't tell what was executed. Re-execution may apply some statements twice
+            log.debug("Statement batch failed without update counts: " + result.error().getMessage());
+            batchDml = false;
+            statistics.addExecuteTime(System.currentTimeMillis() - startTime);
+            reportFailedBatch(session, firstQuery, result.error());
+            return GROUP_FAILED;
+        }
+        int executedCount = result.executedCount();
+        if (result.error() != null) {
+            log.debug("Statement batch failed, execute statements one by one: " + result.error().getMessage());
+            // Some drivers continue batch execution after the failed statement.
+            // These statements are already applied even if user stops the script after the error.
+            for (int i = executedCount + 1; i < updateCounts.length && i < batchQueries.size(); i++) {
+                if (updateCounts[i] != java.sql.Statement.EXECUTE_FAILED) {
+                    executedQueries.put(queryNum + i, updateCounts[i]);
+                }
+            }
+        }
+        long executeTime = System.currentTimeMillis() - startTime;
+        statistics.addExecuteTime(executeTime);
+
+        lastError = null;
+        for (int i = 0; i < executedCount; i++) {
+            long updateCount = updateCounts != null && i < updateCounts.length ? updateCounts[i] : -1;
+            reportExecutedQuery(session, batchQueries.get(i), updateCount, executeTime / batchQueries.size());
+        }
+        return executedCount;
+    }
+
+    /**
+     * Batch may contain parameterless INSERT, UPDATE and DELETE statements which don't need any UI interaction
+     */
+    private boolean isBatchableQuery(@NotNull DBCSession session, @NotNull SQLScriptElement element) {
+        if (!isDirectlyExecutableQuery(element)) {
+            return false;
+        }
+        String firstKeyword = SQLUtils.getFirstKeyword(session.getDataSource().getSQLDialect(), element.getText());
+        return SQLConstants.KEYWORD_INSERT.equalsIgnoreCase(firstKeyword) ||
+            SQLConstants.KEYWORD_UPDATE.equalsIgnoreCase(firstKeyword) ||
+            SQLConstants.KEYWORD_DELETE.equalsIgnoreCase(firstKeyword);
+    }
+
+    /**
+     * Checks that query without parameters can be executed without any UI interaction and result processing
+     */
+    private boolean isDirectlyExecutableQuery(@NotNull SQLScriptElement element) {
+        if (!(element instanceof SQLQuery query) || !CommonUtils.isEmpty(query.getParameters())) {
+            return false;
+        }
+        if (!scriptContext.getPragmas().isEmpty() || (dataFilter != null && dataFilter.hasFilters())) {
+            return false;
+        }
+        if (!skipConfirmation && getDataSourceContainer().getConnectionConfiguration().getConnectionType().isConfirmExecute()) {
+            return false;
+        }
+        return connectionInvalidated || !getDataSourceContainer().getPreferenceStore().getBoolean(SQLPreferenceConstants.STATEMENT_INVALIDATE_BEFORE_EXECUTE);
+    }
+
+    private void reportFailedBatch(@NotNull DBCSession session, @NotNull SQLQuery firstQuery, @NotNull Throwable error) {
+        curResult = new SQLQueryResult(firstQuery);
+        curResult.setError(error);
+        lastError = error;
+        log.error(error);
+        if (listener != null) {
+            try {
+                listener.onStartQuery(session, firstQuery);
+            } catch (Exception e) {
+                log.error(e);
+            }
+            notifyQueryExecutionEnd(session, curResult);
+        }
+    }
+
+    private void reportExecutedQuery(@NotNull DBCSession session, @NotNull SQLQuery query, long updateCount, long queryTime) {
+        curResult = new SQLQueryResult(query);
+        SQLQueryResult.ExecuteResult executeResult = curResult.addExecuteResult(false);
+        if (updateCount >= 0) {
+            executeResult.setUpdateCount(updateCount);
+            statistics.addRowsUpdated(updateCount);
+        }
+        curResult.setQueryTime(queryTime);
+        statistics.addStatementsCount();
+        statistics.setQueryText(query.getText());
+        if (listener != null) {
+            try {
+                listener.onStartQuery(session, query);
+            } catch (Exception e) {
+                log.error(e);
+            }
+            notifyQueryExecutionEnd(session, curResult);
+        }
+        lastGoodQuery = query;
+    }
+
     private boolean shouldRecoverQuery(SQLQuery query) {
         Statement statement = query.getStatement();
         if (statement instanceof Insert ||
@@ -0,0 +1,384 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.editors.sql.execute;
+
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.alter.Alter;
+import net.sf.jsqlparser.statement.create.index.CreateIndex;
+import net.sf.jsqlparser.statement.create.table.CreateTable;
+import net.sf.jsqlparser.statement.create.view.CreateView;
+import net.sf.jsqlparser.statement.delete.Delete;
+import net.sf.jsqlparser.statement.drop.Drop;
+import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.statement.merge.Merge;
+import net.sf.jsqlparser.statement.truncate.Truncate;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.update.Update;
+import net.sf.jsqlparser.util.TablesNamesFinder;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.exec.DBCExecutionPurpose;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.sql.SQLQuery;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.*;
+
+/**
+ * Executes independent script statements concurrently.
+ * <p>
+ * Only DDL statements which create objects (CREATE TABLE, CREATE INDEX, CREATE VIEW) or alter tables are executed in parallel.
+ * DML statements are not: foreign keys and triggers make them depend on tables which are not mentioned in the statement.
+ * By the same reason statements with foreign key references, DROP and TRUNCATE keep script order.
+ * <p>
+ * Each statement gets the set of tables it reads and the set of tables it modifies.
+ * Statement depends on all preceding statements which modify any table it uses, or which use any table it modifies.
+ * Statements without dependencies are executed by workers, each worker has its own isolated execution context.
+ * Table names are compared without schema, so statements on the same table name in different schemas are ordered too.
+ * <p>
+ * Worker contexts don't share session state (current schema, temporary tables, variables) with the main script session.
+ * Script must reopen them after statements which change session state, see {@link #isSessionStateStatement(SQLQuery)}.
+ */
+class SQLScriptParallelExecutor {
+
+    private static final Log log = Log.getLog(SQLScriptParallelExecutor.class);
+
+    private static final long WAIT_PERIOD = 100;
+
+    /**
+     * Executes single statement in the worker session
+     */
+    interface StatementExecutor {
+        /**
+         * @return statement update count or -1 if it is unknown
+         */
+        long executeStatement(@NotNull DBCSession session, @NotNull SQLQuery query) throws DBException;
+    }
+
+    /**
+     * Statement execution result. Error is not null if statement failed.
+     */
+    record StatementResult(long updateCount, long executeTime, @Nullable Throwable error) {
+    }
+
+    /**
+     * Tables used by statement
+     *
+     * @param tables all used tables, including modified ones
+     * @param modifiedTables tables which are changed by statement
+     */
+    record StatementTables(@NotNull Set<String> tables, @NotNull Set<String> modifiedTables) {
+
+        boolean conflictsWith(@NotNull StatementTables other) {
+            return !Collections.disjoint(modifiedTables, other.tables) || !Collections.disjoint(tables, other.modifiedTables);
+        }
+    }
+
+    @NotNull
+    private final List<SQLQuery> queries;
+    private final int[] dependencyCount;
+    private final List<List<Integer>> dependents;
+
+    // Execution state. Guarded by this
+    private final StatementResult[] results;
+    private final PriorityQueue<Integer> readyQueries = new PriorityQueue<>();
+    private int runningQueries;
+    private int activeWorkers;
+    private boolean stopped;
+
+    SQLScriptParallelExecutor(@NotNull List<SQLQuery> queries, @NotNull List<StatementTables> queryTables) {
+        this.queries = queries;
+        this.dependencyCount = new int[queries.size()];
+        this.dependents = new ArrayList<>(queries.size());
+        this.results = new StatementResult[queries.size()];
+        for (int i = 0; i < queries.size(); i++) {
+            dependents.add(new ArrayList<>());
+        }
+        for (int i = 0; i < queries.size(); i++) {
+            for (int k = 0; k < i; k++) {
+                if (queryTables.get(k).conflictsWith(queryTables.get(i))) {
+                    dependents.get(k).add(i);
+                    dependencyCount[i]++;
+                }
+            }
+            if (dependencyCount[i] == 0) {
+                readyQueries.add(i);
+            }
+        }
+    }
+
+    /**
+     * Checks whether at least two statements may be executed at the same time
+     */
+    boolean hasIndependentQueries() {
+        for (int i = 1; i < queries.size(); i++) {
+            if (!dependents.get(i - 1).contains(i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Executes statements and waits for their completion.
+     * New statements are not started after the first error or cancel, running statements are finished.
+     *
+     * @return results by statement index. Result is null if statement wasn't executed.
+     */
+    @NotNull
+    StatementResult[] execute(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull List<DBCExecutionContext> contexts,
+        @NotNull StatementExecutor executor
+    ) {
+        int workerCount = Math.min(contexts.size(), queries.size());
+        synchronized (this) {
+            activeWorkers = workerCount;
+        }
+        for (int i = 0; i < workerCount; i++) {
+            WorkerJob worker = new WorkerJob(monitor, contexts.get(i), executor);
+            worker.setUser(false);
+            worker.setSystem(true);
+            worker.schedule();
+        }
+        synchronized (this) {
+            while (activeWorkers > 0) {
+                if (monitor.isCanceled()) {
+                    stopped = true;
+                }
+                try {
+                    wait(WAIT_PERIOD);
+                } catch (InterruptedException e) {
+                    stopped = true;
+                    break;
+                }
+            }
+            return results.clone();
+        }
+    }
+
+    /**
+     * Returns index of the next statement to execute or -1 if there are no more statements
+     */
+    private synchronized int takeQuery(@NotNull DBRProgressMonitor monitor) throws InterruptedException {
+        while (true) {
+            if (stopped || monitor.isCanceled()) {
+                return -1;
+            }
+            Integer index = readyQueries.poll();
+            if (index != null) {
+                runningQueries++;
+                return index;
+            }
+            if (runningQueries == 0) {
+                // Either all statements were executed or remaining ones depend on failed statement
+                return -1;
+            }
+            wait(WAIT_PERIOD);
+        }
+    }
+
+    private synchronized void completeQuery(int index, @NotNull StatementResult result) {
+        results[index] = result;
+        runningQueries--;
+        if (result.error() != null) {
+            stopped = true;
+        } else {
+            for (Integer dependent : dependents.get(index)) {
+                if (--dependencyCount[dependent] == 0) {
+                    readyQueries.add(dependent);
+                }
+            }
+        }
+        notifyAll();
+    }
+
+    private synchronized void finishWorker() {
+        activeWorkers--;
+        notifyAll();
+    }
+
+    /**
+     * Collects tables used by statement.
+     *
+     * @param sessionTables temporary tables created in the main script session. They are not visible to worker contexts.
+     * @return null if statement can't be executed in parallel. E.g. it is a query, DML, transaction statement
+     * or tables it depends on can't be detected
+     */
+    @Nullable
+    static StatementTables getStatementTables(@NotNull SQLQuery query, @NotNull Set<String> sessionTables) {
+        Statement statement = query.getStatement();
+        Table modifiedTable;
+        if (statement instanceof CreateIndex createIndex) {
+            modifiedTable = createIndex.getTable();
+        } else if (statement instanceof CreateView createView) {
+            modifiedTable = createView.getView();
+        } else if (statement instanceof CreateTable createTable && !hasReferences(query) && !isTemporaryTable(query, createTable.getTable())) {
+            modifiedTable = createTable.getTable();
+        } else if (statement instanceof Alter alter && !hasReferences(query)) {
+            modifiedTable = alter.getTable();
+        } else {
+            return null;
+        }
+        if (modifiedTable == null || CommonUtils.isEmpty(modifiedTable.getName())) {
+            return null;
+        }
+
+        Set<String> modifiedNames = Set.of(normalizeTableName(modifiedTable.getName()));
+        Set<String> allNames = new HashSet<>(modifiedNames);
+        try {
+            for (String tableName : new TablesNamesFinder<>().getTables(statement)) {
+                allNames.add(normalizeTableName(tableName));
+            }
+        } catch (Exception e) {
+            // Finder doesn't support some statements. DDL statements without subqueries use only their target table
+            if (statement instanceof CreateView || statement instanceof CreateTable) {
+                log.debug("Can't detect tables of statement, execute it in script order: " + e.getMessage());
+                return null;
+            }
+        }
+        if (!Collections.disjoint(allNames, sessionTables)) {
+            return null;
+        }
+        return new StatementTables(allNames, modifiedNames);
+    }
+
+    /**
+     * Checks whether statement may change session state which worker contexts don't see.
+     * Plain queries, DML and DDL statements on regular tables don't change it. Session settings (SET, USE, ALTER SESSION),
+     * procedure calls, blocks, temporary table creation and statements which weren't parsed may change it.
+     */
+    static boolean isSessionStateStatement(@NotNull SQLQuery query) {
+        Statement statement = query.getStatement();
+        if (statement instanceof PlainSelect plainSelect) {
+            return !CommonUtils.isEmpty(plainSelect.getIntoTables());
+        }
+        if (statement instanceof CreateTable createTable) {
+            return isTemporaryTable(query, createTable.getTable());
+        }
+        return !(statement instanceof Select || statement instanceof Insert || statement instanceof Update ||
+            statement instanceof Delete || statement instanceof Merge || statement instanceof Truncate ||
+            statement instanceof CreateIndex || statement instanceof CreateView || statement instanceof Alter ||
+            statement instanceof Drop);
+    }
+
+    /**
+     * Returns names of temporary tables created by statement
+     */
+    @NotNull
+    static Set<String> getCreatedTemporaryTables(@NotNull SQLQuery query) {
+        Statement statement = query.getStatement();
+        Set<String> result = new HashSet<>();
+        if (statement instanceof CreateTable createTable && isTemporaryTable(query, createTable.getTable())) {
+            result.add(normalizeTableName(createTable.getTable().getName()));
+        } else if (statement instanceof PlainSelect plainSelect && !CommonUtils.isEmpty(plainSelect.getIntoTables())) {
+            // SELECT INTO may create temporary table (e.g. #table in SQL Server)
+            for (Table table : plainSelect.getIntoTables()) {
+                if (table != null && !CommonUtils.isEmpty(table.getName())) {
+                    result.add(normalizeTableName(table.getName()));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Foreign keys make statement depend on other tables which are not reported by the parser
+     */
+    private static boolean hasReferences(@NotNull SQLQuery query) {
+        return query.getText().toUpperCase(Locale.ENGLISH).contains("REFERENCES");
+    }
+
+    private static boolean isTemporaryTable(@NotNull SQLQuery query, @Nullable Table table) {
+        if (table != null && table.getName() != null && table.getName().startsWith("#")) {
+            return true;
+        }
+        // CREATE [GLOBAL | LOCAL] TEMP[ORARY] TABLE
+        String text = query.getText().toUpperCase(Locale.ENGLISH);
+        int tablePos = text.indexOf("TABLE");
+        return tablePos > 0 && text.substring(0, tablePos).contains("TEMP");
+    }
+
+    @NotNull
+    private static String normalizeTableName(@NotNull String name) {
+        int divPos = name.lastIndexOf('.');
+        if (divPos >= 0) {
+            name = name.substring(divPos + 1);
+        }
+        StringBuilder result = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c != '"' && c != '`' && c != '[' && c != ']') {
+                result.append(c);
+            }
+        }
+        return result.toString().toLowerCase(Locale.ENGLISH);
+    }
+
+    private class WorkerJob extends AbstractJob {
+
+        @NotNull
+        private final DBRProgressMonitor scriptMonitor;
+        @NotNull
+        private final DBCExecutionContext context;
+        @NotNull
+        private final StatementExecutor executor;
+
+        WorkerJob(@NotNull DBRProgressMonitor scriptMonitor, @NotNull DBCExecutionContext context, @NotNull StatementExecutor executor) {
+            super("Parallel SQL script execution");
+            this.scriptMonitor = scriptMonitor;
+            this.context = context;
+            this.executor = executor;
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            try (DBCSession session = context.openSession(monitor, DBCExecutionPurpose.USER_SCRIPT, "Parallel SQL script")) {
+                while (true) {
+                    int index = takeQuery(scriptMonitor);
+                    if (index < 0) {
+                        break;
+                    }
+                    SQLQuery query = queries.get(index);
+                    long startTime = System.currentTimeMillis();
+                    StatementResult result;
+                    try {
+                        long updateCount = executor.executeStatement(session, query);
+                        result = new StatementResult(updateCount, System.currentTimeMillis() - startTime, null);
+                    } catch (Throwable e) {
+                        result = new StatementResult(-1, System.currentTimeMillis() - startTime, e);
+                    }
+                    completeQuery(index, result);
+                }
+            } catch (InterruptedException e) {
+                log.debug("Parallel script worker interrupted");
+            } finally {
+                finishWorker();
+            }
+            return Status.OK_STATUS;
+        }
+    }
+}
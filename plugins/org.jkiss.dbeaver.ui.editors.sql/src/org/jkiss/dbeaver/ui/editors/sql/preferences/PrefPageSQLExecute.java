@@ -59,6 +59,10 @@ public class PrefPageSQLExecute extends TargetPrefPage
     private Combo errorHandlingCombo;
     private Spinner commitLinesText;
     private Button fetchResultSetsCheck;
+    private Button batchDmlCheck;
+    private Spinner batchSizeText;
+    private Button parallelExecuteCheck;
+    private Spinner parallelConnectionsText;
     private Button resetCursorCheck;
     private Button maxEditorCheck;
     private Combo showStatisticsCombo;
@@ -95,6 +99,10 @@ public class PrefPageSQLExecute extends TargetPrefPage
             store.contains(SQLPreferenceConstants.SCRIPT_ERROR_HANDLING) ||
             store.contains(SQLPreferenceConstants.SCRIPT_COMMIT_LINES) ||
             store.contains(SQLPreferenceConstants.SCRIPT_FETCH_RESULT_SETS) ||
+            store.contains(SQLPreferenceConstants.SCRIPT_BATCH_DML) ||
+            store.contains(SQLPreferenceConstants.SCRIPT_BATCH_SIZE) ||
+            store.contains(SQLPreferenceConstants.SCRIPT_PARALLEL_EXECUTE) ||
+            store.contains(SQLPreferenceConstants.SCRIPT_PARALLEL_CONNECTIONS) ||
 
             store.contains(ModelPreferences.SCRIPT_STATEMENT_DELIMITER) ||
             store.contains(ModelPreferences.SCRIPT_IGNORE_NATIVE_DELIMITER) ||
@@ -215,6 +223,38 @@ public class PrefPageSQLExecute extends TargetPrefPage
             }
 
             fetchResultSetsCheck = UIUtils.createCheckbox(scriptsGroup, SQLEditorMessages.pref_page_sql_editor_checkbox_fetch_resultsets, null, false, 2);
+            batchDmlCheck = UIUtils.createCheckbox(
+                scriptsGroup,
+                SQLEditorMessages.pref_page_sql_editor_checkbox_batch_dml,
+                SQLEditorMessages.pref_page_sql_editor_checkbox_batch_dml_tip,
+                false,
+                2
+            );
+            {
+                UIUtils.createControlLabel(scriptsGroup, SQLEditorMessages.pref_page_sql_editor_label_batch_size);
+                batchSizeText = new Spinner(scriptsGroup, SWT.BORDER);
+                batchSizeText.setSelection(0);
+                batchSizeText.setDigits(0);
+                batchSizeText.setIncrement(1);
+                batchSizeText.setMinimum(2);
+                batchSizeText.setMaximum(100000);
+            }
+            parallelExecuteCheck = UIUtils.createCheckbox(
+                scriptsGroup,
+                SQLEditorMessages.pref_page_sql_editor_checkbox_parallel_execute,
+                SQLEditorMessages.pref_page_sql_editor_checkbox_parallel_execute_tip,
+                false,
+                2
+            );
+            {
+                UIUtils.createControlLabel(scriptsGroup, SQLEditorMessages.pref_page_sql_editor_label_parallel_connections);
+                parallelConnectionsText = new Spinner(scriptsGroup, SWT.BORDER);
+                parallelConnectionsText.setSelection(0);
+                parallelConnectionsText.setDigits(0);
+                parallelConnectionsText.setIncrement(1);
+                parallelConnectionsText.setMinimum(2);
+                parallelConnectionsText.setMaximum(32);
+            }
             resetCursorCheck = UIUtils.createCheckbox(scriptsGroup, SQLEditorMessages.pref_page_sql_editor_checkbox_reset_cursor, null, false, 2);
             maxEditorCheck = UIUtils.createCheckbox(scriptsGroup, SQLEditorMessages.pref_page_sql_editor_checkbox_max_editor_on_script_exec, null, false, 2);
             showStatisticsCombo = UIUtils.createLabelCombo(
@@ -315,6 +355,10 @@ public class PrefPageSQLExecute extends TargetPrefPage
             store.setValue(SQLPreferenceConstants.SCRIPT_COMMIT_LINES, commitLinesText.getSelection());
             store.setValue(SQLPreferenceConstants.SCRIPT_ERROR_HANDLING, CommonUtils.fromOrdinal(SQLScriptErrorHandling.class, errorHandlingCombo.getSelectionIndex()).name());
             store.setValue(SQLPreferenceConstants.SCRIPT_FETCH_RESULT_SETS, fetchResultSetsCheck.getSelection());
+            store.setValue(SQLPreferenceConstants.SCRIPT_BATCH_DML, batchDmlCheck.getSelection());
+            store.setValue(SQLPreferenceConstants.SCRIPT_BATCH_SIZE, batchSizeText.getSelection());
+            store.setValue(SQLPreferenceConstants.SCRIPT_PARALLEL_EXECUTE, parallelExecuteCheck.getSelection());
+            store.setValue(SQLPreferenceConstants.SCRIPT_PARALLEL_CONNECTIONS, parallelConnectionsText.getSelection());
             store.setValue(SQLPreferenceConstants.RESET_CURSOR_ON_EXECUTE, resetCursorCheck.getSelection());
             store.setValue(SQLPreferenceConstants.MAXIMIZE_EDITOR_ON_SCRIPT_EXECUTE, maxEditorCheck.getSelection());
             store.setValue(
@@ -360,6 +404,10 @@ public class PrefPageSQLExecute extends TargetPrefPage
         store.setToDefault(SQLPreferenceConstants.SCRIPT_ERROR_HANDLING);
         store.setToDefault(SQLPreferenceConstants.SCRIPT_COMMIT_LINES);
         store.setToDefault(SQLPreferenceConstants.SCRIPT_FETCH_RESULT_SETS);
+        store.setToDefault(SQLPreferenceConstants.SCRIPT_BATCH_DML);
+        store.setToDefault(SQLPreferenceConstants.SCRIPT_BATCH_SIZE);
+        store.setToDefault(SQLPreferenceConstants.SCRIPT_PARALLEL_EXECUTE);
+        store.setToDefault(SQLPreferenceConstants.SCRIPT_PARALLEL_CONNECTIONS);
 
         store.setToDefault(SQLPreferenceConstants.RESET_CURSOR_ON_EXECUTE);
         store.setToDefault(SQLPreferenceConstants.MAXIMIZE_EDITOR_ON_SCRIPT_EXECUTE);
@@ -445,6 +493,26 @@ public class PrefPageSQLExecute extends TargetPrefPage
                     ? store.getDefaultBoolean(SQLPreferenceConstants.SCRIPT_FETCH_RESULT_SETS)
                     : store.getBoolean(SQLPreferenceConstants.SCRIPT_FETCH_RESULT_SETS)
             );
+            batchDmlCheck.setSelection(
+                useDefaults
+                    ? store.getDefaultBoolean(SQLPreferenceConstants.SCRIPT_BATCH_DML)
+                    : store.getBoolean(SQLPreferenceConstants.SCRIPT_BATCH_DML)
+            );
+            batchSizeText.setSelection(
+                useDefaults
+                    ? store.getDefaultInt(SQLPreferenceConstants.SCRIPT_BATCH_SIZE)
+                    : store.getInt(SQLPreferenceConstants.SCRIPT_BATCH_SIZE)
+            );
+            parallelExecuteCheck.setSelection(
+                useDefaults
+                    ? store.getDefaultBoolean(SQLPreferenceConstants.SCRIPT_PARALLEL_EXECUTE)
+                    : store.getBoolean(SQLPreferenceConstants.SCRIPT_PARALLEL_EXECUTE)
+            );
+            parallelConnectionsText.setSelection(
+                useDefaults
+                    ? store.getDefaultInt(SQLPreferenceConstants.SCRIPT_PARALLEL_CONNECTIONS)
+                    : store.getInt(SQLPreferenceConstants.SCRIPT_PARALLEL_CONNECTIONS)
+            );
             resetCursorCheck.setSelection(
                 useDefaults
                     ? store.getDefaultBoolean(SQLPreferenceConstants.RESET_CURSOR_ON_EXECUTE)
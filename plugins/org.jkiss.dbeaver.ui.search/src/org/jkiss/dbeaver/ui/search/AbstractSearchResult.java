@@ -23,13 +23,15 @@ import org.eclipse.search.ui.ISearchResultListener;
 import org.eclipse.search.ui.SearchResultEvent;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public abstract class AbstractSearchResult<OBJECT_TYPE> implements ISearchResult {
 
 
     private ISearchQuery searchQuery;
-    private List<OBJECT_TYPE> objects = new ArrayList<>();
+    // Objects may be added by several search workers at once
+    private final List<OBJECT_TYPE> objects = Collections.synchronizedList(new ArrayList<>());
     private final List<ISearchResultListener> listeners = new ArrayList<>();
 
     public AbstractSearchResult(ISearchQuery searchQuery) {
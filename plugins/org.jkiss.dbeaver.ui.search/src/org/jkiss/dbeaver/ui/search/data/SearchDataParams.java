@@ -35,6 +35,7 @@ public class SearchDataParams {
     boolean searchLOBs;
     boolean searchForeignObjects;
     int maxResults;
+    int parallelQueries; // Per data source
     List<DBNNode> selectedNodes = new ArrayList<>();
 
     public SearchDataParams()
@@ -105,6 +106,14 @@ public class SearchDataParams {
         this.maxResults = maxResults;
     }
 
+    public int getParallelQueries() {
+        return parallelQueries;
+    }
+
+    public void setParallelQueries(int parallelQueries) {
+        this.parallelQueries = parallelQueries;
+    }
+
     public List<DBNNode> getSelectedNodes() {
         return selectedNodes;
     }
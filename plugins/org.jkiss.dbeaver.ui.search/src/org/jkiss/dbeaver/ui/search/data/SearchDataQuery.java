@@ -20,6 +20,9 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.search.ui.ISearchQuery;
 import org.eclipse.search.ui.ISearchResult;
 import org.eclipse.ui.IEditorPart;
@@ -36,12 +39,14 @@ import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.impl.AbstractExecutionSource;
 import org.jkiss.dbeaver.model.navigator.DBNDatabaseNode;
 import org.jkiss.dbeaver.model.navigator.DBNModel;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.DefaultProgressMonitor;
-import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.ProxyProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
 import org.jkiss.dbeaver.model.struct.DBSEntity;
 import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
+import org.jkiss.dbeaver.model.struct.DBSInstance;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.dbeaver.ui.UIUtils;
 import org.jkiss.dbeaver.ui.controls.resultset.IResultSetController;
@@ -55,14 +60,26 @@ import org.jkiss.utils.CommonUtils;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class SearchDataQuery implements ISearchQuery {
 
     private static final Log log = Log.getLog(SearchDataQuery.class);
 
+    private static final int PROGRESS_UPDATE_PERIOD = 100;
+
     private final SearchDataParams params;
     private SearchDataResult searchResult;
 
+    private Object searchNumber;
+    private String searchUUID;
+    private Map<DBSDataContainer, DBDDataFilter> editorFilters = Collections.emptyMap();
+    private final AtomicInteger processedTables = new AtomicInteger();
+    private final AtomicInteger foundTables = new AtomicInteger();
+
     private SearchDataQuery(SearchDataParams params)
     {
         this.params = params;
@@ -96,38 +113,73 @@ public class SearchDataQuery implements ISearchQuery {
     public IStatus run(IProgressMonitor m) throws OperationCanceledException {
         try {
             String searchString = params.getSearchString();
+            searchNumber = parseSearchNumber(searchString);
+            searchUUID = parseSearchUUID(searchString);
+            processedTables.set(0);
+            foundTables.set(0);
 
-            //monitor.subTask("Collect tables");
-            Set<DBPDataSource> dataSources = new HashSet<>();
+            // Tables of each data source are searched by its own workers
+            Map<DBPDataSource, Queue<DBSDataContainer>> dataSourceTables = new LinkedHashMap<>();
             for (DBSDataContainer searcher : params.sources) {
-                dataSources.add(searcher.getDataSource());
+                dataSourceTables.computeIfAbsent(searcher.getDataSource(), ds -> new ConcurrentLinkedQueue<>()).add(searcher);
             }
+            editorFilters = collectEditorFilters();
 
             // Search
             DBNModel dbnModel = DBWorkbench.getPlatform().getNavigatorModel();
 
             DBRProgressMonitor monitor = new DefaultProgressMonitor(m);
 
-            int totalObjects = 0;
-
+            int totalTables = params.sources.size();
             monitor.beginTask(
-                "Search \"" + searchString + "\" in " + params.sources.size() + " table(s) / " + dataSources.size() + " database(s)",
-                params.sources.size());
+                "Search \"" + searchString + "\" in " + totalTables + " table(s) / " + dataSourceTables.size() + " database(s)",
+                totalTables);
+            List<SearchWorker> workers = new ArrayList<>();
             try {
-                for (DBSDataContainer dataContainer : params.sources) {
-                    if (monitor.isCanceled()) {
-                        break;
+                int parallelQueries = Math.max(params.getParallelQueries(), 1);
+                for (Queue<DBSDataContainer> tables : dataSourceTables.values()) {
+                    int workerCount = Math.min(parallelQueries, tables.size());
+                    for (int i = 0; i < workerCount; i++) {
+                        workers.add(new SearchWorker(dbnModel, tables, workerCount > 1));
+                    }
+                }
+                // Workers may be canceled before they start, so completion is counted by job listeners
+                CountDownLatch finished = new CountDownLatch(workers.size());
+                for (SearchWorker worker : workers) {
+                    worker.addJobChangeListener(new JobChangeAdapter() {
+                        @Override
+                        public void done(IJobChangeEvent event) {
+                            finished.countDown();
+                        }
+                    });
+                    worker.schedule();
+                }
+                // Workers report progress through the shared counters, the search monitor is used by this thread only
+                int reportedTables = 0;
+                boolean canceled = false;
+                boolean completed = false;
+                while (!completed) {
+                    completed = finished.await(PROGRESS_UPDATE_PERIOD, TimeUnit.MILLISECONDS);
+                    if (!canceled && monitor.isCanceled()) {
+                        workers.forEach(Job::cancel);
+                        canceled = true;
                     }
-                    if (searchDataInContainer(monitor, dbnModel, dataContainer)) {
-                        totalObjects++;
+                    int processed = processedTables.get();
+                    if (processed > reportedTables) {
+                        monitor.subTask("Searched " + processed + " of " + totalTables + " table(s)");
+                        monitor.worked(processed - reportedTables);
+                        reportedTables = processed;
                     }
-                    monitor.worked(1);
                 }
+            } catch (InterruptedException e) {
+                workers.forEach(Job::cancel);
+                Thread.currentThread().interrupt();
+                return Status.CANCEL_STATUS;
             } finally {
                 monitor.done();
             }
 
-            searchResult.fireChange(new AbstractSearchResult.DatabaseSearchFinishEvent(searchResult, totalObjects));
+            searchResult.fireChange(new AbstractSearchResult.DatabaseSearchFinishEvent(searchResult, foundTables.get()));
 
             return Status.OK_STATUS;
         } catch (Exception e) {
@@ -135,7 +187,12 @@ public class SearchDataQuery implements ISearchQuery {
         }
     }
 
-    private boolean searchDataInContainer(DBRProgressMonitor monitor, DBNModel dbnModel, DBSDataContainer dataContainer) {
+    private boolean searchDataInContainer(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBNModel dbnModel,
+        @NotNull DBSDataContainer dataContainer,
+        @Nullable DBCExecutionContext executionContext
+    ) {
         if (!params.searchForeignObjects && dataContainer instanceof DBPForeignObject && ((DBPForeignObject) dataContainer).isForeignObject()) {
             return false;
         }
@@ -146,10 +203,12 @@ public class SearchDataQuery implements ISearchQuery {
             log.warn("Can't find tree node for object \"" + objectName + "\"");
             return false;
         }
-        monitor.subTask("Search in '" + objectName + "'");
         log.debug("Search in '" + objectName + "'");
         SearchTableMonitor searchMonitor = new SearchTableMonitor(monitor);
-        try (DBCSession session = DBUtils.openUtilSession(searchMonitor, dataContainer, "Search rows in " + objectName)) {
+        try (DBCSession session = executionContext != null ?
+            executionContext.openSession(searchMonitor, DBCExecutionPurpose.UTIL, "Search rows in " + objectName) :
+            DBUtils.openUtilSession(searchMonitor, dataContainer, "Search rows in " + objectName))
+        {
             TestDataReceiver dataReceiver = new TestDataReceiver(searchMonitor);
             try {
                 findRows(session, dataContainer, dataReceiver);
@@ -208,25 +267,12 @@ public class SearchDataQuery implements ISearchQuery {
                         if (!ArrayUtils.contains(supportedOperators, DBCLogicalOperator.EQUALS)) {
                             continue;
                         }
-                        operator = DBCLogicalOperator.EQUALS;
-                        try {
-                            value = Integer.valueOf(params.searchString);
-                        } catch (NumberFormatException e) {
-                            try {
-                                value = Long.valueOf(params.searchString);
-                            } catch (NumberFormatException e1) {
-                                try {
-                                    value = Double.valueOf(params.searchString);
-                                } catch (NumberFormatException e2) {
-                                    try {
-                                        value = new BigDecimal(params.searchString);
-                                    } catch (Exception e3) {
-                                        // Not a number
-                                        continue;
-                                    }
-                                }
-                            }
+                        if (searchNumber == null) {
+                            // Not a number
+                            continue;
                         }
+                        operator = DBCLogicalOperator.EQUALS;
+                        value = searchNumber;
                         break;
                     case CONTENT:
                     case BINARY:
@@ -259,15 +305,9 @@ public class SearchDataQuery implements ISearchQuery {
                             continue;
                         }
                         String typeName = attribute.getTypeName();
-                        if (typeName.equals(DBConstants.TYPE_NAME_UUID) || typeName.equals(DBConstants.TYPE_NAME_UUID2)) {
-                            try {
-                                UUID uuid = UUID.fromString(params.searchString);
-                                operator = DBCLogicalOperator.EQUALS;
-                                value = uuid.toString();
-                            } catch (Exception e) {
-                                // No a UUID
-                                continue;
-                            }
+                        if (searchUUID != null && (typeName.equals(DBConstants.TYPE_NAME_UUID) || typeName.equals(DBConstants.TYPE_NAME_UUID2))) {
+                            operator = DBCLogicalOperator.EQUALS;
+                            value = searchUUID;
                         } else {
                             continue;
                         }
@@ -307,42 +347,153 @@ public class SearchDataQuery implements ISearchQuery {
 
     @Nullable
     private DBDDataFilter searchDataFilterForContainer(@NotNull DBSDataContainer dataContainer, @NotNull DBRProgressMonitor monitor) {
-        DBDDataFilter dataFilter = null;
         // First let's search in open editors
-        for (IEditorReference er : UIUtils.getActiveWorkbenchWindow().getActivePage().getEditorReferences()) {
-            IEditorPart editor = er.getEditor(false);
-            if (editor instanceof EntityEditor) {
-                IEditorPart pageEditor = ((EntityEditor) editor).getPageEditor(DatabaseDataEditor.class.getName());
-                if (pageEditor != null) {
-                    IResultSetController rsc = pageEditor.getAdapter(IResultSetController.class);
-                    if (rsc != null) {
-                        DBSDataContainer rscDataContainer = rsc.getDataContainer();
-                        if (rscDataContainer == dataContainer) {
-                            dataFilter = rsc.getDataFilter();
+        DBDDataFilter dataFilter = editorFilters.get(dataContainer);
+        if (dataFilter != null) {
+            return new DBDDataFilter(dataFilter);
+        }
+        // Now we try to find saved data filters for container
+        return ResultSetUtils.restoreDataFilter(dataContainer, monitor);
+    }
+
+    /**
+     * Collects data filters of tables opened in editors
+     */
+    @NotNull
+    private static Map<DBSDataContainer, DBDDataFilter> collectEditorFilters() {
+        Map<DBSDataContainer, DBDDataFilter> filters = new HashMap<>();
+        UIUtils.syncExec(() -> {
+            for (IEditorReference er : UIUtils.getActiveWorkbenchWindow().getActivePage().getEditorReferences()) {
+                IEditorPart editor = er.getEditor(false);
+                if (editor instanceof EntityEditor) {
+                    IEditorPart pageEditor = ((EntityEditor) editor).getPageEditor(DatabaseDataEditor.class.getName());
+                    if (pageEditor != null) {
+                        IResultSetController rsc = pageEditor.getAdapter(IResultSetController.class);
+                        if (rsc != null && rsc.getDataContainer() != null) {
+                            filters.put(rsc.getDataContainer(), new DBDDataFilter(rsc.getDataFilter()));
                         }
                     }
                 }
             }
+        });
+        return filters;
+    }
+
+    @Nullable
+    private static Object parseSearchNumber(@NotNull String searchString) {
+        try {
+            return Integer.valueOf(searchString);
+        } catch (NumberFormatException e) {
+            try {
+                return Long.valueOf(searchString);
+            } catch (NumberFormatException e1) {
+                try {
+                    return Double.valueOf(searchString);
+                } catch (NumberFormatException e2) {
+                    try {
+                        return new BigDecimal(searchString);
+                    } catch (Exception e3) {
+                        // Not a number
+                        return null;
+                    }
+                }
+            }
         }
-        if (dataFilter == null) {
-            // Now we try to find saved data filters for container
-            dataFilter = ResultSetUtils.restoreDataFilter(dataContainer, monitor);
+    }
+
+    @Nullable
+    private static String parseSearchUUID(@NotNull String searchString) {
+        try {
+            return UUID.fromString(searchString).toString();
+        } catch (Exception e) {
+            // Not a UUID
+            return null;
+        }
+    }
+
+    /**
+     * Searches tables of a single data source.
+     * Several workers share the same tables queue, each parallel worker uses its own isolated contexts.
+     * Workers run with their own job monitors, the search is canceled by canceling the worker jobs.
+     */
+    private class SearchWorker extends AbstractJob {
+
+        private final DBNModel dbnModel;
+        private final Queue<DBSDataContainer> tables;
+        private final boolean isolated;
+        private final Map<DBSInstance, DBCExecutionContext> contexts = new HashMap<>();
+
+        SearchWorker(
+            @NotNull DBNModel dbnModel,
+            @NotNull Queue<DBSDataContainer> tables,
+            boolean isolated
+        ) {
+            super("Search data");
+            setUser(false);
+            setSystem(true);
+            this.dbnModel = dbnModel;
+            this.tables = tables;
+            this.isolated = isolated;
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            try {
+                for (DBSDataContainer dataContainer = tables.poll(); dataContainer != null; dataContainer = tables.poll()) {
+                    if (monitor.isCanceled()) {
+                        break;
+                    }
+                    if (searchDataInContainer(monitor, dbnModel, dataContainer, getSearchContext(monitor, dataContainer))) {
+                        foundTables.incrementAndGet();
+                    }
+                    processedTables.incrementAndGet();
+                }
+            } finally {
+                // Pooled contexts are returned to the pool
+                for (DBCExecutionContext context : contexts.values()) {
+                    context.close();
+                }
+            }
+            return Status.OK_STATUS;
+        }
+
+        @Nullable
+        private DBCExecutionContext getSearchContext(@NotNull DBRProgressMonitor monitor, @NotNull DBSDataContainer dataContainer) {
+            if (!isolated) {
+                return null;
+            }
+            DBSInstance instance = DBUtils.getObjectOwnerInstance(dataContainer);
+            if (instance == null) {
+                return null;
+            }
+            DBCExecutionContext context = contexts.get(instance);
+            if (context == null) {
+                try {
+                    context = instance.openIsolatedContext(monitor, "Data search", DBUtils.getDefaultContext(dataContainer, false));
+                    contexts.put(instance, context);
+                } catch (DBException e) {
+                    log.debug("Can't open isolated context for data search, use default context: " + e.getMessage());
+                    return null;
+                }
+            }
+            return context;
         }
-        return dataFilter;
     }
 
-    private class SearchTableMonitor extends VoidProgressMonitor {
+    /**
+     * Monitor of a single table search. It is canceled when enough rows are found.
+     */
+    private static class SearchTableMonitor extends ProxyProgressMonitor {
 
-        private DBRProgressMonitor baseMonitor;
         private volatile boolean canceled;
 
         private SearchTableMonitor(DBRProgressMonitor monitor) {
-            this.baseMonitor = monitor;
+            super(monitor);
         }
 
         @Override
         public boolean isCanceled() {
-            return canceled || baseMonitor.isCanceled();
+            return canceled || super.isCanceled();
         }
     }
 
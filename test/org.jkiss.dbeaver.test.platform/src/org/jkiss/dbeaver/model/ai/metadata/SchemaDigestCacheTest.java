@@ -0,0 +1,187 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.ai.metadata;
+
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.ai.format.IAIFormatter;
+import org.jkiss.dbeaver.model.navigator.DBNEvent;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
+import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.jkiss.junit.osgi.annotation.RunnerProxy;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@RunnerProxy(MockitoJUnitRunner.Silent.class)
+public class SchemaDigestCacheTest extends DBeaverUnitTest {
+
+    @Mock
+    private DBSObjectContainer container;
+    @Mock
+    private IAIFormatter formatter;
+
+    private SchemaDigestCache.SchemaDigest digest;
+    private DBSEntity product;
+    private DBSEntity orderItem;
+    private DBSEntity customer;
+    private DBSEntity orders;
+    private DBSEntity auditLog;
+
+    @Before
+    public void init() {
+        digest = new SchemaDigestCache.SchemaDigest(container, formatter, "test");
+        product = mockEntity("PRODUCT");
+        orderItem = mockEntity("ORDER_ITEM");
+        customer = mockEntity("CUSTOMER");
+        orders = mockEntity("ORDERS");
+        auditLog = mockEntity("AUDIT_LOG");
+        // Container order differs from relevance order
+        digest.putTable(table(product, 0, 10, Set.of("product"), Set.of("id", "name"), Set.of()));
+        digest.putTable(table(orderItem, 1, 10, Set.of("order", "item"), Set.of("order", "product", "id"), Set.of(orders, product)));
+        digest.putTable(table(customer, 2, 10, Set.of("customer"), Set.of("id", "name"), Set.of()));
+        digest.putTable(table(orders, 3, 10, Set.of("order"), Set.of("id", "customer"), Set.of(customer)));
+        digest.putTable(table(auditLog, 4, 10, Set.of("audit", "log"), Set.of("id", "message"), Set.of()));
+    }
+
+    @Test
+    public void testScoringOrder() {
+        // Table name match is more relevant than column match, tables joined by foreign keys follow matched ones
+        Assert.assertEquals(
+            List.of(orders, customer, orderItem, product, auditLog),
+            getEntities(digest.selectTables("Show total orders per customer", 1000)));
+    }
+
+    @Test
+    public void testContainerOrderWithoutMatches() {
+        List<DBSEntity> containerOrder = List.of(product, orderItem, customer, orders, auditLog);
+        Assert.assertEquals(containerOrder, getEntities(digest.selectTables("hello world", 1000)));
+        Assert.assertEquals(containerOrder, getEntities(digest.selectTables("", 1000)));
+        Assert.assertEquals(containerOrder, getEntities(digest.selectTables(null, 1000)));
+    }
+
+    @Test
+    public void testBudgetTruncation() {
+        Assert.assertEquals(List.of(product, orderItem), getEntities(digest.selectTables(null, 25)));
+        Assert.assertEquals(List.of(orders, customer), getEntities(digest.selectTables("orders of customer", 20)));
+        Assert.assertTrue(digest.selectTables("orders", 5).isEmpty());
+
+        // Without matches tables are cut at the first table which doesn't fit
+        digest.putTable(table(orderItem, 1, 100, Set.of("order", "item"), Set.of(), Set.of()));
+        Assert.assertEquals(List.of(product), getEntities(digest.selectTables(null, 50)));
+
+        // Less relevant tables may fill the rest of the budget
+        digest.putTable(table(orders, 3, 100, Set.of("order"), Set.of(), Set.of()));
+        Assert.assertEquals(List.of(product, customer, auditLog), getEntities(digest.selectTables("orders", 50)));
+    }
+
+    @Test
+    public void testTableChange() {
+        Assert.assertTrue(digest.handleObjectChange(orders, DBNEvent.Action.UPDATE, false));
+        DBSEntityAttribute attribute = Mockito.mock(DBSEntityAttribute.class);
+        Mockito.when(attribute.getParentObject()).thenReturn(customer);
+        Assert.assertTrue(digest.handleObjectChange(attribute, DBNEvent.Action.ADD, false));
+
+        Assert.assertEquals(Set.of(orders, customer), digest.getStaleTables());
+        Assert.assertFalse(digest.isStale());
+        Assert.assertEquals(5, digest.getTables().size());
+    }
+
+    @Test
+    public void testTableDrop() {
+        Assert.assertTrue(digest.handleObjectChange(orders, DBNEvent.Action.UPDATE, false));
+        Assert.assertTrue(digest.handleObjectChange(orders, DBNEvent.Action.REMOVE, true));
+
+        Assert.assertTrue(digest.getStaleTables().isEmpty());
+        Assert.assertFalse(digest.isStale());
+        Assert.assertFalse(getEntities(digest.selectTables(null, 1000)).contains(orders));
+        Assert.assertEquals(4, digest.getTables().size());
+    }
+
+    @Test
+    public void testContainerChange() {
+        DBSObjectContainer otherContainer = Mockito.mock(DBSObjectContainer.class);
+        DBSEntity otherTable = Mockito.mock(DBSEntity.class);
+        Mockito.when(otherTable.getParentObject()).thenReturn(otherContainer);
+        Assert.assertTrue(digest.handleObjectChange(otherTable, DBNEvent.Action.UPDATE, false));
+        Assert.assertTrue(digest.handleObjectChange(otherContainer, DBNEvent.Action.REMOVE, true));
+        Assert.assertFalse(digest.isStale());
+        Assert.assertTrue(digest.getStaleTables().isEmpty());
+
+        // Nested container without tables
+        DBSObjectContainer nestedContainer = Mockito.mock(DBSObjectContainer.class);
+        Mockito.when(nestedContainer.getParentObject()).thenReturn(container);
+        Assert.assertTrue(digest.handleObjectChange(nestedContainer, DBNEvent.Action.ADD, false));
+        Assert.assertTrue(digest.isStale());
+
+        // Refreshed container must be described again, removed container must be dropped
+        digest = new SchemaDigestCache.SchemaDigest(container, formatter, "test");
+        Assert.assertTrue(digest.handleObjectChange(container, DBNEvent.Action.UPDATE, false));
+        Assert.assertTrue(digest.isStale());
+        Assert.assertFalse(digest.handleObjectChange(container, DBNEvent.Action.REMOVE, true));
+    }
+
+    @Test
+    public void testDataSourceDisconnect() {
+        DBPDataSourceContainer dataSourceContainer = Mockito.mock(DBPDataSourceContainer.class);
+        DBPDataSource dataSource = Mockito.mock(DBPDataSource.class);
+        Mockito.when(dataSource.getContainer()).thenReturn(dataSourceContainer);
+        Mockito.when(container.getDataSource()).thenReturn(dataSource);
+
+        Assert.assertTrue(digest.handleObjectChange(dataSourceContainer, DBNEvent.Action.UPDATE, false));
+        Assert.assertTrue(digest.isStale());
+        // Disconnect is reported as data source node unload
+        Assert.assertFalse(digest.handleObjectChange(dataSourceContainer, DBNEvent.Action.UPDATE, true));
+    }
+
+    private DBSEntity mockEntity(String name) {
+        DBSEntity entity = Mockito.mock(DBSEntity.class);
+        Mockito.when(entity.getName()).thenReturn(name);
+        Mockito.when(entity.getParentObject()).thenReturn(container);
+        return entity;
+    }
+
+    private static SchemaDigestCache.TableDigest table(
+        DBSEntity entity,
+        int ordinal,
+        int tokens,
+        Set<String> nameWords,
+        Set<String> columnWords,
+        Set<DBSEntity> relatedTables
+    ) {
+        String name = entity.getName();
+        return new SchemaDigestCache.TableDigest(
+            entity, ordinal, "CREATE TABLE", name, "test." + name, "(...)", tokens, nameWords, columnWords, relatedTables);
+    }
+
+    private static List<DBSEntity> getEntities(List<SchemaDigestCache.TableDigest> tables) {
+        List<DBSEntity> entities = new ArrayList<>();
+        for (SchemaDigestCache.TableDigest table : tables) {
+            entities.add(table.entity());
+        }
+        return entities;
+    }
+}
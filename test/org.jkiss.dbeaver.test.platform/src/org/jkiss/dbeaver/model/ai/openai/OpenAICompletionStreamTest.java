@@ -0,0 +1,223 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.ai.openai;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatMessage;
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.ai.completion.DAICompletionChunk;
+import org.jkiss.dbeaver.model.ai.utils.ServerSentEventPublisher;
+import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+public class OpenAICompletionStreamTest extends DBeaverUnitTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private HttpServer server;
+    private final CountDownLatch serverRelease = new CountDownLatch(1);
+    private volatile String authorization;
+    private volatile String requestBody;
+
+    @Before
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/v1/chat/completions", exchange -> {
+            authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            startEvents(exchange);
+            try (OutputStream out = exchange.getResponseBody()) {
+                writeEvent(out, "{\"choices\":[{\"delta\":{\"role\":\"assistant\"}}]}");
+                writeEvent(out, "{\"choices\":[{\"delta\":{\"content\":\"SELECT \"}}]}");
+                writeEvent(out, "{\"choices\":[{\"delta\":{\"content\":\"1;\"}}]}");
+                writeEvent(out, ServerSentEventPublisher.DONE_DATA);
+            }
+        });
+        server.createContext("/endless", exchange -> {
+            startEvents(exchange);
+            try (OutputStream out = exchange.getResponseBody()) {
+                writeEvent(out, "first");
+                serverRelease.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException | IOException ignored) {
+                // Client closed the stream
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void stopServer() {
+        serverRelease.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    public void testCompletionStreamUsesServiceEndpoint() throws Exception {
+        TestEngine engine = new TestEngine();
+        try (OpenAIClient client = engine.createClient("test-token", getBaseUrl())) {
+            ChatCompletionRequest request = ChatCompletionRequest.builder()
+                .model("test-model")
+                .messages(List.of(new ChatMessage("user", "Select one")))
+                .build();
+            Flow.Publisher<DAICompletionChunk> publisher = client.createChatCompletionStream(
+                new VoidProgressMonitor(),
+                request
+            );
+            Assert.assertNotNull(publisher);
+
+            CollectingSubscriber<DAICompletionChunk> subscriber = new CollectingSubscriber<>();
+            publisher.subscribe(subscriber);
+            Assert.assertTrue(subscriber.finished.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+            Assert.assertNull(subscriber.error);
+            Assert.assertTrue(subscriber.completed);
+            Assert.assertEquals(
+                List.of("SELECT ", "1;"),
+                subscriber.items.stream().map(DAICompletionChunk::text).toList()
+            );
+            Assert.assertEquals("Bearer test-token", authorization);
+            Assert.assertTrue(requestBody.contains("\"stream\":true"));
+            Assert.assertTrue(requestBody.contains("\"model\":\"test-model\""));
+        }
+    }
+
+    @Test
+    public void testCancelClosesStream() throws Exception {
+        CountDownLatch closed = new CountDownLatch(1);
+        ServerSentEventPublisher<String> publisher = new ServerSentEventPublisher<>(
+            "Test stream",
+            openEventStream("endless").onClose(closed::countDown),
+            data -> data
+        );
+        CollectingSubscriber<String> subscriber = new CollectingSubscriber<>();
+        publisher.subscribe(subscriber);
+        Assert.assertTrue(subscriber.firstItem.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // Server doesn't send anything else, so the reader is blocked until stream is closed
+        subscriber.subscription.cancel();
+        Assert.assertTrue(closed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assert.assertEquals(List.of("first"), subscriber.items);
+        Assert.assertFalse(subscriber.completed);
+        Assert.assertNull(subscriber.error);
+    }
+
+    @Test
+    public void testCloseWithoutSubscriber() throws Exception {
+        CountDownLatch closed = new CountDownLatch(1);
+        ServerSentEventPublisher<String> publisher = new ServerSentEventPublisher<>(
+            "Test stream",
+            openEventStream("endless").onClose(closed::countDown),
+            data -> data
+        );
+        publisher.close();
+        Assert.assertTrue(closed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        CollectingSubscriber<String> subscriber = new CollectingSubscriber<>();
+        publisher.subscribe(subscriber);
+        Assert.assertTrue(subscriber.finished.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assert.assertTrue(subscriber.error instanceof IllegalStateException);
+    }
+
+    @NotNull
+    private String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+
+    @NotNull
+    private Stream<String> openEventStream(@NotNull String path) throws Exception {
+        HttpResponse<Stream<String>> response = HttpClient.newHttpClient().send(
+            HttpRequest.newBuilder(URI.create(getBaseUrl()).resolve(path)).build(),
+            HttpResponse.BodyHandlers.ofLines()
+        );
+        Assert.assertEquals(200, response.statusCode());
+        return response.body();
+    }
+
+    private static void startEvents(@NotNull HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+    }
+
+    private static void writeEvent(@NotNull OutputStream out, @NotNull String data) throws IOException {
+        out.write(("data: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static class TestEngine extends OpenAICompletionEngine {
+        // Makes client factory accessible to the test
+        @NotNull
+        @Override
+        public OpenAIClient createClient(@NotNull String token, String baseUrl) {
+            return super.createClient(token, baseUrl);
+        }
+    }
+
+    private static class CollectingSubscriber<T> implements Flow.Subscriber<T> {
+        private final List<T> items = new CopyOnWriteArrayList<>();
+        private final CountDownLatch firstItem = new CountDownLatch(1);
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private volatile Flow.Subscription subscription;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+            firstItem.countDown();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            finished.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            finished.countDown();
+        }
+    }
+}
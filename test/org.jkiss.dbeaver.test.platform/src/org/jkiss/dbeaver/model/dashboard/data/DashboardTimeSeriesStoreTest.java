@@ -0,0 +1,157 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.dashboard.data;
+
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+public class DashboardTimeSeriesStoreTest extends DBeaverUnitTest {
+
+    private static final String[] COLUMNS = {"value"};
+    private static final long SECOND = 1000;
+
+    private final DashboardTimeSeriesStore store = DashboardTimeSeriesStore.getInstance();
+    // Store is shared, so each test uses its own series
+    private final String seriesPrefix = "test/" + UUID.randomUUID();
+
+    @Test
+    public void testRawSamples() {
+        long startTime = System.currentTimeMillis();
+        for (int i = 0; i < 10; i++) {
+            store.addSample(seriesPrefix + "/value", startTime + i * SECOND, i);
+        }
+        // Samples which are not newer than the last one are ignored
+        store.addSample(seriesPrefix + "/value", startTime + 9 * SECOND, 100);
+        store.addSample(seriesPrefix + "/value", startTime, 100);
+
+        List<DashboardDatasetRow> rows = store.getHistory(seriesPrefix, COLUMNS, startTime - SECOND).getRows();
+        Assert.assertEquals(10, rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Assert.assertEquals((double) i, rows.get(i).getValues()[0]);
+            long delta = startTime + i * SECOND - rows.get(i).getTimestamp().getTime();
+            Assert.assertTrue(delta >= 0 && delta < SECOND);
+        }
+    }
+
+    @Test
+    public void testMinuteTierDownsampling() {
+        long startTime = System.currentTimeMillis() - 3600 * SECOND;
+        for (int i = 0; i < 3600; i++) {
+            store.addSample(seriesPrefix + "/value", startTime + i * SECOND, i);
+        }
+        List<DashboardDatasetRow> rows = store.getHistory(seriesPrefix, COLUMNS, startTime - SECOND).getRows();
+
+        // The last 600 samples are kept as is, older ones are read from 1 minute averages
+        int rawStart = rows.size() - 600;
+        for (int i = 0; i < 600; i++) {
+            Assert.assertEquals((double) (3000 + i), rows.get(rawStart + i).getValues()[0]);
+        }
+        Assert.assertTrue("Unexpected number of averages: " + rawStart, rawStart >= 49 && rawStart <= 51);
+        // First bucket may be incomplete, all others are averages of 60 consecutive samples
+        for (int i = 2; i < rawStart; i++) {
+            Assert.assertEquals(60 * SECOND, getTime(rows, i) - getTime(rows, i - 1));
+            Assert.assertEquals(60.0, (double) rows.get(i).getValues()[0] - (double) rows.get(i - 1).getValues()[0], 0.01);
+        }
+        assertOrdered(rows);
+    }
+
+    @Test
+    public void testTenMinutesTierDownsampling() {
+        // 8 hours with a sample every 10 seconds. Raw samples cover 100 minutes, 1 minute averages cover 6 hours
+        long startTime = System.currentTimeMillis() - 8 * 3600 * SECOND;
+        for (int i = 0; i < 8 * 360; i++) {
+            store.addSample(seriesPrefix + "/value", startTime + i * 10 * SECOND, 1);
+        }
+        List<DashboardDatasetRow> rows = store.getHistory(seriesPrefix, COLUMNS, startTime - SECOND).getRows();
+        assertOrdered(rows);
+
+        // Oldest history is read from 10 minutes averages, then from 1 minute averages, then raw samples
+        Assert.assertEquals(600 * SECOND, getTime(rows, 2) - getTime(rows, 1));
+        int minuteStart = 1;
+        while (getTime(rows, minuteStart + 1) - getTime(rows, minuteStart) == 600 * SECOND) {
+            minuteStart++;
+        }
+        Assert.assertEquals(60 * SECOND, getTime(rows, minuteStart + 2) - getTime(rows, minuteStart + 1));
+        Assert.assertEquals(10 * SECOND, getTime(rows, rows.size() - 1) - getTime(rows, rows.size() - 2));
+        Assert.assertEquals(599 * 10 * SECOND, getTime(rows, rows.size() - 1) - getTime(rows, rows.size() - 600));
+        for (DashboardDatasetRow row : rows) {
+            Assert.assertEquals(1.0, (double) row.getValues()[0], 0.0001);
+        }
+    }
+
+    @Test
+    public void testDataset() {
+        long timestamp = System.currentTimeMillis();
+        DashboardDataset dataset = new DashboardDataset(new String[]{"count", "name", "size"});
+        dataset.addRow(new DashboardDatasetRow(new Date(timestamp), new Object[]{5, "test", 1.5}));
+        dataset.addRow(new DashboardDatasetRow(new Date(timestamp + SECOND), new Object[]{7, "test", null}));
+        store.addDataset(seriesPrefix, dataset);
+
+        String[] columns = {"count", "size", "name"};
+        List<DashboardDatasetRow> rows = store.getHistory(seriesPrefix, columns, timestamp - SECOND).getRows();
+        Assert.assertEquals(2, rows.size());
+        Assert.assertArrayEquals(new Object[]{5.0, 1.5, null}, rows.get(0).getValues());
+        Assert.assertArrayEquals(new Object[]{7.0, null, null}, rows.get(1).getValues());
+
+        // Samples older than the requested time are skipped
+        Assert.assertEquals(1, store.getHistory(seriesPrefix, columns, timestamp + SECOND).getRows().size());
+    }
+
+    @Test
+    public void testPrefillLongerThanChartWindow() {
+        // Chart shows 200 seconds, history has 30 minutes of samples
+        long currentTime = System.currentTimeMillis();
+        for (int i = 1800; i > 0; i--) {
+            store.addSample(seriesPrefix + "/value", currentTime - i * SECOND, i);
+        }
+        DashboardDataset current = new DashboardDataset(COLUMNS);
+        current.addRow(new DashboardDatasetRow(new Date(currentTime), new Object[]{-1.0}));
+
+        DashboardDataset dataset = store.prependHistory(seriesPrefix, current, currentTime - 1800 * SECOND);
+        List<DashboardDatasetRow> rows = dataset.getRows();
+        Assert.assertTrue(rows.size() > 600);
+        Assert.assertSame(current.getRows().get(0), rows.get(rows.size() - 1));
+        assertOrdered(rows);
+
+        // Chart gets the latest points including the current one
+        List<DashboardDatasetRow> latestRows = dataset.getLatestRows(200 * SECOND);
+        Assert.assertTrue("Unexpected number of points: " + latestRows.size(), latestRows.size() >= 200 && latestRows.size() <= 201);
+        Assert.assertSame(current.getRows().get(0), latestRows.get(latestRows.size() - 1));
+        Assert.assertEquals(1.0, (double) latestRows.get(latestRows.size() - 2).getValues()[0], 0.0001);
+        Assert.assertTrue(getTime(latestRows, 0) >= currentTime - 200 * SECOND);
+
+        // Dataset without history is not copied
+        DashboardDataset other = new DashboardDataset(new String[]{"other"});
+        other.addRow(new DashboardDatasetRow(new Date(currentTime), new Object[]{1.0}));
+        Assert.assertSame(other, store.prependHistory(seriesPrefix, other, currentTime - 1800 * SECOND));
+    }
+
+    private static long getTime(List<DashboardDatasetRow> rows, int index) {
+        return rows.get(index).getTimestamp().getTime();
+    }
+
+    private static void assertOrdered(List<DashboardDatasetRow> rows) {
+        for (int i = 1; i < rows.size(); i++) {
+            Assert.assertTrue(getTime(rows, i) > getTime(rows, i - 1));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.gis;
+
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+public class GisGeoJSONWriterTest extends DBeaverUnitTest {
+
+    private final GeometryFactory factory = new GeometryFactory();
+
+    @Test
+    public void testFiniteGeometries() {
+        Assert.assertEquals(
+            "{\"type\":\"Point\",\"coordinates\":[1.5,-2.0]}",
+            GisGeoJSONWriter.toGeoJSON(factory.createPoint(new Coordinate(1.5, -2))));
+        Assert.assertEquals(
+            "{\"type\":\"LineString\",\"coordinates\":[[0.0,0.0],[1.0,1.0]]}",
+            GisGeoJSONWriter.toGeoJSON(factory.createLineString(new Coordinate[]{
+                new Coordinate(0, 0), new Coordinate(1, 1)})));
+        Assert.assertEquals(
+            "{\"type\":\"Polygon\",\"coordinates\":[[[0.0,0.0],[1.0,0.0],[1.0,1.0],[0.0,0.0]]]}",
+            GisGeoJSONWriter.toGeoJSON(factory.createPolygon(new Coordinate[]{
+                new Coordinate(0, 0), new Coordinate(1, 0), new Coordinate(1, 1), new Coordinate(0, 0)})));
+        Assert.assertEquals(
+            "{\"type\":\"GeometryCollection\",\"geometries\":[{\"type\":\"Point\",\"coordinates\":[]}]}",
+            GisGeoJSONWriter.toGeoJSON(factory.createGeometryCollection(new Geometry[]{factory.createPoint()})));
+    }
+
+    @Test
+    public void testNonFiniteCoordinatesAreSkipped() {
+        Assert.assertEquals(
+            "{\"type\":\"Point\",\"coordinates\":[]}",
+            GisGeoJSONWriter.toGeoJSON(factory.createPoint(new Coordinate(Double.NaN, 1))));
+        Assert.assertEquals(
+            "{\"type\":\"LineString\",\"coordinates\":[[0.0,0.0],[2.0,2.0]]}",
+            GisGeoJSONWriter.toGeoJSON(factory.createLineString(new Coordinate[]{
+                new Coordinate(0, 0), new Coordinate(Double.POSITIVE_INFINITY, 1), new Coordinate(2, 2)})));
+        Assert.assertEquals(
+            "{\"type\":\"MultiPoint\",\"coordinates\":[[3.0,4.0]]}",
+            GisGeoJSONWriter.toGeoJSON(factory.createMultiPointFromCoords(new Coordinate[]{
+                new Coordinate(1, Double.NEGATIVE_INFINITY), new Coordinate(3, 4)})));
+    }
+
+    @Test
+    public void testOutputHasNoNonFiniteLiterals() {
+        Geometry geometry = factory.createGeometryCollection(new Geometry[]{
+            factory.createPoint(new Coordinate(Double.NaN, Double.NaN)),
+            factory.createLineString(new Coordinate[]{
+                new Coordinate(Double.NaN, 0), new Coordinate(0, Double.NEGATIVE_INFINITY)}),
+            factory.createMultiPointFromCoords(new Coordinate[]{new Coordinate(Double.POSITIVE_INFINITY, 0)})
+        });
+        String json = GisGeoJSONWriter.toGeoJSON(geometry);
+        Assert.assertFalse(json, json.contains("NaN"));
+        Assert.assertFalse(json, json.contains("Infinity"));
+        Assert.assertEquals(
+            "{\"type\":\"GeometryCollection\",\"geometries\":[" +
+                "{\"type\":\"Point\",\"coordinates\":[]}," +
+                "{\"type\":\"LineString\",\"coordinates\":[]}," +
+                "{\"type\":\"MultiPoint\",\"coordinates\":[]}]}",
+            json);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.data.formatters;
+
+import org.jkiss.dbeaver.model.data.DBDDataFormatter;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class DataFormatterAppendTest extends DBeaverUnitTest {
+
+    @Test
+    public void testNumberAppendMatchesFormat() {
+        NumberDataFormatter formatter = createNumberFormatter(true);
+        Object[] values = { 1234567, -42L, (short) 7, 1234.5, 0.125f, new BigDecimal("98765.4321"), Double.NaN };
+        for (Object value : values) {
+            StringBuilder buffer = new StringBuilder("value=");
+            formatter.formatValue(value, buffer);
+            Assert.assertEquals("value=" + formatter.formatValue(value), buffer.toString());
+        }
+        Assert.assertEquals("1,234,567", formatter.formatValue(1234567));
+    }
+
+    @Test
+    public void testNumberAppendNull() {
+        StringBuilder buffer = new StringBuilder("value=");
+        createNumberFormatter(true).formatValue(null, buffer);
+        Assert.assertEquals("value=", buffer.toString());
+    }
+
+    @Test
+    public void testPlainIntegers() {
+        NumberDataFormatter formatter = createNumberFormatter(false);
+        StringBuilder buffer = new StringBuilder();
+        formatter.formatValue(Long.MIN_VALUE, buffer);
+        buffer.append(';');
+        formatter.formatValue(1234567890, buffer);
+        Assert.assertEquals(Long.MIN_VALUE + ";1234567890", buffer.toString());
+    }
+
+    @Test
+    public void testNumberFormattersDoNotShareState() {
+        NumberDataFormatter grouping = createNumberFormatter(true);
+        NumberDataFormatter plain = createNumberFormatter(false);
+        StringBuilder buffer = new StringBuilder();
+        grouping.formatValue(new BigDecimal("1234567.5"), buffer);
+        buffer.append(';');
+        plain.formatValue(new BigDecimal("1234567.5"), buffer);
+        Assert.assertEquals("1,234,567.5;1234567.5", buffer.toString());
+    }
+
+    @Test
+    public void testNumberFormatterReinit() {
+        NumberDataFormatter formatter = createNumberFormatter(true);
+        Assert.assertEquals("1,234.5", formatter.formatValue(1234.5));
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(NumberFormatSample.PROP_USE_GROUPING, false);
+        formatter.init(null, Locale.US, properties);
+        Assert.assertEquals("1234.5", formatter.formatValue(1234.5));
+    }
+
+    @Test
+    public void testNumberAppendFromSeveralThreads() throws Exception {
+        NumberDataFormatter formatter = createNumberFormatter(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> {
+                    StringBuilder buffer = new StringBuilder();
+                    for (int value = 0; value < 10_000; value++) {
+                        buffer.setLength(0);
+                        formatter.formatValue(new BigDecimal(value + ".25"), buffer);
+                        if (!String.format(Locale.US, "%,.2f", value + 0.25).equals(buffer.toString())) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testDateTimeAppendMatchesFormat() {
+        DateTimeDataFormatter formatter = createDateTimeFormatter("yyyy-MM-dd HH:mm:ss", "UTC");
+        Object[] values = {
+            Timestamp.valueOf("2024-03-15 10:20:30"),
+            LocalDateTime.of(2024, 3, 15, 10, 20, 30),
+            new java.util.Date(0)
+        };
+        for (Object value : values) {
+            StringBuilder buffer = new StringBuilder("value=");
+            formatter.formatValue(value, buffer);
+            Assert.assertEquals("value=" + formatter.formatValue(value), buffer.toString());
+        }
+        Assert.assertEquals("1970-01-01 00:00:00", formatter.formatValue(new java.util.Date(0)));
+    }
+
+    @Test
+    public void testDateTimeAppendLegacyDates() {
+        // Dates before the Gregorian cutover are formatted by the legacy date format
+        DateTimeDataFormatter formatter = createDateTimeFormatter("yyyy-MM-dd", null);
+        Timestamp julianDate = Timestamp.valueOf("1500-02-20 00:00:00");
+        StringBuilder buffer = new StringBuilder();
+        formatter.formatValue(julianDate, buffer);
+        Assert.assertEquals("1500-02-20", buffer.toString());
+        Assert.assertEquals(formatter.formatValue(julianDate), buffer.toString());
+    }
+
+    @Test
+    public void testDateTimeAppendWithoutZone() {
+        // Dates are formatted in the default time zone, like the legacy date format does
+        String pattern = "yyyy-MM-dd HH:mm:ss";
+        DateTimeDataFormatter formatter = createDateTimeFormatter(pattern, null);
+        Assert.assertNull(formatter.getZone());
+        SimpleDateFormat legacyFormat = new SimpleDateFormat(pattern, Locale.US);
+        java.util.Date[] dates = {
+            Timestamp.valueOf("2024-03-15 10:20:30"),
+            new java.sql.Date(Timestamp.valueOf("2024-03-15 00:00:00").getTime()),
+            new java.util.Date(0)
+        };
+        for (java.util.Date date : dates) {
+            StringBuilder buffer = new StringBuilder("value=");
+            formatter.formatValue(date, buffer);
+            Assert.assertEquals("value=" + legacyFormat.format(date), buffer.toString());
+            Assert.assertEquals(formatter.formatValue(date), legacyFormat.format(date));
+        }
+        StringBuilder buffer = new StringBuilder();
+        formatter.formatValue(LocalDateTime.of(2024, 3, 15, 10, 20, 30), buffer);
+        Assert.assertEquals("2024-03-15 10:20:30", buffer.toString());
+    }
+
+    @Test
+    public void testDateTimeAppendWithoutZoneIncompatiblePattern() {
+        // Fraction of second has a different meaning in java.time, such dates are formatted by the date format
+        String pattern = "yyyy-MM-dd HH:mm:ss.SS";
+        DateTimeDataFormatter formatter = createDateTimeFormatter(pattern, null);
+        Timestamp timestamp = Timestamp.valueOf("2024-03-15 10:20:30.123");
+        StringBuilder buffer = new StringBuilder("value=");
+        formatter.formatValue(timestamp, buffer);
+        Assert.assertEquals("value=" + new SimpleDateFormat(pattern, Locale.US).format(timestamp), buffer.toString());
+        Assert.assertEquals("value=" + formatter.formatValue(timestamp), buffer.toString());
+    }
+
+    @Test
+    public void testDateTimeAppendWithoutZoneFromSeveralThreads() throws Exception {
+        String pattern = "yyyy-MM-dd HH:mm:ss";
+        DateTimeDataFormatter formatter = createDateTimeFormatter(pattern, null);
+        long start = Timestamp.valueOf("2024-01-01 00:00:00").getTime();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> {
+                    SimpleDateFormat legacyFormat = new SimpleDateFormat(pattern, Locale.US);
+                    StringBuilder buffer = new StringBuilder();
+                    for (int second = 0; second < 10_000; second++) {
+                        java.util.Date date = new java.util.Date(start + second * 1000L);
+                        buffer.setLength(0);
+                        formatter.formatValue(date, buffer);
+                        if (!legacyFormat.format(date).equals(buffer.toString())) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static NumberDataFormatter createNumberFormatter(boolean useGrouping) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(NumberFormatSample.PROP_USE_GROUPING, useGrouping);
+        NumberDataFormatter formatter = new NumberDataFormatter();
+        formatter.init(null, Locale.US, properties);
+        return formatter;
+    }
+
+    private static DateTimeDataFormatter createDateTimeFormatter(String pattern, String timezone) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(DateTimeDataFormatter.PROP_PATTERN, pattern);
+        if (timezone != null) {
+            properties.put(DateTimeDataFormatter.PROP_TIMEZONE, timezone);
+        }
+        DBDDataFormatter formatter = new DateTimeDataFormatter();
+        formatter.init(null, Locale.US, properties);
+        return (DateTimeDataFormatter) formatter;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.dpi;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.impl.data.DBDValueError;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.*;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.UUID;
+
+public class DPIRowBatchCodecTest extends DBeaverUnitTest {
+
+    @Test
+    public void testEmptyBatch() throws Exception {
+        DPIRowBatchCodec.Batch batch = roundTrip(3, true);
+        Assert.assertTrue(batch.rows().isEmpty());
+        Assert.assertTrue(batch.last());
+
+        batch = roundTrip(0, false);
+        Assert.assertTrue(batch.rows().isEmpty());
+        Assert.assertFalse(batch.last());
+    }
+
+    @Test
+    public void testNullValues() throws Exception {
+        DPIRowBatchCodec.Batch batch = roundTrip(3, false,
+            new Object[]{null, null, null},
+            new Object[]{1, null, "a"},
+            // Missing trailing values are nulls
+            new Object[]{2});
+        Assert.assertFalse(batch.last());
+        Assert.assertEquals(3, batch.rows().size());
+        Assert.assertArrayEquals(new Object[]{null, null, null}, batch.rows().get(0));
+        Assert.assertArrayEquals(new Object[]{1, null, "a"}, batch.rows().get(1));
+        Assert.assertArrayEquals(new Object[]{2, null, null}, batch.rows().get(2));
+    }
+
+    @Test
+    public void testPlainValues() throws Exception {
+        Object[] row = {
+            true, (byte) -1, (short) 300, 100000, Long.MAX_VALUE, 1.5f, -2.25d,
+            new BigInteger("123456789012345678901234567890"), new BigDecimal("-12345.6700"),
+            "text \u0442\u0435\u043a\u0441\u0442", "", UUID.randomUUID()
+        };
+        Object[] result = roundTrip(row.length, true, row).rows().get(0);
+        Assert.assertArrayEquals(row, result);
+        // Scale is kept
+        Assert.assertEquals(4, ((BigDecimal) result[8]).scale());
+    }
+
+    @Test
+    public void testBinaryValues() throws Exception {
+        byte[] data = new byte[70000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        Object[] result = roundTrip(3, true, new Object[]{data, new byte[0], new Object[]{new byte[]{1, 2}, null, "x"}})
+            .rows().get(0);
+        Assert.assertArrayEquals(data, (byte[]) result[0]);
+        Assert.assertArrayEquals(new byte[0], (byte[]) result[1]);
+        Object[] array = (Object[]) result[2];
+        Assert.assertEquals(3, array.length);
+        Assert.assertArrayEquals(new byte[]{1, 2}, (byte[]) array[0]);
+        Assert.assertNull(array[1]);
+        Assert.assertEquals("x", array[2]);
+    }
+
+    @Test
+    public void testDateValues() throws Exception {
+        Timestamp timestamp = Timestamp.valueOf("2024-02-29 13:45:10.123456789");
+        Object[] row = {
+            timestamp,
+            java.sql.Date.valueOf("1969-12-31"),
+            Time.valueOf("23:59:59"),
+            new Date(1700000000123L),
+            LocalDate.of(1, 1, 1),
+            LocalTime.of(10, 20, 30, 999999999),
+            LocalDateTime.of(2024, 2, 29, 13, 45, 10, 1000),
+            OffsetDateTime.of(2024, 2, 29, 13, 45, 10, 0, ZoneOffset.ofHoursMinutes(-3, -30))
+        };
+        Object[] result = roundTrip(row.length, true, row).rows().get(0);
+        Assert.assertArrayEquals(row, result);
+        for (int i = 0; i < row.length; i++) {
+            // Types are kept, e.g. java.sql.Date is not decoded as java.util.Date
+            Assert.assertEquals(row[i].getClass(), result[i].getClass());
+        }
+        Assert.assertEquals(123456789, ((Timestamp) result[0]).getNanos());
+    }
+
+    @Test
+    public void testErrorValue() throws Exception {
+        Object result = roundTrip(1, true, new Object[]{new DBDValueError(new DBCException("Bad value"))}).rows().get(0)[0];
+        Assert.assertTrue(result instanceof DBDValueError);
+        Assert.assertEquals("Bad value", ((DBDValueError) result).getErrorTitle());
+    }
+
+    @Test(expected = DBCException.class)
+    public void testTruncatedFrame() throws Exception {
+        DPIRowBatchCodec.Encoder encoder = new DPIRowBatchCodec.Encoder(1);
+        encoder.addRow(new Object[]{"value"});
+        byte[] frame = encoder.finish(true);
+        DPIRowBatchCodec.decode(Arrays.copyOf(frame, frame.length - 1));
+    }
+
+    @NotNull
+    private static DPIRowBatchCodec.Batch roundTrip(int columnCount, boolean last, @NotNull Object[]... rows) throws Exception {
+        DPIRowBatchCodec.Encoder encoder = new DPIRowBatchCodec.Encoder(columnCount);
+        for (Object[] row : rows) {
+            encoder.addRow(row);
+        }
+        Assert.assertEquals(rows.length, encoder.getRowCount());
+        DPIRowBatchCodec.Batch batch = DPIRowBatchCodec.decode(encoder.finish(last));
+        Assert.assertEquals(rows.length, batch.rows().size());
+        return batch;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc;
+
+import org.jkiss.dbeaver.model.struct.DBSObjectFilter;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.jkiss.junit.osgi.annotation.RunnerProxy;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+@RunnerProxy(MockitoJUnitRunner.Silent.class)
+public class JDBCFilterClauseTest extends DBeaverUnitTest {
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Test
+    public void testFilterClause() throws SQLException {
+        DBSObjectFilter filter = new DBSObjectFilter("Test*,users", "*_tmp");
+        StringBuilder sql = new StringBuilder("SELECT * FROM t");
+        JDBCUtils.appendFilterClause(sql, filter, "TABLE_NAME", true, null);
+        Assert.assertEquals(
+            "SELECT * FROM t WHERE (TABLE_NAME LIKE ? OR TABLE_NAME=?) AND NOT (TABLE_NAME LIKE ?)",
+            sql.toString());
+
+        Assert.assertEquals(4, JDBCUtils.setFilterParameters(statement, 1, filter));
+        InOrder order = Mockito.inOrder(statement);
+        order.verify(statement).setString(1, "Test%");
+        order.verify(statement).setString(2, "users");
+        order.verify(statement).setString(3, "%_tmp");
+        Mockito.verifyNoMoreInteractions(statement);
+    }
+
+    @Test
+    public void testCaseInsensitiveClause() throws SQLException {
+        DBSObjectFilter filter = new DBSObjectFilter("Test*,users", "*_tmp");
+        StringBuilder sql = new StringBuilder();
+        JDBCUtils.appendFilterClause(sql, filter, "TABLE_NAME", false, null, true);
+        Assert.assertEquals(
+            " AND (UPPER(TABLE_NAME) LIKE ? OR UPPER(TABLE_NAME)=?) AND NOT (UPPER(TABLE_NAME) LIKE ?)",
+            sql.toString());
+
+        Assert.assertEquals(6, JDBCUtils.setFilterParameters(statement, 3, filter, true));
+        InOrder order = Mockito.inOrder(statement);
+        order.verify(statement).setString(3, "TEST%");
+        order.verify(statement).setString(4, "USERS");
+        order.verify(statement).setString(5, "%_TMP");
+        Mockito.verifyNoMoreInteractions(statement);
+    }
+
+    @Test
+    public void testCaseSensitiveClause() throws SQLException {
+        DBSObjectFilter filter = new DBSObjectFilter("Test?,users", null);
+        filter.setCaseSensitive(true);
+        StringBuilder sql = new StringBuilder();
+        JDBCUtils.appendFilterClause(sql, filter, "name", false, null, true);
+        // Plain names are compared ignoring case like DBSObjectFilter.matches does
+        Assert.assertEquals(" AND (name LIKE ? OR UPPER(name)=?)", sql.toString());
+
+        Assert.assertEquals(3, JDBCUtils.setFilterParameters(statement, 1, filter, true));
+        InOrder order = Mockito.inOrder(statement);
+        order.verify(statement).setString(1, "Test_");
+        order.verify(statement).setString(2, "USERS");
+        Mockito.verifyNoMoreInteractions(statement);
+    }
+
+    @Test
+    public void testSingleMaskClause() throws SQLException {
+        DBSObjectFilter filter = new DBSObjectFilter("emp*", null);
+        StringBuilder sql = new StringBuilder();
+        JDBCUtils.appendFilterClause(sql, filter, "OBJECT_NAME", false, null, true);
+        Assert.assertEquals(" AND UPPER(OBJECT_NAME) LIKE ?", sql.toString());
+
+        Assert.assertEquals(2, JDBCUtils.setFilterParameters(statement, 1, filter, true));
+        Mockito.verify(statement).setString(1, "EMP%");
+        Mockito.verifyNoMoreInteractions(statement);
+    }
+
+    @Test
+    public void testExcludeOnlyClause() throws SQLException {
+        DBSObjectFilter filter = new DBSObjectFilter(null, "SYS*");
+        StringBuilder sql = new StringBuilder();
+        JDBCUtils.appendFilterClause(sql, filter, "OBJECT_NAME", false, null, true);
+        Assert.assertEquals(" AND NOT (UPPER(OBJECT_NAME) LIKE ?)", sql.toString());
+
+        Assert.assertEquals(2, JDBCUtils.setFilterParameters(statement, 1, filter, true));
+        Mockito.verify(statement).setString(1, "SYS%");
+        Mockito.verifyNoMoreInteractions(statement);
+    }
+
+    @Test
+    public void testDisabledFilter() throws SQLException {
+        DBSObjectFilter filter = new DBSObjectFilter("emp*", null);
+        filter.setEnabled(false);
+        StringBuilder sql = new StringBuilder();
+        JDBCUtils.appendFilterClause(sql, filter, "OBJECT_NAME", false, null, true);
+        Assert.assertEquals("", sql.toString());
+        Assert.assertEquals(1, JDBCUtils.setFilterParameters(statement, 1, filter, true));
+        Mockito.verifyNoMoreInteractions(statement);
+    }
+}
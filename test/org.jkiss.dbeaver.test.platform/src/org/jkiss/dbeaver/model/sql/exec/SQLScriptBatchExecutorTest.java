@@ -0,0 +1,139 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.exec;
+
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
+import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCStatementImpl;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.jkiss.junit.osgi.annotation.RunnerProxy;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.List;
+
+@RunnerProxy(MockitoJUnitRunner.Silent.class)
+public class SQLScriptBatchExecutorTest extends DBeaverUnitTest {
+
+    private static final List<String> QUERIES = List.of(
+        "INSERT INTO t VALUES (1)",
+        "UPDATE t SET v = 2",
+        "DELETE FROM t WHERE v = 3"
+    );
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private JDBCSession session;
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private DBPDataSource dataSource;
+    @Mock
+    private Statement driverStatement;
+
+    private JDBCStatementImpl<Statement> statement;
+
+    @Before
+    public void init() {
+        statement = new JDBCStatementImpl<>(session, driverStatement, true);
+    }
+
+    @Test
+    public void testBatchSupportCheck() {
+        Mockito.when(dataSource.getInfo().supportsBatchUpdates()).thenReturn(false);
+        Assert.assertFalse(SQLScriptBatchExecutor.isBatchSupported(dataSource));
+        Mockito.when(dataSource.getInfo().supportsBatchUpdates()).thenReturn(true);
+        Assert.assertTrue(SQLScriptBatchExecutor.isBatchSupported(dataSource));
+    }
+
+    @Test
+    public void testBatchExecuted() throws SQLException {
+        Mockito.when(driverStatement.executeBatch()).thenReturn(new int[]{1, 2, 3});
+
+        SQLScriptBatchExecutor.BatchResult result = SQLScriptBatchExecutor.executeBatch(statement, QUERIES);
+        Assert.assertFalse(result.rejected());
+        Assert.assertNull(result.error());
+        Assert.assertEquals(3, result.executedCount());
+        Assert.assertArrayEquals(new long[]{1, 2, 3}, result.updateCounts());
+        for (String query : QUERIES) {
+            Mockito.verify(driverStatement).addBatch(query);
+        }
+    }
+
+    @Test
+    public void testDriverRejectsAddBatch() throws SQLException {
+        Mockito.doThrow(new SQLFeatureNotSupportedException("Batches are not supported"))
+            .when(driverStatement).addBatch(Mockito.anyString());
+
+        SQLScriptBatchExecutor.BatchResult result = SQLScriptBatchExecutor.executeBatch(statement, QUERIES);
+        Assert.assertTrue(result.rejected());
+        Assert.assertFalse(result.isIndeterminate());
+        Assert.assertEquals(0, result.executedCount());
+        Mockito.verify(driverStatement, Mockito.never()).executeBatch();
+    }
+
+    @Test
+    public void testDriverFailsAddBatch() throws SQLException {
+        // Driver which doesn't use the standard exception for unsupported batches
+        Mockito.doThrow(new SQLException("Method addBatch(String) is not implemented"))
+            .when(driverStatement).addBatch(Mockito.anyString());
+
+        SQLScriptBatchExecutor.BatchResult result = SQLScriptBatchExecutor.executeBatch(statement, QUERIES);
+        Assert.assertTrue(result.rejected());
+        Assert.assertEquals(0, result.executedCount());
+        Mockito.verify(driverStatement, Mockito.never()).executeBatch();
+    }
+
+    @Test
+    public void testDriverRejectsBatchExecution() throws SQLException {
+        Mockito.when(driverStatement.executeBatch()).thenThrow(new SQLFeatureNotSupportedException("Batches are not supported"));
+
+        SQLScriptBatchExecutor.BatchResult result = SQLScriptBatchExecutor.executeBatch(statement, QUERIES);
+        Assert.assertTrue(result.rejected());
+        Assert.assertFalse(result.isIndeterminate());
+        Assert.assertEquals(0, result.executedCount());
+    }
+
+    @Test
+    public void testBatchFailedWithUpdateCounts() throws SQLException {
+        Mockito.when(driverStatement.executeBatch()).thenThrow(
+            new BatchUpdateException("Constraint violation", new int[]{1, Statement.EXECUTE_FAILED, 1}));
+
+        SQLScriptBatchExecutor.BatchResult result = SQLScriptBatchExecutor.executeBatch(statement, QUERIES);
+        Assert.assertFalse(result.rejected());
+        Assert.assertFalse(result.isIndeterminate());
+        Assert.assertNotNull(result.error());
+        Assert.assertEquals(1, result.executedCount());
+        Assert.assertArrayEquals(new long[]{1, Statement.EXECUTE_FAILED, 1}, result.updateCounts());
+    }
+
+    @Test
+    public void testBatchFailedWithoutUpdateCounts() throws SQLException {
+        Mockito.when(driverStatement.executeBatch()).thenThrow(new SQLException("Connection reset"));
+
+        SQLScriptBatchExecutor.BatchResult result = SQLScriptBatchExecutor.executeBatch(statement, QUERIES);
+        Assert.assertFalse(result.rejected());
+        Assert.assertTrue(result.isIndeterminate());
+        Assert.assertEquals(0, result.executedCount());
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.struct;
+
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class DBSObjectFilterTest extends DBeaverUnitTest {
+
+    @Test
+    public void testIncludeAndExcludeMasks() {
+        DBSObjectFilter filter = new DBSObjectFilter("TEST*,USERS", "*_TMP");
+        Assert.assertTrue(filter.matches("TEST_TABLE"));
+        Assert.assertTrue(filter.matches("test_table"));
+        Assert.assertTrue(filter.matches("Users"));
+        Assert.assertFalse(filter.matches("TEST_TMP"));
+        Assert.assertFalse(filter.matches("ORDERS"));
+    }
+
+    @Test
+    public void testExcludeOnly() {
+        DBSObjectFilter filter = new DBSObjectFilter(null, "SYS*,DUAL");
+        Assert.assertTrue(filter.matches("ORDERS"));
+        Assert.assertFalse(filter.matches("SYSOBJECTS"));
+        Assert.assertFalse(filter.matches("dual"));
+    }
+
+    @Test
+    public void testCaseSensitiveMasks() {
+        DBSObjectFilter filter = new DBSObjectFilter("Test?,USERS", null);
+        filter.setCaseSensitive(true);
+        Assert.assertTrue(filter.matches("Test1"));
+        Assert.assertFalse(filter.matches("TEST1"));
+        // Plain names are always compared ignoring case
+        Assert.assertTrue(filter.matches("users"));
+    }
+
+    @Test
+    public void testFilterChangeResetsMatcher() {
+        DBSObjectFilter filter = new DBSObjectFilter();
+        filter.addInclude("ORD*");
+        Assert.assertTrue(filter.matches("orders"));
+        Assert.assertFalse(filter.matches("USERS"));
+
+        filter.addInclude("USERS");
+        Assert.assertTrue(filter.matches("USERS"));
+
+        filter.setCaseSensitive(true);
+        Assert.assertFalse(filter.matches("orders"));
+
+        filter.addExclude("ORDER_ITEMS");
+        Assert.assertFalse(filter.matches("ORDER_ITEMS"));
+
+        filter.setInclude(List.of("A*"));
+        Assert.assertFalse(filter.matches("ORDERS"));
+        Assert.assertTrue(filter.matches("ACCOUNTS"));
+
+        filter.setExclude(List.of("ACC*"));
+        Assert.assertFalse(filter.matches("ACCOUNTS"));
+    }
+
+    @Test
+    public void testEmptyMasksMatchNothing() {
+        DBSObjectFilter filter = new DBSObjectFilter();
+        filter.setInclude(List.of(""));
+        Assert.assertFalse(filter.matches("ORDERS"));
+        Assert.assertFalse(filter.isPushdownSupported());
+    }
+
+    @Test
+    public void testPushdownSupported() {
+        Assert.assertTrue(new DBSObjectFilter("TEST*,USERS", "*_TMP").isPushdownSupported());
+        Assert.assertFalse(new DBSObjectFilter().isPushdownSupported());
+
+        DBSObjectFilter disabled = new DBSObjectFilter("TEST*", null);
+        disabled.setEnabled(false);
+        Assert.assertFalse(disabled.isPushdownSupported());
+    }
+}
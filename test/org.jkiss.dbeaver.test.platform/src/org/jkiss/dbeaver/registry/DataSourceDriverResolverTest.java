@@ -0,0 +1,127 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.registry;
+
+import org.jkiss.dbeaver.registry.driver.DriverDescriptor;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class DataSourceDriverResolverTest extends DBeaverUnitTest {
+
+    private static final int PROJECT_COUNT = 8;
+    private static final int DATA_SOURCE_COUNT = 100;
+
+    private final DataSourceProviderRegistry registry = DataSourceProviderRegistry.getInstance();
+    // Registry is shared, so each test uses its own missing provider
+    private final String missingProviderId = "test-" + UUID.randomUUID();
+
+    @After
+    public void removeMissingProvider() {
+        synchronized (registry) {
+            DataSourceProviderDescriptor provider = registry.getDataSourceProvider(missingProviderId);
+            if (provider != null) {
+                registry.removeFakeProvider(provider);
+            }
+        }
+    }
+
+    @Test
+    public void testResolveExistingDriver() {
+        DriverDescriptor originalDriver = null;
+        for (DataSourceProviderDescriptor provider : registry.getDataSourceProviders()) {
+            if (!provider.getDrivers().isEmpty()) {
+                originalDriver = provider.getDrivers().get(0);
+                break;
+            }
+        }
+        Assert.assertNotNull(originalDriver);
+        String providerId = originalDriver.getProviderDescriptor().getId();
+
+        DataSourceDriverResolver resolver = new DataSourceDriverResolver();
+        Assert.assertSame(originalDriver, resolver.resolveDriver("ds1", providerId, originalDriver.getId(), false));
+        Assert.assertSame(originalDriver, resolver.resolveDriver("ds2", providerId, originalDriver.getId(), true));
+    }
+
+    @Test
+    public void testMissingDriverNotCreated() {
+        DataSourceDriverResolver resolver = new DataSourceDriverResolver();
+        Assert.assertNull(resolver.resolveDriver("ds1", missingProviderId, "driver", false));
+        Assert.assertNull(resolver.resolveDriver("ds1", null, "driver", true));
+        Assert.assertNull(resolver.resolveDriver("ds1", missingProviderId, null, true));
+        Assert.assertNull(registry.getDataSourceProvider(missingProviderId));
+
+        // Misses are not cached, so the driver is created once it is requested
+        DriverDescriptor driver = resolver.resolveDriver("ds1", missingProviderId, "driver", true);
+        Assert.assertNotNull(driver);
+        Assert.assertTrue(driver.isTemporary());
+        Assert.assertSame(driver, resolver.resolveDriver("ds2", missingProviderId, "driver", false));
+    }
+
+    @Test
+    public void testConcurrentProjectsCreateSingleDriver() throws Exception {
+        // Each project reads its configuration with its own resolver
+        ExecutorService executor = Executors.newFixedThreadPool(PROJECT_COUNT);
+        try {
+            CountDownLatch startLatch = new CountDownLatch(1);
+            List<Future<List<DriverDescriptor>>> results = new ArrayList<>();
+            for (int i = 0; i < PROJECT_COUNT; i++) {
+                results.add(executor.submit(() -> {
+                    DataSourceDriverResolver resolver = new DataSourceDriverResolver();
+                    List<DriverDescriptor> drivers = new ArrayList<>();
+                    startLatch.await();
+                    for (int k = 0; k < DATA_SOURCE_COUNT; k++) {
+                        drivers.add(resolver.resolveDriver("ds" + k, missingProviderId, "driver", true));
+                    }
+                    return drivers;
+                }));
+            }
+            startLatch.countDown();
+
+            DriverDescriptor driver = results.get(0).get(1, TimeUnit.MINUTES).get(0);
+            Assert.assertNotNull(driver);
+            for (Future<List<DriverDescriptor>> result : results) {
+                for (DriverDescriptor resolved : result.get(1, TimeUnit.MINUTES)) {
+                    Assert.assertSame(driver, resolved);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int providerCount = 0;
+        for (DataSourceProviderDescriptor provider : registry.getDataSourceProviders()) {
+            if (provider.getId().equals(missingProviderId)) {
+                providerCount++;
+            }
+        }
+        Assert.assertEquals(1, providerCount);
+        DataSourceProviderDescriptor provider = registry.getDataSourceProvider(missingProviderId);
+        Assert.assertNotNull(provider);
+        Assert.assertEquals(1, provider.getDrivers().size());
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.compare.simple;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.jkiss.junit.osgi.annotation.RunnerProxy;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+@RunnerProxy(MockitoJUnitRunner.Silent.class)
+public class CompareDataExecutorTest extends DBeaverUnitTest {
+
+    private static final List<String> COLUMNS = List.of("id", "name", "amount");
+    private static final int ROW_COUNT = 10000;
+
+    @Mock
+    private DBSEntity sourceTable;
+    @Mock
+    private DBSEntity targetTable;
+
+    private CompareDataSettings settings;
+    private MemoryTableReader source;
+    private MemoryTableReader target;
+
+    @Before
+    public void setUp() {
+        settings = new CompareDataSettings(sourceTable, targetTable);
+        settings.setLeafRowCount(100);
+        source = new MemoryTableReader("test");
+        target = new MemoryTableReader("test");
+        for (long id = 1; id <= ROW_COUNT; id++) {
+            source.putRow(id, (int) id);
+            target.putRow(id, (int) id);
+        }
+    }
+
+    @Test
+    public void testEqualTablesAreComparedByChecksums() throws Exception {
+        CompareDataReport report = compare();
+        Assert.assertFalse(report.hasDifferences());
+        Assert.assertTrue(report.isComplete());
+        Assert.assertEquals(2, report.getChecksumQueryCount());
+        Assert.assertEquals(0, report.getFetchedRowCount());
+    }
+
+    @Test
+    public void testOnlyDifferentRangesAreFetched() throws Exception {
+        target.putRow(500, 501);
+        target.rows.remove(7000L);
+        target.putRow(ROW_COUNT + 1, 0);
+
+        CompareDataReport report = compare();
+        Assert.assertEquals(COLUMNS, report.getColumnNames());
+        Assert.assertEquals(1, report.getKeyColumnCount());
+        assertDifferences(report);
+        // Only small leaf ranges around the changed rows are fetched
+        Assert.assertTrue(report.getFetchedRowCount() <= 3 * 2 * settings.getLeafRowCount());
+        Assert.assertEquals(report.getFetchedRowCount(), source.fetchedRowCount + target.fetchedRowCount);
+    }
+
+    @Test
+    public void testRowsAreComparedWithoutComparableHashes() throws Exception {
+        target = new MemoryTableReader(null);
+        for (long id = 1; id <= ROW_COUNT; id++) {
+            target.putRow(id, (int) id);
+        }
+        target.putRow(500, 501);
+        target.rows.remove(7000L);
+        target.putRow(ROW_COUNT + 1, 0);
+
+        CompareDataReport report = compare();
+        assertDifferences(report);
+        // All rows are fetched
+        Assert.assertEquals(source.rows.size() + target.rows.size(), report.getFetchedRowCount());
+    }
+
+    @Test
+    public void testSyncScript() throws Exception {
+        settings.setGenerateSyncScript(true);
+        target.putRow(500, 501);
+        target.rows.remove(7000L);
+        target.putRow(ROW_COUNT + 1, 0);
+
+        CompareDataReport report = compare();
+        Assert.assertEquals(
+            "UPDATE test_table SET amount = 500 WHERE id = 500;\n" +
+                "INSERT INTO test_table (id, name, amount) VALUES (7000, 'name7000', 7000);\n" +
+                "DELETE FROM test_table WHERE id = 10001;\n",
+            report.getSyncScript());
+    }
+
+    @Test
+    public void testCompareStopsAtDifferenceLimit() throws Exception {
+        settings.setMaxDifferences(5);
+        for (long id = 100; id <= ROW_COUNT; id += 100) {
+            target.rows.remove(id);
+        }
+
+        CompareDataReport report = compare();
+        Assert.assertFalse(report.isComplete());
+        Assert.assertTrue(report.getDifferences().size() >= 5);
+        Assert.assertTrue(report.getDifferences().size() < ROW_COUNT / 100);
+    }
+
+    @Test
+    public void testRowsWithNullKeyAreCompared() throws Exception {
+        source.nullKeyRows.add(new Object[]{null, "no id", 1});
+        target.nullKeyRows.add(new Object[]{null, "no id", 2});
+
+        CompareDataReport report = compare();
+        List<CompareDataReport.RowDifference> differences = report.getDifferences();
+        Assert.assertEquals(1, differences.size());
+        Assert.assertEquals(CompareDataReport.DifferenceType.CHANGED, differences.get(0).type());
+        Assert.assertNull(Objects.requireNonNull(differences.get(0).sourceRow())[0]);
+        Assert.assertEquals(2, Objects.requireNonNull(differences.get(0).targetRow())[2]);
+        // Only the NULL key range is fetched
+        Assert.assertEquals(2, report.getFetchedRowCount());
+    }
+
+    @NotNull
+    private CompareDataReport compare() throws Exception {
+        return new CompareDataExecutor(settings).compareData(new VoidProgressMonitor(), source, target, COLUMNS, 1);
+    }
+
+    private static void assertDifferences(@NotNull CompareDataReport report) {
+        List<CompareDataReport.RowDifference> differences = report.getDifferences();
+        Assert.assertEquals(3, differences.size());
+
+        CompareDataReport.RowDifference changed = differences.get(0);
+        Assert.assertEquals(CompareDataReport.DifferenceType.CHANGED, changed.type());
+        Assert.assertEquals(500L, Objects.requireNonNull(changed.sourceRow())[0]);
+        Assert.assertEquals(501, Objects.requireNonNull(changed.targetRow())[2]);
+
+        CompareDataReport.RowDifference missingInTarget = differences.get(1);
+        Assert.assertEquals(CompareDataReport.DifferenceType.MISSING_IN_TARGET, missingInTarget.type());
+        Assert.assertEquals(7000L, Objects.requireNonNull(missingInTarget.sourceRow())[0]);
+        Assert.assertNull(missingInTarget.targetRow());
+
+        CompareDataReport.RowDifference missingInSource = differences.get(2);
+        Assert.assertEquals(CompareDataReport.DifferenceType.MISSING_IN_SOURCE, missingInSource.type());
+        Assert.assertNull(missingInSource.sourceRow());
+        Assert.assertEquals((long) ROW_COUNT + 1, Objects.requireNonNull(missingInSource.targetRow())[0]);
+    }
+
+    /**
+     * Table with (id, name, amount) rows. Row hash is computed like a server-side hash expression.
+     */
+    private static class MemoryTableReader implements CompareDataReader {
+        private final String hashType;
+        private final TreeMap<Long, Object[]> rows = new TreeMap<>();
+        private final List<Object[]> nullKeyRows = new ArrayList<>();
+        private long fetchedRowCount;
+
+        MemoryTableReader(@Nullable String hashType) {
+            this.hashType = hashType;
+        }
+
+        void putRow(long id, int amount) {
+            rows.put(id, new Object[]{id, "name" + id, amount});
+        }
+
+        @NotNull
+        @Override
+        public String getTableName() {
+            return "test_table";
+        }
+
+        @NotNull
+        @Override
+        public List<String> getColumnNames() {
+            return COLUMNS;
+        }
+
+        @Nullable
+        @Override
+        public String getHashType() {
+            return hashType;
+        }
+
+        @NotNull
+        @Override
+        public RangeChecksum readChecksum(@NotNull KeyRange range, boolean withHash) {
+            Collection<Object[]> rangeRows = getRows(range);
+            BigDecimal hashSum = null;
+            if (withHash && !rangeRows.isEmpty()) {
+                hashSum = BigDecimal.valueOf(rangeRows.stream().mapToLong(Arrays::hashCode).sum());
+            }
+            return new RangeChecksum(rangeRows.size(), hashSum);
+        }
+
+        @NotNull
+        @Override
+        public List<KeyRange> splitRange(@NotNull KeyRange range, int chunkCount) {
+            List<Long> keys = new ArrayList<>(getRangeRows(range).keySet());
+            if (range.nullKeys() || keys.size() < 2) {
+                return List.of(range);
+            }
+            // Equal row count chunks, like NTILE
+            List<KeyRange> subRanges = new ArrayList<>();
+            Object lower = range.lower();
+            for (int i = 1; i < chunkCount; i++) {
+                Long boundary = keys.get(Math.max(keys.size() * i / chunkCount - 1, 0));
+                if (!boundary.equals(lower)) {
+                    subRanges.add(new KeyRange(lower, boundary));
+                    lower = boundary;
+                }
+            }
+            subRanges.add(new KeyRange(lower, range.upper()));
+            return subRanges;
+        }
+
+        @NotNull
+        @Override
+        public List<Object[]> readRows(@NotNull KeyRange range) {
+            List<Object[]> result = new ArrayList<>(getRows(range));
+            fetchedRowCount += result.size();
+            return result;
+        }
+
+        @NotNull
+        @Override
+        public String toSQLValue(int columnIndex, @Nullable Object value) {
+            if (value == null) {
+                return "NULL";
+            }
+            return value instanceof String ? "'" + value + "'" : value.toString();
+        }
+
+        @NotNull
+        @Override
+        public String getScriptDelimiter() {
+            return ";";
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @NotNull
+        private Collection<Object[]> getRows(@NotNull KeyRange range) {
+            if (range.nullKeys()) {
+                return nullKeyRows;
+            }
+            List<Object[]> result = new ArrayList<>(getRangeRows(range).values());
+            if (range.isUnbounded()) {
+                result.addAll(nullKeyRows);
+            }
+            return result;
+        }
+
+        @NotNull
+        private NavigableMap<Long, Object[]> getRangeRows(@NotNull KeyRange range) {
+            NavigableMap<Long, Object[]> result = rows;
+            if (range.lower() != null) {
+                result = result.tailMap((Long) range.lower(), false);
+            }
+            if (range.upper() != null) {
+                result = result.headMap((Long) range.upper(), true);
+            }
+            return result;
+        }
+    }
+}
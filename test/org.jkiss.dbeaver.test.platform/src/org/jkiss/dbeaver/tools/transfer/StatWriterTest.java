@@ -0,0 +1,125 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer;
+
+import org.jkiss.dbeaver.tools.transfer.stream.StatWriter;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+public class StatWriterTest extends DBeaverUnitTest {
+
+    @Test
+    public void testBufferedBytesAreNotWritten() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        StatWriter writer = new StatWriter(stream, StandardCharsets.UTF_8);
+        writer.write("id,name\n");
+        Assert.assertEquals(8, writer.getBufferedBytes());
+        Assert.assertEquals(0, stream.size());
+
+        writer.flush();
+        Assert.assertEquals(0, writer.getBufferedBytes());
+        Assert.assertEquals("id,name\n", stream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testMultiByteCharacters() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        StatWriter writer = new StatWriter(stream, StandardCharsets.UTF_8);
+        String text = "Größe,数据";
+        writer.write(text);
+        Assert.assertEquals(text.getBytes(StandardCharsets.UTF_8).length, writer.getBufferedBytes());
+        writer.close();
+        Assert.assertEquals(text, stream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testSurrogatePairSplitBetweenWrites() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        StatWriter writer = new StatWriter(stream, StandardCharsets.UTF_8);
+        String text = "a😀b";
+        writer.write(text, 0, 2);
+        writer.write(text.charAt(2));
+        writer.write(text, 3, 1);
+        Assert.assertEquals(6, writer.getBufferedBytes());
+        writer.close();
+        Assert.assertEquals(text, stream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testBufferOverflowWritesToStream() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        StatWriter writer = new StatWriter(stream, StandardCharsets.UTF_8);
+        String row = "0123456789abcdef\n";
+        long totalBytes = 0;
+        for (int i = 0; i < 1000; i++) {
+            writer.write(row);
+            totalBytes += row.length();
+            Assert.assertEquals(totalBytes, stream.size() + writer.getBufferedBytes());
+        }
+        Assert.assertTrue(stream.size() > 0);
+        writer.close();
+        Assert.assertEquals(totalBytes, stream.size());
+        Assert.assertEquals(row.repeat(1000), stream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testCloseEndsEncoder() throws IOException {
+        // Stateful encoding: switch back to ASCII is written only when the encoder is ended
+        Charset charset = Charset.forName("ISO-2022-JP");
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        StatWriter writer = new StatWriter(stream, charset);
+        writer.write("\u65e5\u672c");
+        writer.flush();
+        byte[] flushed = stream.toByteArray();
+        writer.close();
+        byte[] closed = stream.toByteArray();
+        Assert.assertTrue(closed.length > flushed.length);
+        Assert.assertArrayEquals("\u65e5\u672c".getBytes(charset), closed);
+    }
+
+    @Test
+    public void testCloseClosesStreamOnWriteError() {
+        boolean[] streamClosed = new boolean[1];
+        OutputStream stream = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("No space left");
+            }
+
+            @Override
+            public void close() {
+                streamClosed[0] = true;
+            }
+        };
+        StatWriter writer = new StatWriter(stream, StandardCharsets.UTF_8);
+        try {
+            writer.write("data");
+            writer.close();
+            Assert.fail("Write error is expected");
+        } catch (IOException e) {
+            Assert.assertEquals("No space left", e.getMessage());
+        }
+        Assert.assertTrue(streamClosed[0]);
+    }
+}